@@ -0,0 +1,8 @@
+package com.epam.application.exception;
+
+public class VersionConflictException extends RuntimeException {
+
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,370 @@
+package com.epam.application.facade;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import com.epam.application.port.ConsistencyToken;
+import com.epam.application.request.CreateTraineeProfileRequest;
+import com.epam.application.request.CreateTrainerProfileRequest;
+import com.epam.application.request.CreateTrainingRequest;
+import com.epam.application.request.UpdateTraineeProfileRequest;
+import com.epam.application.request.UpdateTrainerProfileRequest;
+import com.epam.domain.AssignedTrainers;
+import com.epam.domain.TrainerPage;
+import com.epam.domain.TrainingBatchResult;
+import com.epam.domain.TrainingCursor;
+import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
+import com.epam.domain.model.Trainee;
+import com.epam.domain.model.Trainer;
+import com.epam.domain.model.Training;
+import com.epam.domain.model.TrainingType;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.domain.projection.TrainerProfile;
+import com.epam.domain.projection.TrainerSummary;
+import com.epam.domain.projection.TrainerWorkloadSummary;
+import com.epam.domain.projection.TrainingSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Coalesces identical concurrent calls to the hot {@link GymFacadeImpl} reads, so a burst of refreshes for the same
+ * profile or training history costs one database read. Writes and the remaining reads pass straight through.
+ *
+ * <p>Calls are only shared between callers with the same authenticated principal and the same read-your-writes
+ * requirement, and never inside a transaction, whose reads may depend on its own uncommitted writes. Each caller gets
+ * its own copy of the shared result, so one caller changing a returned profile cannot affect another. Copied trainees and
+ * trainers leave out the password hash.
+ */
+@Component
+@Primary
+public class CoalescingGymFacade implements GymFacade {
+
+    private final GymFacadeImpl delegate;
+
+    private final ConsistencyToken consistencyToken;
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Autowired
+    public CoalescingGymFacade(GymFacadeImpl delegate, ConsistencyToken consistencyToken) {
+        this.delegate = delegate;
+        this.consistencyToken = consistencyToken;
+    }
+
+    @Override
+    public Trainee createTraineeProfile(CreateTraineeProfileRequest request) {
+        return delegate.createTraineeProfile(request);
+    }
+
+    @Override
+    public List<Trainee> createTraineeProfiles(List<CreateTraineeProfileRequest> requests) {
+        return delegate.createTraineeProfiles(requests);
+    }
+
+    @Override
+    public Trainee updateTraineeProfile(UpdateTraineeProfileRequest request) {
+        return delegate.updateTraineeProfile(request);
+    }
+
+    @Override
+    public void updateTraineePassword(String traineeUsername, String newPassword) {
+        delegate.updateTraineePassword(traineeUsername, newPassword);
+    }
+
+    @Override
+    public void toggleTraineeActiveStatus(String traineeUsername) {
+        delegate.toggleTraineeActiveStatus(traineeUsername);
+    }
+
+    @Override
+    public void deleteTraineeProfile(String traineeUsername) {
+        delegate.deleteTraineeProfile(traineeUsername);
+    }
+
+    @Override
+    public Trainee getTraineeByUsername(String traineeUsername) {
+        return coalesce(
+                "getTraineeByUsername",
+                () -> delegate.getTraineeByUsername(traineeUsername),
+                Trainee::copy,
+                traineeUsername);
+    }
+
+    @Override
+    public TraineeProfile getTraineeProfile(String traineeUsername) {
+        return coalesce(
+                "getTraineeProfile",
+                () -> delegate.getTraineeProfile(traineeUsername),
+                CoalescingGymFacade::copy,
+                traineeUsername);
+    }
+
+    @Override
+    public TraineeProfile getTraineeProfile(String traineeUsername, long changeVersion) {
+        return coalesce(
+                "getTraineeProfile",
+                () -> delegate.getTraineeProfile(traineeUsername, changeVersion),
+                CoalescingGymFacade::copy,
+                traineeUsername,
+                changeVersion);
+    }
+
+    @Override
+    public TraineeProfile updateTraineeProfileWithTrainers(UpdateTraineeProfileRequest request) {
+        return delegate.updateTraineeProfileWithTrainers(request);
+    }
+
+    @Override
+    public long getTraineeChangeVersion(String traineeUsername) {
+        return coalesce(
+                "getTraineeChangeVersion",
+                () -> delegate.getTraineeChangeVersion(traineeUsername),
+                UnaryOperator.identity(),
+                traineeUsername);
+    }
+
+    @Override
+    public AssignedTrainers updateTraineeTrainersList(
+            String traineeUsername, List<String> usernames, Optional<Long> expectedVersion) {
+        return delegate.updateTraineeTrainersList(traineeUsername, usernames, expectedVersion);
+    }
+
+    @Override
+    public List<TrainerSummary> getTraineeUnassignedTrainers(String traineeUsername) {
+        return delegate.getTraineeUnassignedTrainers(traineeUsername);
+    }
+
+    @Override
+    public TrainerPage getTraineeUnassignedTrainers(String traineeUsername, Optional<String> after, int limit) {
+        return delegate.getTraineeUnassignedTrainers(traineeUsername, after, limit);
+    }
+
+    @Override
+    public List<Training> getTraineeTrainings(String traineeUsername, TrainingFilter filter) {
+        return delegate.getTraineeTrainings(traineeUsername, filter);
+    }
+
+    @Override
+    public TrainingPage getTraineeTrainings(
+            String traineeUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version) {
+        return coalesce(
+                "getTraineeTrainings",
+                () -> delegate.getTraineeTrainings(traineeUsername, filter, after, limit, version),
+                CoalescingGymFacade::copy,
+                traineeUsername,
+                filter,
+                after,
+                limit,
+                version);
+    }
+
+    @Override
+    public void streamTraineeTrainings(
+            String traineeUsername, TrainingFilter filter, Consumer<TrainingSummary> consumer) {
+        delegate.streamTraineeTrainings(traineeUsername, filter, consumer);
+    }
+
+    @Override
+    public Trainer createTrainerProfile(CreateTrainerProfileRequest request) {
+        return delegate.createTrainerProfile(request);
+    }
+
+    @Override
+    public List<Trainer> createTrainerProfiles(List<CreateTrainerProfileRequest> requests) {
+        return delegate.createTrainerProfiles(requests);
+    }
+
+    @Override
+    public Trainer updateTrainerProfile(UpdateTrainerProfileRequest request) {
+        return delegate.updateTrainerProfile(request);
+    }
+
+    @Override
+    public void updateTrainerPassword(String trainerUsername, String newPassword) {
+        delegate.updateTrainerPassword(trainerUsername, newPassword);
+    }
+
+    @Override
+    public void toggleTrainerActiveStatus(String trainerUsername) {
+        delegate.toggleTrainerActiveStatus(trainerUsername);
+    }
+
+    @Override
+    public void deleteTrainerProfile(String trainerUsername) {
+        delegate.deleteTrainerProfile(trainerUsername);
+    }
+
+    @Override
+    public Trainer getTrainerByUsername(String trainerUsername) {
+        return coalesce(
+                "getTrainerByUsername",
+                () -> delegate.getTrainerByUsername(trainerUsername),
+                Trainer::copy,
+                trainerUsername);
+    }
+
+    @Override
+    public TrainerProfile getTrainerProfile(String trainerUsername) {
+        return coalesce(
+                "getTrainerProfile",
+                () -> delegate.getTrainerProfile(trainerUsername),
+                CoalescingGymFacade::copy,
+                trainerUsername);
+    }
+
+    @Override
+    public TrainerProfile getTrainerProfile(String trainerUsername, long changeVersion) {
+        return coalesce(
+                "getTrainerProfile",
+                () -> delegate.getTrainerProfile(trainerUsername, changeVersion),
+                CoalescingGymFacade::copy,
+                trainerUsername,
+                changeVersion);
+    }
+
+    @Override
+    public TrainerProfile updateTrainerProfileWithTrainees(UpdateTrainerProfileRequest request) {
+        return delegate.updateTrainerProfileWithTrainees(request);
+    }
+
+    @Override
+    public long getTrainerChangeVersion(String trainerUsername) {
+        return coalesce(
+                "getTrainerChangeVersion",
+                () -> delegate.getTrainerChangeVersion(trainerUsername),
+                UnaryOperator.identity(),
+                trainerUsername);
+    }
+
+    @Override
+    public long getTrainerTrainingsVersion(String trainerUsername) {
+        return coalesce(
+                "getTrainerTrainingsVersion",
+                () -> delegate.getTrainerTrainingsVersion(trainerUsername),
+                UnaryOperator.identity(),
+                trainerUsername);
+    }
+
+    @Override
+    public List<Training> getTrainerTrainings(String trainerUsername, TrainingFilter filter) {
+        return delegate.getTrainerTrainings(trainerUsername, filter);
+    }
+
+    @Override
+    public TrainingPage getTrainerTrainings(
+            String trainerUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version) {
+        return coalesce(
+                "getTrainerTrainings",
+                () -> delegate.getTrainerTrainings(trainerUsername, filter, after, limit, version),
+                CoalescingGymFacade::copy,
+                trainerUsername,
+                filter,
+                after,
+                limit,
+                version);
+    }
+
+    @Override
+    public void streamTrainerTrainings(
+            String trainerUsername, TrainingFilter filter, Consumer<TrainingSummary> consumer) {
+        delegate.streamTrainerTrainings(trainerUsername, filter, consumer);
+    }
+
+    @Override
+    public Training createTraining(CreateTrainingRequest request) {
+        return delegate.createTraining(request);
+    }
+
+    @Override
+    public List<TrainingBatchResult> createTrainings(List<CreateTrainingRequest> requests) {
+        return delegate.createTrainings(requests);
+    }
+
+    @Override
+    public void deleteTraining(String traineeUsername, String trainerUsername, LocalDateTime date) {
+        delegate.deleteTraining(traineeUsername, trainerUsername, date);
+    }
+
+    @Override
+    public List<TrainerSummary> getTraineeTrainers(String traineeUsername) {
+        return coalesce(
+                "getTraineeTrainers",
+                () -> delegate.getTraineeTrainers(traineeUsername),
+                List::copyOf,
+                traineeUsername);
+    }
+
+    @Override
+    public List<TraineeSummary> getTrainerTrainees(String trainerUsername) {
+        return coalesce(
+                "getTrainerTrainees",
+                () -> delegate.getTrainerTrainees(trainerUsername),
+                List::copyOf,
+                trainerUsername);
+    }
+
+    @Override
+    public TrainerWorkloadSummary getTrainerWorkload(String trainerUsername) {
+        return coalesce(
+                "getTrainerWorkload",
+                () -> delegate.getTrainerWorkload(trainerUsername),
+                CoalescingGymFacade::copy,
+                trainerUsername);
+    }
+
+    @Override
+    public List<TrainingType> getTrainingTypes() {
+        return delegate.getTrainingTypes();
+    }
+
+    /**
+     * Runs {@code call} once for all concurrent callers with the same key, and hands every caller, the one that ran it
+     * included, its own {@code copy} of the result. The shared instance is never returned, so it is only ever read.
+     */
+    private <T> T coalesce(String method, Supplier<T> call, UnaryOperator<T> copy, Object... arguments) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return call.get();
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = authentication == null ? null : authentication.getName();
+        T shared = singleFlight.run(
+                new Call(method, Arrays.asList(arguments), principal, consistencyToken.requiredPosition()), call);
+        return copy.apply(shared);
+    }
+
+    private static TraineeProfile copy(TraineeProfile source) {
+        return new TraineeProfile(source.trainee().copy(), List.copyOf(source.trainers()));
+    }
+
+    private static TrainerProfile copy(TrainerProfile source) {
+        return new TrainerProfile(source.trainer().copy(), List.copyOf(source.trainees()));
+    }
+
+    private static TrainingPage copy(TrainingPage source) {
+        return new TrainingPage(List.copyOf(source.trainings()), source.nextCursor(), source.version());
+    }
+
+    private static TrainerWorkloadSummary copy(TrainerWorkloadSummary source) {
+        return new TrainerWorkloadSummary(
+                source.username(),
+                source.firstName(),
+                source.lastName(),
+                source.active(),
+                new TreeMap<>(source.minutesByMonth()));
+    }
+
+    private record Call(String method, List<Object> arguments, String principal, long requiredPosition) {}
+}
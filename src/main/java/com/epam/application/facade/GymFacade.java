@@ -2,22 +2,37 @@ package com.epam.application.facade;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.epam.application.request.CreateTraineeProfileRequest;
 import com.epam.application.request.CreateTrainerProfileRequest;
 import com.epam.application.request.CreateTrainingRequest;
 import com.epam.application.request.UpdateTraineeProfileRequest;
 import com.epam.application.request.UpdateTrainerProfileRequest;
+import com.epam.domain.AssignedTrainers;
+import com.epam.domain.TrainerPage;
+import com.epam.domain.TrainingBatchResult;
+import com.epam.domain.TrainingCursor;
 import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
 import com.epam.domain.model.Training;
 import com.epam.domain.model.TrainingType;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.domain.projection.TrainerProfile;
+import com.epam.domain.projection.TrainerSummary;
+import com.epam.domain.projection.TrainerWorkloadSummary;
+import com.epam.domain.projection.TrainingSummary;
 
 public interface GymFacade {
 
     Trainee createTraineeProfile(CreateTraineeProfileRequest request);
 
+    List<Trainee> createTraineeProfiles(List<CreateTraineeProfileRequest> requests);
+
     Trainee updateTraineeProfile(UpdateTraineeProfileRequest request);
 
     void updateTraineePassword(String traineeUsername, String newPassword);
@@ -28,14 +43,49 @@ public interface GymFacade {
 
     Trainee getTraineeByUsername(String traineeUsername);
 
-    void updateTraineeTrainersList(String traineeUsername, List<String> usernames);
+    /**
+     * The trainee with the assigned trainers, read in one round trip.
+     */
+    TraineeProfile getTraineeProfile(String traineeUsername);
+
+    /**
+     * As {@link #getTraineeProfile(String)}, given the change version the caller has just read; a cached
+     * profile at that version costs no query.
+     */
+    TraineeProfile getTraineeProfile(String traineeUsername, long changeVersion);
+
+    /**
+     * Updates the trainee and returns it with the assigned trainers, all in one transaction.
+     */
+    TraineeProfile updateTraineeProfileWithTrainers(UpdateTraineeProfileRequest request);
+
+    /**
+     * Grows with every write to the trainee's profile, assignments or trainings; the ETag of their reads.
+     */
+    long getTraineeChangeVersion(String traineeUsername);
+
+    AssignedTrainers updateTraineeTrainersList(
+            String traineeUsername, List<String> usernames, Optional<Long> expectedVersion);
 
-    List<Trainer> getTraineeUnassignedTrainers(String traineeUsername);
+    List<TrainerSummary> getTraineeUnassignedTrainers(String traineeUsername);
+
+    TrainerPage getTraineeUnassignedTrainers(String traineeUsername, Optional<String> after, int limit);
 
     List<Training> getTraineeTrainings(String traineeUsername, TrainingFilter filter);
 
+    /**
+     * One page of the trainee's history, given the change version the caller has just read; a cached page at that
+     * version costs no query.
+     */
+    TrainingPage getTraineeTrainings(
+            String traineeUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version);
+
+    void streamTraineeTrainings(String traineeUsername, TrainingFilter filter, Consumer<TrainingSummary> consumer);
+
     Trainer createTrainerProfile(CreateTrainerProfileRequest request);
 
+    List<Trainer> createTrainerProfiles(List<CreateTrainerProfileRequest> requests);
+
     Trainer updateTrainerProfile(UpdateTrainerProfileRequest request);
 
     void updateTrainerPassword(String trainerUsername, String newPassword);
@@ -46,15 +96,54 @@ public interface GymFacade {
 
     Trainer getTrainerByUsername(String trainerUsername);
 
+    /**
+     * The trainer with the assigned trainees, read in one round trip.
+     */
+    TrainerProfile getTrainerProfile(String trainerUsername);
+
+    /**
+     * As {@link #getTrainerProfile(String)}, given the change version the caller has just read; a cached
+     * profile at that version costs no query.
+     */
+    TrainerProfile getTrainerProfile(String trainerUsername, long changeVersion);
+
+    /**
+     * Updates the trainer and returns it with the assigned trainees, all in one transaction.
+     */
+    TrainerProfile updateTrainerProfileWithTrainees(UpdateTrainerProfileRequest request);
+
+    /**
+     * Grows with every write to the trainer's profile or assignments; the ETag of the profile reads.
+     */
+    long getTrainerChangeVersion(String trainerUsername);
+
+    /**
+     * Grows with every write to the trainer's training history, bookings included; the ETag of the training reads.
+     */
+    long getTrainerTrainingsVersion(String trainerUsername);
+
     List<Training> getTrainerTrainings(String trainerUsername, TrainingFilter filter);
 
+    /**
+     * One page of the trainer's history, given the training version the caller has just read; a cached page at that
+     * version costs no query.
+     */
+    TrainingPage getTrainerTrainings(
+            String trainerUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version);
+
+    void streamTrainerTrainings(String trainerUsername, TrainingFilter filter, Consumer<TrainingSummary> consumer);
+
     Training createTraining(CreateTrainingRequest request);
 
+    List<TrainingBatchResult> createTrainings(List<CreateTrainingRequest> requests);
+
     void deleteTraining(String traineeUsername, String trainerUsername, LocalDateTime date);
 
-    List<Trainer> getTraineeTrainers(String traineeUsername);
+    List<TrainerSummary> getTraineeTrainers(String traineeUsername);
+
+    List<TraineeSummary> getTrainerTrainees(String trainerUsername);
 
-    List<Trainee> getTrainerTrainees(String trainerUsername);
+    TrainerWorkloadSummary getTrainerWorkload(String trainerUsername);
 
     List<TrainingType> getTrainingTypes();
 }
@@ -2,6 +2,8 @@ package com.epam.application.facade;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.epam.application.request.CreateTraineeProfileRequest;
 import com.epam.application.request.CreateTrainerProfileRequest;
@@ -11,12 +13,23 @@ import com.epam.application.request.UpdateTrainerProfileRequest;
 import com.epam.application.service.TraineeService;
 import com.epam.application.service.TrainerService;
 import com.epam.application.service.TrainingService;
+import com.epam.domain.AssignedTrainers;
+import com.epam.domain.TrainerPage;
+import com.epam.domain.TrainingBatchResult;
+import com.epam.domain.TrainingCursor;
 import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
 import com.epam.domain.model.Training;
 import com.epam.domain.model.TrainingType;
 import com.epam.domain.port.TrainingTypeRepository;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.domain.projection.TrainerProfile;
+import com.epam.domain.projection.TrainerSummary;
+import com.epam.domain.projection.TrainerWorkloadSummary;
+import com.epam.domain.projection.TrainingSummary;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,6 +62,11 @@ public class GymFacadeImpl implements GymFacade {
         return traineeService.createProfile(request);
     }
 
+    @Override
+    public List<Trainee> createTraineeProfiles(List<CreateTraineeProfileRequest> requests) {
+        return traineeService.createProfiles(requests);
+    }
+
     @Override
     public Trainee updateTraineeProfile(UpdateTraineeProfileRequest request) {
         return traineeService.updateProfile(request);
@@ -75,25 +93,68 @@ public class GymFacadeImpl implements GymFacade {
     }
 
     @Override
-    public void updateTraineeTrainersList(String traineeUsername, List<String> usernames) {
-        traineeService.updateTrainersList(traineeUsername, usernames);
+    public TraineeProfile getTraineeProfile(String traineeUsername) {
+        return traineeService.getProfileWithTrainers(traineeUsername);
+    }
+
+    @Override
+    public TraineeProfile getTraineeProfile(String traineeUsername, long changeVersion) {
+        return traineeService.getProfileWithTrainers(traineeUsername, changeVersion);
+    }
+
+    @Override
+    public TraineeProfile updateTraineeProfileWithTrainers(UpdateTraineeProfileRequest request) {
+        return traineeService.updateProfileWithTrainers(request);
     }
 
     @Override
-    public List<Trainer> getTraineeUnassignedTrainers(String traineeUsername) {
+    public long getTraineeChangeVersion(String traineeUsername) {
+        return traineeService.getChangeVersion(traineeUsername);
+    }
+
+    @Override
+    public AssignedTrainers updateTraineeTrainersList(
+            String traineeUsername, List<String> usernames, Optional<Long> expectedVersion) {
+        return traineeService.updateTrainersList(traineeUsername, usernames, expectedVersion);
+    }
+
+    @Override
+    public List<TrainerSummary> getTraineeUnassignedTrainers(String traineeUsername) {
         return traineeService.getUnassignedTrainers(traineeUsername);
     }
 
+    @Override
+    public TrainerPage getTraineeUnassignedTrainers(String traineeUsername, Optional<String> after, int limit) {
+        return traineeService.getUnassignedTrainers(traineeUsername, after, limit);
+    }
+
     @Override
     public List<Training> getTraineeTrainings(String traineeUsername, TrainingFilter filter) {
         return trainingService.getTraineeTrainings(traineeUsername, filter);
     }
 
+    @Override
+    public TrainingPage getTraineeTrainings(
+            String traineeUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version) {
+        return trainingService.getTraineeTrainings(traineeUsername, filter, after, limit, version);
+    }
+
+    @Override
+    public void streamTraineeTrainings(
+            String traineeUsername, TrainingFilter filter, Consumer<TrainingSummary> consumer) {
+        trainingService.streamTraineeTrainings(traineeUsername, filter, consumer);
+    }
+
     @Override
     public Trainer createTrainerProfile(CreateTrainerProfileRequest request) {
         return trainerService.createProfile(request);
     }
 
+    @Override
+    public List<Trainer> createTrainerProfiles(List<CreateTrainerProfileRequest> requests) {
+        return trainerService.createProfiles(requests);
+    }
+
     @Override
     public Trainer updateTrainerProfile(UpdateTrainerProfileRequest request) {
         return trainerService.updateProfile(request);
@@ -119,31 +180,78 @@ public class GymFacadeImpl implements GymFacade {
         return trainerService.getProfileByUsername(trainerUsername);
     }
 
+    @Override
+    public TrainerProfile getTrainerProfile(String trainerUsername) {
+        return trainerService.getProfileWithTrainees(trainerUsername);
+    }
+
+    @Override
+    public TrainerProfile getTrainerProfile(String trainerUsername, long changeVersion) {
+        return trainerService.getProfileWithTrainees(trainerUsername, changeVersion);
+    }
+
+    @Override
+    public TrainerProfile updateTrainerProfileWithTrainees(UpdateTrainerProfileRequest request) {
+        return trainerService.updateProfileWithTrainees(request);
+    }
+
+    @Override
+    public long getTrainerChangeVersion(String trainerUsername) {
+        return trainerService.getChangeVersion(trainerUsername);
+    }
+
+    @Override
+    public long getTrainerTrainingsVersion(String trainerUsername) {
+        return trainerService.getTrainingsVersion(trainerUsername);
+    }
+
     @Override
     public List<Training> getTrainerTrainings(String trainerUsername, TrainingFilter filter) {
         return trainingService.getTrainerTrainings(trainerUsername, filter);
     }
 
+    @Override
+    public TrainingPage getTrainerTrainings(
+            String trainerUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version) {
+        return trainingService.getTrainerTrainings(trainerUsername, filter, after, limit, version);
+    }
+
+    @Override
+    public void streamTrainerTrainings(
+            String trainerUsername, TrainingFilter filter, Consumer<TrainingSummary> consumer) {
+        trainingService.streamTrainerTrainings(trainerUsername, filter, consumer);
+    }
+
     @Override
     public Training createTraining(CreateTrainingRequest request) {
         return trainingService.create(request);
     }
 
+    @Override
+    public List<TrainingBatchResult> createTrainings(List<CreateTrainingRequest> requests) {
+        return trainingService.createAll(requests);
+    }
+
     @Override
     public void deleteTraining(String traineeUsername, String trainerUsername, LocalDateTime date) {
         trainingService.deleteTraining(traineeUsername, trainerUsername, date);
     }
 
     @Override
-    public List<Trainer> getTraineeTrainers(String traineeUsername) {
+    public List<TrainerSummary> getTraineeTrainers(String traineeUsername) {
         return traineeService.getTrainers(traineeUsername);
     }
 
     @Override
-    public List<Trainee> getTrainerTrainees(String trainerUsername) {
+    public List<TraineeSummary> getTrainerTrainees(String trainerUsername) {
         return trainerService.getTrainees(trainerUsername);
     }
 
+    @Override
+    public TrainerWorkloadSummary getTrainerWorkload(String trainerUsername) {
+        return trainerService.getWorkloadSummary(trainerUsername);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<TrainingType> getTrainingTypes() {
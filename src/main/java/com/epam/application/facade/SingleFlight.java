@@ -0,0 +1,56 @@
+package com.epam.application.facade;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs concurrent calls with equal keys once: the first caller computes, and callers arriving while it is in flight
+ * wait for and share its result or exception. Nothing is kept once the call completes, so a later call always
+ * computes afresh.
+ *
+ * <p>Waiting parks on a {@link CompletableFuture} and holds no monitor, so it neither pins virtual threads nor blocks
+ * other keys.
+ */
+final class SingleFlight {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <T> T run(Object key, Supplier<T> call) {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            return (T) await(running);
+        }
+
+        T result;
+        try {
+            result = call.get();
+        } catch (Throwable e) {
+            inFlight.remove(key, own);
+            own.completeExceptionally(e);
+            throw e;
+        }
+        // Removed before completing, so a caller arriving from now on starts its own call
+        inFlight.remove(key, own);
+        own.complete(result);
+        return result;
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
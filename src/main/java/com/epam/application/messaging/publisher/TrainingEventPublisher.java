@@ -4,7 +4,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import com.epam.application.messaging.event.TrainerWorkloadEvent;
-import com.epam.domain.model.Training;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
 import com.epam.infrastructure.logging.MdcConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
@@ -13,6 +13,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 @Slf4j
@@ -55,6 +57,19 @@ public class TrainingEventPublisher {
         });
     }
 
+    /**
+     * Hands every event to the producer before waiting on any of them, so records for the same partition leave in
+     * shared producer batches instead of one request per training.
+     */
+    public void publishTrainingsCreated(List<TrainerWorkloadEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        log.debug("Publishing {} training created events", events.size());
+        sendAll(events, MDC.get(MdcConstants.TRANSACTION_ID_MDC_KEY));
+    }
+
     public void publishTrainingDeleted(TrainerWorkloadEvent event) {
         String transactionId = MDC.get(MdcConstants.TRANSACTION_ID_MDC_KEY);
         event.setTransactionId(transactionId);
@@ -74,19 +89,64 @@ public class TrainingEventPublisher {
         });
     }
 
-    public void publishDeleteEventsForTrainings(List<Training> trainings) {
-        for (Training training : trainings) {
-            TrainerWorkloadEvent event = TrainerWorkloadEvent.builder()
-                    .trainerUsername(training.getTrainer().getUsername())
-                    .trainerFirstname(training.getTrainer().getFirstName())
-                    .trainerLastname(training.getTrainer().getLastName())
-                    .isActive(training.getTrainer().getActive())
-                    .trainingDate(training.getTrainingDate())
-                    .trainingDurationMinutes(training.getTrainingDurationMin())
-                    .actionType(TrainerWorkloadEvent.ActionType.DELETE)
-                    .build();
-
-            publishTrainingDeleted(event);
+    /**
+     * Publishes one {@code DELETE} event per trainer and month instead of one per removed training. Each event carries
+     * the month's total minutes dated on its first day. Inside a transaction the events wait for the commit, so a
+     * rolled-back deletion never reaches the workload service.
+     */
+    public void publishWorkloadRemoved(List<TrainerMonthlyWorkload> workloads) {
+        if (workloads.isEmpty()) {
+            return;
+        }
+
+        List<TrainerWorkloadEvent> events = workloads.stream()
+                .map(workload -> TrainerWorkloadEvent.builder()
+                        .trainerUsername(workload.trainerUsername())
+                        .trainerFirstname(workload.trainerFirstName())
+                        .trainerLastname(workload.trainerLastName())
+                        .isActive(workload.trainerActive())
+                        .trainingDate(workload.month().atDay(1).atStartOfDay())
+                        .trainingDurationMinutes(Math.toIntExact(workload.totalDurationMin()))
+                        .actionType(TrainerWorkloadEvent.ActionType.DELETE)
+                        .build())
+                .toList();
+
+        String transactionId = MDC.get(MdcConstants.TRANSACTION_ID_MDC_KEY);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendAll(events, transactionId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sendAll(events, transactionId);
+            }
+        });
+    }
+
+    private void sendAll(List<TrainerWorkloadEvent> events, String transactionId) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            TrainerWorkloadEvent event = events.get(i);
+            event.setTransactionId(transactionId);
+            futures[i] = kafkaTemplate
+                    .send(trainingCreatedTopic, event.getTrainerUsername(), event)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.error(
+                                    "Failed to publish training event for trainer: {} [TxnId: {}]",
+                                    event.getTrainerUsername(),
+                                    transactionId,
+                                    ex);
+                        }
+                    });
         }
+
+        CompletableFuture.allOf(futures).whenComplete((result, ex) -> {
+            if (ex == null) {
+                log.info("Successfully published {} training events [TxnId: {}]", events.size(), transactionId);
+            }
+        });
     }
 }
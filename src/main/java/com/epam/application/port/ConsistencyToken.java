@@ -0,0 +1,10 @@
+package com.epam.application.port;
+
+public interface ConsistencyToken {
+
+    /**
+     * The read-your-writes requirement of the current request: an opaque position its reads must observe. Calls with
+     * different requirements may be served from different database states; {@code 0} means none.
+     */
+    long requiredPosition();
+}
@@ -12,5 +12,6 @@ public record UpdateTraineeProfileRequest(
         Optional<String> password,
         Optional<Boolean> active,
         Optional<LocalDate> dob,
-        Optional<String> address)
+        Optional<String> address,
+        Optional<Long> expectedVersion)
         implements UpdateProfileRequest {}
@@ -11,5 +11,6 @@ public record UpdateTrainerProfileRequest(
         Optional<String> lastName,
         Optional<String> password,
         Optional<Boolean> active,
-        Optional<TrainingTypeEnum> specialization)
+        Optional<TrainingTypeEnum> specialization,
+        Optional<Long> expectedVersion)
         implements UpdateProfileRequest {}
@@ -1,17 +1,48 @@
 package com.epam.application.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.epam.application.request.CreateTraineeProfileRequest;
 import com.epam.application.request.UpdateTraineeProfileRequest;
+import com.epam.domain.AssignedTrainers;
+import com.epam.domain.TrainerPage;
 import com.epam.domain.model.Trainee;
-import com.epam.domain.model.Trainer;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TrainerSummary;
 
 public interface TraineeService extends UserService<Trainee, CreateTraineeProfileRequest, UpdateTraineeProfileRequest> {
 
-    List<Trainer> getUnassignedTrainers(String username);
+    List<TrainerSummary> getUnassignedTrainers(String username);
 
-    List<Trainer> getTrainers(String username);
+    TrainerPage getUnassignedTrainers(String username, Optional<String> after, int limit);
 
-    void updateTrainersList(String username, List<String> trainerUsernames);
+    List<TrainerSummary> getTrainers(String username);
+
+    /**
+     * Loads the profile and its assigned trainers with one repository read.
+     */
+    TraineeProfile getProfileWithTrainers(String username);
+
+    /**
+     * As {@link #getProfileWithTrainers(String)}, for a caller that has just read the change version: a profile
+     * cached at exactly that version is served without a query.
+     */
+    TraineeProfile getProfileWithTrainers(String username, long changeVersion);
+
+    /**
+     * The change version covering the profile, its assignments and its trainings, read without loading any of them.
+     */
+    long getChangeVersion(String username);
+
+    /**
+     * Applies the update and returns the saved profile with its assigned trainers, which the update leaves unchanged.
+     */
+    TraineeProfile updateProfileWithTrainers(UpdateTraineeProfileRequest request);
+
+    /**
+     * Replaces the assigned trainers and returns the resulting list with the new change version. A present
+     * {@code expectedVersion} must match the current one.
+     */
+    AssignedTrainers updateTrainersList(String username, List<String> trainerUsernames, Optional<Long> expectedVersion);
 }
@@ -4,10 +4,43 @@ import java.util.List;
 
 import com.epam.application.request.CreateTrainerProfileRequest;
 import com.epam.application.request.UpdateTrainerProfileRequest;
-import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.domain.projection.TrainerProfile;
+import com.epam.domain.projection.TrainerWorkloadSummary;
 
 public interface TrainerService extends UserService<Trainer, CreateTrainerProfileRequest, UpdateTrainerProfileRequest> {
 
-    List<Trainee> getTrainees(String username);
+    List<TraineeSummary> getTrainees(String username);
+
+    /**
+     * Loads the profile and its assigned trainees with one repository read.
+     */
+    TrainerProfile getProfileWithTrainees(String username);
+
+    /**
+     * As {@link #getProfileWithTrainees(String)}, for a caller that has just read the change version: a profile
+     * cached at exactly that version is served without a query.
+     */
+    TrainerProfile getProfileWithTrainees(String username, long changeVersion);
+
+    /**
+     * The change version covering the profile and its assignments, read without loading either.
+     */
+    long getChangeVersion(String username);
+
+    /**
+     * The version covering the trainer's training history, read without loading it.
+     */
+    long getTrainingsVersion(String username);
+
+    /**
+     * Applies the update and returns the saved profile with its assigned trainees, which the update leaves unchanged.
+     */
+    TrainerProfile updateProfileWithTrainees(UpdateTrainerProfileRequest request);
+
+    /**
+     * Monthly training totals from the local aggregate, without a call to the trainer workload service.
+     */
+    TrainerWorkloadSummary getWorkloadSummary(String username);
 }
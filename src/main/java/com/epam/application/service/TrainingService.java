@@ -2,18 +2,48 @@ package com.epam.application.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.epam.application.request.CreateTrainingRequest;
+import com.epam.domain.TrainingBatchResult;
+import com.epam.domain.TrainingCursor;
 import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Training;
+import com.epam.domain.projection.TrainingSummary;
 
 public interface TrainingService {
 
     Training create(CreateTrainingRequest request);
 
+    /**
+     * Creates every valid item of the batch in one transaction. Items naming an unknown trainee or trainer, or a
+     * session that is already booked, are rejected individually; the result list follows the request order.
+     */
+    List<TrainingBatchResult> createAll(List<CreateTrainingRequest> requests);
+
     List<Training> getTraineeTrainings(String username, TrainingFilter filter);
 
     List<Training> getTrainerTrainings(String username, TrainingFilter filter);
 
+    /**
+     * One page of the trainee's history at {@code version}, the change version the caller has just read. Having read
+     * it proves the trainee exists, so a cached page is served without querying anything.
+     */
+    TrainingPage getTraineeTrainings(
+            String username, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version);
+
+    /**
+     * Trainer-side counterpart of {@link #getTraineeTrainings(String, TrainingFilter, Optional, int, long)}, at the
+     * trainer's training version.
+     */
+    TrainingPage getTrainerTrainings(
+            String username, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version);
+
+    void streamTraineeTrainings(String username, TrainingFilter filter, Consumer<TrainingSummary> consumer);
+
+    void streamTrainerTrainings(String username, TrainingFilter filter, Consumer<TrainingSummary> consumer);
+
     void deleteTraining(String traineeUsername, String trainerUsername, LocalDateTime date);
 }
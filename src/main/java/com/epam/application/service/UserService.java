@@ -1,5 +1,7 @@
 package com.epam.application.service;
 
+import java.util.List;
+
 import com.epam.application.request.types.CreateProfileRequest;
 import com.epam.application.request.types.UpdateProfileRequest;
 
@@ -7,6 +9,12 @@ public interface UserService<T, C extends CreateProfileRequest, U extends Update
 
     T createProfile(C request);
 
+    /**
+     * Registers a batch of profiles, saved in one transaction. The returned profiles follow the
+     * request order and carry their raw generated passwords, as {@link #createProfile} does.
+     */
+    List<T> createProfiles(List<C> requests);
+
     T updateProfile(U request);
 
     void updatePassword(String username, String newPassword);
@@ -0,0 +1,136 @@
+package com.epam.application.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.epam.application.exception.CapacityExceededException;
+import com.epam.application.util.CredentialsUtil;
+import com.epam.domain.model.User;
+import com.epam.domain.port.UsernameSerialRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Issues usernames and passwords for a whole batch of new users: one serial reservation per distinct name and
+ * password hashes computed in parallel on the bounded hashing pool.
+ *
+ * <p>Meant to be called outside a transaction. Hashing takes most of the time, so it runs first and holds neither a
+ * connection nor a lock; the serials are then reserved in a short transaction of their own. A batch that fails to
+ * save afterwards leaves a gap in its names' serials, which are only required to be unique.
+ *
+ * <p>Only {@code password-hashing.max-concurrent-batches} batches hash at once; another one is rejected with
+ * {@link CapacityExceededException} rather than waiting, so concurrent registrations cannot pile up request threads
+ * behind the hashing pool. A batch the pool itself rejects abandons the hashes it had already queued.
+ */
+@Component
+public class BulkCredentialsIssuer {
+
+    /** The most profiles registered by one batch. */
+    static final int MAX_PROFILES = 10_000;
+
+    private static final int PASSWORD_LENGTH = 10;
+
+    private static final int DEFAULT_CONCURRENT_BATCHES = 2;
+
+    private UsernameSerialRepository usernameSerialRepository;
+
+    private PasswordEncoder passwordEncoder;
+
+    private ExecutorService passwordHashingExecutor;
+
+    private TransactionOperations transactionOperations;
+
+    private Semaphore batchPermits = new Semaphore(DEFAULT_CONCURRENT_BATCHES);
+
+    @Autowired
+    void setUsernameSerialRepository(UsernameSerialRepository usernameSerialRepository) {
+        this.usernameSerialRepository = usernameSerialRepository;
+    }
+
+    @Autowired
+    void setPasswordEncoder(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Autowired
+    void setPasswordHashingExecutor(@Qualifier("passwordHashingExecutor") ExecutorService passwordHashingExecutor) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    @Autowired
+    void setTransactionOperations(TransactionOperations transactionOperations) {
+        this.transactionOperations = transactionOperations;
+    }
+
+    @Autowired
+    void setMaxConcurrentBatches(@Value("${password-hashing.max-concurrent-batches}") int maxConcurrentBatches) {
+        this.batchPermits = new Semaphore(maxConcurrentBatches);
+    }
+
+    /**
+     * Sets a unique username and an encoded password on every user and returns the raw passwords in the same order.
+     */
+    public List<String> issue(List<? extends User> users) {
+        if (!batchPermits.tryAcquire()) {
+            throw new CapacityExceededException("Too many bulk registrations in progress, retry later");
+        }
+        List<String> passwords;
+        try {
+            passwords = hashPasswords(users);
+        } finally {
+            batchPermits.release();
+        }
+
+        // Reserved in name order, so two batches sharing names lock their serial rows in the same order
+        Map<String, List<User>> usersByBaseUsername = new TreeMap<>();
+        for (User user : users) {
+            usersByBaseUsername
+                    .computeIfAbsent(
+                            CredentialsUtil.baseUsername(user.getFirstName(), user.getLastName()),
+                            base -> new ArrayList<>())
+                    .add(user);
+        }
+        transactionOperations.execute(status -> {
+            usersByBaseUsername.forEach((baseUsername, namesakes) -> {
+                long serial = usernameSerialRepository.reserveSerials(baseUsername, namesakes.size());
+                for (User user : namesakes) {
+                    user.setUsername(CredentialsUtil.usernameWithSerial(baseUsername, serial++));
+                }
+            });
+            return null;
+        });
+        return passwords;
+    }
+
+    private List<String> hashPasswords(List<? extends User> users) {
+        List<String> passwords = new ArrayList<>(users.size());
+        List<CompletableFuture<String>> hashes = new ArrayList<>(users.size());
+        AtomicBoolean abandoned = new AtomicBoolean();
+        try {
+            for (int i = 0; i < users.size(); i++) {
+                String password = CredentialsUtil.generateRandomPassword(PASSWORD_LENGTH);
+                passwords.add(password);
+                hashes.add(CompletableFuture.supplyAsync(
+                        () -> abandoned.get() ? null : passwordEncoder.encode(password), passwordHashingExecutor));
+            }
+        } catch (RejectedExecutionException e) {
+            abandoned.set(true);
+            throw new CapacityExceededException("Password hashing is at capacity, retry later");
+        }
+        for (int i = 0; i < users.size(); i++) {
+            users.get(i).setPassword(hashes.get(i).join());
+        }
+        return passwords;
+    }
+}
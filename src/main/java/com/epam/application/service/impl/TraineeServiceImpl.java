@@ -1,6 +1,7 @@
 package com.epam.application.service.impl;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.epam.application.event.TraineeRegisteredEvent;
 import com.epam.application.exception.EntityNotFoundException;
@@ -10,18 +11,24 @@ import com.epam.application.request.CreateTraineeProfileRequest;
 import com.epam.application.request.UpdateTraineeProfileRequest;
 import com.epam.application.service.TraineeService;
 import com.epam.application.util.CredentialsUtil;
-import com.epam.domain.TrainingFilter;
+import com.epam.application.util.PagingUtil;
+import com.epam.domain.AssignedTrainers;
+import com.epam.domain.TrainerPage;
 import com.epam.domain.model.Trainee;
-import com.epam.domain.model.Trainer;
-import com.epam.domain.model.Training;
 import com.epam.domain.port.TraineeRepository;
-import com.epam.domain.port.TrainingRepository;
+import com.epam.domain.port.TrainerWorkloadRepository;
+import com.epam.domain.port.UsernameSerialRepository;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerSummary;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 @Transactional
@@ -34,10 +41,16 @@ public class TraineeServiceImpl implements TraineeService {
 
     private PasswordEncoder passwordEncoder;
 
-    private TrainingRepository trainingRepository;
-
     private TrainingEventPublisher trainingEventPublisher;
 
+    private UsernameSerialRepository usernameSerialRepository;
+
+    private BulkCredentialsIssuer bulkCredentialsIssuer;
+
+    private TransactionOperations transactionOperations;
+
+    private TrainerWorkloadRepository trainerWorkloadRepository;
+
     @Autowired
     void setTraineeRepository(TraineeRepository traineeRepository) {
         this.traineeRepository = traineeRepository;
@@ -54,13 +67,28 @@ public class TraineeServiceImpl implements TraineeService {
     }
 
     @Autowired
-    void setTrainingRepository(TrainingRepository repository) {
-        this.trainingRepository = repository;
+    void setTrainingEventPublisher(TrainingEventPublisher eventPublisher) {
+        this.trainingEventPublisher = eventPublisher;
+    }
+
+    @Autowired
+    void setUsernameSerialRepository(UsernameSerialRepository usernameSerialRepository) {
+        this.usernameSerialRepository = usernameSerialRepository;
     }
 
     @Autowired
-    void setTrainingEventPublisher(TrainingEventPublisher eventPublisher) {
-        this.trainingEventPublisher = eventPublisher;
+    void setBulkCredentialsIssuer(BulkCredentialsIssuer bulkCredentialsIssuer) {
+        this.bulkCredentialsIssuer = bulkCredentialsIssuer;
+    }
+
+    @Autowired
+    void setTransactionOperations(TransactionOperations transactionOperations) {
+        this.transactionOperations = transactionOperations;
+    }
+
+    @Autowired
+    void setTrainerWorkloadRepository(TrainerWorkloadRepository trainerWorkloadRepository) {
+        this.trainerWorkloadRepository = trainerWorkloadRepository;
     }
 
     @Override
@@ -70,7 +98,7 @@ public class TraineeServiceImpl implements TraineeService {
         Trainee trainee = new Trainee(request.firstName(), request.lastName(), request.active());
 
         String username = CredentialsUtil.generateUniqueUsername(
-                trainee.getFirstName(), trainee.getLastName(), traineeRepository::findLatestUsername);
+                trainee.getFirstName(), trainee.getLastName(), usernameSerialRepository::nextSerial);
         String password = CredentialsUtil.generateRandomPassword(10);
 
         trainee.setUsername(username);
@@ -86,9 +114,52 @@ public class TraineeServiceImpl implements TraineeService {
         return savedTrainee;
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Trainee> createProfiles(List<CreateTraineeProfileRequest> requests) {
+        if (requests.isEmpty() || requests.size() > BulkCredentialsIssuer.MAX_PROFILES) {
+            throw new ValidationException(
+                    String.format("Batch size must be between 1 and %d", BulkCredentialsIssuer.MAX_PROFILES));
+        }
+
+        List<Trainee> trainees = requests.stream()
+                .map(request -> {
+                    CredentialsUtil.validateFullName(request.firstName(), request.lastName());
+                    Trainee trainee = new Trainee(request.firstName(), request.lastName(), request.active());
+                    request.dob().ifPresent(trainee::setDob);
+                    request.address().ifPresent(trainee::setAddress);
+                    return trainee;
+                })
+                .toList();
+
+        // Issued before the transaction that saves them, so hashing holds no connection or lock
+        List<String> passwords = bulkCredentialsIssuer.issue(trainees);
+        List<Trainee> savedTrainees = transactionOperations.execute(status -> traineeRepository.saveAll(trainees));
+
+        for (int i = 0; i < savedTrainees.size(); i++) {
+            Trainee savedTrainee = savedTrainees.get(i);
+            savedTrainee.setPassword(passwords.get(i));
+            applicationEventPublisher.publishEvent(new TraineeRegisteredEvent(savedTrainee.getTraineeId()));
+        }
+
+        log.info("Registered {} trainees in bulk", savedTrainees.size());
+        return savedTrainees;
+    }
+
     @Override
     public Trainee updateProfile(UpdateTraineeProfileRequest request) {
-        Trainee trainee = findTraineeByUsernameOrThrow(request.username());
+        return applyUpdate(findTraineeByUsernameOrThrow(request.username()), request);
+    }
+
+    @Override
+    public TraineeProfile updateProfileWithTrainers(UpdateTraineeProfileRequest request) {
+        TraineeProfile profile = findProfileOrThrow(request.username());
+        return new TraineeProfile(applyUpdate(profile.trainee(), request), profile.trainers());
+    }
+
+    private Trainee applyUpdate(Trainee trainee, UpdateTraineeProfileRequest request) {
+        // Only a version the client sent is enforced; without one the save applies on top of whatever committed last
+        trainee.setVersion(request.expectedVersion().orElse(null));
 
         request.firstName().ifPresent(newFirstName -> {
             CredentialsUtil.validateName(newFirstName, "First name");
@@ -119,30 +190,25 @@ public class TraineeServiceImpl implements TraineeService {
     @Override
     public void updatePassword(String username, String newPassword) {
         validateNewPassword(newPassword);
-        Trainee trainee = findTraineeByUsernameOrThrow(username);
-        trainee.setPassword(passwordEncoder.encode(newPassword));
-        traineeRepository.save(trainee);
+        if (!traineeRepository.updatePassword(username, passwordEncoder.encode(newPassword))) {
+            throw traineeNotFound(username);
+        }
     }
 
     @Override
     public void toggleActiveStatus(String username) {
-        Trainee trainee = findTraineeByUsernameOrThrow(username);
-
-        boolean oldStatus = trainee.getActive();
-        boolean newStatus = !oldStatus;
-        trainee.setActive(newStatus);
-
-        traineeRepository.save(trainee);
+        traineeRepository.toggleActive(username).orElseThrow(() -> traineeNotFound(username));
     }
 
     @Override
     public void deleteProfile(String username) {
         findTraineeByUsernameOrThrow(username);
 
-        List<Training> trainings = trainingRepository.getTraineeTrainings(username, TrainingFilter.empty());
-        trainingEventPublisher.publishDeleteEventsForTrainings(trainings);
+        // Summed from the deleted rows themselves, so sessions booked or removed meanwhile are counted exactly once
+        List<TrainerMonthlyWorkload> workloads = traineeRepository.deleteByUsername(username);
 
-        traineeRepository.deleteByUsername(username);
+        trainerWorkloadRepository.subtract(workloads);
+        trainingEventPublisher.publishWorkloadRemoved(workloads);
     }
 
     @Override
@@ -153,33 +219,64 @@ public class TraineeServiceImpl implements TraineeService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Trainer> getUnassignedTrainers(String username) {
-        findTraineeByUsernameOrThrow(username);
+    public TraineeProfile getProfileWithTrainers(String username) {
+        return findProfileOrThrow(username);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TraineeProfile getProfileWithTrainers(String username, long changeVersion) {
+        return traineeRepository.findProfile(username, changeVersion).orElseThrow(() -> traineeNotFound(username));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getChangeVersion(String username) {
+        return traineeRepository.findChangeVersion(username).orElseThrow(() -> traineeNotFound(username));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrainerSummary> getUnassignedTrainers(String username) {
+        // The repository resolves existence with an id-only lookup, so the profile is not loaded here
         return traineeRepository.getUnassignedTrainers(username);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Trainer> getTrainers(String username) {
-        findTraineeByUsernameOrThrow(username);
+    public TrainerPage getUnassignedTrainers(String username, Optional<String> after, int limit) {
+        PagingUtil.validatePageSize(limit);
+        return traineeRepository.getUnassignedTrainers(username, after, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrainerSummary> getTrainers(String username) {
         return traineeRepository.getTrainers(username);
     }
 
     @Override
-    public void updateTrainersList(String username, List<String> trainerUsernames) {
+    public AssignedTrainers updateTrainersList(
+            String username, List<String> trainerUsernames, Optional<Long> expectedVersion) {
         if (trainerUsernames.isEmpty()) {
             log.warn("Empty trainer usernames list provided for trainee: {} - will clear all trainers", username);
         }
 
         findTraineeByUsernameOrThrow(username);
-        traineeRepository.updateTrainersList(username, trainerUsernames);
+        return traineeRepository.updateTrainersList(username, trainerUsernames, expectedVersion);
     }
 
     private Trainee findTraineeByUsernameOrThrow(String username) {
-        return traineeRepository.findByUsername(username).orElseThrow(() -> {
-            log.error("Trainee not found with username: {}", username);
-            return new EntityNotFoundException(String.format("Trainee not found with username: %s", username));
-        });
+        return traineeRepository.findByUsername(username).orElseThrow(() -> traineeNotFound(username));
+    }
+
+    private TraineeProfile findProfileOrThrow(String username) {
+        return traineeRepository.findProfile(username).orElseThrow(() -> traineeNotFound(username));
+    }
+
+    private EntityNotFoundException traineeNotFound(String username) {
+        log.error("Trainee not found with username: {}", username);
+        return new EntityNotFoundException(String.format("Trainee not found with username: %s", username));
     }
 
     private void validateNewPassword(String password) {
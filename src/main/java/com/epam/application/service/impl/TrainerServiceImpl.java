@@ -1,6 +1,8 @@
 package com.epam.application.service.impl;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import com.epam.application.event.TrainerRegisteredEvent;
 import com.epam.application.exception.EntityNotFoundException;
@@ -10,21 +12,25 @@ import com.epam.application.request.CreateTrainerProfileRequest;
 import com.epam.application.request.UpdateTrainerProfileRequest;
 import com.epam.application.service.TrainerService;
 import com.epam.application.util.CredentialsUtil;
-import com.epam.domain.TrainingFilter;
-import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
-import com.epam.domain.model.Training;
 import com.epam.domain.model.TrainingType;
 import com.epam.domain.model.TrainingTypeEnum;
 import com.epam.domain.port.TrainerRepository;
-import com.epam.domain.port.TrainingRepository;
+import com.epam.domain.port.TrainerWorkloadRepository;
 import com.epam.domain.port.TrainingTypeRepository;
+import com.epam.domain.port.UsernameSerialRepository;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerProfile;
+import com.epam.domain.projection.TrainerWorkloadSummary;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 @Transactional
@@ -39,10 +45,16 @@ public class TrainerServiceImpl implements TrainerService {
 
     private PasswordEncoder passwordEncoder;
 
-    private TrainingRepository trainingRepository;
-
     private TrainingEventPublisher trainingEventPublisher;
 
+    private UsernameSerialRepository usernameSerialRepository;
+
+    private BulkCredentialsIssuer bulkCredentialsIssuer;
+
+    private TransactionOperations transactionOperations;
+
+    private TrainerWorkloadRepository trainerWorkloadRepository;
+
     @Autowired
     void setTrainerRepository(TrainerRepository trainerRepository) {
         this.trainerRepository = trainerRepository;
@@ -64,13 +76,28 @@ public class TrainerServiceImpl implements TrainerService {
     }
 
     @Autowired
-    void setTrainingRepository(TrainingRepository trainingRepository) {
-        this.trainingRepository = trainingRepository;
+    void setTrainingEventPublisher(TrainingEventPublisher eventPublisher) {
+        this.trainingEventPublisher = eventPublisher;
     }
 
     @Autowired
-    void setTrainingEventPublisher(TrainingEventPublisher eventPublisher) {
-        this.trainingEventPublisher = eventPublisher;
+    void setUsernameSerialRepository(UsernameSerialRepository usernameSerialRepository) {
+        this.usernameSerialRepository = usernameSerialRepository;
+    }
+
+    @Autowired
+    void setBulkCredentialsIssuer(BulkCredentialsIssuer bulkCredentialsIssuer) {
+        this.bulkCredentialsIssuer = bulkCredentialsIssuer;
+    }
+
+    @Autowired
+    void setTransactionOperations(TransactionOperations transactionOperations) {
+        this.transactionOperations = transactionOperations;
+    }
+
+    @Autowired
+    void setTrainerWorkloadRepository(TrainerWorkloadRepository trainerWorkloadRepository) {
+        this.trainerWorkloadRepository = trainerWorkloadRepository;
     }
 
     @Override
@@ -80,7 +107,7 @@ public class TrainerServiceImpl implements TrainerService {
         Trainer trainer = new Trainer(request.firstName(), request.lastName(), request.active(), specialization);
 
         String username = CredentialsUtil.generateUniqueUsername(
-                trainer.getFirstName(), trainer.getLastName(), trainerRepository::findLatestUsername);
+                trainer.getFirstName(), trainer.getLastName(), usernameSerialRepository::nextSerial);
         String password = CredentialsUtil.generateRandomPassword(10);
 
         trainer.setUsername(username);
@@ -92,9 +119,52 @@ public class TrainerServiceImpl implements TrainerService {
         return savedTrainer;
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Trainer> createProfiles(List<CreateTrainerProfileRequest> requests) {
+        if (requests.isEmpty() || requests.size() > BulkCredentialsIssuer.MAX_PROFILES) {
+            throw new ValidationException(
+                    String.format("Batch size must be between 1 and %d", BulkCredentialsIssuer.MAX_PROFILES));
+        }
+
+        Map<TrainingTypeEnum, TrainingType> specializations = new EnumMap<>(TrainingTypeEnum.class);
+        List<Trainer> trainers = requests.stream()
+                .map(request -> {
+                    CredentialsUtil.validateFullName(request.firstName(), request.lastName());
+                    TrainingType specialization =
+                            specializations.computeIfAbsent(request.specialization(), this::findTrainingTypeOrThrow);
+                    return new Trainer(request.firstName(), request.lastName(), request.active(), specialization);
+                })
+                .toList();
+
+        // Issued before the transaction that saves them, so hashing holds no connection or lock
+        List<String> passwords = bulkCredentialsIssuer.issue(trainers);
+        List<Trainer> savedTrainers = transactionOperations.execute(status -> trainerRepository.saveAll(trainers));
+
+        for (int i = 0; i < savedTrainers.size(); i++) {
+            Trainer savedTrainer = savedTrainers.get(i);
+            savedTrainer.setPassword(passwords.get(i));
+            applicationEventPublisher.publishEvent(new TrainerRegisteredEvent(savedTrainer.getUserId()));
+        }
+
+        log.info("Registered {} trainers in bulk", savedTrainers.size());
+        return savedTrainers;
+    }
+
     @Override
     public Trainer updateProfile(UpdateTrainerProfileRequest request) {
-        Trainer trainer = findTrainerByUsernameOrThrow(request.username());
+        return applyUpdate(findTrainerByUsernameOrThrow(request.username()), request);
+    }
+
+    @Override
+    public TrainerProfile updateProfileWithTrainees(UpdateTrainerProfileRequest request) {
+        TrainerProfile profile = findProfileOrThrow(request.username());
+        return new TrainerProfile(applyUpdate(profile.trainer(), request), profile.trainees());
+    }
+
+    private Trainer applyUpdate(Trainer trainer, UpdateTrainerProfileRequest request) {
+        // Only a version the client sent is enforced; without one the save applies on top of whatever committed last
+        trainer.setVersion(request.expectedVersion().orElse(null));
 
         request.firstName().ifPresent(newFirstName -> {
             CredentialsUtil.validateName(newFirstName, "First name");
@@ -133,30 +203,23 @@ public class TrainerServiceImpl implements TrainerService {
     @Override
     public void updatePassword(String username, String newPassword) {
         validateNewPassword(newPassword);
-        Trainer trainer = findTrainerByUsernameOrThrow(username);
-        trainer.setPassword(passwordEncoder.encode(newPassword));
-        trainerRepository.save(trainer);
+        if (!trainerRepository.updatePassword(username, passwordEncoder.encode(newPassword))) {
+            throw trainerNotFound(username);
+        }
     }
 
     @Override
     public void toggleActiveStatus(String username) {
-        Trainer trainer = findTrainerByUsernameOrThrow(username);
-
-        boolean oldStatus = trainer.getActive();
-        boolean newStatus = !oldStatus;
-        trainer.setActive(newStatus);
-
-        trainerRepository.save(trainer);
+        trainerRepository.toggleActive(username).orElseThrow(() -> trainerNotFound(username));
     }
 
     @Override
     public void deleteProfile(String username) {
         findTrainerByUsernameOrThrow(username);
 
-        List<Training> trainings = trainingRepository.getTrainerTrainings(username, TrainingFilter.empty());
-        trainingEventPublisher.publishDeleteEventsForTrainings(trainings);
-
-        trainerRepository.deleteByUsername(username);
+        // Summed from the deleted rows themselves, so sessions booked or removed meanwhile are counted exactly once
+        List<TrainerMonthlyWorkload> workloads = trainerRepository.deleteByUsername(username);
+        trainingEventPublisher.publishWorkloadRemoved(workloads);
     }
 
     @Override
@@ -166,16 +229,53 @@ public class TrainerServiceImpl implements TrainerService {
     }
 
     @Override
-    public List<Trainee> getTrainees(String username) {
-        findTrainerByUsernameOrThrow(username);
+    @Transactional(readOnly = true)
+    public TrainerProfile getProfileWithTrainees(String username) {
+        return findProfileOrThrow(username);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TrainerProfile getProfileWithTrainees(String username, long changeVersion) {
+        return trainerRepository.findProfile(username, changeVersion).orElseThrow(() -> trainerNotFound(username));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getChangeVersion(String username) {
+        return trainerRepository.findChangeVersion(username).orElseThrow(() -> trainerNotFound(username));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getTrainingsVersion(String username) {
+        return trainerRepository.findTrainingsVersion(username).orElseThrow(() -> trainerNotFound(username));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TraineeSummary> getTrainees(String username) {
+        // The repository resolves existence with an id-only lookup, so the profile is not loaded here
         return trainerRepository.getTrainees(username);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TrainerWorkloadSummary getWorkloadSummary(String username) {
+        return trainerWorkloadRepository.findByTrainerUsername(username).orElseThrow(() -> trainerNotFound(username));
+    }
+
     private Trainer findTrainerByUsernameOrThrow(String username) {
-        return trainerRepository.findByUsername(username).orElseThrow(() -> {
-            log.error("Trainer not found with username: {}", username);
-            return new EntityNotFoundException(String.format("Trainer not found with username: %s", username));
-        });
+        return trainerRepository.findByUsername(username).orElseThrow(() -> trainerNotFound(username));
+    }
+
+    private TrainerProfile findProfileOrThrow(String username) {
+        return trainerRepository.findProfile(username).orElseThrow(() -> trainerNotFound(username));
+    }
+
+    private EntityNotFoundException trainerNotFound(String username) {
+        log.error("Trainer not found with username: {}", username);
+        return new EntityNotFoundException(String.format("Trainer not found with username: %s", username));
     }
 
     private TrainingType findTrainingTypeOrThrow(TrainingTypeEnum trainingType) {
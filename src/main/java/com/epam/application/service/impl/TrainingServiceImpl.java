@@ -1,14 +1,30 @@
 package com.epam.application.service.impl;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.epam.application.exception.EntityNotFoundException;
+import com.epam.application.exception.ValidationException;
 import com.epam.application.messaging.event.TrainerWorkloadEvent;
 import com.epam.application.messaging.publisher.TrainingEventPublisher;
 import com.epam.application.request.CreateTrainingRequest;
 import com.epam.application.service.TrainingService;
+import com.epam.application.util.PagingUtil;
+import com.epam.domain.TrainingBatchResult;
+import com.epam.domain.TrainingCursor;
 import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
 import com.epam.domain.model.Training;
@@ -16,11 +32,16 @@ import com.epam.domain.model.TrainingType;
 import com.epam.domain.model.TrainingTypeEnum;
 import com.epam.domain.port.TraineeRepository;
 import com.epam.domain.port.TrainerRepository;
+import com.epam.domain.port.TrainerWorkloadRepository;
 import com.epam.domain.port.TrainingRepository;
 import com.epam.domain.port.TrainingTypeRepository;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainingSummary;
+import com.epam.domain.projection.TrainingWorkload;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -28,6 +49,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class TrainingServiceImpl implements TrainingService {
 
+    public static final int MAX_BATCH_SIZE = 500;
+
     private final TrainingRepository trainingRepository;
 
     private final TrainerRepository trainerRepository;
@@ -38,18 +61,22 @@ public class TrainingServiceImpl implements TrainingService {
 
     private final TrainingEventPublisher eventPublisher;
 
+    private final TrainerWorkloadRepository trainerWorkloadRepository;
+
     @Autowired
     public TrainingServiceImpl(
             TrainingRepository trainingRepository,
             TrainerRepository trainerRepository,
             TraineeRepository traineeRepository,
             TrainingTypeRepository trainingTypeRepository,
-            TrainingEventPublisher eventPublisher) {
+            TrainingEventPublisher eventPublisher,
+            TrainerWorkloadRepository trainerWorkloadRepository) {
         this.trainingRepository = trainingRepository;
         this.trainerRepository = trainerRepository;
         this.traineeRepository = traineeRepository;
         this.trainingTypeRepository = trainingTypeRepository;
         this.eventPublisher = eventPublisher;
+        this.trainerWorkloadRepository = trainerWorkloadRepository;
     }
 
     @Override
@@ -76,6 +103,7 @@ public class TrainingServiceImpl implements TrainingService {
 
         // This transaction commits before the Kafka send completes
         Training savedTraining = trainingRepository.save(training);
+        trainerWorkloadRepository.add(List.of(monthlyWorkload(savedTraining)));
         TrainerWorkloadEvent event = createTrainerWorkloadEvent(training, TrainerWorkloadEvent.ActionType.ADD);
         eventPublisher.publishTrainingCreated(event); // fire and forget
 
@@ -83,29 +111,152 @@ public class TrainingServiceImpl implements TrainingService {
     }
 
     @Override
+    public List<TrainingBatchResult> createAll(List<CreateTrainingRequest> requests) {
+        if (requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException(String.format("Batch size must be between 1 and %d", MAX_BATCH_SIZE));
+        }
+
+        // Set-based lookups: three queries however many items the batch holds
+        Set<String> traineeUsernames =
+                requests.stream().map(CreateTrainingRequest::traineeUsername).collect(Collectors.toSet());
+        Set<String> trainerUsernames =
+                requests.stream().map(CreateTrainingRequest::trainerUsername).collect(Collectors.toSet());
+        Map<String, Trainee> trainees = traineeRepository.findByUsernames(traineeUsernames).stream()
+                .collect(Collectors.toMap(Trainee::getUsername, Function.identity()));
+        Map<String, Trainer> trainers = trainerRepository.findByUsernames(trainerUsernames).stream()
+                .collect(Collectors.toMap(Trainer::getUsername, Function.identity()));
+
+        Set<LocalDateTime> dates =
+                requests.stream().map(CreateTrainingRequest::trainingDate).collect(Collectors.toSet());
+        Set<SessionKey> booked = new HashSet<>();
+        trainingRepository
+                .findScheduledSessions(trainers.keySet(), dates)
+                .forEach(session -> booked.add(
+                        new SessionKey(session.trainerUsername(), session.traineeUsername(), session.trainingDate())));
+
+        Map<TrainingTypeEnum, TrainingType> trainingTypes = new EnumMap<>(TrainingTypeEnum.class);
+        TrainingBatchResult[] results = new TrainingBatchResult[requests.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Training> accepted = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTrainingRequest request = requests.get(i);
+            Trainee trainee = trainees.get(request.traineeUsername());
+            Trainer trainer = trainers.get(request.trainerUsername());
+
+            if (trainee == null) {
+                results[i] = TrainingBatchResult.rejected(i, "Trainee not found: " + request.traineeUsername());
+                continue;
+            }
+            if (trainer == null) {
+                results[i] = TrainingBatchResult.rejected(i, "Trainer not found: " + request.trainerUsername());
+                continue;
+            }
+            if (!booked.add(
+                    new SessionKey(request.trainerUsername(), request.traineeUsername(), request.trainingDate()))) {
+                results[i] = TrainingBatchResult.rejected(i, "Training session already exists");
+                continue;
+            }
+
+            TrainingType trainingType = request.trainingType()
+                    .map(name -> trainingTypes.computeIfAbsent(name, this::findTrainingType))
+                    .orElse(trainer.getSpecialization());
+
+            accepted.add(Training.builder()
+                    .trainingName(request.trainingName())
+                    .trainingDate(request.trainingDate())
+                    .trainingDurationMin(request.trainingDurationMin())
+                    .trainee(trainee)
+                    .trainer(trainer)
+                    .trainingType(trainingType)
+                    .build());
+            acceptedIndexes.add(i);
+        }
+
+        List<Training> saved = accepted.isEmpty() ? List.of() : trainingRepository.saveAll(accepted);
+
+        trainerWorkloadRepository.add(
+                saved.stream().map(TrainingServiceImpl::monthlyWorkload).toList());
+
+        List<TrainerWorkloadEvent> events = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = TrainingBatchResult.created(index, saved.get(i).getTrainingId());
+            events.add(createTrainerWorkloadEvent(saved.get(i), TrainerWorkloadEvent.ActionType.ADD));
+        }
+        eventPublisher.publishTrainingsCreated(events);
+
+        log.info("Created {} of {} trainings in batch", saved.size(), requests.size());
+        return List.of(results);
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public List<Training> getTraineeTrainings(String username, TrainingFilter filter) {
-        findTraineeOrThrow(username);
+        requireTrainee(username);
         return trainingRepository.getTraineeTrainings(username, filter);
     }
 
     @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public List<Training> getTrainerTrainings(String username, TrainingFilter filter) {
-        findTrainerOrThrow(username);
+        requireTrainer(username);
         return trainingRepository.getTrainerTrainings(username, filter);
     }
 
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public TrainingPage getTraineeTrainings(
+            String username, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version) {
+        PagingUtil.validatePageSize(limit);
+        return trainingRepository.getTraineeTrainings(username, filter, after, limit, version);
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public TrainingPage getTrainerTrainings(
+            String username, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version) {
+        PagingUtil.validatePageSize(limit);
+        return trainingRepository.getTrainerTrainings(username, filter, after, limit, version);
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void streamTraineeTrainings(String username, TrainingFilter filter, Consumer<TrainingSummary> consumer) {
+        requireTrainee(username);
+        try (Stream<TrainingSummary> trainings = trainingRepository.streamTraineeTrainings(username, filter)) {
+            trainings.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void streamTrainerTrainings(String username, TrainingFilter filter, Consumer<TrainingSummary> consumer) {
+        requireTrainer(username);
+        try (Stream<TrainingSummary> trainings = trainingRepository.streamTrainerTrainings(username, filter)) {
+            trainings.forEach(consumer);
+        }
+    }
+
     @Override
     public void deleteTraining(String traineeUsername, String trainerUsername, LocalDateTime date) {
         log.debug("Deleting training for trainee: {}, trainer: {} on date: {}", traineeUsername, trainerUsername, date);
 
         trainingRepository
-                .findByTrainerUsernameAndTraineeUsernameAndDate(trainerUsername, traineeUsername, date)
+                .deleteByTraineeTrainerAndDate(traineeUsername, trainerUsername, date)
                 .ifPresentOrElse(
-                        training -> {
-                            trainingRepository.deleteByTraineeTrainerAndDate(traineeUsername, trainerUsername, date);
+                        deleted -> {
+                            trainerWorkloadRepository.subtract(List.of(monthlyWorkload(deleted)));
 
-                            TrainerWorkloadEvent event =
-                                    createTrainerWorkloadEvent(training, TrainerWorkloadEvent.ActionType.DELETE);
+                            TrainerWorkloadEvent event = TrainerWorkloadEvent.builder()
+                                    .trainerUsername(deleted.trainerUsername())
+                                    .trainerFirstname(deleted.trainerFirstName())
+                                    .trainerLastname(deleted.trainerLastName())
+                                    .isActive(deleted.trainerActive())
+                                    .trainingDate(deleted.trainingDate())
+                                    .trainingDurationMinutes(deleted.trainingDurationMin())
+                                    .actionType(TrainerWorkloadEvent.ActionType.DELETE)
+                                    .build();
                             eventPublisher.publishTrainingDeleted(event);
 
                             log.info("Successfully deleted training and published deletion event");
@@ -131,6 +282,21 @@ public class TrainingServiceImpl implements TrainingService {
         });
     }
 
+    // History reads only need to know the user exists; the version lookup answers that without loading the profile
+    private void requireTrainee(String username) {
+        if (traineeRepository.findChangeVersion(username).isEmpty()) {
+            log.warn("Trainee not found with username: {}", username);
+            throw new EntityNotFoundException("Trainee not found: " + username);
+        }
+    }
+
+    private void requireTrainer(String username) {
+        if (trainerRepository.findChangeVersion(username).isEmpty()) {
+            log.warn("Trainer not found with username: {}", username);
+            throw new EntityNotFoundException("Trainer not found: " + username);
+        }
+    }
+
     private TrainingType findTrainingType(TrainingTypeEnum name) {
         return trainingTypeRepository.findByTrainingTypeName(name).orElseThrow(() -> {
             log.warn("TrainingType not found with name: {}", name);
@@ -138,6 +304,28 @@ public class TrainingServiceImpl implements TrainingService {
         });
     }
 
+    private record SessionKey(String trainerUsername, String traineeUsername, LocalDateTime trainingDate) {}
+
+    private static TrainerMonthlyWorkload monthlyWorkload(Training training) {
+        return new TrainerMonthlyWorkload(
+                training.getTrainer().getUsername(),
+                training.getTrainer().getFirstName(),
+                training.getTrainer().getLastName(),
+                training.getTrainer().getActive(),
+                YearMonth.from(training.getTrainingDate()),
+                training.getTrainingDurationMin());
+    }
+
+    private static TrainerMonthlyWorkload monthlyWorkload(TrainingWorkload training) {
+        return new TrainerMonthlyWorkload(
+                training.trainerUsername(),
+                training.trainerFirstName(),
+                training.trainerLastName(),
+                training.trainerActive(),
+                YearMonth.from(training.trainingDate()),
+                training.trainingDurationMin());
+    }
+
     private TrainerWorkloadEvent createTrainerWorkloadEvent(
             Training training, TrainerWorkloadEvent.ActionType actionType) {
         return TrainerWorkloadEvent.builder()
@@ -1,8 +1,7 @@
 package com.epam.application.util;
 
 import java.security.SecureRandom;
-import java.util.Optional;
-import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.regex.Pattern;
 
 import com.epam.application.exception.ValidationException;
@@ -25,22 +24,22 @@ public class CredentialsUtil {
         throw new UnsupportedOperationException("Utility class");
     }
 
+    /**
+     * Builds {@code FirstName.LastName} and appends the serial handed out by {@code serialAllocator} unless it is
+     * {@code 0}.
+     */
     public static String generateUniqueUsername(
-            String firstname, String lastName, Function<String, Optional<String>> latestUsernameFinder) {
-        String baseUsername = firstname + "." + lastName;
-        String res = baseUsername;
-        Optional<String> latestUsername = latestUsernameFinder.apply(baseUsername);
-        if (latestUsername.isEmpty()) {
-            return baseUsername;
-        } else {
-            try {
-                String serialPart = latestUsername.get().substring(baseUsername.length());
-                res += Long.parseLong(serialPart) + 1;
-            } catch (NumberFormatException e) {
-                res += "1";
-            }
-        }
-        return res;
+            String firstname, String lastName, ToLongFunction<String> serialAllocator) {
+        String baseUsername = baseUsername(firstname, lastName);
+        return usernameWithSerial(baseUsername, serialAllocator.applyAsLong(baseUsername));
+    }
+
+    public static String baseUsername(String firstname, String lastName) {
+        return firstname + "." + lastName;
+    }
+
+    public static String usernameWithSerial(String baseUsername, long serial) {
+        return serial == 0 ? baseUsername : baseUsername + serial;
     }
 
     public static String generateRandomPassword(int length) {
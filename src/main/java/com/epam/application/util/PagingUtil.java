@@ -0,0 +1,21 @@
+package com.epam.application.util;
+
+import com.epam.application.exception.ValidationException;
+
+/**
+ * Bounds shared by the keyset-paginated service reads.
+ */
+public class PagingUtil {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private PagingUtil() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static void validatePageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException(String.format("Page limit must be between 1 and %d", MAX_PAGE_SIZE));
+        }
+    }
+}
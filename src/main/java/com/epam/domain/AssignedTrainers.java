@@ -0,0 +1,12 @@
+package com.epam.domain;
+
+import java.util.List;
+
+import com.epam.domain.projection.TrainerSummary;
+
+/**
+ * A trainee's assigned trainers ordered by username.
+ *
+ * @param version the trainee's change version the list was read at
+ */
+public record AssignedTrainers(List<TrainerSummary> trainers, long version) {}
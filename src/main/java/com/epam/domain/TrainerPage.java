@@ -0,0 +1,21 @@
+package com.epam.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.domain.projection.TrainerSummary;
+
+/**
+ * One page of trainers ordered by username. The cursor is the last username on the page and is meant to be passed back
+ * unchanged.
+ */
+public record TrainerPage(List<TrainerSummary> trainers, Optional<String> nextCursor) {
+
+    public static TrainerPage of(List<TrainerSummary> trainers, boolean hasMore) {
+        if (!hasMore || trainers.isEmpty()) {
+            return new TrainerPage(trainers, Optional.empty());
+        }
+        return new TrainerPage(
+                trainers, Optional.of(trainers.get(trainers.size() - 1).username()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.epam.domain;
+
+/**
+ * Outcome of one item of a bulk training creation, identified by its position in the submitted batch. Exactly one of
+ * {@code trainingId} and {@code error} is set.
+ */
+public record TrainingBatchResult(int index, Long trainingId, String error) {
+
+    public static TrainingBatchResult created(int index, Long trainingId) {
+        return new TrainingBatchResult(index, trainingId, null);
+    }
+
+    public static TrainingBatchResult rejected(int index, String error) {
+        return new TrainingBatchResult(index, null, error);
+    }
+
+    public boolean succeeded() {
+        return error == null;
+    }
+}
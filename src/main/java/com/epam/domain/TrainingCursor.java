@@ -0,0 +1,41 @@
+package com.epam.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Keyset position in a training history ordered by {@code (trainingDate, trainingId)}. Clients only ever see the
+ * encoded form, which is opaque and URL safe.
+ */
+public record TrainingCursor(LocalDateTime trainingDate, Long trainingId) {
+
+    private static final String SEPARATOR = "|";
+
+    public TrainingCursor {
+        Objects.requireNonNull(trainingDate, "trainingDate must not be null");
+        Objects.requireNonNull(trainingId, "trainingId must not be null");
+    }
+
+    public String encode() {
+        String raw = trainingDate + SEPARATOR + trainingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TrainingCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + encoded);
+            }
+            return new TrainingCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + encoded, e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.epam.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.domain.projection.TrainingSummary;
+
+/**
+ * @param version the history owner's change version, read before the trainings so the page is at least that new, or
+ *     {@code null} when not known
+ */
+public record TrainingPage(List<TrainingSummary> trainings, Optional<TrainingCursor> nextCursor, Long version) {
+
+    public TrainingPage(List<TrainingSummary> trainings, Optional<TrainingCursor> nextCursor) {
+        this(trainings, nextCursor, null);
+    }
+
+    public static TrainingPage of(List<TrainingSummary> trainings, boolean hasMore, Long version) {
+        if (!hasMore || trainings.isEmpty()) {
+            return new TrainingPage(trainings, Optional.empty(), version);
+        }
+        TrainingSummary last = trainings.get(trainings.size() - 1);
+        return new TrainingPage(
+                trainings, Optional.of(new TrainingCursor(last.trainingDate(), last.trainingId())), version);
+    }
+}
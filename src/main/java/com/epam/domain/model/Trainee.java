@@ -21,4 +21,16 @@ public class Trainee extends User {
     public Trainee(String firstName, String lastName, Boolean active) {
         super(firstName, lastName, active);
     }
+
+    /** Returns a detached copy for handing out to another caller. The password hash is left out. */
+    public Trainee copy() {
+        Trainee copy = new Trainee(getFirstName(), getLastName(), getActive());
+        copy.setUserId(getUserId());
+        copy.setUsername(getUsername());
+        copy.setTraineeId(traineeId);
+        copy.setDob(dob);
+        copy.setAddress(address);
+        copy.setVersion(getVersion());
+        return copy;
+    }
 }
@@ -18,4 +18,14 @@ public class Trainer extends User {
         super(firstName, lastName, active);
         this.specialization = specialization;
     }
+
+    /** Returns a detached copy for handing out to another caller. The password hash is left out. */
+    public Trainer copy() {
+        Trainer copy = new Trainer(getFirstName(), getLastName(), getActive(), specialization);
+        copy.setUserId(getUserId());
+        copy.setUsername(getUsername());
+        copy.setTrainerId(trainerId);
+        copy.setVersion(getVersion());
+        return copy;
+    }
 }
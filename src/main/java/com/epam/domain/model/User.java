@@ -22,6 +22,10 @@ public abstract class User {
 
     private Boolean active;
 
+    // Change version of everything the user's endpoints return: profile, assignments and trainings. On an update it is
+    // the version the change was based on, or null to apply the change unconditionally.
+    private Long version;
+
     protected User(String firstName, String lastName, Boolean active) {
         this.firstName = firstName;
         this.lastName = lastName;
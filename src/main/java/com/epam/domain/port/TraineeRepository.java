@@ -1,22 +1,79 @@
 package com.epam.domain.port;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import com.epam.domain.AssignedTrainers;
+import com.epam.domain.TrainerPage;
 import com.epam.domain.model.Trainee;
-import com.epam.domain.model.Trainer;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerSummary;
 
 public interface TraineeRepository extends CrudRepository<Trainee> {
 
     Optional<Trainee> findByUsername(String username);
 
-    Optional<String> findLatestUsername(String prefix);
+    /**
+     * Loads the trainee and the assigned trainers with a single query, or empty when no such trainee exists.
+     */
+    Optional<TraineeProfile> findProfile(String username);
 
-    List<Trainer> getTrainers(String traineeUsername);
+    /**
+     * As {@link #findProfile(String)}, for a caller that has just read the trainee's change version: a profile
+     * known to be at exactly {@code changeVersion} may be returned without a query. One loaded instead may be newer.
+     */
+    Optional<TraineeProfile> findProfile(String username, long changeVersion);
 
-    List<Trainer> getUnassignedTrainers(String traineeUsername);
+    /**
+     * The trainee's change version, which grows with every write to the profile, its assignments or its trainings.
+     * Empty when no such trainee exists.
+     */
+    Optional<Long> findChangeVersion(String username);
 
-    void deleteByUsername(String username);
+    /**
+     * Loads every trainee whose username is in the given set with a single query. Unknown usernames are skipped.
+     */
+    List<Trainee> findByUsernames(Collection<String> usernames);
 
-    void updateTrainersList(String traineeUsername, List<String> trainerUsernames);
+    /**
+     * Persists new trainees in chunks, flushing each chunk as JDBC batches and then clearing the persistence context so
+     * memory stays flat for large imports. Entities loaded earlier in the same transaction become detached.
+     */
+    List<Trainee> saveAll(List<Trainee> trainees);
+
+    List<TrainerSummary> getTrainers(String traineeUsername);
+
+    List<TrainerSummary> getUnassignedTrainers(String traineeUsername);
+
+    /**
+     * Active trainers not assigned to the trainee, ordered by username and starting after the given username. Fetches
+     * one row beyond {@code limit} to decide whether a next cursor is returned.
+     */
+    TrainerPage getUnassignedTrainers(String traineeUsername, Optional<String> after, int limit);
+
+    /**
+     * Deletes the profile with its assignments and live and archived trainings, and returns the training minutes that
+     * left with it per trainer and month, summed from the deleted rows themselves.
+     */
+    List<TrainerMonthlyWorkload> deleteByUsername(String username);
+
+    /**
+     * Flips the trainee's active flag in one statement and returns the new value, or empty when no such trainee exists.
+     */
+    Optional<Boolean> toggleActive(String username);
+
+    /**
+     * Stores an already encoded password in one statement. Returns {@code false} when no such trainee exists.
+     */
+    boolean updatePassword(String username, String encodedPassword);
+
+    /**
+     * Replaces the trainee's assigned trainers and returns the resulting list with the trainee's new change version,
+     * both read inside the write. Throws {@code VersionConflictException} when {@code expectedVersion} is present and
+     * no longer current.
+     */
+    AssignedTrainers updateTrainersList(
+            String traineeUsername, List<String> trainerUsernames, Optional<Long> expectedVersion);
 }
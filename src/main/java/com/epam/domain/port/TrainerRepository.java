@@ -1,18 +1,67 @@
 package com.epam.domain.port;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerProfile;
 
 public interface TrainerRepository extends CrudRepository<Trainer> {
 
     Optional<Trainer> findByUsername(String trainerUsername);
 
-    Optional<String> findLatestUsername(String prefix);
+    /**
+     * Loads the trainer and the assigned trainees with a single query, or empty when no such trainer exists.
+     */
+    Optional<TrainerProfile> findProfile(String trainerUsername);
 
-    List<Trainee> getTrainees(String trainerUsername);
+    /**
+     * As {@link #findProfile(String)}, for a caller that has just read the trainer's change version: a profile
+     * known to be at exactly {@code changeVersion} may be returned without a query. One loaded instead may be newer.
+     */
+    Optional<TrainerProfile> findProfile(String trainerUsername, long changeVersion);
 
-    void deleteByUsername(String username);
+    /**
+     * The trainer's change version, which grows with every write to the profile or its assignments. Empty when no such
+     * trainer exists.
+     */
+    Optional<Long> findChangeVersion(String trainerUsername);
+
+    /**
+     * Version of the trainer's training history, which grows with every change version bump and every booking. Empty
+     * when no such trainer exists.
+     */
+    Optional<Long> findTrainingsVersion(String trainerUsername);
+
+    /**
+     * Loads every trainer whose username is in the given set with a single query. Unknown usernames are skipped.
+     */
+    List<Trainer> findByUsernames(Collection<String> trainerUsernames);
+
+    /**
+     * Persists new trainers in chunks, flushing each chunk as JDBC batches and then clearing the persistence context so
+     * memory stays flat for large imports. Entities loaded earlier in the same transaction become detached.
+     */
+    List<Trainer> saveAll(List<Trainer> trainers);
+
+    List<TraineeSummary> getTrainees(String trainerUsername);
+
+    /**
+     * Deletes the profile with its assignments and live and archived trainings, and returns the training minutes that
+     * left with it per trainer and month, summed from the deleted rows themselves.
+     */
+    List<TrainerMonthlyWorkload> deleteByUsername(String username);
+
+    /**
+     * Flips the trainer's active flag in one statement and returns the new value, or empty when no such trainer exists.
+     */
+    Optional<Boolean> toggleActive(String username);
+
+    /**
+     * Stores an already encoded password in one statement. Returns {@code false} when no such trainer exists.
+     */
+    boolean updatePassword(String username, String encodedPassword);
 }
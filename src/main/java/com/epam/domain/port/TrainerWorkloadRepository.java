@@ -0,0 +1,31 @@
+package com.epam.domain.port;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerWorkloadSummary;
+
+/**
+ * Per-trainer monthly training totals, maintained alongside the trainings they sum. Writes join the caller's
+ * transaction, so the totals commit or roll back together with the trainings they describe.
+ */
+public interface TrainerWorkloadRepository {
+
+    /**
+     * Adds each entry's minutes to its trainer's monthly total, creating the month on first use.
+     */
+    void add(Collection<TrainerMonthlyWorkload> workloads);
+
+    /**
+     * Subtracts each entry's minutes from its trainer's monthly total. Months that reach zero are removed.
+     */
+    void subtract(Collection<TrainerMonthlyWorkload> workloads);
+
+    Optional<TrainerWorkloadSummary> findByTrainerUsername(String trainerUsername);
+
+    /**
+     * Recomputes every total from live and archived trainings, for data loaded without going through the services.
+     */
+    void rebuild();
+}
@@ -1,11 +1,18 @@
 package com.epam.domain.port;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import com.epam.domain.TrainingCursor;
 import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Training;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainingSummary;
+import com.epam.domain.projection.TrainingWorkload;
 
 public interface TrainingRepository extends CrudRepository<Training> {
 
@@ -13,7 +20,60 @@ public interface TrainingRepository extends CrudRepository<Training> {
 
     List<Training> getTrainerTrainings(String trainerUsername, TrainingFilter filter);
 
-    void deleteByTraineeTrainerAndDate(String traineeUsername, String trainerUsername, LocalDateTime date);
+    /**
+     * One page of the trainee's history, reported at {@code version}: the trainee's change version, read by the caller
+     * before this call so the page is at least that new.
+     */
+    TrainingPage getTraineeTrainings(
+            String traineeUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version);
+
+    /**
+     * Trainer-side counterpart of {@link #getTraineeTrainings(String, TrainingFilter, Optional, int, long)}, reported
+     * at the trainer's training version.
+     */
+    TrainingPage getTrainerTrainings(
+            String trainerUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version);
+
+    /**
+     * Streams the matching trainings through a forward-only database cursor. The stream must be consumed and closed
+     * inside the caller's transaction.
+     */
+    Stream<TrainingSummary> streamTraineeTrainings(String traineeUsername, TrainingFilter filter);
+
+    /**
+     * Trainer-side counterpart of {@link #streamTraineeTrainings(String, TrainingFilter)}.
+     */
+    Stream<TrainingSummary> streamTrainerTrainings(String trainerUsername, TrainingFilter filter);
+
+    /**
+     * Persists new trainings as one unit so the inserts reach the database as JDBC batches rather than one round trip
+     * per row.
+     */
+    List<Training> saveAll(List<Training> trainings);
+
+    /**
+     * Sessions already booked for any of the given trainers on any of the given dates. The result is a superset of
+     * the exact (trainer, date) pairs and is meant for duplicate checks before a bulk insert.
+     */
+    List<TrainingSummary> findScheduledSessions(Collection<String> trainerUsernames, Collection<LocalDateTime> dates);
+
+    /**
+     * Training minutes of the trainee's sessions summed per trainer and month, computed by the database so no training
+     * rows are loaded.
+     */
+    List<TrainerMonthlyWorkload> summarizeTraineeWorkload(String traineeUsername);
+
+    /**
+     * Trainer-side counterpart of {@link #summarizeTraineeWorkload(String)}.
+     */
+    List<TrainerMonthlyWorkload> summarizeTrainerWorkload(String trainerUsername);
+
+    /**
+     * Deletes the session in one statement, live or archived, and returns what the workload event needs, or empty when
+     * nothing matched.
+     */
+    Optional<TrainingWorkload> deleteByTraineeTrainerAndDate(
+            String traineeUsername, String trainerUsername, LocalDateTime date);
 
     Optional<Training> findByTrainerUsernameAndTraineeUsernameAndDate(
             String trainerUsername, String traineeUsername, LocalDateTime date);
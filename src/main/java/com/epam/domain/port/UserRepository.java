@@ -3,8 +3,14 @@ package com.epam.domain.port;
 import java.util.Optional;
 
 import com.epam.domain.model.User;
+import com.epam.domain.projection.UserCredentials;
 
 public interface UserRepository {
 
     Optional<User> findByUsername(String username);
+
+    /**
+     * Reads only the password hash and role, without loading the trainee or trainer profile.
+     */
+    Optional<UserCredentials> findCredentials(String username);
 }
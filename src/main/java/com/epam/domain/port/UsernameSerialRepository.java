@@ -0,0 +1,16 @@
+package com.epam.domain.port;
+
+public interface UsernameSerialRepository {
+
+    /**
+     * Atomically allocates the next serial for the given base username. {@code 0} means the bare base username is
+     * free; any higher value is appended to it. Concurrent callers never receive the same serial.
+     */
+    long nextSerial(String baseUsername);
+
+    /**
+     * Atomically allocates {@code count} consecutive serials for the given base username and returns the first one,
+     * so a bulk registration costs one statement per distinct name rather than one per user.
+     */
+    long reserveSerials(String baseUsername, int count);
+}
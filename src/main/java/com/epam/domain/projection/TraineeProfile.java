@@ -0,0 +1,10 @@
+package com.epam.domain.projection;
+
+import java.util.List;
+
+import com.epam.domain.model.Trainee;
+
+/**
+ * A trainee together with the assigned trainers ordered by username, as the profile endpoints return it.
+ */
+public record TraineeProfile(Trainee trainee, List<TrainerSummary> trainers) {}
@@ -0,0 +1,3 @@
+package com.epam.domain.projection;
+
+public record TraineeSummary(String username, String firstName, String lastName, Boolean active) {}
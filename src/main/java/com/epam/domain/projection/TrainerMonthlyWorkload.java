@@ -0,0 +1,14 @@
+package com.epam.domain.projection;
+
+import java.time.YearMonth;
+
+/**
+ * Total training minutes one trainer delivered in one calendar month, with the trainer fields workload events carry.
+ */
+public record TrainerMonthlyWorkload(
+        String trainerUsername,
+        String trainerFirstName,
+        String trainerLastName,
+        Boolean trainerActive,
+        YearMonth month,
+        long totalDurationMin) {}
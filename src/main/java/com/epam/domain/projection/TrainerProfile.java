@@ -0,0 +1,10 @@
+package com.epam.domain.projection;
+
+import java.util.List;
+
+import com.epam.domain.model.Trainer;
+
+/**
+ * A trainer together with the assigned trainees ordered by username, as the profile endpoints return it.
+ */
+public record TrainerProfile(Trainer trainer, List<TraineeSummary> trainees) {}
@@ -0,0 +1,6 @@
+package com.epam.domain.projection;
+
+import com.epam.domain.model.TrainingTypeEnum;
+
+public record TrainerSummary(
+        String username, String firstName, String lastName, Boolean active, TrainingTypeEnum specialization) {}
@@ -0,0 +1,15 @@
+package com.epam.domain.projection;
+
+import java.time.YearMonth;
+import java.util.SortedMap;
+
+/**
+ * A trainer's total training minutes per calendar month, oldest month first, as kept in the local workload aggregate.
+ * Months without trainings are absent.
+ */
+public record TrainerWorkloadSummary(
+        String username,
+        String firstName,
+        String lastName,
+        boolean active,
+        SortedMap<YearMonth, Long> minutesByMonth) {}
@@ -0,0 +1,17 @@
+package com.epam.domain.projection;
+
+import java.time.LocalDateTime;
+
+import com.epam.domain.model.TrainingTypeEnum;
+
+/**
+ * Read-only view of a training row carrying only what list endpoints render.
+ */
+public record TrainingSummary(
+        Long trainingId,
+        String trainingName,
+        LocalDateTime trainingDate,
+        TrainingTypeEnum trainingType,
+        Integer trainingDurationMin,
+        String traineeUsername,
+        String trainerUsername) {}
@@ -0,0 +1,14 @@
+package com.epam.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single session as the trainer workload service sees it: who ran it, when, and for how long.
+ */
+public record TrainingWorkload(
+        String trainerUsername,
+        String trainerFirstName,
+        String trainerLastName,
+        Boolean trainerActive,
+        LocalDateTime trainingDate,
+        Integer trainingDurationMin) {}
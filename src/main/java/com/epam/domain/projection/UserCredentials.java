@@ -0,0 +1,8 @@
+package com.epam.domain.projection;
+
+import com.epam.domain.model.UserRole;
+
+/**
+ * The stored password hash and role of a user, for credential checks that do not need the profile.
+ */
+public record UserCredentials(String username, String password, UserRole role) {}
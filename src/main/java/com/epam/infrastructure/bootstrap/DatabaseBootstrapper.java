@@ -2,15 +2,15 @@ package com.epam.infrastructure.bootstrap;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.epam.domain.model.TrainingTypeEnum;
 import com.epam.domain.model.UserRole;
-import com.epam.infrastructure.bootstrap.dto.InitialBootstrapData;
+import com.epam.domain.port.TrainerWorkloadRepository;
 import com.epam.infrastructure.bootstrap.dto.TraineeDTO;
-import com.epam.infrastructure.bootstrap.dto.TrainerDTO;
 import com.epam.infrastructure.bootstrap.dto.TrainingDTO;
-import com.epam.infrastructure.bootstrap.dto.TrainingTypeDTO;
 import com.epam.infrastructure.bootstrap.dto.UserDTO;
 import com.epam.infrastructure.persistence.dao.TraineeDAO;
 import com.epam.infrastructure.persistence.dao.TrainerDAO;
@@ -21,25 +21,50 @@ import jakarta.persistence.EntityManager;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
- * Database bootstrapper for loading initial data from JSON when application context is initialized
+ * Database bootstrapper for loading initial data from JSON when application context is initialized.
+ *
+ * <p>Records are streamed from the loader and persisted in chunks: each chunk is flushed as JDBC batches and committed
+ * in a transaction of its own, so locks, WAL and the persistence context are bounded by the chunk size and only
+ * username-to-id maps are kept between steps. A run that fails midway keeps the chunks it committed; the database then
+ * no longer looks empty, so it has to be cleared before the next start loads it again.
  */
 @Component
 @Profile("local")
+@Order(1)
 @Slf4j
 public class DatabaseBootstrapper implements ApplicationRunner {
     private final EntityManager entityManager;
     private final JsonDataLoader dataLoader;
+    private final TrainerWorkloadRepository trainerWorkloadRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final int chunkSize;
+
+    private TransactionStatus chunk;
 
     // --- Health data for actuator ---
     private final AtomicBoolean initialized = new AtomicBoolean(false);
 
+    private final AtomicLong processedRecords = new AtomicLong();
+
+    private volatile long startedAtNanos = 0;
+
+    private volatile long finishedAtNanos = 0;
+
+    @Getter
+    private volatile String currentStep = "PENDING";
+
     @Getter
     private boolean isSkipped = false;
 
@@ -55,17 +80,27 @@ public class DatabaseBootstrapper implements ApplicationRunner {
     @Getter
     private long traineeCount = 0;
 
+    @Getter
+    private long trainingCount = 0;
+
     @Getter
     private Exception lastError = null;
 
     @Autowired
-    public DatabaseBootstrapper(JsonDataLoader dataLoader, EntityManager entityManager) {
+    public DatabaseBootstrapper(
+            JsonDataLoader dataLoader,
+            EntityManager entityManager,
+            TrainerWorkloadRepository trainerWorkloadRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${storage.init.chunk-size:500}") int chunkSize) {
         this.dataLoader = dataLoader;
         this.entityManager = entityManager;
+        this.trainerWorkloadRepository = trainerWorkloadRepository;
+        this.transactionManager = transactionManager;
+        this.chunkSize = chunkSize;
     }
 
     @Override
-    @Transactional
     public void run(ApplicationArguments args) {
         log.info("Starting database bootstrap check...");
         try {
@@ -77,41 +112,56 @@ public class DatabaseBootstrapper implements ApplicationRunner {
                 log.info("Database already populated ({} users), skipping bootstrap", existingUserCount);
                 this.userCount = existingUserCount;
                 this.isSkipped = true;
+                this.currentStep = "SKIPPED";
                 this.initialized.set(true);
                 return;
             }
 
-            InitialBootstrapData data = dataLoader.loadBootstrapData();
+            this.startedAtNanos = System.nanoTime();
+
+            Map<String, Long> trainingTypes = persistTrainingTypes();
+            Map<String, Long> users = persistUsers();
 
-            if (data.getUsers().isEmpty()) {
+            if (users.isEmpty()) {
                 log.warn("No bootstrap data found");
                 return;
             }
 
-            Map<String, TrainingTypeDAO> trainingTypes = persistTrainingTypes(data);
-            Map<String, UserDAO> users = persistUsers(data);
-            Map<String, TrainerDAO> trainers = persistTrainers(data, users, trainingTypes);
-            Map<String, TraineeDAO> trainees = persistTrainees(data, users);
-            createTraineeTrainerRelationships(data, trainees, trainers);
-            persistTrainings(data, trainees, trainers, trainingTypes);
+            Map<String, Long> trainers = persistTrainers(users, trainingTypes);
+            Map<String, Long> trainees = persistTrainees(users, trainers);
+            persistTrainings(trainees, trainers, trainingTypes);
+            // Trainings are persisted directly rather than through the services, so their totals are summed at once
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> trainerWorkloadRepository.rebuild());
 
             this.trainingTypeCount = trainingTypes.size();
             this.userCount = users.size();
             this.trainerCount = trainers.size();
             this.traineeCount = trainees.size();
+            this.finishedAtNanos = System.nanoTime();
+            this.currentStep = "COMPLETED";
             this.initialized.set(true);
             this.isSkipped = false;
 
             log.info(
-                    "Bootstrap complete: {} types, {} users, {} trainers, {} trainees",
+                    "Bootstrap complete: {} types, {} users, {} trainers, {} trainees, {} trainings "
+                            + "in {} ms ({} records/s)",
                     trainingTypes.size(),
                     users.size(),
                     trainers.size(),
-                    trainees.size());
+                    trainees.size(),
+                    trainingCount,
+                    getElapsedMillis(),
+                    Math.round(getRecordsPerSecond()));
 
         } catch (Exception e) {
+            if (chunk != null) {
+                transactionManager.rollback(chunk);
+                chunk = null;
+            }
             log.error("Database bootstrap failed", e);
             this.lastError = e;
+            this.currentStep = "FAILED";
             this.initialized.set(false);
             throw new RuntimeException("Database bootstrap failed", e);
         }
@@ -121,183 +171,212 @@ public class DatabaseBootstrapper implements ApplicationRunner {
         return initialized.get();
     }
 
-    private Map<String, TrainingTypeDAO> persistTrainingTypes(InitialBootstrapData data) {
-        log.info("Step 1/6: Persisting training types...");
-        Map<String, TrainingTypeDAO> typeMap = new HashMap<>();
+    public boolean isInProgress() {
+        return startedAtNanos != 0 && finishedAtNanos == 0 && lastError == null;
+    }
+
+    public long getProcessedRecords() {
+        return processedRecords.get();
+    }
+
+    public long getElapsedMillis() {
+        if (startedAtNanos == 0) {
+            return 0;
+        }
+        long end = finishedAtNanos != 0 ? finishedAtNanos : System.nanoTime();
+        return TimeUnit.NANOSECONDS.toMillis(end - startedAtNanos);
+    }
 
-        for (TrainingTypeDTO typeData : data.getTrainingTypes()) {
+    public double getRecordsPerSecond() {
+        long elapsedMillis = getElapsedMillis();
+        return elapsedMillis == 0 ? 0 : processedRecords.get() * 1000.0 / elapsedMillis;
+    }
+
+    private Map<String, Long> persistTrainingTypes() {
+        startStep("Step 1/5: Persisting training types");
+        Map<String, Long> typeIds = new HashMap<>();
+
+        dataLoader.streamTrainingTypes(typeData -> {
             TrainingTypeDAO dao = new TrainingTypeDAO();
             dao.setTrainingTypeName(TrainingTypeEnum.valueOf(typeData.getName()));
 
             entityManager.persist(dao);
-            entityManager.flush();
+            typeIds.put(typeData.getName(), dao.getTrainingTypeId());
+            recordProcessed();
+        });
+        endChunk();
 
-            typeMap.put(typeData.getName(), dao);
-            log.debug("Created TrainingType: {} (ID: {})", dao.getTrainingTypeName(), dao.getTrainingTypeId());
-        }
-
-        log.info("Created {} training types", typeMap.size());
-        return typeMap;
+        log.info("Created {} training types", typeIds.size());
+        return typeIds;
     }
 
-    private Map<String, UserDAO> persistUsers(InitialBootstrapData data) {
-        log.info("Step 2/6: Persisting users...");
-        Map<String, UserDAO> userMap = new HashMap<>();
+    private Map<String, Long> persistUsers() {
+        startStep("Step 2/5: Persisting users");
+        Map<String, Long> userIds = new HashMap<>();
 
-        for (UserDTO userDTO : data.getUsers()) {
-            UserDAO dao = new UserDAO();
-            dao.setFirstName(userDTO.getFirstName());
-            dao.setLastName(userDTO.getLastName());
-            dao.setUsername(userDTO.getUsername());
-            dao.setPassword(userDTO.getPassword());
-            dao.setActive(userDTO.isActive());
-            dao.setUserRole(UserRole.valueOf(userDTO.getRole()));
+        dataLoader.streamUsers(userDTO -> {
+            UserDAO dao = toUser(userDTO);
 
             entityManager.persist(dao);
-            entityManager.flush();
-
-            userMap.put(userDTO.getUsername(), dao);
-            log.debug("Created User: {} (ID: {})", dao.getUsername(), dao.getUserId());
-        }
+            userIds.put(userDTO.getUsername(), dao.getUserId());
+            recordProcessed();
+        });
+        endChunk();
 
-        log.info("Created {} users", userMap.size());
-        return userMap;
+        log.info("Created {} users", userIds.size());
+        return userIds;
     }
 
-    private Map<String, TrainerDAO> persistTrainers(
-            InitialBootstrapData data, Map<String, UserDAO> users, Map<String, TrainingTypeDAO> trainingTypes) {
-        log.info("Step 3/6: Persisting trainers...");
-        Map<String, TrainerDAO> trainerMap = new HashMap<>();
+    private Map<String, Long> persistTrainers(Map<String, Long> users, Map<String, Long> trainingTypes) {
+        startStep("Step 3/5: Persisting trainers");
+        Map<String, Long> trainerIds = new HashMap<>();
 
-        for (TrainerDTO trainerDTO : data.getTrainers()) {
-            UserDAO userDao = users.get(trainerDTO.getUsername());
-            if (userDao == null) {
+        dataLoader.streamTrainers(trainerDTO -> {
+            Long userId = users.get(trainerDTO.getUsername());
+            if (userId == null) {
                 log.error("User not found for trainer: {}", trainerDTO.getUsername());
-                continue;
+                return;
             }
 
-            TrainingTypeDAO typeDao = trainingTypes.get(trainerDTO.getSpecialization());
-            if (typeDao == null) {
+            Long typeId = trainingTypes.get(trainerDTO.getSpecialization());
+            if (typeId == null) {
                 log.error("TrainingType not found: {}", trainerDTO.getSpecialization());
-                continue;
+                return;
             }
 
             TrainerDAO dao = new TrainerDAO();
-            dao.setUserDAO(userDao);
-            dao.setTrainingTypeDAO(typeDao);
+            dao.setUserDAO(entityManager.getReference(UserDAO.class, userId));
+            dao.setTrainingTypeDAO(entityManager.getReference(TrainingTypeDAO.class, typeId));
 
             entityManager.persist(dao);
-            entityManager.flush();
-
-            trainerMap.put(trainerDTO.getUsername(), dao);
-            log.debug(
-                    "Created Trainer: {} (ID: {}, Type: {})",
-                    userDao.getUsername(),
-                    dao.getTrainerId(),
-                    typeDao.getTrainingTypeName());
-        }
+            trainerIds.put(trainerDTO.getUsername(), dao.getTrainerId());
+            recordProcessed();
+        });
+        endChunk();
 
-        log.info("Created {} trainers", trainerMap.size());
-        return trainerMap;
+        log.info("Created {} trainers", trainerIds.size());
+        return trainerIds;
     }
 
-    private Map<String, TraineeDAO> persistTrainees(InitialBootstrapData data, Map<String, UserDAO> users) {
-        log.info("Step 4/6: Persisting trainees...");
-        Map<String, TraineeDAO> traineeMap = new HashMap<>();
+    private Map<String, Long> persistTrainees(Map<String, Long> users, Map<String, Long> trainers) {
+        startStep("Step 4/5: Persisting trainees and trainee-trainer relationships");
+        Map<String, Long> traineeIds = new HashMap<>();
+        AtomicLong relationshipCount = new AtomicLong();
 
-        for (TraineeDTO traineeDTO : data.getTrainees()) {
-            UserDAO userDao = users.get(traineeDTO.getUsername());
-            if (userDao == null) {
+        dataLoader.streamTrainees(traineeDTO -> {
+            Long userId = users.get(traineeDTO.getUsername());
+            if (userId == null) {
                 log.error("User not found for trainee: {}", traineeDTO.getUsername());
-                continue;
+                return;
             }
 
             TraineeDAO dao = new TraineeDAO();
-            dao.setUserDAO(userDao);
+            dao.setUserDAO(entityManager.getReference(UserDAO.class, userId));
             dao.setDob(traineeDTO.getDateOfBirth());
             dao.setAddress(traineeDTO.getAddress());
+            relationshipCount.addAndGet(linkTrainers(dao, traineeDTO, trainers));
 
             entityManager.persist(dao);
-            entityManager.flush();
-
-            traineeMap.put(traineeDTO.getUsername(), dao);
-            log.debug("Created Trainee: {} (ID: {})", userDao.getUsername(), dao.getTraineeId());
-        }
+            traineeIds.put(traineeDTO.getUsername(), dao.getTraineeId());
+            recordProcessed();
+        });
+        endChunk();
 
-        log.info("Created {} trainees", traineeMap.size());
-        return traineeMap;
+        log.info("Created {} trainees with {} trainee-trainer relationships", traineeIds.size(), relationshipCount);
+        return traineeIds;
     }
 
-    private void createTraineeTrainerRelationships(
-            InitialBootstrapData data, Map<String, TraineeDAO> trainees, Map<String, TrainerDAO> trainers) {
-        log.info("Step 5/6: Creating trainee-trainer relationships...");
-        int relationshipCount = 0;
-
-        for (TraineeDTO traineeDTO : data.getTrainees()) {
-            TraineeDAO traineeDao = trainees.get(traineeDTO.getUsername());
-            if (traineeDao == null) continue;
-
-            for (String trainerUsername : traineeDTO.getTrainerUsernames()) {
-                TrainerDAO trainerDao = trainers.get(trainerUsername);
-                if (trainerDao != null) {
-                    traineeDao.getTrainerDAOS().add(trainerDao);
-                    trainerDao.getTraineeDAOS().add(traineeDao);
-                    relationshipCount++;
-                    log.debug("Linked: {} ↔ {}", traineeDTO.getUsername(), trainerUsername);
-                } else {
-                    log.warn("Trainer not found: {}", trainerUsername);
-                }
+    private int linkTrainers(TraineeDAO traineeDao, TraineeDTO traineeDTO, Map<String, Long> trainers) {
+        int linked = 0;
+        for (String trainerUsername : traineeDTO.getTrainerUsernames()) {
+            Long trainerId = trainers.get(trainerUsername);
+            if (trainerId != null) {
+                // Only the owning side is written; the inverse collection is never loaded
+                traineeDao.getTrainerDAOS().add(entityManager.getReference(TrainerDAO.class, trainerId));
+                linked++;
+                log.debug("Linked: {} ↔ {}", traineeDTO.getUsername(), trainerUsername);
+            } else {
+                log.warn("Trainer not found: {}", trainerUsername);
             }
         }
-
-        entityManager.flush();
-        log.info("Created {} trainee-trainer relationships", relationshipCount);
+        return linked;
     }
 
     private void persistTrainings(
-            InitialBootstrapData data,
-            Map<String, TraineeDAO> trainees,
-            Map<String, TrainerDAO> trainers,
-            Map<String, TrainingTypeDAO> trainingTypes) {
-        log.info("Step 6/6: Persisting trainings...");
-        int trainingCount = 0;
-
-        for (TrainingDTO trainingDTO : data.getTrainings()) {
-            TraineeDAO traineeDao = trainees.get(trainingDTO.getTraineeUsername());
-            TrainerDAO trainerDao = trainers.get(trainingDTO.getTrainerUsername());
-            TrainingTypeDAO typeDao = trainingTypes.get(trainingDTO.getTrainingType());
-
-            if (traineeDao == null) {
+            Map<String, Long> trainees, Map<String, Long> trainers, Map<String, Long> trainingTypes) {
+        startStep("Step 5/5: Persisting trainings");
+
+        dataLoader.streamTrainings(trainingDTO -> {
+            Long traineeId = trainees.get(trainingDTO.getTraineeUsername());
+            Long trainerId = trainers.get(trainingDTO.getTrainerUsername());
+            Long typeId = trainingTypes.get(trainingDTO.getTrainingType());
+
+            if (traineeId == null) {
                 log.warn("Trainee not found: {}", trainingDTO.getTraineeUsername());
-                continue;
+                return;
             }
-            if (trainerDao == null) {
+            if (trainerId == null) {
                 log.warn("Trainer not found: {}", trainingDTO.getTrainerUsername());
-                continue;
+                return;
             }
-            if (typeDao == null) {
+            if (typeId == null) {
                 log.warn("TrainingType not found: {}", trainingDTO.getTrainingType());
-                continue;
+                return;
             }
 
-            TrainingDAO dao = new TrainingDAO();
-            dao.setTrainingName(trainingDTO.getName());
-            dao.setTrainingDate(trainingDTO.getDate());
-            dao.setTrainingDurationMin(trainingDTO.getDurationMinutes());
-            dao.setTraineeDAO(traineeDao);
-            dao.setTrainerDAO(trainerDao);
-            dao.setTrainingTypeDAO(typeDao);
-
-            entityManager.persist(dao);
+            entityManager.persist(toTraining(trainingDTO, traineeId, trainerId, typeId));
             trainingCount++;
-            log.debug(
-                    "Created Training: {} ({} with {})",
-                    trainingDTO.getName(),
-                    trainingDTO.getTraineeUsername(),
-                    trainingDTO.getTrainerUsername());
+            recordProcessed();
+        });
+        endChunk();
+
+        log.info("Created {} trainings", trainingCount);
+    }
+
+    private UserDAO toUser(UserDTO userDTO) {
+        UserDAO dao = new UserDAO();
+        dao.setFirstName(userDTO.getFirstName());
+        dao.setLastName(userDTO.getLastName());
+        dao.setUsername(userDTO.getUsername());
+        dao.setPassword(userDTO.getPassword());
+        dao.setActive(userDTO.isActive());
+        dao.setUserRole(UserRole.valueOf(userDTO.getRole()));
+        return dao;
+    }
+
+    private TrainingDAO toTraining(TrainingDTO trainingDTO, Long traineeId, Long trainerId, Long typeId) {
+        TrainingDAO dao = new TrainingDAO();
+        dao.setTrainingName(trainingDTO.getName());
+        dao.setTrainingDate(trainingDTO.getDate());
+        dao.setTrainingDurationMin(trainingDTO.getDurationMinutes());
+        dao.setTraineeDAO(entityManager.getReference(TraineeDAO.class, traineeId));
+        dao.setTrainerDAO(entityManager.getReference(TrainerDAO.class, trainerId));
+        dao.setTrainingTypeDAO(entityManager.getReference(TrainingTypeDAO.class, typeId));
+        return dao;
+    }
+
+    private void startStep(String step) {
+        log.info("{}...", step);
+        this.currentStep = step;
+        beginChunk();
+    }
+
+    private void recordProcessed() {
+        if (processedRecords.incrementAndGet() % chunkSize == 0) {
+            endChunk();
+            beginChunk();
         }
+    }
 
+    private void beginChunk() {
+        chunk = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+    }
+
+    private void endChunk() {
+        // Ids come from pooled sequences, so the flush is the only round trip and sends the inserts as JDBC batches.
+        // The commit closes the persistence context along with the transaction.
         entityManager.flush();
-        log.info("Created {} trainings", trainingCount);
+        transactionManager.commit(chunk);
+        chunk = null;
     }
 }
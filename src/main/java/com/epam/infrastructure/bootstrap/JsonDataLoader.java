@@ -2,31 +2,37 @@ package com.epam.infrastructure.bootstrap;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
-import java.util.List;
+import java.util.function.Consumer;
 
-import com.epam.infrastructure.bootstrap.dto.InitialBootstrapData;
 import com.epam.infrastructure.bootstrap.dto.TraineeDTO;
 import com.epam.infrastructure.bootstrap.dto.TrainerDTO;
 import com.epam.infrastructure.bootstrap.dto.TrainingDTO;
 import com.epam.infrastructure.bootstrap.dto.TrainingTypeDTO;
 import com.epam.infrastructure.bootstrap.dto.UserDTO;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
+/**
+ * Streams bootstrap records one array element at a time, so file size never dictates heap size. Paths are Spring
+ * resource locations: plain paths resolve on the classpath, {@code file:} prefixes load snapshots from disk.
+ */
 @Component
 @Profile("local")
 @Slf4j
 public class JsonDataLoader {
 
-    @Autowired
     private final ObjectMapper objectMapper;
 
+    private final ResourceLoader resourceLoader;
+
     private final String usersFile;
 
     private final String traineesFile;
@@ -37,14 +43,17 @@ public class JsonDataLoader {
 
     private final String trainingTypesFile;
 
+    @Autowired
     public JsonDataLoader(
             ObjectMapper objectMapper,
+            ResourceLoader resourceLoader,
             @Value("${storage.init.users:/users.json}") String usersFile,
             @Value("${storage.init.trainees:/trainees.json}") String traineesFile,
             @Value("${storage.init.trainers:/trainers.json}") String trainersFile,
             @Value("${storage.init.trainings:/trainings.json}") String trainingsFile,
             @Value("${storage.init.trainingTypes:/trainingTypes.json}") String trainingTypesFile) {
         this.objectMapper = objectMapper;
+        this.resourceLoader = resourceLoader;
         this.usersFile = usersFile;
         this.traineesFile = traineesFile;
         this.trainersFile = trainersFile;
@@ -52,33 +61,45 @@ public class JsonDataLoader {
         this.trainingTypesFile = trainingTypesFile;
     }
 
-    public InitialBootstrapData loadBootstrapData() {
-        InitialBootstrapData data = new InitialBootstrapData();
+    public long streamTrainingTypes(Consumer<TrainingTypeDTO> consumer) {
+        return stream(trainingTypesFile, TrainingTypeDTO.class, consumer);
+    }
+
+    public long streamUsers(Consumer<UserDTO> consumer) {
+        return stream(usersFile, UserDTO.class, consumer);
+    }
 
-        data.setUsers(loadList(usersFile, new TypeReference<List<UserDTO>>() {}));
-        data.setTrainees(loadList(traineesFile, new TypeReference<List<TraineeDTO>>() {}));
-        data.setTrainers(loadList(trainersFile, new TypeReference<List<TrainerDTO>>() {}));
-        data.setTrainings(loadList(trainingsFile, new TypeReference<List<TrainingDTO>>() {}));
-        data.setTrainingTypes(loadList(trainingTypesFile, new TypeReference<List<TrainingTypeDTO>>() {}));
+    public long streamTrainers(Consumer<TrainerDTO> consumer) {
+        return stream(trainersFile, TrainerDTO.class, consumer);
+    }
 
-        log.info(
-                "Loaded bootstrap data: {} users, {} trainers, {} trainees, {} trainings, {} types",
-                data.getUsers().size(),
-                data.getTrainers().size(),
-                data.getTrainees().size(),
-                data.getTrainings().size(),
-                data.getTrainingTypes().size());
+    public long streamTrainees(Consumer<TraineeDTO> consumer) {
+        return stream(traineesFile, TraineeDTO.class, consumer);
+    }
 
-        return data;
+    public long streamTrainings(Consumer<TrainingDTO> consumer) {
+        return stream(trainingsFile, TrainingDTO.class, consumer);
     }
 
-    private <T> List<T> loadList(String path, TypeReference<List<T>> type) {
-        try (InputStream inputStream = getClass().getResourceAsStream(path)) {
-            if (inputStream == null) {
-                log.warn("Bootstrap file not found: {}. Returning empty list.", path);
-                return Collections.emptyList();
+    private <T> long stream(String path, Class<T> type, Consumer<T> consumer) {
+        Resource resource = resourceLoader.getResource(path);
+        if (!resource.exists()) {
+            log.warn("Bootstrap file not found: {}. Skipping.", path);
+            return 0;
+        }
+
+        try (InputStream inputStream = resource.getInputStream();
+                JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array at the top level");
+            }
+
+            long count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                consumer.accept(objectMapper.readValue(parser, type));
+                count++;
             }
-            return objectMapper.readValue(inputStream, type);
+            return count;
         } catch (IOException e) {
             log.error("Failed to load bootstrap data from {}: {}", path, e.getMessage());
             throw new RuntimeException("Failed to load bootstrap data from " + path, e);
@@ -0,0 +1,388 @@
+package com.epam.infrastructure.bootstrap;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.model.UserRole;
+import com.epam.domain.port.TrainerWorkloadRepository;
+import com.epam.infrastructure.persistence.partition.TrainingPartitionMaintainer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Generates a production-sized population for load and capacity testing. Activate the {@code synthetic} profile
+ * together with a database profile, e.g. {@code local,synthetic}; it runs after {@link DatabaseBootstrapper}.
+ *
+ * <p>The rows come from {@link SyntheticPopulation}, so the same seed and anchor date always produce the same rows.
+ * They are written with plain JDBC, bypassing the persistence context entirely, and every insert skips rows that
+ * already exist: a run interrupted midway is completed by the next one rather than failing on the rows it left.
+ */
+@Component
+@Profile("synthetic")
+@Order(2)
+@Slf4j
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    // Must match the allocationSize of the entity sequences, so ids taken here never overlap ids Hibernate hands out
+    private static final int SEQUENCE_INCREMENT = 50;
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (user_id, first_name, last_name, username, password, is_active, role) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (username) DO NOTHING";
+
+    // Joined on the username, so a user kept from an earlier run keeps its id
+    private static final String INSERT_TRAINER = "INSERT INTO trainers (trainer_id, user_id, training_type_id) "
+            + "SELECT ?, user_id, ? FROM users WHERE username = ? ON CONFLICT (user_id) DO NOTHING";
+
+    private static final String INSERT_TRAINEE = "INSERT INTO trainees (trainee_id, user_id, date_of_birth, address) "
+            + "SELECT ?, user_id, ?, ? FROM users WHERE username = ? ON CONFLICT (user_id) DO NOTHING";
+
+    private static final String SELECT_TRAINER_IDS = "SELECT u.username, t.trainer_id FROM trainers t "
+            + "JOIN users u ON u.user_id = t.user_id WHERE u.username = ANY (?)";
+
+    private static final String SELECT_TRAINEE_IDS = "SELECT u.username, t.trainee_id FROM trainees t "
+            + "JOIN users u ON u.user_id = t.user_id WHERE u.username = ANY (?)";
+
+    private static final String INSERT_ASSIGNMENT =
+            "INSERT INTO trainee_trainer (trainee_id, trainer_id) VALUES (?, ?) ON CONFLICT DO NOTHING";
+
+    // One statement per chunk, so its update count is the number of trainings actually inserted
+    private static final String INSERT_TRAININGS = "INSERT INTO trainings (training_id, training_name, training_date, "
+            + "training_duration, trainee_id, trainer_id, training_type_id) "
+            + "SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::timestamp[], ?::int[], ?::bigint[], ?::bigint[], "
+            + "?::bigint[]) ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final TrainerWorkloadRepository trainerWorkloadRepository;
+
+    private final TrainingPartitionMaintainer partitionMaintainer;
+
+    @Value("${synthetic.seed:42}")
+    private long seed;
+
+    @Value("${synthetic.trainers:50000}")
+    private int trainerCount;
+
+    @Value("${synthetic.trainees:950000}")
+    private int traineeCount;
+
+    @Value("${synthetic.trainings:20000000}")
+    private long trainingCount;
+
+    @Value("${synthetic.trainer-skew:1.1}")
+    private double trainerSkew;
+
+    @Value("${synthetic.anchor-date:}")
+    private String anchorDate;
+
+    @Value("${synthetic.history-days:730}")
+    private int historyDays;
+
+    @Value("${synthetic.future-days:30}")
+    private int futureDays;
+
+    @Value("${synthetic.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${synthetic.password:Synthetic123}")
+    private String password;
+
+    @Autowired
+    public SyntheticDataGenerator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder,
+            TrainerWorkloadRepository trainerWorkloadRepository,
+            TrainingPartitionMaintainer partitionMaintainer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.trainerWorkloadRepository = trainerWorkloadRepository;
+        this.partitionMaintainer = partitionMaintainer;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existingTrainers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trainers", Long.class);
+        Long existingTrainees = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trainees", Long.class);
+        if (existingTrainers >= trainerCount && existingTrainees >= traineeCount) {
+            log.info(
+                    "Synthetic population already present ({} trainers, {} trainees), skipping generation",
+                    existingTrainers,
+                    existingTrainees);
+            return;
+        }
+
+        LocalDate anchor = anchorDate.isBlank() ? LocalDate.now() : LocalDate.parse(anchorDate);
+        SyntheticPopulation population = new SyntheticPopulation(
+                seed, trainerCount, traineeCount, trainingCount, trainerSkew, anchor, historyDays, futureDays);
+        log.info(
+                "Generating synthetic population: {} trainers, {} trainees, {} trainings (seed {}, anchored at {})",
+                trainerCount,
+                traineeCount,
+                trainingCount,
+                seed,
+                anchor);
+        long startedAt = System.nanoTime();
+
+        // One hash for every synthetic user keeps generation fast and lets load tests log in with a known password
+        String passwordHash = passwordEncoder.encode(password);
+        Map<TrainingTypeEnum, Long> trainingTypes = ensureTrainingTypes();
+
+        long[] trainerIds = generateTrainers(population, trainingTypes, passwordHash);
+        long[] traineeIds = generateTrainees(population, trainerIds, passwordHash);
+        long trainings = generateTrainings(population, traineeIds, trainerIds, trainingTypes);
+        // Written with plain JDBC, so the monthly totals are summed once at the end
+        transactionTemplate.executeWithoutResult(status -> trainerWorkloadRepository.rebuild());
+
+        log.info(
+                "Synthetic population complete: {} trainers, {} trainees, {} new trainings in {} s",
+                trainerIds.length,
+                traineeIds.length,
+                trainings,
+                (System.nanoTime() - startedAt) / 1_000_000_000);
+    }
+
+    private Map<TrainingTypeEnum, Long> ensureTrainingTypes() {
+        Map<TrainingTypeEnum, Long> types = new EnumMap<>(TrainingTypeEnum.class);
+        jdbcTemplate.query("SELECT training_type_id, training_type_name FROM training_types", row -> {
+            types.put(TrainingTypeEnum.valueOf(row.getString(2)), row.getLong(1));
+        });
+
+        for (TrainingTypeEnum type : TrainingTypeEnum.values()) {
+            if (!types.containsKey(type)) {
+                long id = reserveIds("training_types_seq", 1)[0];
+                jdbcTemplate.update(
+                        "INSERT INTO training_types (training_type_id, training_type_name) VALUES (?, ?)",
+                        id,
+                        type.name());
+                types.put(type, id);
+            }
+        }
+        return types;
+    }
+
+    private long[] generateTrainers(
+            SyntheticPopulation population, Map<TrainingTypeEnum, Long> trainingTypes, String passwordHash) {
+        long[] trainerIds = new long[trainerCount];
+
+        for (int start = 0; start < trainerCount; start += chunkSize) {
+            int size = Math.min(chunkSize, trainerCount - start);
+            long[] userIds = reserveIds("users_seq", size);
+            long[] ids = reserveIds("trainers_seq", size);
+            String[] usernames = new String[size];
+            List<Object[]> users = new ArrayList<>(size);
+            List<Object[]> trainers = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                SyntheticPopulation.TrainerRow trainer = population.trainer(start + i);
+                usernames[i] = trainer.user().username();
+                users.add(userRow(userIds[i], trainer.user(), passwordHash, UserRole.TRAINER));
+                trainers.add(new Object[] {ids[i], trainingTypes.get(trainer.specialization()), usernames[i]});
+            }
+
+            int offset = start;
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_USER, users);
+                jdbcTemplate.batchUpdate(INSERT_TRAINER, trainers);
+                resolveIds(SELECT_TRAINER_IDS, usernames, trainerIds, offset);
+            });
+            logProgress("trainers", start + size, trainerCount);
+        }
+        return trainerIds;
+    }
+
+    private long[] generateTrainees(SyntheticPopulation population, long[] trainerIds, String passwordHash) {
+        long[] traineeIds = new long[traineeCount];
+
+        for (int start = 0; start < traineeCount; start += chunkSize) {
+            int size = Math.min(chunkSize, traineeCount - start);
+            long[] userIds = reserveIds("users_seq", size);
+            long[] ids = reserveIds("trainees_seq", size);
+            String[] usernames = new String[size];
+            List<SyntheticPopulation.TraineeRow> rows = new ArrayList<>(size);
+            List<Object[]> users = new ArrayList<>(size);
+            List<Object[]> trainees = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                SyntheticPopulation.TraineeRow trainee = population.trainee(start + i);
+                rows.add(trainee);
+                usernames[i] = trainee.user().username();
+                users.add(userRow(userIds[i], trainee.user(), passwordHash, UserRole.TRAINEE));
+                trainees.add(
+                        new Object[] {ids[i], Date.valueOf(trainee.dateOfBirth()), trainee.address(), usernames[i]});
+            }
+
+            int offset = start;
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_USER, users);
+                jdbcTemplate.batchUpdate(INSERT_TRAINEE, trainees);
+                resolveIds(SELECT_TRAINEE_IDS, usernames, traineeIds, offset);
+
+                List<Object[]> assignments = new ArrayList<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    for (int trainer : rows.get(i).trainers()) {
+                        assignments.add(new Object[] {traineeIds[offset + i], trainerIds[trainer]});
+                    }
+                }
+                jdbcTemplate.batchUpdate(INSERT_ASSIGNMENT, assignments);
+            });
+            logProgress("trainees", start + size, traineeCount);
+        }
+        return traineeIds;
+    }
+
+    /**
+     * Fills {@code ids} from {@code offset} with the ids the rows of {@code usernames} ended up with, whether inserted
+     * now or kept from an earlier run.
+     */
+    private void resolveIds(String query, String[] usernames, long[] ids, int offset) {
+        Map<String, Long> idsByUsername = new HashMap<>(usernames.length * 2);
+        jdbcTemplate.query(
+                query,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("varchar", usernames)),
+                row -> {
+                    idsByUsername.put(row.getString(1), row.getLong(2));
+                });
+
+        for (int i = 0; i < usernames.length; i++) {
+            Long id = idsByUsername.get(usernames[i]);
+            if (id == null) {
+                throw new IllegalStateException("Synthetic user '" + usernames[i] + "' exists with another role");
+            }
+            ids[offset + i] = id;
+        }
+    }
+
+    private long generateTrainings(
+            SyntheticPopulation population,
+            long[] traineeIds,
+            long[] trainerIds,
+            Map<TrainingTypeEnum, Long> trainingTypes) {
+        // The history reaches back past the maintained window, so its months are created up front
+        partitionMaintainer.ensurePartitions(population.firstDay(), population.lastDay());
+
+        long[] inserted = {0};
+        long[] drawn = {0};
+        List<SyntheticPopulation.TrainingRow> chunk = new ArrayList<>(chunkSize);
+        population.forEachTraining(training -> {
+            chunk.add(training);
+            if (chunk.size() == chunkSize) {
+                inserted[0] += writeTrainings(chunk, traineeIds, trainerIds, trainingTypes);
+                drawn[0] += chunk.size();
+                chunk.clear();
+                logProgress("trainings", drawn[0], trainingCount);
+            }
+        });
+
+        if (!chunk.isEmpty()) {
+            inserted[0] += writeTrainings(chunk, traineeIds, trainerIds, trainingTypes);
+        }
+        return inserted[0];
+    }
+
+    /**
+     * Writes the chunk and returns how many of its trainings were new; the others already existed for the same
+     * trainer, trainee and time.
+     */
+    private int writeTrainings(
+            List<SyntheticPopulation.TrainingRow> chunk,
+            long[] traineeIds,
+            long[] trainerIds,
+            Map<TrainingTypeEnum, Long> trainingTypes) {
+        long[] reserved = reserveIds("trainings_seq", chunk.size());
+        Long[] ids = new Long[chunk.size()];
+        String[] names = new String[chunk.size()];
+        Timestamp[] dates = new Timestamp[chunk.size()];
+        Integer[] durations = new Integer[chunk.size()];
+        Long[] trainees = new Long[chunk.size()];
+        Long[] trainers = new Long[chunk.size()];
+        Long[] types = new Long[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            SyntheticPopulation.TrainingRow training = chunk.get(i);
+            ids[i] = reserved[i];
+            names[i] = training.name();
+            dates[i] = Timestamp.valueOf(training.date());
+            durations[i] = training.durationMinutes();
+            trainees[i] = traineeIds[training.trainee()];
+            trainers[i] = trainerIds[training.trainer()];
+            types[i] = trainingTypes.get(training.type());
+        }
+
+        Integer count = transactionTemplate.execute(status -> jdbcTemplate.update(INSERT_TRAININGS, statement -> {
+            setArray(statement, 1, "bigint", ids);
+            setArray(statement, 2, "varchar", names);
+            setArray(statement, 3, "timestamp", dates);
+            setArray(statement, 4, "int", durations);
+            setArray(statement, 5, "bigint", trainees);
+            setArray(statement, 6, "bigint", trainers);
+            setArray(statement, 7, "bigint", types);
+        }));
+        return count == null ? 0 : count;
+    }
+
+    private static void setArray(PreparedStatement statement, int index, String type, Object[] values)
+            throws SQLException {
+        Array array = statement.getConnection().createArrayOf(type, values);
+        statement.setArray(index, array);
+    }
+
+    private static Object[] userRow(long userId, SyntheticPopulation.UserRow user, String passwordHash, UserRole role) {
+        return new Object[] {
+            userId, user.firstName(), user.lastName(), user.username(), passwordHash, user.active(), role.name()
+        };
+    }
+
+    /**
+     * Takes ids the way Hibernate's pooled optimizer does: each {@code nextval} reserves the
+     * {@value #SEQUENCE_INCREMENT} values ending at the returned one.
+     */
+    private long[] reserveIds(String sequence, int count) {
+        int blocks = (count + SEQUENCE_INCREMENT - 1) / SEQUENCE_INCREMENT + 1;
+        List<Long> highs = jdbcTemplate.queryForList(
+                "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)", Long.class, blocks);
+
+        long[] ids = new long[count];
+        int filled = 0;
+        for (long high : highs) {
+            for (long id = Math.max(1, high - SEQUENCE_INCREMENT + 1); id <= high && filled < count; id++) {
+                ids[filled++] = id;
+            }
+        }
+        if (filled < count) {
+            throw new IllegalStateException("Sequence " + sequence + " did not yield enough ids");
+        }
+        return ids;
+    }
+
+    private void logProgress(String population, long done, long total) {
+        if (done == total || done % (chunkSize * 20L) == 0) {
+            log.info("Synthetic {}: {} / {}", population, done, total);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.epam.infrastructure.bootstrap;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import com.epam.domain.model.TrainingTypeEnum;
+
+/**
+ * The rows {@link SyntheticDataGenerator} writes, as a pure function of the seed, the sizes and the anchor date. Users
+ * derive from their position alone, so a rerun regenerates exactly the rows an interrupted run did not get to, and
+ * trainings are drawn from one seeded stream in trainee order.
+ */
+public final class SyntheticPopulation {
+
+    private static final int MAX_TRAINERS_PER_TRAINEE = 3;
+
+    private static final int[] DURATIONS = {30, 45, 60, 60, 60, 90};
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Anna", "Ben", "Chloe", "Daniel", "Ella", "Felix", "Grace", "Henry", "Isla", "Jack", "Kate", "Liam",
+        "Mia", "Noah", "Olivia", "Peter", "Quinn", "Ruby", "Sam", "Tara", "Umar", "Vera", "Will", "Yara", "Zoe"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Adams", "Baker", "Clark", "Davis", "Evans", "Foster", "Green", "Hughes", "Irwin", "Jones", "King", "Lewis",
+        "Moore", "Nash", "Owens", "Parker", "Reed", "Scott", "Turner", "Walker", "Young"
+    };
+
+    private static final TrainingTypeEnum[] TYPES = TrainingTypeEnum.values();
+
+    private final long seed;
+
+    private final int trainerCount;
+
+    private final int traineeCount;
+
+    private final long trainingCount;
+
+    private final ZipfSampler trainerPopularity;
+
+    private final LocalDate anchorDate;
+
+    private final int historyDays;
+
+    private final int futureDays;
+
+    public SyntheticPopulation(
+            long seed,
+            int trainerCount,
+            int traineeCount,
+            long trainingCount,
+            double trainerSkew,
+            LocalDate anchorDate,
+            int historyDays,
+            int futureDays) {
+        this.seed = seed;
+        this.trainerCount = trainerCount;
+        this.traineeCount = traineeCount;
+        this.trainingCount = trainingCount;
+        this.trainerPopularity = new ZipfSampler(trainerCount, trainerSkew);
+        this.anchorDate = anchorDate;
+        this.historyDays = historyDays;
+        this.futureDays = futureDays;
+    }
+
+    public record UserRow(String firstName, String lastName, String username, boolean active) {}
+
+    public record TrainerRow(UserRow user, TrainingTypeEnum specialization) {}
+
+    /**
+     * @param trainers positions of the trainee's trainers among the generated trainers
+     */
+    public record TraineeRow(UserRow user, LocalDate dateOfBirth, String address, List<Integer> trainers) {}
+
+    /**
+     * @param trainee position of the trainee among the generated trainees
+     * @param trainer position of the trainer among the generated trainers
+     */
+    public record TrainingRow(
+            int trainee, int trainer, TrainingTypeEnum type, String name, LocalDateTime date, int durationMinutes) {}
+
+    public LocalDate firstDay() {
+        return anchorDate.minusDays(historyDays);
+    }
+
+    public LocalDate lastDay() {
+        return anchorDate.plusDays(futureDays);
+    }
+
+    public TrainerRow trainer(int index) {
+        SplittableRandom random = new SplittableRandom(seed * 37 + index);
+        // Trainers take serials 1..trainerCount and trainees the ones after, which keeps usernames unique without
+        // consulting username_serials
+        UserRow user = user(random, index + 1);
+        return new TrainerRow(user, TYPES[random.nextInt(TYPES.length)]);
+    }
+
+    public TraineeRow trainee(int index) {
+        SplittableRandom random = new SplittableRandom(seed * 41 + index);
+        UserRow user = user(random, trainerCount + index + 1);
+        LocalDate dateOfBirth = anchorDate.minusYears(18 + random.nextInt(50)).minusDays(random.nextInt(365));
+        String address = (random.nextInt(1000) + 1) + " Main St";
+        return new TraineeRow(
+                user,
+                dateOfBirth,
+                address,
+                IntStream.of(assignedTrainers(index)).boxed().toList());
+    }
+
+    /**
+     * Passes the sessions to {@code action} in order, {@code synthetic.trainings} of them in total. Trainer popularity
+     * follows the Zipf distribution through the trainees' assignments, trainees differ in how often they train, and
+     * sessions spread over the window around the anchor date with weekday and daytime bias.
+     */
+    public void forEachTraining(Consumer<TrainingRow> action) {
+        SplittableRandom random = new SplittableRandom(seed + 2);
+        double meanPerTrainee = (double) trainingCount / traineeCount;
+        long generated = 0;
+        int trainee = 0;
+
+        while (generated < trainingCount) {
+            int[] trainers = assignedTrainers(trainee);
+            // Geometric per-trainee volume: most trainees book a few sessions, a committed minority books many
+            long sessions = Math.min(sampleGeometric(random, meanPerTrainee), trainingCount - generated);
+
+            for (long s = 0; s < sessions; s++) {
+                int trainer = trainers[random.nextInt(trainers.length)];
+                TrainingTypeEnum type = TYPES[random.nextInt(TYPES.length)];
+                action.accept(new TrainingRow(
+                        trainee,
+                        trainer,
+                        type,
+                        type.name().charAt(0) + type.name().substring(1).toLowerCase() + " Session",
+                        sampleSessionTime(random),
+                        DURATIONS[random.nextInt(DURATIONS.length)]));
+            }
+
+            generated += sessions;
+            trainee = (trainee + 1) % traineeCount;
+        }
+    }
+
+    /**
+     * Each trainee's trainers derive from the seed and the trainee's position alone, so the trainings can recompute
+     * them instead of holding every assignment in memory.
+     */
+    private int[] assignedTrainers(int trainee) {
+        SplittableRandom random = new SplittableRandom(seed * 31 + trainee);
+        int[] trainers = new int[1 + random.nextInt(MAX_TRAINERS_PER_TRAINEE)];
+        for (int i = 0; i < trainers.length; i++) {
+            trainers[i] = trainerPopularity.sample(random);
+        }
+        return trainers;
+    }
+
+    private static UserRow user(SplittableRandom random, int serial) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return new UserRow(firstName, lastName, firstName + "." + lastName + serial, random.nextInt(10) != 0);
+    }
+
+    private LocalDateTime sampleSessionTime(SplittableRandom random) {
+        LocalDate day = firstDay().plusDays(random.nextInt(historyDays + futureDays));
+        // Weekends see roughly half the weekday volume
+        if (day.getDayOfWeek().getValue() >= DayOfWeek.SATURDAY.getValue() && random.nextBoolean()) {
+            day = day.minusDays(2);
+        }
+        int hour = 6 + random.nextInt(16);
+        return day.atTime(hour, random.nextBoolean() ? 0 : 30);
+    }
+
+    private static long sampleGeometric(SplittableRandom random, double mean) {
+        double p = 1.0 / (mean + 1);
+        return (long) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+}
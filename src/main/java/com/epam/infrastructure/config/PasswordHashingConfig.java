@@ -0,0 +1,33 @@
+package com.epam.infrastructure.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    /**
+     * BCrypt is CPU-bound, so more threads than cores only adds contention. Bulk registrations share this pool
+     * rather than each spawning their own, and its queue is bounded: a hash that does not fit is rejected instead of
+     * queueing behind hours of work.
+     */
+    @Bean(name = "passwordHashingExecutor", destroyMethod = "shutdown")
+    public ExecutorService passwordHashingExecutor(@Value("${password-hashing.max-queued}") int maxQueued) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueued),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,95 @@
+package com.epam.infrastructure.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import javax.sql.DataSource;
+
+import com.epam.infrastructure.persistence.routing.ConsistencyTokenFilter;
+import com.epam.infrastructure.persistence.routing.ReplicaLagTracker;
+import com.epam.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Splits the database pool into a primary and a read replica when {@code datasource.replica.url} is set. Read-only
+ * transactions go to the replica while it is within {@code datasource.replica.max-lag} and has the writes named by
+ * the request's consistency token; everything else goes to the primary. Without the property the auto-configured
+ * single pool is used.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("datasource.replica.url")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password) {
+        // Credentials default to the primary's, as they do for a streaming standby
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username.isEmpty() ? properties.determineUsername() : username)
+                .password(password.isEmpty() ? properties.determinePassword() : password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    ReplicaLagTracker replicaLagTracker(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${datasource.replica.max-lag:5s}") Duration maxLag,
+            Clock clock) {
+        return new ReplicaLagTracker(new JdbcTemplate(primary), new JdbcTemplate(replica), maxLag, clock);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagTracker lagTracker) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, lagTracker);
+        routing.afterPropertiesSet();
+        // Defers the pool choice to the first statement, by which point the transaction's read-only flag is bound
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    FilterRegistrationBean<ConsistencyTokenFilter> consistencyTokenFilter() {
+        FilterRegistrationBean<ConsistencyTokenFilter> registration =
+                new FilterRegistrationBean<>(new ConsistencyTokenFilter());
+        // Ahead of the security chain, whose user lookups are reads as well
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
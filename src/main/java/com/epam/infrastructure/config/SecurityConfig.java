@@ -8,11 +8,13 @@ import java.util.List;
 import com.epam.infrastructure.security.filter.JwtAuthenticationFilter;
 import com.epam.infrastructure.security.port.out.TokenBlacklist;
 import com.epam.infrastructure.security.provider.JwtAuthenticationProvider;
+import com.epam.interfaces.web.config.WebHeaders;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -74,7 +76,8 @@ public class SecurityConfig {
 
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(
+                List.of("Authorization", HttpHeaders.ETAG, WebHeaders.NEXT_CURSOR, WebHeaders.CONSISTENCY_TOKEN));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -40,6 +40,19 @@ class DatabaseBootstrapperHealthIndicator implements HealthIndicator {
                     .withDetail("loadedTrainers", bootstrapper.getTrainerCount())
                     .withDetail("loadedTrainees", bootstrapper.getTraineeCount())
                     .withDetail("loadedTrainingTypes", bootstrapper.getTrainingTypeCount())
+                    .withDetail("loadedTrainings", bootstrapper.getTrainingCount())
+                    .withDetail("elapsedMillis", bootstrapper.getElapsedMillis())
+                    .withDetail("recordsPerSecond", Math.round(bootstrapper.getRecordsPerSecond()))
+                    .build();
+        }
+
+        if (bootstrapper.isInProgress()) {
+            return Health.unknown()
+                    .withDetail("status", "IN_PROGRESS")
+                    .withDetail("step", bootstrapper.getCurrentStep())
+                    .withDetail("processedRecords", bootstrapper.getProcessedRecords())
+                    .withDetail("elapsedMillis", bootstrapper.getElapsedMillis())
+                    .withDetail("recordsPerSecond", Math.round(bootstrapper.getRecordsPerSecond()))
                     .build();
         }
 
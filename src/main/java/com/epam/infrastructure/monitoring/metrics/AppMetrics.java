@@ -1,5 +1,7 @@
 package com.epam.infrastructure.monitoring.metrics;
 
+import com.github.benmanes.caffeine.cache.Cache;
+
 public interface AppMetrics {
 
     void incrementTraineeRegistered();
@@ -9,4 +11,9 @@ public interface AppMetrics {
     void incrementUserLoginAttempts();
 
     void incrementUserLoginFailed();
+
+    /**
+     * Publishes hit, miss, eviction and size metrics for a cache built with {@code recordStats()}.
+     */
+    void monitorCache(String cacheName, Cache<?, ?> cache);
 }
@@ -1,7 +1,9 @@
 package com.epam.infrastructure.monitoring.metrics;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.stereotype.Component;
@@ -10,6 +12,8 @@ import org.springframework.stereotype.Component;
 @ConditionalOnClass(io.micrometer.core.instrument.MeterRegistry.class)
 class MicrometerAppMetrics implements AppMetrics {
 
+    private final MeterRegistry registry;
+
     private final Counter traineeRegistered;
 
     private final Counter trainerRegistered;
@@ -20,6 +24,7 @@ class MicrometerAppMetrics implements AppMetrics {
 
     @Autowired
     MicrometerAppMetrics(MeterRegistry registry) {
+        this.registry = registry;
         this.traineeRegistered = registry.counter("trainee_registered_total");
         this.trainerRegistered = registry.counter("trainer_registered_total");
         this.userLoginAttempts = registry.counter("user_login_attempts_total");
@@ -41,4 +46,8 @@ class MicrometerAppMetrics implements AppMetrics {
     public void incrementUserLoginFailed() {
         userLoginFailed.increment();
     }
+
+    public void monitorCache(String cacheName, Cache<?, ?> cache) {
+        CaffeineCacheMetrics.monitor(registry, cache, cacheName);
+    }
 }
@@ -1,5 +1,6 @@
 package com.epam.infrastructure.monitoring.metrics;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.stereotype.Component;
 
@@ -18,4 +19,7 @@ class NoOpAppMetrics implements AppMetrics {
 
     @Override
     public void incrementUserLoginFailed() {}
+
+    @Override
+    public void monitorCache(String cacheName, Cache<?, ?> cache) {}
 }
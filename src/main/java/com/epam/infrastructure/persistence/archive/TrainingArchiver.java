@@ -0,0 +1,128 @@
+package com.epam.infrastructure.persistence.archive;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.Optional;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves trainings older than {@code trainings.archive.older-than} from {@code trainings} into
+ * {@code trainings_archive}, once a day and in batches of {@code trainings.archive.batch-size}. Each batch is a single
+ * statement that commits on its own, so the job never holds locks on more than one batch.
+ *
+ * <p>Every instance schedules the job, and the one that takes a session-level advisory lock runs it while the others
+ * skip the day. The lock is held on a connection of its own for the whole run, since the batches commit separately.
+ *
+ * <p>The archive only ever receives rows dated before the cutoff in force when they were moved, and the cutoff only
+ * moves forward. A read whose range starts on or after today's cutoff therefore cannot match anything archived.
+ */
+@Component
+@Slf4j
+public class TrainingArchiver {
+
+    private static final String ARCHIVE_BATCH_SQL =
+            """
+            WITH moved AS (
+                DELETE FROM trainings WHERE (training_id, training_date) IN (
+                    SELECT training_id, training_date FROM trainings WHERE training_date < ? LIMIT ?)
+                RETURNING training_duration, trainee_id, trainer_id, training_date, training_id, training_type_id,
+                    training_name)
+            INSERT INTO trainings_archive (training_duration, trainee_id, trainer_id, training_date, training_id,
+                training_type_id, training_name)
+            SELECT training_duration, trainee_id, trainer_id, training_date, training_id, training_type_id,
+                training_name
+            FROM moved
+            """;
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(hashtext('trainings_archive'))";
+
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(hashtext('trainings_archive'))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Clock clock;
+
+    private final Period olderThan;
+
+    private final int batchSize;
+
+    @Autowired
+    public TrainingArchiver(
+            JdbcTemplate jdbcTemplate,
+            Clock clock,
+            @Value("${trainings.archive.older-than:2y}") Period olderThan,
+            @Value("${trainings.archive.batch-size:5000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.olderThan = olderThan;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Trainings dated before this instant are eligible for the archive.
+     */
+    public LocalDateTime cutoff() {
+        return LocalDate.now(clock).minus(olderThan).atStartOfDay();
+    }
+
+    /**
+     * Whether a read starting at {@code from}, or unbounded when empty, can match archived trainings.
+     */
+    public boolean reachesArchive(Optional<LocalDateTime> from) {
+        return from.map(date -> date.isBefore(cutoff())).orElse(true);
+    }
+
+    @Scheduled(cron = "${trainings.archive.cron:0 30 3 * * *}")
+    public void archiveAgedTrainings() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!advisoryLock(connection, TRY_LOCK)) {
+                log.info("Training archive is already running on another instance");
+                return null;
+            }
+            try {
+                archiveBefore(cutoff());
+            } finally {
+                advisoryLock(connection, UNLOCK);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Moves every training dated before {@code cutoff} into the archive and returns how many were moved.
+     */
+    public int archiveBefore(LocalDateTime cutoff) {
+        int total = 0;
+        int moved;
+        do {
+            moved = jdbcTemplate.update(ARCHIVE_BATCH_SQL, Timestamp.valueOf(cutoff), batchSize);
+            total += moved;
+        } while (moved == batchSize);
+
+        if (total > 0) {
+            log.info("Archived {} trainings dated before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery(sql)) {
+            return result.next() && result.getBoolean(1);
+        }
+    }
+}
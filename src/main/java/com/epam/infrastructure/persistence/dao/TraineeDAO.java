@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -35,18 +36,24 @@ public class TraineeDAO {
     @EqualsAndHashCode.Include
     private Long traineeId;
 
-    @OneToOne(fetch = FetchType.EAGER, optional = false, cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToOne(fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private UserDAO userDAO;
 
-    @OneToMany(mappedBy = "traineeDAO", fetch = FetchType.EAGER, cascade = CascadeType.REMOVE, orphanRemoval = true)
+    @OneToMany(mappedBy = "traineeDAO", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<TrainingDAO> trainingDAOS = new ArrayList<>();
 
+    // Booking a session assigns its trainer here; both sides' change versions are bumped explicitly by the training and
+    // assignment writes
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "trainee_trainer",
             joinColumns = @JoinColumn(name = "trainee_id"),
-            inverseJoinColumns = @JoinColumn(name = "trainer_id"))
+            inverseJoinColumns = @JoinColumn(name = "trainer_id"),
+            indexes = {
+                @Index(name = "uk_trainee_trainer", columnList = "trainee_id, trainer_id", unique = true),
+                @Index(name = "idx_trainee_trainer_trainer", columnList = "trainer_id")
+            })
     private List<TrainerDAO> trainerDAOS = new ArrayList<>();
 
     @Column(name = "date_of_birth")
@@ -0,0 +1,28 @@
+package com.epam.infrastructure.persistence.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Single-row version of the trainer catalog. Only written through native statements in
+ * {@code TrainerAssignmentIndex}; mapped so the schema is generated alongside the other tables.
+ */
+@Entity
+@Table(name = "trainer_catalog_version")
+@Getter
+@Setter
+public class TrainerCatalogVersionDAO {
+
+    @Id
+    @Column(name = "id")
+    private Short id;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public TrainerCatalogVersionDAO() {}
+}
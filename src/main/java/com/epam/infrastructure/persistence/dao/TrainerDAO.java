@@ -33,15 +33,15 @@ public class TrainerDAO {
     @EqualsAndHashCode.Include
     private Long trainerId;
 
-    @OneToOne(fetch = FetchType.EAGER, optional = false, cascade = CascadeType.ALL)
+    @OneToOne(fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL)
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private UserDAO userDAO;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "training_type_id")
     private TrainingTypeDAO trainingTypeDAO;
 
-    @OneToMany(mappedBy = "trainerDAO", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "trainerDAO", fetch = FetchType.LAZY)
     private List<TrainingDAO> trainingDAOS = new ArrayList<>();
 
     @ManyToMany(mappedBy = "trainerDAOS", fetch = FetchType.LAZY)
@@ -0,0 +1,55 @@
+package com.epam.infrastructure.persistence.dao;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Total training minutes per trainer and calendar month. Only written through native statements in
+ * {@code TrainerWorkloadRepositoryImpl}; mapped so the schema is generated alongside the other tables.
+ */
+@Entity
+@Table(name = "trainer_monthly_workload")
+@IdClass(TrainerMonthlyWorkloadDAO.Key.class)
+@Getter
+@Setter
+public class TrainerMonthlyWorkloadDAO {
+
+    @Id
+    @Column(name = "trainer_id")
+    private Long trainerId;
+
+    @Id
+    @Column(name = "training_year")
+    private Integer trainingYear;
+
+    @Id
+    @Column(name = "training_month")
+    private Integer trainingMonth;
+
+    @Column(name = "total_duration_min", nullable = false)
+    private Long totalDurationMin;
+
+    public TrainerMonthlyWorkloadDAO() {}
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private Long trainerId;
+
+        private Integer trainingYear;
+
+        private Integer trainingMonth;
+
+        public Key() {}
+    }
+}
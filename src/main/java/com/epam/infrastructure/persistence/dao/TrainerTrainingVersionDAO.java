@@ -0,0 +1,49 @@
+package com.epam.infrastructure.persistence.dao;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One slot of a trainer's booking counter. Only written through native statements in
+ * {@code TrainerTrainingVersions}; mapped so the schema is generated alongside the other tables.
+ */
+@Entity
+@Table(name = "trainer_training_versions")
+@IdClass(TrainerTrainingVersionDAO.Key.class)
+@Getter
+@Setter
+public class TrainerTrainingVersionDAO {
+
+    @Id
+    @Column(name = "trainer_id")
+    private Long trainerId;
+
+    @Id
+    @Column(name = "slot")
+    private Short slot;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public TrainerTrainingVersionDAO() {}
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private Long trainerId;
+
+        private Short slot;
+
+        public Key() {}
+    }
+}
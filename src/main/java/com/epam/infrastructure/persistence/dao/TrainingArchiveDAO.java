@@ -0,0 +1,59 @@
+package com.epam.infrastructure.persistence.dao;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A training moved out of {@code trainings} once it aged past {@code trainings.archive.older-than}. Rows are only
+ * written by {@code TrainingArchiver} and are read-only here, so Hibernate never dirty-checks them.
+ */
+@Entity
+@Immutable
+@Table(
+        name = "trainings_archive",
+        indexes = {
+            @Index(name = "idx_trainings_archive_trainee_date", columnList = "trainee_id, training_date, training_id"),
+            @Index(name = "idx_trainings_archive_trainer_date", columnList = "trainer_id, training_date, training_id")
+        })
+@Getter
+@Setter
+public class TrainingArchiveDAO {
+
+    @Id
+    @Column(name = "training_id")
+    private Long trainingId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trainee_id", nullable = false)
+    private TraineeDAO traineeDAO;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trainer_id", nullable = false)
+    private TrainerDAO trainerDAO;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "training_type_id", nullable = false)
+    private TrainingTypeDAO trainingTypeDAO;
+
+    @Column(name = "training_name", nullable = false)
+    private String trainingName;
+
+    @Column(name = "training_date", nullable = false)
+    private LocalDateTime trainingDate;
+
+    @Column(name = "training_duration", nullable = false)
+    private Integer trainingDurationMin;
+
+    public TrainingArchiveDAO() {}
+}
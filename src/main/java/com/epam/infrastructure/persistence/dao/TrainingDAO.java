@@ -5,17 +5,29 @@ import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.PartitionKey;
 
 @Entity
-@Table(name = "trainings")
+@Table(
+        name = "trainings",
+        indexes = {
+            @Index(name = "idx_trainings_trainee_date", columnList = "trainee_id, training_date, training_id"),
+            @Index(name = "idx_trainings_trainer_date", columnList = "trainer_id, training_date, training_id"),
+            @Index(
+                    name = "uk_trainings_trainer_trainee_date",
+                    columnList = "trainer_id, trainee_id, training_date",
+                    unique = true)
+        })
 @Getter
 @Setter
 public class TrainingDAO {
@@ -25,21 +37,24 @@ public class TrainingDAO {
     @Column(name = "training_id")
     private Long trainingId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "trainee_id", nullable = false)
     private TraineeDAO traineeDAO;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "trainer_id", nullable = false)
     private TrainerDAO trainerDAO;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "training_type_id", nullable = false)
     private TrainingTypeDAO trainingTypeDAO;
 
     @Column(name = "training_name", nullable = false)
     private String trainingName;
 
+    // Partition key of the trainings table: Hibernate adds it to the WHERE clause of entity updates and deletes, so
+    // they are routed to a single monthly partition
+    @PartitionKey
     @Column(name = "training_date", nullable = false)
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime trainingDate;
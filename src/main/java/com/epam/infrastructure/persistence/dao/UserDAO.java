@@ -15,6 +15,7 @@ import jakarta.persistence.Table;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Setter
 @Getter
@@ -54,5 +55,11 @@ public class UserDAO {
     @Column(name = "is_active", nullable = false)
     private Boolean active;
 
+    // Bumped by statements for any write that changes what the user's profile or training endpoints return, including
+    // writes to other rows; read-only here so a flush never writes back a stale value
+    @ColumnDefault("0")
+    @Column(name = "change_version", nullable = false, insertable = false, updatable = false)
+    private Long changeVersion;
+
     public UserDAO() {}
 }
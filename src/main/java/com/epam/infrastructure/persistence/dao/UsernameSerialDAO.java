@@ -0,0 +1,28 @@
+package com.epam.infrastructure.persistence.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Last serial handed out per base username. Only written through native statements in
+ * {@code UsernameSerialRepositoryImpl}; mapped so the schema is generated alongside the other tables.
+ */
+@Entity
+@Table(name = "username_serials")
+@Getter
+@Setter
+public class UsernameSerialDAO {
+
+    @Id
+    @Column(name = "base_username", length = 100)
+    private String baseUsername;
+
+    @Column(name = "last_serial", nullable = false)
+    private Long lastSerial;
+
+    public UsernameSerialDAO() {}
+}
@@ -46,6 +46,7 @@ public final class TraineeMapper {
         trainee.setUserId(userDAO.getUserId());
         trainee.setUsername(userDAO.getUsername());
         trainee.setPassword(userDAO.getPassword());
+        trainee.setVersion(userDAO.getChangeVersion());
         trainee.setDob(traineeDAO.getDob());
         trainee.setAddress(traineeDAO.getAddress());
 
@@ -34,6 +34,14 @@ public final class TrainerMapper {
         return trainerDAO;
     }
 
+    public static void updateEntity(TrainerDAO dao, Trainer trainer) {
+        dao.getUserDAO().setFirstName(trainer.getFirstName());
+        dao.getUserDAO().setLastName(trainer.getLastName());
+        dao.getUserDAO().setPassword(trainer.getPassword());
+        dao.getUserDAO().setActive(trainer.getActive());
+        dao.setTrainingTypeDAO(TrainingTypeMapper.toEntity(trainer.getSpecialization()));
+    }
+
     public static Trainer toDomain(@NonNull TrainerDAO trainerDAO) {
         UserDAO userDAO = trainerDAO.getUserDAO();
         if (userDAO == null) {
@@ -53,6 +61,7 @@ public final class TrainerMapper {
         trainer.setUserId(userDAO.getUserId());
         trainer.setUsername(userDAO.getUsername());
         trainer.setPassword(userDAO.getPassword());
+        trainer.setVersion(userDAO.getChangeVersion());
 
         return trainer;
     }
@@ -1,5 +1,7 @@
 package com.epam.infrastructure.persistence.mapper;
 
+import java.time.LocalDateTime;
+
 import com.epam.application.exception.EntityNotFoundException;
 import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
@@ -7,6 +9,7 @@ import com.epam.domain.model.Training;
 import com.epam.domain.model.TrainingType;
 import com.epam.infrastructure.persistence.dao.TraineeDAO;
 import com.epam.infrastructure.persistence.dao.TrainerDAO;
+import com.epam.infrastructure.persistence.dao.TrainingArchiveDAO;
 import com.epam.infrastructure.persistence.dao.TrainingDAO;
 import com.epam.infrastructure.persistence.dao.TrainingTypeDAO;
 import com.epam.infrastructure.persistence.exception.MappingException;
@@ -36,34 +39,60 @@ public class TrainingMapper {
         trainingDAO.setTrainingDate(training.getTrainingDate());
         trainingDAO.setTrainingDurationMin(training.getTrainingDurationMin());
         trainingDAO.setTrainingTypeDAO(trainingTypeDAO);
+        trainingDAO.setTraineeDAO(traineeDAO);
+        trainingDAO.setTrainerDAO(trainerDAO);
 
-        // Manage bidirectional relationships
-        traineeDAO.addTraining(trainingDAO);
-        trainerDAO.addTraining(trainingDAO);
-        traineeDAO.addTrainer(trainerDAO);
-        trainerDAO.addTrainee(traineeDAO);
-        trainingTypeDAO.addTraining(trainingDAO);
-
+        // Only owning sides are written; touching the inverse training collections
+        // would initialize the full training history of both participants
         return trainingDAO;
     }
 
     public Training toDomain(@NonNull TrainingDAO trainingDAO) {
         validateTrainingDAO(trainingDAO);
 
-        Trainee trainee = TraineeMapper.toDomain(trainingDAO.getTraineeDAO());
-        Trainer trainer = TrainerMapper.toDomain(trainingDAO.getTrainerDAO());
-        TrainingType trainingType = TrainingTypeMapper.toDomain(trainingDAO.getTrainingTypeDAO());
+        return toDomain(
+                trainingDAO.getTrainingId(),
+                trainingDAO.getTrainingName(),
+                trainingDAO.getTrainingDate(),
+                trainingDAO.getTrainingDurationMin(),
+                trainingDAO.getTraineeDAO(),
+                trainingDAO.getTrainerDAO(),
+                trainingDAO.getTrainingTypeDAO());
+    }
+
+    public Training toDomain(@NonNull TrainingArchiveDAO archiveDAO) {
+        return toDomain(
+                archiveDAO.getTrainingId(),
+                archiveDAO.getTrainingName(),
+                archiveDAO.getTrainingDate(),
+                archiveDAO.getTrainingDurationMin(),
+                archiveDAO.getTraineeDAO(),
+                archiveDAO.getTrainerDAO(),
+                archiveDAO.getTrainingTypeDAO());
+    }
+
+    private static Training toDomain(
+            Long trainingId,
+            String trainingName,
+            LocalDateTime trainingDate,
+            Integer trainingDurationMin,
+            TraineeDAO traineeDAO,
+            TrainerDAO trainerDAO,
+            TrainingTypeDAO trainingTypeDAO) {
+        Trainee trainee = TraineeMapper.toDomain(traineeDAO);
+        Trainer trainer = TrainerMapper.toDomain(trainerDAO);
+        TrainingType trainingType = TrainingTypeMapper.toDomain(trainingTypeDAO);
 
         Training training = Training.builder()
-                .trainingName(trainingDAO.getTrainingName())
-                .trainingDate(trainingDAO.getTrainingDate())
-                .trainingDurationMin(trainingDAO.getTrainingDurationMin())
+                .trainingName(trainingName)
+                .trainingDate(trainingDate)
+                .trainingDurationMin(trainingDurationMin)
                 .trainee(trainee)
                 .trainer(trainer)
                 .trainingType(trainingType)
                 .build();
 
-        training.setTrainingId(trainingDAO.getTrainingId());
+        training.setTrainingId(trainingId);
 
         return training;
     }
@@ -0,0 +1,64 @@
+package com.epam.infrastructure.persistence.partition;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps monthly partitions of the trainings table in place from the current month through
+ * {@code trainings.partitions.months-ahead} months ahead, on startup and once a day. Schemas created by Hibernate
+ * rather than the migrations are not partitioned and are left alone.
+ */
+@Component
+@Slf4j
+public class TrainingPartitionMaintainer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Clock clock;
+
+    private final int monthsAhead;
+
+    @Autowired
+    public TrainingPartitionMaintainer(
+            JdbcTemplate jdbcTemplate, Clock clock, @Value("${trainings.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${trainings.partitions.cron:0 0 3 * * *}")
+    public void ensureFuturePartitions() {
+        LocalDate thisMonth = LocalDate.now(clock).withDayOfMonth(1);
+        ensurePartitions(thisMonth, thisMonth.plusMonths(monthsAhead));
+    }
+
+    /**
+     * Creates the missing monthly partitions covering {@code from} through {@code to}, for loaders that write
+     * outside the maintained window. Does nothing when the table is not partitioned.
+     */
+    public void ensurePartitions(LocalDate from, LocalDate to) {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT to_regproc('ensure_trainings_partitions') IS NOT NULL", Boolean.class);
+        if (!Boolean.TRUE.equals(partitioned)) {
+            log.debug("Trainings table is not partitioned, skipping partition maintenance");
+            return;
+        }
+
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT ensure_trainings_partitions(?, ?)", Integer.class, Date.valueOf(from), Date.valueOf(to));
+        if (created != null && created > 0) {
+            log.info("Created {} monthly trainings partitions between {} and {}", created, from, to);
+        }
+    }
+}
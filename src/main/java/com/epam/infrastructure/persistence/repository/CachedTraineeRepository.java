@@ -0,0 +1,118 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.domain.AssignedTrainers;
+import com.epam.domain.TrainerPage;
+import com.epam.domain.model.Trainee;
+import com.epam.domain.port.TraineeRepository;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-through {@link ProfileCache} in front of {@link TraineeRepositoryImpl} for profile reads whose caller already
+ * knows the trainee's change version. Everything else passes through: writes bump the versions of whoever they
+ * change, and reads without a version would have to query one to use the cache.
+ */
+@Repository
+@Primary
+public class CachedTraineeRepository implements TraineeRepository {
+
+    private final TraineeRepositoryImpl delegate;
+
+    private final ProfileCache cache;
+
+    @Autowired
+    public CachedTraineeRepository(TraineeRepositoryImpl delegate, ProfileCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Trainee save(@NonNull Trainee trainee) {
+        return delegate.save(trainee);
+    }
+
+    @Override
+    public List<Trainee> saveAll(List<Trainee> trainees) {
+        return delegate.saveAll(trainees);
+    }
+
+    @Override
+    public Optional<Trainee> findById(@NonNull Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public void delete(@NonNull Long id) {
+        delegate.delete(id);
+    }
+
+    @Override
+    public Optional<Trainee> findByUsername(String username) {
+        return delegate.findByUsername(username);
+    }
+
+    @Override
+    public Optional<TraineeProfile> findProfile(String username) {
+        return delegate.findProfile(username);
+    }
+
+    @Override
+    public Optional<TraineeProfile> findProfile(String username, long changeVersion) {
+        return cache.traineeProfile(username, changeVersion, () -> delegate.findProfile(username));
+    }
+
+    @Override
+    public Optional<Long> findChangeVersion(String username) {
+        return delegate.findChangeVersion(username);
+    }
+
+    @Override
+    public List<Trainee> findByUsernames(Collection<String> usernames) {
+        return delegate.findByUsernames(usernames);
+    }
+
+    @Override
+    public List<TrainerSummary> getTrainers(String traineeUsername) {
+        return delegate.getTrainers(traineeUsername);
+    }
+
+    @Override
+    public List<TrainerSummary> getUnassignedTrainers(String traineeUsername) {
+        return delegate.getUnassignedTrainers(traineeUsername);
+    }
+
+    @Override
+    public TrainerPage getUnassignedTrainers(String traineeUsername, Optional<String> after, int limit) {
+        return delegate.getUnassignedTrainers(traineeUsername, after, limit);
+    }
+
+    @Override
+    public Optional<Boolean> toggleActive(String username) {
+        return delegate.toggleActive(username);
+    }
+
+    @Override
+    public boolean updatePassword(String username, String encodedPassword) {
+        return delegate.updatePassword(username, encodedPassword);
+    }
+
+    @Override
+    public List<TrainerMonthlyWorkload> deleteByUsername(String username) {
+        return delegate.deleteByUsername(username);
+    }
+
+    @Override
+    public AssignedTrainers updateTrainersList(
+            String traineeUsername, List<String> trainerUsernames, Optional<Long> expectedVersion) {
+        return delegate.updateTrainersList(traineeUsername, trainerUsernames, expectedVersion);
+    }
+}
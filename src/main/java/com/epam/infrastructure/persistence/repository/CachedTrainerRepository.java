@@ -0,0 +1,105 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.domain.model.Trainer;
+import com.epam.domain.port.TrainerRepository;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerProfile;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-through {@link ProfileCache} in front of {@link TrainerRepositoryImpl} for profile reads whose caller already
+ * knows the trainer's change version. Everything else passes through: writes bump the versions of whoever they
+ * change, and reads without a version would have to query one to use the cache.
+ */
+@Repository
+@Primary
+public class CachedTrainerRepository implements TrainerRepository {
+
+    private final TrainerRepositoryImpl delegate;
+
+    private final ProfileCache cache;
+
+    @Autowired
+    public CachedTrainerRepository(TrainerRepositoryImpl delegate, ProfileCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Trainer save(@NonNull Trainer trainer) {
+        return delegate.save(trainer);
+    }
+
+    @Override
+    public List<Trainer> saveAll(List<Trainer> trainers) {
+        return delegate.saveAll(trainers);
+    }
+
+    @Override
+    public Optional<Trainer> findById(@NonNull Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public void delete(@NonNull Long id) {
+        delegate.delete(id);
+    }
+
+    @Override
+    public Optional<Trainer> findByUsername(String trainerUsername) {
+        return delegate.findByUsername(trainerUsername);
+    }
+
+    @Override
+    public Optional<TrainerProfile> findProfile(String trainerUsername) {
+        return delegate.findProfile(trainerUsername);
+    }
+
+    @Override
+    public Optional<TrainerProfile> findProfile(String trainerUsername, long changeVersion) {
+        return cache.trainerProfile(trainerUsername, changeVersion, () -> delegate.findProfile(trainerUsername));
+    }
+
+    @Override
+    public Optional<Long> findChangeVersion(String trainerUsername) {
+        return delegate.findChangeVersion(trainerUsername);
+    }
+
+    @Override
+    public Optional<Long> findTrainingsVersion(String trainerUsername) {
+        return delegate.findTrainingsVersion(trainerUsername);
+    }
+
+    @Override
+    public List<Trainer> findByUsernames(Collection<String> trainerUsernames) {
+        return delegate.findByUsernames(trainerUsernames);
+    }
+
+    @Override
+    public List<TraineeSummary> getTrainees(String trainerUsername) {
+        return delegate.getTrainees(trainerUsername);
+    }
+
+    @Override
+    public Optional<Boolean> toggleActive(String username) {
+        return delegate.toggleActive(username);
+    }
+
+    @Override
+    public boolean updatePassword(String username, String encodedPassword) {
+        return delegate.updatePassword(username, encodedPassword);
+    }
+
+    @Override
+    public List<TrainerMonthlyWorkload> deleteByUsername(String username) {
+        return delegate.deleteByUsername(username);
+    }
+}
@@ -0,0 +1,133 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.epam.domain.TrainingCursor;
+import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
+import com.epam.domain.model.Training;
+import com.epam.domain.port.TrainingRepository;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainingSummary;
+import com.epam.domain.projection.TrainingWorkload;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Serves training history pages through {@link TrainingPageCache}, validated against the version of the history the
+ * caller has already read: the trainee's change version or the trainer's {@link TrainerTrainingVersions training
+ * version}. Writes and other reads pass straight through to {@link TrainingRepositoryImpl}, since training writes bump
+ * both.
+ */
+@Repository
+@Primary
+public class CachedTrainingRepository implements TrainingRepository {
+
+    private final TrainingRepositoryImpl delegate;
+
+    private final TrainingPageCache pageCache;
+
+    @Autowired
+    public CachedTrainingRepository(TrainingRepositoryImpl delegate, TrainingPageCache pageCache) {
+        this.delegate = delegate;
+        this.pageCache = pageCache;
+    }
+
+    @Override
+    public Training save(@NonNull Training training) {
+        return delegate.save(training);
+    }
+
+    @Override
+    public List<Training> saveAll(List<Training> trainings) {
+        return delegate.saveAll(trainings);
+    }
+
+    @Override
+    public Optional<Training> findById(@NonNull Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public void delete(@NonNull Long id) {
+        delegate.delete(id);
+    }
+
+    @Override
+    public List<Training> getTraineeTrainings(String traineeUsername, TrainingFilter filter) {
+        return delegate.getTraineeTrainings(traineeUsername, filter);
+    }
+
+    @Override
+    public List<Training> getTrainerTrainings(String trainerUsername, TrainingFilter filter) {
+        return delegate.getTrainerTrainings(trainerUsername, filter);
+    }
+
+    @Override
+    public TrainingPage getTraineeTrainings(
+            String traineeUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version) {
+        return pageCache.traineePage(
+                traineeUsername,
+                filter,
+                after,
+                limit,
+                version,
+                () -> delegate.getTraineeTrainings(traineeUsername, filter, after, limit, version));
+    }
+
+    @Override
+    public TrainingPage getTrainerTrainings(
+            String trainerUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version) {
+        return pageCache.trainerPage(
+                trainerUsername,
+                filter,
+                after,
+                limit,
+                version,
+                () -> delegate.getTrainerTrainings(trainerUsername, filter, after, limit, version));
+    }
+
+    @Override
+    public Stream<TrainingSummary> streamTraineeTrainings(String traineeUsername, TrainingFilter filter) {
+        return delegate.streamTraineeTrainings(traineeUsername, filter);
+    }
+
+    @Override
+    public Stream<TrainingSummary> streamTrainerTrainings(String trainerUsername, TrainingFilter filter) {
+        return delegate.streamTrainerTrainings(trainerUsername, filter);
+    }
+
+    @Override
+    public List<TrainingSummary> findScheduledSessions(
+            Collection<String> trainerUsernames, Collection<LocalDateTime> dates) {
+        return delegate.findScheduledSessions(trainerUsernames, dates);
+    }
+
+    @Override
+    public List<TrainerMonthlyWorkload> summarizeTraineeWorkload(String traineeUsername) {
+        return delegate.summarizeTraineeWorkload(traineeUsername);
+    }
+
+    @Override
+    public List<TrainerMonthlyWorkload> summarizeTrainerWorkload(String trainerUsername) {
+        return delegate.summarizeTrainerWorkload(trainerUsername);
+    }
+
+    @Override
+    public Optional<TrainingWorkload> deleteByTraineeTrainerAndDate(
+            String traineeUsername, String trainerUsername, LocalDateTime date) {
+        return delegate.deleteByTraineeTrainerAndDate(traineeUsername, trainerUsername, date);
+    }
+
+    @Override
+    public Optional<Training> findByTrainerUsernameAndTraineeUsernameAndDate(
+            String trainerUsername, String traineeUsername, LocalDateTime date) {
+        return delegate.findByTrainerUsernameAndTraineeUsernameAndDate(trainerUsername, traineeUsername, date);
+    }
+}
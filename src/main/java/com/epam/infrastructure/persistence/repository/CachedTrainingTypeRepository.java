@@ -0,0 +1,140 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.epam.domain.model.TrainingType;
+import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.port.TrainingTypeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory view of the training types, which are a fixed set backed by {@link TrainingTypeEnum}. Lookups are served
+ * from an immutable snapshot loaded at startup; the returned instances are shared and must not be modified.
+ *
+ * <p>Writes go to {@link TrainingTypeRepositoryImpl} and drop the snapshot once their transaction completes, so a
+ * rolled-back write never leaks into it. Until then, reads in the writing transaction bypass the snapshot. A snapshot
+ * missing any enum value is never trusted: reads fall through to the database until every type exists.
+ */
+@Repository
+@Primary
+@Slf4j
+public class CachedTrainingTypeRepository implements TrainingTypeRepository {
+
+    private final TrainingTypeRepositoryImpl delegate;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public CachedTrainingTypeRepository(TrainingTypeRepositoryImpl delegate) {
+        this.delegate = delegate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            log.info("Training type cache warmed with {} types", refresh().all().size());
+        } catch (RuntimeException e) {
+            log.warn("Training type cache warm-up failed, loading on first use: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public TrainingType save(@NonNull TrainingType trainingType) {
+        TrainingType saved = delegate.save(trainingType);
+        invalidateOnCompletion();
+        return saved;
+    }
+
+    @Override
+    public Optional<TrainingType> findById(@NonNull Long id) {
+        if (isWritingTransaction()) {
+            return delegate.findById(id);
+        }
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    @Override
+    public void delete(@NonNull Long id) {
+        delegate.delete(id);
+        invalidateOnCompletion();
+    }
+
+    @Override
+    public Optional<TrainingType> findByTrainingTypeName(TrainingTypeEnum trainingTypeName) {
+        if (isWritingTransaction()) {
+            return delegate.findByTrainingTypeName(trainingTypeName);
+        }
+        return Optional.ofNullable(current().byName().get(trainingTypeName));
+    }
+
+    @Override
+    public List<TrainingType> getTrainingTypes() {
+        if (isWritingTransaction()) {
+            return delegate.getTrainingTypes();
+        }
+        return current().all();
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded != null && loaded.isComplete()) {
+            return loaded;
+        }
+        return refresh();
+    }
+
+    private Snapshot refresh() {
+        List<TrainingType> types = List.copyOf(delegate.getTrainingTypes());
+        Map<TrainingTypeEnum, TrainingType> byName = new EnumMap<>(TrainingTypeEnum.class);
+        Map<Long, TrainingType> byId = new HashMap<>();
+        for (TrainingType type : types) {
+            byName.put(type.getTrainingTypeName(), type);
+            byId.put(type.getTrainingTypeId(), type);
+        }
+
+        Snapshot loaded = new Snapshot(Collections.unmodifiableMap(byName), Collections.unmodifiableMap(byId), types);
+        this.snapshot = loaded;
+        return loaded;
+    }
+
+    private boolean isWritingTransaction() {
+        return TransactionSynchronizationManager.hasResource(this);
+    }
+
+    private void invalidateOnCompletion() {
+        this.snapshot = null;
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isWritingTransaction()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CachedTrainingTypeRepository.this);
+                snapshot = null;
+            }
+        });
+    }
+
+    private record Snapshot(
+            Map<TrainingTypeEnum, TrainingType> byName, Map<Long, TrainingType> byId, List<TrainingType> all) {
+
+        boolean isComplete() {
+            return byName.size() == TrainingTypeEnum.values().length;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.epam.application.exception.EntityNotFoundException;
+import com.epam.application.exception.VersionConflictException;
+import com.epam.domain.model.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+/**
+ * Reads and bumps {@code users.change_version}, the version behind the ETags of a user's profile and training reads.
+ *
+ * <p>Every write that changes what those endpoints return bumps the version of each user it shows up for: the
+ * profile's own user, the other side of a changed assignment and both participants of a deleted training. A booking
+ * bumps its trainee, and its trainer only when it creates their assignment; the trainer's training reads add the
+ * booking counter kept by {@link TrainerTrainingVersions}. The bumps are plain statements in the writing transaction,
+ * so a version becomes visible together with the data it stands for.
+ *
+ * <p>A write collects every user it affects, its own included, into one statement that locks their rows in
+ * {@code user_id} order before bumping them. The locks are held until commit, so writers whose sets overlap queue in
+ * the same order instead of deadlocking. Writers must not lock {@code users} rows in any other way first.
+ *
+ * <p>The sets are bounded by the data rather than by a constant. A profile write locks the users on the other side
+ * of its assignments: a few trainers for a trainee, and every assigned trainee for a trainer. A profile deletion
+ * locks everyone the profile ever trained with. Those fan-outs are paid by profile edits and deletions only, which are
+ * rare next to reads and bookings. Bookings lock their trainee's row, which only orders a trainee's own concurrent
+ * bookings, and leave the trainer's row alone once the pair is assigned.
+ */
+final class ChangeVersions {
+
+    /**
+     * Bumps the users selected by {@code %s} in {@code user_id} order; also used inside larger statements. Postgres
+     * re-evaluates the outer condition against the row each lock waited for, so the compare-and-set variant below sees
+     * a concurrent writer's commit.
+     */
+    static final String BUMP_IN_ORDER =
+            """
+            UPDATE users u SET change_version = u.change_version + 1
+            FROM (SELECT user_id FROM users WHERE user_id IN (%s) ORDER BY user_id FOR UPDATE) locked
+            WHERE u.user_id = locked.user_id
+            """;
+
+    private static final String BUMP_PROFILE = BUMP_IN_ORDER + "RETURNING u.username, u.change_version";
+
+    private static final String BUMP_PROFILE_IF_CURRENT = BUMP_IN_ORDER
+            + """
+            AND (u.username <> :username OR u.change_version = :expectedVersion)
+            RETURNING u.username, u.change_version
+            """;
+
+    private static final String OWN = "SELECT user_id FROM users WHERE username = :username";
+
+    private static final String ASSIGNED_TRAINERS =
+            """
+            SELECT tr.user_id FROM users u
+            JOIN trainees te ON te.user_id = u.user_id
+            JOIN trainee_trainer a ON a.trainee_id = te.trainee_id
+            JOIN trainers tr ON tr.trainer_id = a.trainer_id
+            WHERE u.username = :username
+            """;
+
+    private static final String ASSIGNED_TRAINEES =
+            """
+            SELECT te.user_id FROM users u
+            JOIN trainers tr ON tr.user_id = u.user_id
+            JOIN trainee_trainer a ON a.trainer_id = tr.trainer_id
+            JOIN trainees te ON te.trainee_id = a.trainee_id
+            WHERE u.username = :username
+            """;
+
+    private static final String TRAINEE_PARTNERS =
+            """
+            SELECT user_id FROM trainees WHERE trainee_id = :id
+            UNION SELECT tr.user_id FROM trainee_trainer a JOIN trainers tr ON tr.trainer_id = a.trainer_id
+            WHERE a.trainee_id = :id
+            UNION SELECT tr.user_id FROM trainings t JOIN trainers tr ON tr.trainer_id = t.trainer_id
+            WHERE t.trainee_id = :id
+            UNION SELECT tr.user_id FROM trainings_archive t JOIN trainers tr ON tr.trainer_id = t.trainer_id
+            WHERE t.trainee_id = :id
+            """;
+
+    private static final String TRAINER_PARTNERS =
+            """
+            SELECT user_id FROM trainers WHERE trainer_id = :id
+            UNION SELECT te.user_id FROM trainee_trainer a JOIN trainees te ON te.trainee_id = a.trainee_id
+            WHERE a.trainer_id = :id
+            UNION SELECT te.user_id FROM trainings t JOIN trainees te ON te.trainee_id = t.trainee_id
+            WHERE t.trainer_id = :id
+            UNION SELECT te.user_id FROM trainings_archive t JOIN trainees te ON te.trainee_id = t.trainee_id
+            WHERE t.trainer_id = :id
+            """;
+
+    private ChangeVersions() {}
+
+    /**
+     * The user's current change version, or empty when no user with that username and role exists.
+     */
+    static Optional<Long> find(EntityManager entityManager, String username, UserRole role) {
+        return entityManager
+                .createQuery(
+                        "SELECT u.changeVersion FROM UserDAO u WHERE u.username = :username AND u.userRole = :role",
+                        Long.class)
+                .setParameter("username", username)
+                .setParameter("role", role)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * Bumps the user's own version and returns the new one. A present {@code expectedVersion} makes the bump a
+     * compare-and-set: the update only matches a row still at that version, so of two writers holding the same
+     * version exactly one succeeds.
+     */
+    static long bump(EntityManager entityManager, String username, Optional<Long> expectedVersion) {
+        return bumpProfile(entityManager, username, expectedVersion, OWN, Map.of());
+    }
+
+    /**
+     * Bumps the profile's own version, as {@link #bump}, together with everyone on the other side of its assignments,
+     * whose lists show its name and active flag.
+     */
+    static long bumpWithAssigned(
+            EntityManager entityManager, String username, UserRole role, Optional<Long> expectedVersion) {
+        String assigned = role == UserRole.TRAINEE ? ASSIGNED_TRAINERS : ASSIGNED_TRAINEES;
+        return bumpProfile(entityManager, username, expectedVersion, OWN + " UNION " + assigned, Map.of());
+    }
+
+    /**
+     * Bumps the trainee's own version, as {@link #bump}, together with the given trainers, assigned or not.
+     */
+    static long bumpWithTrainers(
+            EntityManager entityManager,
+            String traineeUsername,
+            Optional<Long> expectedVersion,
+            Collection<Long> trainerIds) {
+        if (trainerIds.isEmpty()) {
+            return bump(entityManager, traineeUsername, expectedVersion);
+        }
+        return bumpProfile(
+                entityManager,
+                traineeUsername,
+                expectedVersion,
+                OWN + " UNION SELECT user_id FROM trainers WHERE trainer_id IN (:trainerIds)",
+                Map.of("trainerIds", trainerIds));
+    }
+
+    static void bumpUsers(EntityManager entityManager, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        bumpInOrder(entityManager, ":userIds", Map.of("userIds", userIds));
+    }
+
+    static void bumpTrainers(EntityManager entityManager, Collection<Long> trainerIds) {
+        if (trainerIds.isEmpty()) {
+            return;
+        }
+        bumpInOrder(
+                entityManager,
+                "SELECT user_id FROM trainers WHERE trainer_id IN (:trainerIds)",
+                Map.of("trainerIds", trainerIds));
+    }
+
+    /**
+     * Bumps both participants of a training that still exists.
+     */
+    static void bumpParticipants(EntityManager entityManager, Long trainingId) {
+        bumpInOrder(
+                entityManager,
+                """
+                SELECT te.user_id FROM trainings t JOIN trainees te ON te.trainee_id = t.trainee_id
+                WHERE t.training_id = :trainingId
+                UNION SELECT tr.user_id FROM trainings t JOIN trainers tr ON tr.trainer_id = t.trainer_id
+                WHERE t.training_id = :trainingId
+                """,
+                Map.of("trainingId", trainingId));
+    }
+
+    /**
+     * Bumps the profile and everyone assigned to or training with it; meant to run before the profile is deleted,
+     * while the rows that link them still exist. The profile's own row is locked here too, in order with the rest.
+     */
+    static void bumpPartners(EntityManager entityManager, Long profileId, UserRole role) {
+        bumpInOrder(
+                entityManager, role == UserRole.TRAINEE ? TRAINEE_PARTNERS : TRAINER_PARTNERS, Map.of("id", profileId));
+    }
+
+    private static void bumpInOrder(EntityManager entityManager, String userIds, Map<String, Object> parameters) {
+        Query update = entityManager.createNativeQuery(BUMP_IN_ORDER.formatted(userIds));
+        parameters.forEach(update::setParameter);
+        update.executeUpdate();
+    }
+
+    private static long bumpProfile(
+            EntityManager entityManager,
+            String username,
+            Optional<Long> expectedVersion,
+            String userIds,
+            Map<String, Object> parameters) {
+        Query update = entityManager.createNativeQuery(
+                (expectedVersion.isPresent() ? BUMP_PROFILE_IF_CURRENT : BUMP_PROFILE).formatted(userIds));
+        expectedVersion.ifPresent(expected -> update.setParameter("expectedVersion", expected));
+        parameters.forEach(update::setParameter);
+        List<?> rows = update.setParameter("username", username).getResultList();
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            if (username.equals(columns[0])) {
+                return ((Number) columns[1]).longValue();
+            }
+        }
+
+        // The own row did not match: either the user is gone or, for a conditional bump, someone else got there first
+        List<?> current = entityManager
+                .createNativeQuery("SELECT change_version FROM users WHERE username = :username")
+                .setParameter("username", username)
+                .getResultList();
+        if (current.isEmpty() || expectedVersion.isEmpty()) {
+            throw new EntityNotFoundException(String.format("User not found with username: %s", username));
+        }
+        throw new VersionConflictException(String.format(
+                "Profile '%s' was modified concurrently: expected version %d, current version %d",
+                username, expectedVersion.get(), ((Number) current.get(0)).longValue()));
+    }
+}
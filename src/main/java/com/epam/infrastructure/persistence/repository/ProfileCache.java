@@ -0,0 +1,111 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TrainerProfile;
+import com.epam.infrastructure.monitoring.metrics.AppMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded local cache of trainee and trainer profiles with their assignment lists, keyed by username. Entries expire
+ * after {@code cache.profiles.ttl}, which only bounds the memory held by profiles nobody reads any more.
+ *
+ * <p>Entries are validated rather than evicted: each carries the change version it was read at, and a lookup names the
+ * version its caller has just read, such as the one a conditional GET compares with {@code If-None-Match}. A hit
+ * therefore costs no query at all, and an entry of any other version is a miss. Writes bump the version of every user
+ * whose profile they change, on whichever instance they run, so nothing is ever evicted:
+ * <ul>
+ *   <li>a changed name or active flag bumps the users on the other side of the profile's assignments, whose lists
+ *       show it;</li>
+ *   <li>a changed assignment bumps both sides, including one made by a booking;</li>
+ *   <li>a deleted profile bumps everyone it was assigned to or trained with, as its trainings go with it.</li>
+ * </ul>
+ *
+ * <p>Reads that know no version are not served from here, since checking one would cost the round trip the cache
+ * saves. Profiles are copied on the way in and out, so callers may modify what they get back, and
+ * the copies leave out the password hash.
+ */
+@Component
+public class ProfileCache {
+
+    private final boolean enabled;
+
+    private final VersionedCache<String, TraineeProfile> trainees;
+
+    private final VersionedCache<String, TrainerProfile> trainers;
+
+    @Autowired
+    public ProfileCache(
+            AppMetrics metrics,
+            @Value("${cache.profiles.enabled:true}") boolean enabled,
+            @Value("${cache.profiles.maximum-size:10000}") long maximumSize,
+            @Value("${cache.profiles.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.trainees = VersionedCache.bounded(metrics, "trainee_profiles", maximumSize, ttl);
+        this.trainers = VersionedCache.bounded(metrics, "trainer_profiles", maximumSize, ttl);
+    }
+
+    Optional<TraineeProfile> traineeProfile(String username, long version, Supplier<Optional<TraineeProfile>> loader) {
+        return lookup(
+                trainees,
+                username,
+                version,
+                loader,
+                profile -> profile.trainee().getVersion(),
+                ProfileCache::copy);
+    }
+
+    Optional<TrainerProfile> trainerProfile(String username, long version, Supplier<Optional<TrainerProfile>> loader) {
+        return lookup(
+                trainers,
+                username,
+                version,
+                loader,
+                profile -> profile.trainer().getVersion(),
+                ProfileCache::copy);
+    }
+
+    private <T> Optional<T> lookup(
+            VersionedCache<String, T> cache,
+            String username,
+            long version,
+            Supplier<Optional<T>> loader,
+            Function<T, Long> versionOf,
+            UnaryOperator<T> copy) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        T cached = cache.get(username, version);
+        if (cached != null) {
+            return Optional.of(copy.apply(cached));
+        }
+
+        // Misses are never cached, and a profile is labelled with the version read alongside it, which may be newer
+        // than the one looked up with
+        Optional<T> loaded = loader.get();
+        loaded.ifPresent(profile -> {
+            Long read = versionOf.apply(profile);
+            if (read != null) {
+                cache.put(username, read, copy.apply(profile));
+            }
+        });
+        return loaded;
+    }
+
+    private static TraineeProfile copy(TraineeProfile source) {
+        return new TraineeProfile(source.trainee().copy(), List.copyOf(source.trainers()));
+    }
+
+    private static TrainerProfile copy(TrainerProfile source) {
+        return new TrainerProfile(source.trainer().copy(), List.copyOf(source.trainees()));
+    }
+}
@@ -0,0 +1,65 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import com.epam.domain.model.UserRole;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Removes every training of a profile that is being deleted, shared by both repositories.
+ *
+ * <p>Live and archived sessions go in one statement, which sums what it removed per trainer and month from its own
+ * {@code RETURNING} rows. The totals therefore describe exactly the rows this transaction deleted, and a session booked
+ * or removed concurrently can neither be counted without being deleted nor the other way round. The statement is not
+ * split into committed chunks: the profile row is removed in the same transaction, and a profile's sessions are a
+ * bounded set whose row locks block no one else's writes.
+ */
+final class ProfileTrainings {
+
+    private static final String DELETE_AND_SUM =
+            """
+            WITH live AS (
+                DELETE FROM trainings WHERE %1$s = :profileId
+                RETURNING trainer_id, training_date, training_duration
+            ), archived AS (
+                DELETE FROM trainings_archive WHERE %1$s = :profileId
+                RETURNING trainer_id, training_date, training_duration
+            ), deleted AS (
+                SELECT * FROM live UNION ALL SELECT * FROM archived
+            )
+            SELECT u.username, u.first_name, u.last_name, u.is_active,
+                CAST(EXTRACT(YEAR FROM d.training_date) AS integer) AS training_year,
+                CAST(EXTRACT(MONTH FROM d.training_date) AS integer) AS training_month,
+                SUM(d.training_duration)
+            FROM deleted d
+            JOIN trainers tr ON tr.trainer_id = d.trainer_id
+            JOIN users u ON u.user_id = tr.user_id
+            GROUP BY u.username, u.first_name, u.last_name, u.is_active, training_year, training_month
+            """;
+
+    private ProfileTrainings() {}
+
+    /**
+     * Deletes the profile's live and archived trainings and returns the removed minutes per trainer and month.
+     */
+    static List<TrainerMonthlyWorkload> delete(EntityManager entityManager, Long profileId, UserRole role) {
+        String column = role == UserRole.TRAINEE ? "trainee_id" : "trainer_id";
+        List<?> rows = entityManager
+                .createNativeQuery(String.format(DELETE_AND_SUM, column))
+                .setParameter("profileId", profileId)
+                .getResultList();
+
+        return rows.stream()
+                .map(Object[].class::cast)
+                .map(row -> new TrainerMonthlyWorkload(
+                        (String) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (Boolean) row[3],
+                        YearMonth.of(((Number) row[4]).intValue(), ((Number) row[5]).intValue()),
+                        ((Number) row[6]).longValue()))
+                .toList();
+    }
+}
@@ -1,21 +1,31 @@
 package com.epam.infrastructure.persistence.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.epam.application.exception.EntityNotFoundException;
+import com.epam.domain.AssignedTrainers;
+import com.epam.domain.TrainerPage;
 import com.epam.domain.model.Trainee;
-import com.epam.domain.model.Trainer;
+import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.model.UserRole;
 import com.epam.domain.port.TraineeRepository;
-import com.epam.domain.port.TrainerRepository;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerSummary;
 import com.epam.infrastructure.persistence.dao.TraineeDAO;
-import com.epam.infrastructure.persistence.dao.TrainerDAO;
-import com.epam.infrastructure.persistence.dao.UserDAO;
 import com.epam.infrastructure.persistence.mapper.TraineeMapper;
-import com.epam.infrastructure.persistence.mapper.TrainerMapper;
-import com.epam.infrastructure.persistence.util.UsernameFinder;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
@@ -25,14 +35,25 @@ import org.springframework.stereotype.Repository;
 @Slf4j
 public class TraineeRepositoryImpl implements TraineeRepository {
 
+    private static final int SAVE_ALL_CHUNK_SIZE = 500;
+
+    private static final String TRAINEE_WITH_INDEX_VERSIONS = String.format(
+            """
+            SELECT t.trainee_id, u.change_version, %s
+            FROM trainees t
+            JOIN users u ON u.user_id = t.user_id
+            WHERE u.username = :username
+            """,
+            TrainerAssignmentIndex.CATALOG_VERSION);
+
     @PersistenceContext
     private EntityManager entityManager;
 
-    private TrainerRepository trainerRepository;
+    private TrainerAssignmentIndex assignmentIndex;
 
     @Autowired
-    public void setTrainerRepository(TrainerRepository trainerRepository) {
-        this.trainerRepository = trainerRepository;
+    public void setAssignmentIndex(TrainerAssignmentIndex assignmentIndex) {
+        this.assignmentIndex = assignmentIndex;
     }
 
     @Override
@@ -41,12 +62,38 @@ public class TraineeRepositoryImpl implements TraineeRepository {
 
         if (trainee.getTraineeId() == null) {
             entityManager.persist(entity);
-        } else {
-            TraineeDAO existing = entityManager.find(TraineeDAO.class, entity.getTraineeId());
-            TraineeMapper.updateEntity(existing, trainee);
+            return TraineeMapper.toDomain(entity);
+        }
+
+        // The bump locks the users row first, so concurrent saves of this profile apply one after the other
+        long version = ChangeVersions.bumpWithAssigned(
+                entityManager, trainee.getUsername(), UserRole.TRAINEE, Optional.ofNullable(trainee.getVersion()));
+        TraineeDAO existing = entityManager.find(TraineeDAO.class, entity.getTraineeId());
+        TraineeMapper.updateEntity(existing, trainee);
+
+        // The mapped change version is read-only and may have been loaded earlier in the transaction
+        Trainee saved = TraineeMapper.toDomain(existing);
+        saved.setVersion(version);
+        return saved;
+    }
+
+    @Override
+    public List<Trainee> saveAll(List<Trainee> trainees) {
+        List<Trainee> saved = new ArrayList<>(trainees.size());
+        List<TraineeDAO> chunk = new ArrayList<>(SAVE_ALL_CHUNK_SIZE);
+
+        for (Trainee item : trainees) {
+            TraineeDAO entity = TraineeMapper.toEntity(item);
+            entityManager.persist(entity);
+            chunk.add(entity);
+
+            if (chunk.size() == SAVE_ALL_CHUNK_SIZE) {
+                flushChunk(chunk, saved);
+            }
         }
+        flushChunk(chunk, saved);
 
-        return TraineeMapper.toDomain(entity);
+        return saved;
     }
 
     @Override
@@ -63,18 +110,12 @@ public class TraineeRepositoryImpl implements TraineeRepository {
 
     @Override
     public void delete(@NonNull Long id) {
-        TraineeDAO traineeDAO = entityManager.find(TraineeDAO.class, id);
-
-        if (traineeDAO == null) {
-            throw new EntityNotFoundException(String.format("Trainee with ID %d not found", id));
-        }
-
-        entityManager.remove(traineeDAO);
+        deleteProfile(id);
     }
 
     @Override
     public Optional<Trainee> findByUsername(String username) {
-        String jpql = "SELECT t FROM TraineeDAO t WHERE t.userDAO.username = :username";
+        String jpql = "SELECT t FROM TraineeDAO t JOIN FETCH t.userDAO u WHERE u.username = :username";
         List<TraineeDAO> results = entityManager
                 .createQuery(jpql, TraineeDAO.class)
                 .setParameter("username", username)
@@ -89,111 +130,293 @@ public class TraineeRepositoryImpl implements TraineeRepository {
     }
 
     @Override
-    public Optional<String> findLatestUsername(String prefix) {
-        String jpql = "SELECT u FROM UserDAO u WHERE u.username LIKE :prefix";
-        List<UserDAO> userDAOS = entityManager
-                .createQuery(jpql, UserDAO.class)
-                .setParameter("prefix", prefix + "%")
+    public Optional<TraineeProfile> findProfile(String username) {
+        // The trainers come back as plain columns next to the trainee, so one round trip serves the whole profile and
+        // the trainee's collection is never initialized
+        String jpql =
+                """
+                SELECT t, tu.username, tu.firstName, tu.lastName, tu.active, tt.trainingTypeName
+                FROM TraineeDAO t
+                JOIN FETCH t.userDAO u
+                LEFT JOIN t.trainerDAOS tr
+                LEFT JOIN tr.userDAO tu
+                LEFT JOIN tr.trainingTypeDAO tt
+                WHERE u.username = :username
+                ORDER BY tu.username
+                """;
+        List<Object[]> rows = entityManager
+                .createQuery(jpql, Object[].class)
+                .setParameter("username", username)
                 .getResultList();
 
-        return UsernameFinder.findLatestUsername(userDAOS, prefix, UserDAO::getUsername);
+        if (rows.isEmpty()) {
+            log.warn("Trainee with username '{}' not found", username);
+            return Optional.empty();
+        }
+
+        // A trainee without trainers still yields one row, with the trainer columns null
+        List<TrainerSummary> trainers = rows.stream()
+                .filter(row -> row[1] != null)
+                .map(row -> new TrainerSummary(
+                        (String) row[1], (String) row[2], (String) row[3], (Boolean) row[4], (TrainingTypeEnum) row[5]))
+                .toList();
+        return Optional.of(new TraineeProfile(TraineeMapper.toDomain((TraineeDAO) rows.get(0)[0]), trainers));
     }
 
     @Override
-    public List<Trainer> getTrainers(String traineeUsername) {
-        if (findByUsername(traineeUsername).isEmpty()) {
-            throw new EntityNotFoundException(String.format("Trainee with username '%s' not found", traineeUsername));
+    public Optional<TraineeProfile> findProfile(String username, long changeVersion) {
+        return findProfile(username);
+    }
+
+    @Override
+    public Optional<Long> findChangeVersion(String username) {
+        return ChangeVersions.find(entityManager, username, UserRole.TRAINEE);
+    }
+
+    @Override
+    public List<Trainee> findByUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
         }
+
+        String jpql = "SELECT t FROM TraineeDAO t JOIN FETCH t.userDAO u WHERE u.username IN :usernames";
+        return entityManager
+                .createQuery(jpql, TraineeDAO.class)
+                .setParameter("usernames", usernames)
+                .getResultList()
+                .stream()
+                .map(TraineeMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<TrainerSummary> getTrainers(String traineeUsername) {
+        requireTraineeExists(traineeUsername);
+        return queryTrainers(traineeUsername);
+    }
+
+    private List<TrainerSummary> queryTrainers(String traineeUsername) {
         String jpql =
                 """
-                      SELECT t
+                      SELECT new com.epam.domain.projection.TrainerSummary(
+                          u.username, u.firstName, u.lastName, u.active, tt.trainingTypeName)
                       FROM TraineeDAO t
-                      LEFT JOIN FETCH t.trainerDAOS
+                      JOIN t.trainerDAOS tr
+                      JOIN tr.userDAO u
+                      LEFT JOIN tr.trainingTypeDAO tt
                       WHERE t.userDAO.username = :username
+                      ORDER BY u.username
                       """;
-        TraineeDAO traineeDAO = entityManager
-                .createQuery(jpql, TraineeDAO.class)
+
+        return entityManager
+                .createQuery(jpql, TrainerSummary.class)
                 .setParameter("username", traineeUsername)
-                .getSingleResult();
+                .getResultList();
+    }
 
-        return traineeDAO.getTrainerDAOS().stream().map(TrainerMapper::toDomain).toList();
+    @Override
+    public List<TrainerSummary> getUnassignedTrainers(String traineeUsername) {
+        return getUnassignedTrainers(traineeUsername, Optional.empty(), Integer.MAX_VALUE)
+                .trainers();
     }
 
     @Override
-    public List<Trainer> getUnassignedTrainers(String traineeUsername) {
-        if (findByUsername(traineeUsername).isEmpty()) {
+    public TrainerPage getUnassignedTrainers(String traineeUsername, Optional<String> after, int limit) {
+        // The versions the index validates against come with the id, so an index hit costs this one round trip
+        List<?> rows = entityManager
+                .createNativeQuery(TRAINEE_WITH_INDEX_VERSIONS)
+                .setParameter("username", traineeUsername)
+                .getResultList();
+        if (rows.isEmpty()) {
             throw new EntityNotFoundException(String.format("Trainee with username '%s' not found", traineeUsername));
         }
+        Object[] trainee = (Object[]) rows.get(0);
+        Long traineeId = ((Number) trainee[0]).longValue();
+
+        return assignmentIndex
+                .unassignedTrainers(
+                        traineeId, ((Number) trainee[1]).longValue(), ((Number) trainee[2]).longValue(), after, limit)
+                .orElseGet(() -> queryUnassignedTrainers(traineeId, after, limit));
+    }
 
+    private TrainerPage queryUnassignedTrainers(Long traineeId, Optional<String> after, int limit) {
         String jpql =
                 """
-                          SELECT tr
+                          SELECT new com.epam.domain.projection.TrainerSummary(
+                              u.username, u.firstName, u.lastName, u.active, tt.trainingTypeName)
                           FROM TrainerDAO tr
+                          JOIN tr.userDAO u
+                          LEFT JOIN tr.trainingTypeDAO tt
                           WHERE tr.trainerId NOT IN (
                               SELECT t2.trainerId
                               FROM TraineeDAO t
                               JOIN t.trainerDAOS t2
-                              WHERE t.userDAO.username = :username
-                          ) AND tr.userDAO.active=true
-                      """;
-
-        List<TrainerDAO> unassignedTrainers = entityManager
-                .createQuery(jpql, TrainerDAO.class)
-                .setParameter("username", traineeUsername)
-                .getResultList();
+                              WHERE t.traineeId = :traineeId
+                          ) AND u.active=true
+                      """
+                        + (after.isPresent() ? " AND u.username > :after" : "")
+                        + " ORDER BY u.username";
+
+        TypedQuery<TrainerSummary> query =
+                entityManager.createQuery(jpql, TrainerSummary.class).setParameter("traineeId", traineeId);
+        after.ifPresent(username -> query.setParameter("after", username));
+        if (limit == Integer.MAX_VALUE) {
+            return TrainerPage.of(query.getResultList(), false);
+        }
 
-        return unassignedTrainers.stream().map(TrainerMapper::toDomain).toList();
+        List<TrainerSummary> rows = query.setMaxResults(limit + 1).getResultList();
+        boolean hasMore = rows.size() > limit;
+        return TrainerPage.of(hasMore ? rows.subList(0, limit) : rows, hasMore);
     }
 
     @Override
-    public void deleteByUsername(String username) {
-        Trainee trainee = findByUsername(username)
+    public List<TrainerMonthlyWorkload> deleteByUsername(String username) {
+        Long traineeId = findTraineeId(username)
                 .orElseThrow(() ->
                         new EntityNotFoundException(String.format("Trainee with username '%s' not found", username)));
 
-        delete(trainee.getTraineeId());
+        return deleteProfile(traineeId);
     }
 
     @Override
-    public void updateTrainersList(String traineeUsername, List<String> trainerUsernames) {
-        // Fetch trainee with trainers collection
-        String jpql =
-                """
-                          SELECT t FROM TraineeDAO t
-                          LEFT JOIN FETCH t.trainerDAOS
-                          WHERE t.userDAO.username = :username
-                      """;
+    public Optional<Boolean> toggleActive(String username) {
+        return UserStatements.toggleActive(entityManager, username, UserRole.TRAINEE);
+    }
 
-        List<TraineeDAO> results = entityManager
-                .createQuery(jpql, TraineeDAO.class)
-                .setParameter("username", traineeUsername)
-                .getResultList();
+    @Override
+    public boolean updatePassword(String username, String encodedPassword) {
+        return UserStatements.updatePassword(entityManager, username, UserRole.TRAINEE, encodedPassword);
+    }
 
-        if (results.isEmpty()) {
-            throw new EntityNotFoundException(String.format("Trainee with username '%s' not found", traineeUsername));
+    private List<TrainerMonthlyWorkload> deleteProfile(Long id) {
+        TraineeDAO traineeDAO = entityManager.find(TraineeDAO.class, id);
+
+        if (traineeDAO == null) {
+            throw new EntityNotFoundException(String.format("Trainee with ID %d not found", id));
         }
 
-        TraineeDAO traineeDAO = results.get(0);
-        List<TrainerDAO> trainerDAOS = traineeDAO.getTrainerDAOS();
+        // Trainings go first in one set-based statement, so the cascade below finds an empty collection instead of
+        // loading and removing every session one by one
+        ChangeVersions.bumpPartners(entityManager, id, UserRole.TRAINEE);
+        List<TrainerMonthlyWorkload> removed = ProfileTrainings.delete(entityManager, id, UserRole.TRAINEE);
+        entityManager.remove(traineeDAO);
 
-        // Clear existing associations
-        trainerDAOS.clear();
+        log.debug("Deleted trainee {} with trainings in {} trainer months", id, removed.size());
+        return removed;
+    }
 
-        // Add new trainers
-        for (String trainerUsername : trainerUsernames) {
-            Long trainerId = trainerRepository
-                    .findByUsername(trainerUsername)
-                    .map(Trainer::getTrainerId)
-                    .orElseThrow(() -> new EntityNotFoundException(
-                            String.format("Trainer with username '%s' not found", trainerUsername)));
+    @Override
+    public AssignedTrainers updateTrainersList(
+            String traineeUsername, List<String> trainerUsernames, Optional<Long> expectedVersion) {
+        Long traineeId = findTraineeId(traineeUsername)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        String.format("Trainee with username '%s' not found", traineeUsername)));
+
+        Set<Long> requested = resolveTrainerIds(trainerUsernames);
+        Set<Long> current = new HashSet<>(entityManager
+                .createQuery(
+                        "SELECT tr.trainerId FROM TraineeDAO t JOIN t.trainerDAOS tr WHERE t.traineeId = :traineeId",
+                        Long.class)
+                .setParameter("traineeId", traineeId)
+                .getResultList());
+
+        // Bumped before anything is written, with every trainer the replacement can touch, so all their rows are
+        // locked in one ordered statement; kept trainers are bumped as well, which only costs their readers a refetch.
+        // A conditional bump loses to a replacement that committed in the meantime.
+        Set<Long> touched = new HashSet<>(current);
+        touched.addAll(requested);
+        long version = ChangeVersions.bumpWithTrainers(entityManager, traineeUsername, expectedVersion, touched);
+
+        // Only the changed join rows are written, and they report what actually changed: an unconditional replacement
+        // may have queued behind another one. The trainee's collection is never loaded, so a copy already in the
+        // persistence context is stale until the next transaction.
+        Long[] requestedIds = requested.toArray(Long[]::new);
+        Set<Long> removed = trainerIds(entityManager
+                .createNativeQuery(
+                        """
+                        DELETE FROM trainee_trainer
+                        WHERE trainee_id = :traineeId AND trainer_id <> ALL (CAST(:trainerIds AS bigint[]))
+                        RETURNING trainer_id
+                        """)
+                .setParameter("traineeId", traineeId)
+                .setParameter("trainerIds", requestedIds));
+        Set<Long> added = trainerIds(entityManager
+                .createNativeQuery(
+                        """
+                        INSERT INTO trainee_trainer (trainee_id, trainer_id)
+                        SELECT :traineeId, tr.trainer_id FROM trainers tr
+                        WHERE tr.trainer_id = ANY (CAST(:trainerIds AS bigint[]))
+                        ON CONFLICT DO NOTHING
+                        RETURNING trainer_id
+                        """)
+                .setParameter("traineeId", traineeId)
+                .setParameter("trainerIds", requestedIds));
+
+        // Only a replacement that committed while this one waited can have assigned a trainer outside the locked set
+        Set<Long> unlocked = new HashSet<>(removed);
+        unlocked.removeAll(touched);
+        ChangeVersions.bumpTrainers(entityManager, unlocked);
+
+        log.debug("Updated trainers of '{}': {} added, {} removed", traineeUsername, added.size(), removed.size());
+
+        // Read under the trainee's row lock, which every writer that could change the list also takes
+        return new AssignedTrainers(queryTrainers(traineeUsername), version);
+    }
+
+    private static Set<Long> trainerIds(Query returning) {
+        Set<Long> ids = new HashSet<>();
+        for (Object id : returning.getResultList()) {
+            ids.add(((Number) id).longValue());
+        }
+        return ids;
+    }
 
-            TrainerDAO trainerDAO = entityManager.find(TrainerDAO.class, trainerId);
+    private Optional<Long> findTraineeId(String traineeUsername) {
+        return entityManager
+                .createQuery("SELECT t.traineeId FROM TraineeDAO t WHERE t.userDAO.username = :username", Long.class)
+                .setParameter("username", traineeUsername)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
+    }
+
+    private Set<Long> resolveTrainerIds(List<String> trainerUsernames) {
+        if (trainerUsernames.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<String, Long> idsByUsername = entityManager
+                .createQuery(
+                        "SELECT u.username, tr.trainerId FROM TrainerDAO tr JOIN tr.userDAO u "
+                                + "WHERE u.username IN :usernames",
+                        Object[].class)
+                .setParameter("usernames", new HashSet<>(trainerUsernames))
+                .getResultStream()
+                .collect(Collectors.toMap(row -> (String) row[0], row -> (Long) row[1]));
 
-            if (trainerDAO == null) {
-                throw new EntityNotFoundException(String.format("Trainer with ID %d not found", trainerId));
+        Set<Long> trainerIds = new LinkedHashSet<>();
+        for (String trainerUsername : trainerUsernames) {
+            Long trainerId = idsByUsername.get(trainerUsername);
+            if (trainerId == null) {
+                throw new EntityNotFoundException(
+                        String.format("Trainer with username '%s' not found", trainerUsername));
             }
+            trainerIds.add(trainerId);
+        }
+        return trainerIds;
+    }
 
-            trainerDAOS.add(trainerDAO);
+    private void requireTraineeExists(String traineeUsername) {
+        // Selecting the id alone avoids hydrating the trainee just to prove it exists
+        if (findTraineeId(traineeUsername).isEmpty()) {
+            throw new EntityNotFoundException(String.format("Trainee with username '%s' not found", traineeUsername));
         }
     }
+
+    private void flushChunk(List<TraineeDAO> chunk, List<Trainee> saved) {
+        entityManager.flush();
+        chunk.stream().map(TraineeMapper::toDomain).forEach(saved::add);
+        entityManager.clear();
+        chunk.clear();
+    }
 }
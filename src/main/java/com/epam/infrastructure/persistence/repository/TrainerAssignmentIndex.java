@@ -0,0 +1,226 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.epam.domain.TrainerPage;
+import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TrainerSummary;
+import com.epam.infrastructure.monitoring.metrics.AppMetrics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory index answering "which active trainers is this trainee not assigned to" without a {@code NOT IN} query.
+ *
+ * <p>The trainer catalog is an immutable snapshot: trainers sorted by username, so a dense position doubles as the
+ * paging order, with a {@link BitSet} of the active positions. Each trainee's assignments are a sorted array of trainer
+ * ids, the sparse container a Roaring bitmap would use for a handful of members, held in a bounded cache and loaded on
+ * first use. Ids rather than positions are stored so the sets survive catalog rebuilds.
+ *
+ * <p>Both are validated the way {@link VersionedCache} entries are, so a write on any instance retires the copies on
+ * all of them. An assignment set carries its trainee's change version, which every assignment write and training
+ * booking bumps. The catalog carries the {@code trainer_catalog_version} row, which every write adding, removing,
+ * renaming, re-specializing or (de)activating a trainer bumps through {@link #trainersChanged()}. The caller reads both
+ * versions alongside the trainee id, so a lookup that hits costs no query of its own. A stale catalog is rebuilt by one
+ * reader while the others wait for its result. {@code assignment-index.ttl} only bounds the memory of idle entries.
+ *
+ * <p>Trainer writes hold the catalog version row until they commit. They are administrative and rare, so serializing
+ * them is cheap; trainee writes and bookings never touch the row.
+ */
+@Component
+@Slf4j
+public class TrainerAssignmentIndex {
+
+    /**
+     * Current catalog version, as a scalar subquery for the caller's lookup of the trainee.
+     */
+    static final String CATALOG_VERSION =
+            "COALESCE((SELECT c.version FROM trainer_catalog_version c WHERE c.id = 1), 0)";
+
+    private static final String BUMP_CATALOG_VERSION =
+            """
+            INSERT INTO trainer_catalog_version (id, version) VALUES (1, 1)
+            ON CONFLICT (id) DO UPDATE SET version = trainer_catalog_version.version + 1
+            """;
+
+    private static final long[] NO_TRAINERS = new long[0];
+
+    private static final String CATALOG = "catalog";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final boolean enabled;
+
+    private final VersionedCache<Long, long[]> assignments;
+
+    private final VersionedCache<String, Catalog> catalogs;
+
+    private final ReentrantLock catalogLock = new ReentrantLock();
+
+    @Autowired
+    public TrainerAssignmentIndex(
+            AppMetrics metrics,
+            @Value("${assignment-index.enabled:true}") boolean enabled,
+            @Value("${assignment-index.maximum-trainees:100000}") long maximumTrainees,
+            @Value("${assignment-index.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.assignments = VersionedCache.bounded(metrics, "trainee_assignments", maximumTrainees, ttl);
+        this.catalogs = VersionedCache.bounded(metrics, "trainer_catalog", 1, ttl);
+    }
+
+    /**
+     * Active trainers not assigned to the trainee, in username order, starting after the given username. The versions
+     * are the trainee's change version and {@link #CATALOG_VERSION}, read by the caller just now. Empty when the index
+     * is disabled and the caller should query the database.
+     */
+    public Optional<TrainerPage> unassignedTrainers(
+            Long traineeId, long traineeVersion, long catalogVersion, Optional<String> after, int limit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Catalog current = currentCatalog(catalogVersion);
+        long[] assigned = assignments.get(traineeId, traineeVersion);
+        if (assigned == null) {
+            // Read after the version, so the set is at least as new as the label it gets
+            assigned = loadAssignments(traineeId);
+            assignments.put(traineeId, traineeVersion, assigned);
+        }
+
+        List<TrainerSummary> page = new ArrayList<>(Math.min(limit, 64));
+        int position =
+                current.active().nextSetBit(after.map(current::positionAfter).orElse(0));
+        boolean hasMore = false;
+        while (position >= 0) {
+            if (Arrays.binarySearch(assigned, current.trainerIds()[position]) < 0) {
+                if (page.size() == limit) {
+                    hasMore = true;
+                    break;
+                }
+                page.add(current.trainers()[position]);
+            }
+            position = current.active().nextSetBit(position + 1);
+        }
+        return Optional.of(TrainerPage.of(page, hasMore));
+    }
+
+    /**
+     * Bumps the catalog version in the current transaction; called by every write that changes what the catalog
+     * holds for a trainer. Run after the write's other row locks, so trainer writes always lock in the same order.
+     */
+    public void trainersChanged() {
+        entityManager.createNativeQuery(BUMP_CATALOG_VERSION).executeUpdate();
+    }
+
+    private Catalog currentCatalog(long version) {
+        Catalog current = catalogs.get(CATALOG, version);
+        if (current != null) {
+            return current;
+        }
+
+        catalogLock.lock();
+        try {
+            // Another reader may have rebuilt it while this one waited
+            current = catalogs.get(CATALOG, version);
+            if (current != null) {
+                return current;
+            }
+
+            current = loadCatalog();
+            catalogs.put(CATALOG, version, current);
+            return current;
+        } finally {
+            catalogLock.unlock();
+        }
+    }
+
+    private Catalog loadCatalog() {
+        List<CatalogEntry> entries = entityManager
+                .createQuery(
+                        """
+                        SELECT tr.trainerId, u.username, u.firstName, u.lastName, u.active, tt.trainingTypeName
+                        FROM TrainerDAO tr
+                        JOIN tr.userDAO u
+                        LEFT JOIN tr.trainingTypeDAO tt
+                        """,
+                        Object[].class)
+                .getResultList()
+                .stream()
+                .map(row -> new CatalogEntry(
+                        (Long) row[0],
+                        new TrainerSummary(
+                                (String) row[1], (String) row[2], (String) row[3], (Boolean) row[4], (TrainingTypeEnum)
+                                        row[5])))
+                // Sorted here rather than by the database so positionAfter compares usernames the same way
+                .sorted(Comparator.comparing(entry -> entry.trainer().username()))
+                .toList();
+
+        Catalog loaded = Catalog.of(entries);
+        log.debug(
+                "Trainer catalog rebuilt with {} trainers, {} active",
+                loaded.trainers().length,
+                loaded.active().cardinality());
+        return loaded;
+    }
+
+    private long[] loadAssignments(Long traineeId) {
+        List<Long> trainerIds = entityManager
+                .createQuery(
+                        "SELECT tr.trainerId FROM TraineeDAO t JOIN t.trainerDAOS tr WHERE t.traineeId = :traineeId",
+                        Long.class)
+                .setParameter("traineeId", traineeId)
+                .getResultList();
+        return trainerIds.isEmpty()
+                ? NO_TRAINERS
+                : trainerIds.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    private record CatalogEntry(long trainerId, TrainerSummary trainer) {}
+
+    private record Catalog(TrainerSummary[] trainers, long[] trainerIds, BitSet active) {
+
+        /**
+         * @param entries in username order
+         */
+        static Catalog of(Collection<CatalogEntry> entries) {
+            TrainerSummary[] trainers = new TrainerSummary[entries.size()];
+            long[] trainerIds = new long[entries.size()];
+            BitSet active = new BitSet(entries.size());
+            int position = 0;
+            for (CatalogEntry entry : entries) {
+                trainerIds[position] = entry.trainerId();
+                trainers[position] = entry.trainer();
+                active.set(position, Boolean.TRUE.equals(entry.trainer().active()));
+                position++;
+            }
+            return new Catalog(trainers, trainerIds, active);
+        }
+
+        int positionAfter(String username) {
+            int low = 0;
+            int high = trainers.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (trainers[mid].username().compareTo(username) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
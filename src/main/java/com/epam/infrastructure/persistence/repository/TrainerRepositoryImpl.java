@@ -1,20 +1,23 @@
 package com.epam.infrastructure.persistence.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import com.epam.application.exception.EntityNotFoundException;
-import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
+import com.epam.domain.model.UserRole;
 import com.epam.domain.port.TrainerRepository;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerProfile;
 import com.epam.infrastructure.persistence.dao.TrainerDAO;
-import com.epam.infrastructure.persistence.dao.UserDAO;
-import com.epam.infrastructure.persistence.mapper.TraineeMapper;
 import com.epam.infrastructure.persistence.mapper.TrainerMapper;
-import com.epam.infrastructure.persistence.util.UsernameFinder;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -22,20 +25,62 @@ import org.springframework.stereotype.Repository;
 @Slf4j
 public class TrainerRepositoryImpl implements TrainerRepository {
 
+    private static final int SAVE_ALL_CHUNK_SIZE = 500;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    private TrainerAssignmentIndex assignmentIndex;
+
+    @Autowired
+    public void setAssignmentIndex(TrainerAssignmentIndex assignmentIndex) {
+        this.assignmentIndex = assignmentIndex;
+    }
+
     @Override
     public Trainer save(@NonNull Trainer trainer) {
         TrainerDAO entity = TrainerMapper.toEntity(trainer);
 
         if (trainer.getTrainerId() == null) {
             entityManager.persist(entity);
-        } else {
-            entityManager.merge(entity);
+            assignmentIndex.trainersChanged();
+            return TrainerMapper.toDomain(entity);
+        }
+
+        // The bump locks the users row first, so concurrent saves of this profile apply one after the other
+        long version = ChangeVersions.bumpWithAssigned(
+                entityManager, trainer.getUsername(), UserRole.TRAINER, Optional.ofNullable(trainer.getVersion()));
+        TrainerDAO existing = entityManager.find(TrainerDAO.class, entity.getTrainerId());
+        if (existing == null) {
+            throw new EntityNotFoundException(String.format("Trainer with ID %d not found", entity.getTrainerId()));
+        }
+        TrainerMapper.updateEntity(existing, trainer);
+
+        // The mapped change version is read-only and may have been loaded earlier in the transaction
+        Trainer saved = TrainerMapper.toDomain(existing);
+        saved.setVersion(version);
+        assignmentIndex.trainersChanged();
+        return saved;
+    }
+
+    @Override
+    public List<Trainer> saveAll(List<Trainer> trainers) {
+        List<Trainer> saved = new ArrayList<>(trainers.size());
+        List<TrainerDAO> chunk = new ArrayList<>(SAVE_ALL_CHUNK_SIZE);
+
+        for (Trainer item : trainers) {
+            TrainerDAO entity = TrainerMapper.toEntity(item);
+            entityManager.persist(entity);
+            chunk.add(entity);
+
+            if (chunk.size() == SAVE_ALL_CHUNK_SIZE) {
+                flushChunk(chunk, saved);
+            }
         }
+        flushChunk(chunk, saved);
 
-        return TrainerMapper.toDomain(entity);
+        assignmentIndex.trainersChanged();
+        return saved;
     }
 
     @Override
@@ -52,18 +97,18 @@ public class TrainerRepositoryImpl implements TrainerRepository {
 
     @Override
     public void delete(@NonNull Long id) {
-        TrainerDAO trainerDAO = entityManager.find(TrainerDAO.class, id);
-
-        if (trainerDAO == null) {
-            throw new EntityNotFoundException(String.format("Trainer with ID %d not found", id));
-        }
-
-        entityManager.remove(trainerDAO);
+        deleteProfile(id);
     }
 
     @Override
     public Optional<Trainer> findByUsername(String username) {
-        String jpql = "SELECT t FROM TrainerDAO t WHERE t.userDAO.username = :username";
+        String jpql =
+                """
+                SELECT t FROM TrainerDAO t
+                JOIN FETCH t.userDAO u
+                LEFT JOIN FETCH t.trainingTypeDAO
+                WHERE u.username = :username
+                """;
         List<TrainerDAO> results = entityManager
                 .createQuery(jpql, TrainerDAO.class)
                 .setParameter("username", username)
@@ -78,44 +123,162 @@ public class TrainerRepositoryImpl implements TrainerRepository {
     }
 
     @Override
-    public Optional<String> findLatestUsername(String prefix) {
-        String jpql = "SELECT u FROM UserDAO u WHERE u.username LIKE :prefix";
-        List<UserDAO> userDAOS = entityManager
-                .createQuery(jpql, UserDAO.class)
-                .setParameter("prefix", prefix + "%")
+    public Optional<TrainerProfile> findProfile(String trainerUsername) {
+        // The trainees come back as plain columns next to the trainer, so one round trip serves the whole profile
+        String jpql =
+                """
+                SELECT t, tu.username, tu.firstName, tu.lastName, tu.active
+                FROM TrainerDAO t
+                JOIN FETCH t.userDAO u
+                LEFT JOIN FETCH t.trainingTypeDAO
+                LEFT JOIN t.traineeDAOS te
+                LEFT JOIN te.userDAO tu
+                WHERE u.username = :username
+                ORDER BY tu.username
+                """;
+        List<Object[]> rows = entityManager
+                .createQuery(jpql, Object[].class)
+                .setParameter("username", trainerUsername)
                 .getResultList();
 
-        return UsernameFinder.findLatestUsername(userDAOS, prefix, UserDAO::getUsername);
+        if (rows.isEmpty()) {
+            log.warn("Trainer with username '{}' not found", trainerUsername);
+            return Optional.empty();
+        }
+
+        // A trainer without trainees still yields one row, with the trainee columns null
+        List<TraineeSummary> trainees = rows.stream()
+                .filter(row -> row[1] != null)
+                .map(row -> new TraineeSummary((String) row[1], (String) row[2], (String) row[3], (Boolean) row[4]))
+                .toList();
+        return Optional.of(new TrainerProfile(TrainerMapper.toDomain((TrainerDAO) rows.get(0)[0]), trainees));
+    }
+
+    @Override
+    public Optional<TrainerProfile> findProfile(String trainerUsername, long changeVersion) {
+        return findProfile(trainerUsername);
+    }
+
+    @Override
+    public Optional<Long> findChangeVersion(String trainerUsername) {
+        return ChangeVersions.find(entityManager, trainerUsername, UserRole.TRAINER);
+    }
+
+    @Override
+    public Optional<Long> findTrainingsVersion(String trainerUsername) {
+        return TrainerTrainingVersions.find(entityManager, trainerUsername);
+    }
+
+    @Override
+    public List<Trainer> findByUsernames(Collection<String> trainerUsernames) {
+        if (trainerUsernames.isEmpty()) {
+            return List.of();
+        }
+
+        String jpql =
+                """
+                SELECT t FROM TrainerDAO t
+                JOIN FETCH t.userDAO u
+                LEFT JOIN FETCH t.trainingTypeDAO
+                WHERE u.username IN :usernames
+                """;
+
+        return entityManager
+                .createQuery(jpql, TrainerDAO.class)
+                .setParameter("usernames", trainerUsernames)
+                .getResultList()
+                .stream()
+                .map(TrainerMapper::toDomain)
+                .toList();
     }
 
     @Override
-    public List<Trainee> getTrainees(String trainerUsername) {
-        if (findByUsername(trainerUsername).isEmpty()) {
+    public List<TraineeSummary> getTrainees(String trainerUsername) {
+        // Selecting the id alone avoids hydrating the trainer just to prove it exists
+        List<Long> ids = entityManager
+                .createQuery("SELECT tr.trainerId FROM TrainerDAO tr WHERE tr.userDAO.username = :username", Long.class)
+                .setParameter("username", trainerUsername)
+                .setMaxResults(1)
+                .getResultList();
+        if (ids.isEmpty()) {
             throw new EntityNotFoundException(String.format("Trainer with username '%s' not found", trainerUsername));
         }
 
         String jpql =
                 """
-                      SELECT tr
+                      SELECT new com.epam.domain.projection.TraineeSummary(
+                          u.username, u.firstName, u.lastName, u.active)
                       FROM TrainerDAO tr
-                      LEFT JOIN FETCH tr.traineeDAOS
+                      JOIN tr.traineeDAOS te
+                      JOIN te.userDAO u
                       WHERE tr.userDAO.username = :username
+                      ORDER BY u.username
                       """;
 
-        TrainerDAO trainerDAO = entityManager
-                .createQuery(jpql, TrainerDAO.class)
+        return entityManager
+                .createQuery(jpql, TraineeSummary.class)
                 .setParameter("username", trainerUsername)
-                .getSingleResult();
-
-        return trainerDAO.getTraineeDAOS().stream().map(TraineeMapper::toDomain).toList();
+                .getResultList();
     }
 
     @Override
-    public void deleteByUsername(String username) {
-        Trainer trainer = findByUsername(username)
+    public List<TrainerMonthlyWorkload> deleteByUsername(String username) {
+        Long trainerId = entityManager
+                .createQuery("SELECT tr.trainerId FROM TrainerDAO tr WHERE tr.userDAO.username = :username", Long.class)
+                .setParameter("username", username)
+                .getResultStream()
+                .findFirst()
                 .orElseThrow(() ->
                         new EntityNotFoundException(String.format("Trainer with username '%s' not found", username)));
 
-        delete(trainer.getTrainerId());
+        return deleteProfile(trainerId);
+    }
+
+    @Override
+    public Optional<Boolean> toggleActive(String username) {
+        Optional<Boolean> active = UserStatements.toggleActive(entityManager, username, UserRole.TRAINER);
+        if (active.isPresent()) {
+            assignmentIndex.trainersChanged();
+        }
+        return active;
+    }
+
+    @Override
+    public boolean updatePassword(String username, String encodedPassword) {
+        return UserStatements.updatePassword(entityManager, username, UserRole.TRAINER, encodedPassword);
+    }
+
+    private List<TrainerMonthlyWorkload> deleteProfile(Long id) {
+        TrainerDAO trainerDAO = entityManager.find(TrainerDAO.class, id);
+
+        if (trainerDAO == null) {
+            throw new EntityNotFoundException(String.format("Trainer with ID %d not found", id));
+        }
+
+        // Trainings, assignments, monthly totals and booking counters do not cascade from the trainer, so each is
+        // cleared with a set-based statement
+        ChangeVersions.bumpPartners(entityManager, id, UserRole.TRAINER);
+        List<TrainerMonthlyWorkload> removed = ProfileTrainings.delete(entityManager, id, UserRole.TRAINER);
+        entityManager
+                .createNativeQuery("DELETE FROM trainee_trainer WHERE trainer_id = :trainerId")
+                .setParameter("trainerId", id)
+                .executeUpdate();
+        entityManager
+                .createNativeQuery("DELETE FROM trainer_monthly_workload WHERE trainer_id = :trainerId")
+                .setParameter("trainerId", id)
+                .executeUpdate();
+        TrainerTrainingVersions.delete(entityManager, id);
+        entityManager.remove(trainerDAO);
+        assignmentIndex.trainersChanged();
+
+        log.debug("Deleted trainer {} with trainings in {} months", id, removed.size());
+        return removed;
+    }
+
+    private void flushChunk(List<TrainerDAO> chunk, List<Trainer> saved) {
+        entityManager.flush();
+        chunk.stream().map(TrainerMapper::toDomain).forEach(saved::add);
+        entityManager.clear();
+        chunk.clear();
     }
 }
@@ -0,0 +1,92 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.infrastructure.persistence.dao.TrainingDAO;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Reads and bumps the version behind a trainer's training history ETag: the trainer's {@code users.change_version}
+ * plus a booking counter in {@code trainer_training_versions}.
+ *
+ * <p>Bookings bump the counter instead of the trainer's {@code users} row, so bookings with one trainer do not queue
+ * behind each other on that row until commit. The counter is split into {@link #SLOTS} rows per trainer and a booking
+ * bumps the slot its training id falls into, so two concurrent bookings only wait for each other when their ids share
+ * a slot. Both parts only grow and every committed booking grows one of them, so their sum changes with every change
+ * to the history.
+ *
+ * <p>Everything else that changes the history still goes through {@link ChangeVersions}: a booking that creates the
+ * trainer's assignment to the trainee, since the trainer's profile lists it, a deleted session, a renamed trainee and a
+ * deleted profile. Slot rows are locked after the writer's {@code users} rows and in trainer and slot order.
+ */
+final class TrainerTrainingVersions {
+
+    static final int SLOTS = 16;
+
+    private static final String FIND =
+            """
+            SELECT u.change_version + COALESCE(
+                (SELECT SUM(v.version) FROM trainer_training_versions v WHERE v.trainer_id = tr.trainer_id), 0)
+            FROM users u JOIN trainers tr ON tr.user_id = u.user_id
+            WHERE u.username = :username
+            """;
+
+    private static final String BUMP =
+            """
+            INSERT INTO trainer_training_versions (trainer_id, slot, version)
+            SELECT b.trainer_id, b.slot, COUNT(*)
+            FROM unnest(CAST(:trainerIds AS bigint[]), CAST(:slots AS integer[])) AS b(trainer_id, slot)
+            GROUP BY b.trainer_id, b.slot
+            ORDER BY b.trainer_id, b.slot
+            ON CONFLICT (trainer_id, slot) DO UPDATE SET version = trainer_training_versions.version + EXCLUDED.version
+            """;
+
+    private TrainerTrainingVersions() {}
+
+    /**
+     * The trainer's training history version, or empty when no trainer with that username exists.
+     */
+    static Optional<Long> find(EntityManager entityManager, String username) {
+        List<?> rows = entityManager
+                .createNativeQuery(FIND)
+                .setParameter("username", username)
+                .getResultList();
+        return rows.stream().findFirst().map(version -> ((Number) version).longValue());
+    }
+
+    /**
+     * Bumps the slot of each written training's trainer in one statement.
+     */
+    static void bump(EntityManager entityManager, Collection<TrainingDAO> trainings) {
+        if (trainings.isEmpty()) {
+            return;
+        }
+
+        Long[] trainerIds = new Long[trainings.size()];
+        Integer[] slots = new Integer[trainings.size()];
+        int i = 0;
+        for (TrainingDAO training : trainings) {
+            trainerIds[i] = training.getTrainerDAO().getTrainerId();
+            slots[i] = (int) Math.floorMod(training.getTrainingId(), (long) SLOTS);
+            i++;
+        }
+
+        entityManager
+                .createNativeQuery(BUMP)
+                .setParameter("trainerIds", trainerIds)
+                .setParameter("slots", slots)
+                .executeUpdate();
+    }
+
+    /**
+     * Removes the trainer's counter; meant to run before the trainer is deleted.
+     */
+    static void delete(EntityManager entityManager, Long trainerId) {
+        entityManager
+                .createNativeQuery("DELETE FROM trainer_training_versions WHERE trainer_id = :trainerId")
+                .setParameter("trainerId", trainerId)
+                .executeUpdate();
+    }
+}
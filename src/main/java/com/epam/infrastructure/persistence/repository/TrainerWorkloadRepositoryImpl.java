@@ -0,0 +1,177 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.epam.domain.port.TrainerWorkloadRepository;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerWorkloadSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Slf4j
+public class TrainerWorkloadRepositoryImpl implements TrainerWorkloadRepository {
+
+    // The batch's trainer months; every statement takes their row locks in key order, so concurrent writers touching
+    // the same months cannot deadlock
+    private static final String MONTHS =
+            """
+            SELECT tr.trainer_id, m.training_year, m.training_month, m.minutes
+            FROM unnest(CAST(:usernames AS text[]), CAST(:years AS integer[]), CAST(:months AS integer[]),
+                CAST(:minutes AS bigint[])) AS m(username, training_year, training_month, minutes)
+            JOIN users u ON u.username = m.username
+            JOIN trainers tr ON tr.user_id = u.user_id
+            """;
+
+    private static final String ADD =
+            """
+            INSERT INTO trainer_monthly_workload (trainer_id, training_year, training_month, total_duration_min)
+            %s
+            ORDER BY tr.trainer_id, m.training_year, m.training_month
+            ON CONFLICT (trainer_id, training_year, training_month) DO UPDATE
+            SET total_duration_min = trainer_monthly_workload.total_duration_min + EXCLUDED.total_duration_min
+            """
+                    .formatted(MONTHS);
+
+    private static final String SUBTRACT =
+            """
+            WITH months AS (%s), locked AS (
+                SELECT w.trainer_id, w.training_year, w.training_month, m.minutes
+                FROM trainer_monthly_workload w
+                JOIN months m ON m.trainer_id = w.trainer_id
+                    AND m.training_year = w.training_year AND m.training_month = w.training_month
+                ORDER BY w.trainer_id, w.training_year, w.training_month
+                FOR UPDATE OF w
+            )
+            UPDATE trainer_monthly_workload w
+            SET total_duration_min = w.total_duration_min - l.minutes
+            FROM locked l
+            WHERE w.trainer_id = l.trainer_id
+                AND w.training_year = l.training_year AND w.training_month = l.training_month
+            """
+                    .formatted(MONTHS);
+
+    private static final String DELETE_EMPTY =
+            """
+            DELETE FROM trainer_monthly_workload w
+            USING (%s) m
+            WHERE w.trainer_id = m.trainer_id
+                AND w.training_year = m.training_year AND w.training_month = m.training_month
+                AND w.total_duration_min <= 0
+            """
+                    .formatted(MONTHS);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void add(Collection<TrainerMonthlyWorkload> workloads) {
+        execute(ADD, workloads);
+    }
+
+    @Override
+    public void subtract(Collection<TrainerMonthlyWorkload> workloads) {
+        // Rows the subtraction already locked, so removing the emptied months waits on no one
+        execute(SUBTRACT, workloads);
+        execute(DELETE_EMPTY, workloads);
+    }
+
+    @Override
+    public Optional<TrainerWorkloadSummary> findByTrainerUsername(String trainerUsername) {
+        // One row per month, or a single row with null month columns for a trainer without trainings
+        List<?> rows = entityManager
+                .createNativeQuery(
+                        """
+                        SELECT u.username, u.first_name, u.last_name, u.is_active,
+                            w.training_year, w.training_month, w.total_duration_min
+                        FROM trainers tr
+                        JOIN users u ON u.user_id = tr.user_id
+                        LEFT JOIN trainer_monthly_workload w ON w.trainer_id = tr.trainer_id
+                        WHERE u.username = :username
+                        ORDER BY w.training_year, w.training_month
+                        """)
+                .setParameter("username", trainerUsername)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        SortedMap<YearMonth, Long> minutesByMonth = new TreeMap<>();
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            if (columns[4] != null) {
+                minutesByMonth.put(
+                        YearMonth.of(((Number) columns[4]).intValue(), ((Number) columns[5]).intValue()),
+                        ((Number) columns[6]).longValue());
+            }
+        }
+
+        Object[] first = (Object[]) rows.get(0);
+        return Optional.of(new TrainerWorkloadSummary(
+                (String) first[0], (String) first[1], (String) first[2], (Boolean) first[3], minutesByMonth));
+    }
+
+    @Override
+    public void rebuild() {
+        entityManager.createNativeQuery("DELETE FROM trainer_monthly_workload").executeUpdate();
+        int months = entityManager
+                .createNativeQuery(
+                        """
+                        INSERT INTO trainer_monthly_workload
+                            (trainer_id, training_year, training_month, total_duration_min)
+                        SELECT trainer_id, EXTRACT(YEAR FROM training_date), EXTRACT(MONTH FROM training_date),
+                            SUM(training_duration)
+                        FROM (SELECT trainer_id, training_date, training_duration FROM trainings
+                              UNION ALL
+                              SELECT trainer_id, training_date, training_duration FROM trainings_archive) all_trainings
+                        GROUP BY 1, 2, 3
+                        """)
+                .executeUpdate();
+        log.info("Rebuilt trainer workload totals: {} trainer months", months);
+    }
+
+    /**
+     * Runs one statement over the whole batch, bound as parallel arrays with one element per trainer month: an upsert
+     * may touch each row only once.
+     */
+    private void execute(String sql, Collection<TrainerMonthlyWorkload> workloads) {
+        if (workloads.isEmpty()) {
+            return;
+        }
+        Map<MonthKey, Long> totals = new LinkedHashMap<>();
+        for (TrainerMonthlyWorkload workload : workloads) {
+            totals.merge(
+                    new MonthKey(workload.trainerUsername(), workload.month()), workload.totalDurationMin(), Long::sum);
+        }
+
+        List<String> usernames = new ArrayList<>(totals.size());
+        List<Integer> years = new ArrayList<>(totals.size());
+        List<Integer> months = new ArrayList<>(totals.size());
+        List<Long> minutes = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> {
+            usernames.add(key.trainerUsername());
+            years.add(key.month().getYear());
+            months.add(key.month().getMonthValue());
+            minutes.add(total);
+        });
+        entityManager
+                .createNativeQuery(sql)
+                .setParameter("usernames", usernames.toArray(String[]::new))
+                .setParameter("years", years.toArray(Integer[]::new))
+                .setParameter("months", months.toArray(Integer[]::new))
+                .setParameter("minutes", minutes.toArray(Long[]::new))
+                .executeUpdate();
+    }
+
+    private record MonthKey(String trainerUsername, YearMonth month) {}
+}
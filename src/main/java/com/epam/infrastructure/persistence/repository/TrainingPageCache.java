@@ -0,0 +1,88 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.epam.domain.TrainingCursor;
+import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
+import com.epam.domain.model.UserRole;
+import com.epam.infrastructure.monitoring.metrics.AppMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded local cache of training history pages, keyed by the user, the filter as the query applies it and the page
+ * position. Memory is bounded by the number of trainings held rather than the number of pages, and entries expire
+ * after {@code cache.trainings.ttl}.
+ *
+ * <p>Pages are validated against their history's version the same way as {@link ProfileCache} entries: the trainee's
+ * change version, or the trainer's {@link TrainerTrainingVersions training version}. Creating or deleting a training
+ * bumps both participants' versions and deleting a profile bumps everyone it trained with, so a write retires every
+ * page it changes without scanning for them. The caller names the version it has already read, so a hit costs no query
+ * at all. Pages of a superseded version stay until they are
+ * replaced, expire or are pushed out by the weight bound.
+ */
+@Component
+public class TrainingPageCache {
+
+    private final boolean enabled;
+
+    private final VersionedCache<PageKey, TrainingPage> pages;
+
+    @Autowired
+    public TrainingPageCache(
+            AppMetrics metrics,
+            @Value("${cache.trainings.enabled:true}") boolean enabled,
+            @Value("${cache.trainings.maximum-rows:200000}") long maximumRows,
+            @Value("${cache.trainings.ttl:2m}") Duration ttl) {
+        this.enabled = enabled;
+        this.pages = VersionedCache.weighted(
+                metrics, "training_pages", maximumRows, page -> page.trainings().size() + 1, ttl);
+    }
+
+    TrainingPage traineePage(
+            String username,
+            TrainingFilter filter,
+            Optional<TrainingCursor> after,
+            int limit,
+            long version,
+            Supplier<TrainingPage> loader) {
+        TrainingFilter applied = TrainingFilter.forTrainee(
+                filter.fromDate(), filter.toDate(), filter.trainerName(), filter.trainingType());
+        return lookup(new PageKey(UserRole.TRAINEE, username, applied, after, limit), version, loader);
+    }
+
+    TrainingPage trainerPage(
+            String username,
+            TrainingFilter filter,
+            Optional<TrainingCursor> after,
+            int limit,
+            long version,
+            Supplier<TrainingPage> loader) {
+        TrainingFilter applied = TrainingFilter.forTrainer(filter.fromDate(), filter.toDate(), filter.traineeName());
+        return lookup(new PageKey(UserRole.TRAINER, username, applied, after, limit), version, loader);
+    }
+
+    private TrainingPage lookup(PageKey key, long version, Supplier<TrainingPage> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        TrainingPage cached = pages.get(key, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        // The caller read the version before the loader reads the rows, so the page is at least that new
+        TrainingPage loaded = loader.get();
+        pages.put(key, version, new TrainingPage(List.copyOf(loaded.trainings()), loaded.nextCursor(), version));
+        return loaded;
+    }
+
+    private record PageKey(
+            UserRole role, String username, TrainingFilter filter, Optional<TrainingCursor> after, int limit) {}
+}
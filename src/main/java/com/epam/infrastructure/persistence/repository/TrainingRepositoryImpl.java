@@ -1,22 +1,40 @@
 package com.epam.infrastructure.persistence.repository;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import com.epam.application.exception.EntityNotFoundException;
+import com.epam.domain.TrainingCursor;
 import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Training;
 import com.epam.domain.port.TrainingRepository;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainingSummary;
+import com.epam.domain.projection.TrainingWorkload;
+import com.epam.infrastructure.persistence.archive.TrainingArchiver;
 import com.epam.infrastructure.persistence.dao.TraineeDAO;
 import com.epam.infrastructure.persistence.dao.TrainerDAO;
+import com.epam.infrastructure.persistence.dao.TrainingArchiveDAO;
 import com.epam.infrastructure.persistence.dao.TrainingDAO;
+import com.epam.infrastructure.persistence.dao.TrainingTypeDAO;
+import com.epam.infrastructure.persistence.dao.UserDAO;
 import com.epam.infrastructure.persistence.mapper.TrainingMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Fetch;
 import jakarta.persistence.criteria.Join;
@@ -24,6 +42,7 @@ import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
@@ -32,14 +51,56 @@ import org.springframework.stereotype.Repository;
 @Slf4j
 public class TrainingRepositoryImpl implements TrainingRepository {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final Comparator<Training> TRAINING_ORDER =
+            Comparator.comparing(Training::getTrainingDate).thenComparing(Training::getTrainingId);
+
+    private static final Comparator<TrainingSummary> SUMMARY_ORDER =
+            Comparator.comparing(TrainingSummary::trainingDate).thenComparing(TrainingSummary::trainingId);
+
+    // The participants' rows are locked in ChangeVersions order, as every other bump does
+    private static final String DELETE_SESSION =
+            """
+            WITH pair AS (
+                SELECT te.trainee_id, teu.user_id AS trainee_user_id, tr.trainer_id,
+                    tru.user_id AS trainer_user_id, tru.username, tru.first_name, tru.last_name,
+                    tru.is_active
+                FROM trainees te JOIN users teu ON teu.user_id = te.user_id,
+                    trainers tr JOIN users tru ON tru.user_id = tr.user_id
+                WHERE teu.username = :trainee AND tru.username = :trainer
+            ), live AS (
+                DELETE FROM trainings t USING pair p
+                WHERE t.trainee_id = p.trainee_id AND t.trainer_id = p.trainer_id
+                  AND t.training_date = :date
+                RETURNING p.trainee_user_id, p.trainer_user_id, p.username, p.first_name, p.last_name,
+                    p.is_active, t.training_date, t.training_duration
+            ), archived AS (
+                DELETE FROM trainings_archive t USING pair p
+                WHERE t.trainee_id = p.trainee_id AND t.trainer_id = p.trainer_id
+                  AND t.training_date = :date
+                RETURNING p.trainee_user_id, p.trainer_user_id, p.username, p.first_name, p.last_name,
+                    p.is_active, t.training_date, t.training_duration
+            ), deleted AS (
+                SELECT * FROM live UNION ALL SELECT * FROM archived
+            ), bumped AS (%s)
+            SELECT username, first_name, last_name, is_active, training_date, training_duration
+            FROM deleted
+            """
+                    .formatted(ChangeVersions.BUMP_IN_ORDER.formatted(
+                            "SELECT trainee_user_id FROM deleted UNION SELECT trainer_user_id FROM deleted"));
+
     private final TrainingMapper trainingMapper;
 
+    private final TrainingArchiver archiver;
+
     @PersistenceContext
     private EntityManager entityManager;
 
     @Autowired
-    public TrainingRepositoryImpl(TrainingMapper trainingMapper) {
+    public TrainingRepositoryImpl(TrainingMapper trainingMapper, TrainingArchiver archiver) {
         this.trainingMapper = trainingMapper;
+        this.archiver = archiver;
     }
 
     @Override
@@ -49,12 +110,113 @@ public class TrainingRepositoryImpl implements TrainingRepository {
         if (training.getTrainingId() == null) {
             entityManager.persist(entity);
         } else {
-            entityManager.merge(entity);
+            entity = entityManager.merge(entity);
         }
+        bumpVersions(List.of(training), List.of(entity));
 
         return trainingMapper.toDomain(entity);
     }
 
+    @Override
+    public List<Training> saveAll(List<Training> trainings) {
+        List<TrainingDAO> entities = new ArrayList<>(trainings.size());
+        for (Training training : trainings) {
+            TrainingDAO entity = trainingMapper.toEntity(training);
+            entityManager.persist(entity);
+            entities.add(entity);
+        }
+
+        // Ids come from the pooled sequence, so nothing is written until this flush, which sends the inserts in
+        // hibernate.jdbc.batch_size chunks
+        entityManager.flush();
+        bumpVersions(trainings, entities);
+
+        return entities.stream().map(trainingMapper::toDomain).toList();
+    }
+
+    /**
+     * Bumps the trainees' change versions and the trainers' booking counters. A trainer's own change version is only
+     * bumped when the training assigns them to a new trainee, since that changes their profile; see
+     * {@link TrainerTrainingVersions}.
+     */
+    private void bumpVersions(List<Training> trainings, List<TrainingDAO> entities) {
+        Set<Long> assignedTrainerIds = assignParticipants(trainings);
+
+        Set<Long> userIds = new HashSet<>();
+        for (Training training : trainings) {
+            userIds.add(training.getTrainee().getUserId());
+            if (assignedTrainerIds.contains(training.getTrainer().getTrainerId())) {
+                userIds.add(training.getTrainer().getUserId());
+            }
+        }
+        userIds.remove(null);
+        ChangeVersions.bumpUsers(entityManager, userIds);
+        TrainerTrainingVersions.bump(entityManager, entities);
+    }
+
+    /**
+     * Assigns each training's trainer to its trainee in one statement and returns the trainers of the pairs that were
+     * not assigned yet. Going through the trainee's trainer list would load that list to check for the pair, one query
+     * per trainee; a list already in the persistence context is stale until the next transaction.
+     */
+    private Set<Long> assignParticipants(List<Training> trainings) {
+        Map<Long, Set<Long>> pairs = new LinkedHashMap<>();
+        for (Training training : trainings) {
+            pairs.computeIfAbsent(training.getTrainee().getTraineeId(), id -> new LinkedHashSet<>())
+                    .add(training.getTrainer().getTrainerId());
+        }
+        List<Long> traineeIds = new ArrayList<>();
+        List<Long> trainerIds = new ArrayList<>();
+        pairs.forEach((traineeId, trainers) -> trainers.forEach(trainerId -> {
+            traineeIds.add(traineeId);
+            trainerIds.add(trainerId);
+        }));
+
+        List<?> assigned = entityManager
+                .createNativeQuery(
+                        """
+                        INSERT INTO trainee_trainer (trainee_id, trainer_id)
+                        SELECT * FROM unnest(CAST(:traineeIds AS bigint[]), CAST(:trainerIds AS bigint[]))
+                        ON CONFLICT DO NOTHING
+                        RETURNING trainer_id
+                        """)
+                .setParameter("traineeIds", traineeIds.toArray(Long[]::new))
+                .setParameter("trainerIds", trainerIds.toArray(Long[]::new))
+                .getResultList();
+
+        Set<Long> assignedTrainerIds = new HashSet<>();
+        for (Object trainerId : assigned) {
+            assignedTrainerIds.add(((Number) trainerId).longValue());
+        }
+        return assignedTrainerIds;
+    }
+
+    @Override
+    public List<TrainingSummary> findScheduledSessions(
+            Collection<String> trainerUsernames, Collection<LocalDateTime> dates) {
+        if (trainerUsernames.isEmpty() || dates.isEmpty()) {
+            return List.of();
+        }
+
+        String jpql =
+                """
+                SELECT new com.epam.domain.projection.TrainingSummary(
+                    t.trainingId, t.trainingName, t.trainingDate, tt.trainingTypeName, t.trainingDurationMin,
+                    teu.username, tru.username)
+                FROM TrainingDAO t
+                JOIN t.traineeDAO.userDAO teu
+                JOIN t.trainerDAO.userDAO tru
+                JOIN t.trainingTypeDAO tt
+                WHERE tru.username IN :trainerUsernames AND t.trainingDate IN :dates
+                """;
+
+        return entityManager
+                .createQuery(jpql, TrainingSummary.class)
+                .setParameter("trainerUsernames", trainerUsernames)
+                .setParameter("dates", dates)
+                .getResultList();
+    }
+
     @Override
     public Optional<Training> findById(@NonNull Long id) {
         TrainingDAO trainingDAO = entityManager.find(TrainingDAO.class, id);
@@ -74,6 +236,7 @@ public class TrainingRepositoryImpl implements TrainingRepository {
             throw new EntityNotFoundException(String.format("Training with ID %d not found", id));
         }
 
+        ChangeVersions.bumpParticipants(entityManager, id);
         entityManager.remove(trainingDAO);
     }
 
@@ -95,29 +258,140 @@ public class TrainingRepositoryImpl implements TrainingRepository {
     }
 
     @Override
-    public void deleteByTraineeTrainerAndDate(String traineeUsername, String trainerUsername, LocalDateTime date) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaDelete<TrainingDAO> delete = cb.createCriteriaDelete(TrainingDAO.class);
-        Root<TrainingDAO> root = delete.from(TrainingDAO.class);
+    public TrainingPage getTraineeTrainings(
+            String traineeUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version) {
+        return getTrainingPage(
+                traineeUsername,
+                TrainingFilter.forTrainee(
+                        filter.fromDate(), filter.toDate(), filter.trainerName(), filter.trainingType()),
+                UserType.TRAINEE,
+                after,
+                limit,
+                version);
+    }
 
-        // Join paths to reach the usernames in the UserDAO
-        Predicate traineeMatch = cb.equal(root.get("traineeDAO").get("userDAO").get("username"), traineeUsername);
-        Predicate trainerMatch = cb.equal(root.get("trainerDAO").get("userDAO").get("username"), trainerUsername);
-        Predicate dateMatch = cb.equal(root.get("trainingDate"), date);
+    @Override
+    public TrainingPage getTrainerTrainings(
+            String trainerUsername, TrainingFilter filter, Optional<TrainingCursor> after, int limit, long version) {
+        return getTrainingPage(
+                trainerUsername,
+                TrainingFilter.forTrainer(filter.fromDate(), filter.toDate(), filter.traineeName()),
+                UserType.TRAINER,
+                after,
+                limit,
+                version);
+    }
+
+    @Override
+    public Stream<TrainingSummary> streamTraineeTrainings(String traineeUsername, TrainingFilter filter) {
+        return streamTrainings(
+                traineeUsername,
+                TrainingFilter.forTrainee(
+                        filter.fromDate(), filter.toDate(), filter.trainerName(), filter.trainingType()),
+                UserType.TRAINEE);
+    }
+
+    @Override
+    public Stream<TrainingSummary> streamTrainerTrainings(String trainerUsername, TrainingFilter filter) {
+        return streamTrainings(
+                trainerUsername,
+                TrainingFilter.forTrainer(filter.fromDate(), filter.toDate(), filter.traineeName()),
+                UserType.TRAINER);
+    }
+
+    @Override
+    public List<TrainerMonthlyWorkload> summarizeTraineeWorkload(String traineeUsername) {
+        return summarizeWorkload("t.traineeDAO.userDAO.username", traineeUsername);
+    }
+
+    @Override
+    public List<TrainerMonthlyWorkload> summarizeTrainerWorkload(String trainerUsername) {
+        return summarizeWorkload("tru.username", trainerUsername);
+    }
 
-        delete.where(cb.and(traineeMatch, trainerMatch, dateMatch));
+    private List<TrainerMonthlyWorkload> summarizeWorkload(String usernamePath, String username) {
+        // Archived sessions still count towards the trainer totals, and a month on the archive cutoff can have rows
+        // in both tables, so the two sums are added per trainer and month
+        Map<String, TrainerMonthlyWorkload> workloads = new LinkedHashMap<>();
+        Stream.concat(
+                        summarizeWorkload("TrainingDAO", usernamePath, username),
+                        summarizeWorkload("TrainingArchiveDAO", usernamePath, username))
+                .forEach(workload -> workloads.merge(
+                        workload.trainerUsername() + "@" + workload.month(),
+                        workload,
+                        (current, archived) -> new TrainerMonthlyWorkload(
+                                current.trainerUsername(),
+                                current.trainerFirstName(),
+                                current.trainerLastName(),
+                                current.trainerActive(),
+                                current.month(),
+                                current.totalDurationMin() + archived.totalDurationMin())));
+        return List.copyOf(workloads.values());
+    }
 
-        int deletedCount = entityManager.createQuery(delete).executeUpdate();
+    private Stream<TrainerMonthlyWorkload> summarizeWorkload(String entityName, String usernamePath, String username) {
+        String jpql = String.format(
+                """
+                SELECT tru.username, tru.firstName, tru.lastName, tru.active,
+                    EXTRACT(YEAR FROM t.trainingDate), EXTRACT(MONTH FROM t.trainingDate), SUM(t.trainingDurationMin)
+                FROM %s t
+                JOIN t.trainerDAO.userDAO tru
+                WHERE %s = :username
+                GROUP BY tru.username, tru.firstName, tru.lastName, tru.active,
+                    EXTRACT(YEAR FROM t.trainingDate), EXTRACT(MONTH FROM t.trainingDate)
+                """,
+                entityName, usernamePath);
+
+        return entityManager
+                .createQuery(jpql, Object[].class)
+                .setParameter("username", username)
+                .getResultList()
+                .stream()
+                .map(row -> new TrainerMonthlyWorkload(
+                        (String) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (Boolean) row[3],
+                        YearMonth.of(((Number) row[4]).intValue(), ((Number) row[5]).intValue()),
+                        ((Number) row[6]).longValue()));
+    }
 
-        if (deletedCount == 0) {
+    @Override
+    public Optional<TrainingWorkload> deleteByTraineeTrainerAndDate(
+            String traineeUsername, String trainerUsername, LocalDateTime date) {
+        // One round trip: the joined trainer columns come back through RETURNING instead of a prior lookup, and the
+        // participants' change versions are bumped by the same statement. Sessions past the archive cutoff may already
+        // have been moved, so both tables are searched.
+        List<?> rows = entityManager
+                .createNativeQuery(DELETE_SESSION)
+                .setParameter("trainee", traineeUsername)
+                .setParameter("trainer", trainerUsername)
+                .setParameter("date", date)
+                .getResultList();
+
+        if (rows.isEmpty()) {
             log.warn(
                     "No training found to delete for Trainee: {}, Trainer: {}, Date: {}",
                     traineeUsername,
                     trainerUsername,
                     date);
-        } else {
-            log.info("Successfully deleted {} training record(s)", deletedCount);
+            return Optional.empty();
         }
+
+        log.info("Successfully deleted {} training record(s)", rows.size());
+        Object[] row = (Object[]) rows.get(0);
+        return Optional.of(new TrainingWorkload(
+                (String) row[0],
+                (String) row[1],
+                (String) row[2],
+                (Boolean) row[3],
+                toLocalDateTime(row[4]),
+                ((Number) row[5]).intValue()));
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        // Native results may arrive as java.sql.Timestamp depending on the driver mapping
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
     }
 
     @Override
@@ -152,30 +426,197 @@ public class TrainingRepositoryImpl implements TrainingRepository {
         return Optional.of(trainingMapper.toDomain(results.get(0)));
     }
 
+    // The reads below query the live table and the archive in separate statements. The service runs them in one
+    // REPEATABLE READ transaction, so a session the archiver moves in between is seen exactly once.
     private List<Training> getTrainings(String requestedUsername, TrainingFilter trainingFilter, UserType userType) {
+        List<Training> trainings = entityManager
+                .createQuery(buildTrainingsQuery(
+                        TrainingDAO.class, requestedUsername, trainingFilter, userType, Optional.empty()))
+                .getResultList()
+                .stream()
+                .map(trainingMapper::toDomain)
+                .toList();
+
+        if (!archiver.reachesArchive(trainingFilter.fromDate())) {
+            return trainings;
+        }
+
+        List<Training> archived = entityManager
+                .createQuery(buildTrainingsQuery(
+                        TrainingArchiveDAO.class, requestedUsername, trainingFilter, userType, Optional.empty()))
+                .getResultList()
+                .stream()
+                .map(trainingMapper::toDomain)
+                .toList();
+        return mergeSorted(archived, trainings, TRAINING_ORDER, Integer.MAX_VALUE);
+    }
+
+    private TrainingPage getTrainingPage(
+            String requestedUsername,
+            TrainingFilter trainingFilter,
+            UserType userType,
+            Optional<TrainingCursor> after,
+            int limit,
+            long version) {
+        // One extra row tells whether another page exists without a separate count query
+        List<TrainingSummary> rows = entityManager
+                .createQuery(buildSummaryQuery(TrainingDAO.class, requestedUsername, trainingFilter, userType, after))
+                .setMaxResults(limit + 1)
+                .getResultList();
+
+        // The keyset bound moves the lower end of the range forward, so later pages stop reading the archive
+        Optional<LocalDateTime> lowerBound = Stream.concat(
+                        trainingFilter.fromDate().stream(), after.map(TrainingCursor::trainingDate).stream())
+                .max(Comparator.naturalOrder());
+        if (archiver.reachesArchive(lowerBound)) {
+            List<TrainingSummary> archived = entityManager
+                    .createQuery(buildSummaryQuery(
+                            TrainingArchiveDAO.class, requestedUsername, trainingFilter, userType, after))
+                    .setMaxResults(limit + 1)
+                    .getResultList();
+            rows = mergeSorted(archived, rows, SUMMARY_ORDER, limit + 1);
+        }
+
+        boolean hasMore = rows.size() > limit;
+        return TrainingPage.of(hasMore ? rows.subList(0, limit) : rows, hasMore, version);
+    }
+
+    private Stream<TrainingSummary> streamTrainings(
+            String requestedUsername, TrainingFilter trainingFilter, UserType userType) {
+        // Constructor projections are never managed, so the persistence context stays empty however long the
+        // export runs
+        Stream<TrainingSummary> trainings =
+                streamSummaries(TrainingDAO.class, requestedUsername, trainingFilter, userType);
+        if (!archiver.reachesArchive(trainingFilter.fromDate())) {
+            return trainings;
+        }
+
+        // Everything archived predates the cutoff, so the archived rows come first
+        return Stream.concat(
+                streamSummaries(TrainingArchiveDAO.class, requestedUsername, trainingFilter, userType), trainings);
+    }
+
+    private Stream<TrainingSummary> streamSummaries(
+            Class<?> entityClass, String requestedUsername, TrainingFilter trainingFilter, UserType userType) {
+        return entityManager
+                .createQuery(
+                        buildSummaryQuery(entityClass, requestedUsername, trainingFilter, userType, Optional.empty()))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    /**
+     * Merges two lists already sorted by {@code order}, keeping at most {@code maxSize} elements.
+     */
+    private static <T> List<T> mergeSorted(List<T> first, List<T> second, Comparator<T> order, int maxSize) {
+        List<T> merged = new ArrayList<>(Math.min(first.size() + second.size(), maxSize));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < maxSize && (i < first.size() || j < second.size())) {
+            if (j == second.size() || (i < first.size() && order.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private <T> CriteriaQuery<T> buildTrainingsQuery(
+            Class<T> entityClass,
+            String requestedUsername,
+            TrainingFilter trainingFilter,
+            UserType userType,
+            Optional<TrainingCursor> after) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<TrainingDAO> cq = cb.createQuery(TrainingDAO.class);
-        Root<TrainingDAO> trainingRoot = cq.from(TrainingDAO.class);
+        CriteriaQuery<T> cq = cb.createQuery(entityClass);
+        Root<T> trainingRoot = cq.from(entityClass);
 
         // Eagerly loads associated data in a single SQL query via JOINs, preventing per-row SELECT statements
-        Fetch<TrainingDAO, TraineeDAO> traineeFetch = trainingRoot.fetch("traineeDAO", JoinType.INNER);
-        traineeFetch.fetch("userDAO", JoinType.INNER); // also fetch the nested userDAO
+        Fetch<T, TraineeDAO> traineeFetch = trainingRoot.fetch("traineeDAO", JoinType.INNER);
+        Fetch<TraineeDAO, UserDAO> traineeUserFetch = traineeFetch.fetch("userDAO", JoinType.INNER);
 
-        Fetch<TrainingDAO, TrainerDAO> trainerFetch = trainingRoot.fetch("trainerDAO", JoinType.INNER);
-        trainerFetch.fetch("userDAO", JoinType.INNER); // same here
+        Fetch<T, TrainerDAO> trainerFetch = trainingRoot.fetch("trainerDAO", JoinType.INNER);
+        Fetch<TrainerDAO, UserDAO> trainerUserFetch = trainerFetch.fetch("userDAO", JoinType.INNER);
+        trainerFetch.fetch("trainingTypeDAO", JoinType.LEFT); // specialization is lazy on TrainerDAO
 
-        trainingRoot.fetch("trainingTypeDAO", JoinType.INNER);
+        Fetch<T, TrainingTypeDAO> typeFetch = trainingRoot.fetch("trainingTypeDAO", JoinType.INNER);
 
         // Criteria API requires casting Fetch -> Join to use in predicates
-        Join<TrainingDAO, TraineeDAO> traineeJoin = (Join<TrainingDAO, TraineeDAO>) traineeFetch;
-        Join<TrainingDAO, TrainerDAO> trainerJoin = (Join<TrainingDAO, TrainerDAO>) trainerFetch;
+        List<Predicate> predicates = buildPredicates(
+                cb,
+                trainingRoot,
+                (Join<TraineeDAO, UserDAO>) traineeUserFetch,
+                (Join<TrainerDAO, UserDAO>) trainerUserFetch,
+                (Join<T, TrainingTypeDAO>) typeFetch,
+                requestedUsername,
+                trainingFilter,
+                userType,
+                after);
+
+        // Only to-one associations are fetched, so rows are already unique and no DISTINCT is needed
+        return cq.select(trainingRoot)
+                .where(cb.and(predicates.toArray(new Predicate[0])))
+                .orderBy(cb.asc(trainingRoot.get("trainingDate")), cb.asc(trainingRoot.get("trainingId")));
+    }
+
+    private CriteriaQuery<TrainingSummary> buildSummaryQuery(
+            Class<?> entityClass,
+            String requestedUsername,
+            TrainingFilter trainingFilter,
+            UserType userType,
+            Optional<TrainingCursor> after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TrainingSummary> cq = cb.createQuery(TrainingSummary.class);
+        Root<?> trainingRoot = cq.from(entityClass);
+
+        // Plain joins: only the selected columns are read and no entity is instantiated or snapshotted
+        Join<TraineeDAO, UserDAO> traineeUser =
+                trainingRoot.<Object, TraineeDAO>join("traineeDAO").join("userDAO");
+        Join<TrainerDAO, UserDAO> trainerUser =
+                trainingRoot.<Object, TrainerDAO>join("trainerDAO").join("userDAO");
+        Join<?, TrainingTypeDAO> trainingType = trainingRoot.join("trainingTypeDAO");
+
+        List<Predicate> predicates = buildPredicates(
+                cb,
+                trainingRoot,
+                traineeUser,
+                trainerUser,
+                trainingType,
+                requestedUsername,
+                trainingFilter,
+                userType,
+                after);
+
+        return cq.select(cb.construct(
+                        TrainingSummary.class,
+                        trainingRoot.get("trainingId"),
+                        trainingRoot.get("trainingName"),
+                        trainingRoot.get("trainingDate"),
+                        trainingType.get("trainingTypeName"),
+                        trainingRoot.get("trainingDurationMin"),
+                        traineeUser.get("username"),
+                        trainerUser.get("username")))
+                .where(cb.and(predicates.toArray(new Predicate[0])))
+                .orderBy(cb.asc(trainingRoot.get("trainingDate")), cb.asc(trainingRoot.get("trainingId")));
+    }
 
+    private List<Predicate> buildPredicates(
+            CriteriaBuilder cb,
+            Root<?> trainingRoot,
+            Join<TraineeDAO, UserDAO> traineeUser,
+            Join<TrainerDAO, UserDAO> trainerUser,
+            Join<?, TrainingTypeDAO> trainingType,
+            String requestedUsername,
+            TrainingFilter trainingFilter,
+            UserType userType,
+            Optional<TrainingCursor> after) {
         List<Predicate> predicates = new ArrayList<>();
 
         if (userType == UserType.TRAINEE) {
-            predicates.add(cb.equal(traineeJoin.get("userDAO").get("username"), requestedUsername));
+            predicates.add(cb.equal(traineeUser.get("username"), requestedUsername));
         } else {
-            predicates.add(cb.equal(trainerJoin.get("userDAO").get("username"), requestedUsername));
+            predicates.add(cb.equal(trainerUser.get("username"), requestedUsername));
         }
 
         trainingFilter
@@ -188,27 +629,28 @@ public class TrainingRepositoryImpl implements TrainingRepository {
 
         trainingFilter
                 .trainerName()
-                .ifPresent(username ->
-                        predicates.add(cb.equal(trainerJoin.get("userDAO").get("username"), username)));
+                .ifPresent(username -> predicates.add(cb.equal(trainerUser.get("username"), username)));
 
         trainingFilter
                 .traineeName()
-                .ifPresent(username ->
-                        predicates.add(cb.equal(traineeJoin.get("userDAO").get("username"), username)));
+                .ifPresent(username -> predicates.add(cb.equal(traineeUser.get("username"), username)));
 
         trainingFilter
                 .trainingType()
-                .ifPresent(typeName -> predicates.add(
-                        cb.equal(trainingRoot.get("trainingTypeDAO").get("trainingTypeName"), typeName)));
-
-        cq.select(trainingRoot)
-                .where(cb.and(predicates.toArray(new Predicate[0])))
-                .orderBy(cb.asc(trainingRoot.get("trainingDate")))
-                .distinct(true);
-
-        return entityManager.createQuery(cq).getResultList().stream()
-                .map(trainingMapper::toDomain)
-                .toList();
+                .ifPresent(typeName -> predicates.add(cb.equal(trainingType.get("trainingTypeName"), typeName)));
+
+        // Keyset predicate: (trainingDate, trainingId) > (cursor.trainingDate, cursor.trainingId). The extra plain
+        // bound on the partition key lets the planner skip the months before the cursor.
+        after.ifPresent(cursor -> {
+            predicates.add(cb.greaterThanOrEqualTo(trainingRoot.get("trainingDate"), cursor.trainingDate()));
+            predicates.add(cb.or(
+                    cb.greaterThan(trainingRoot.get("trainingDate"), cursor.trainingDate()),
+                    cb.and(
+                            cb.equal(trainingRoot.get("trainingDate"), cursor.trainingDate()),
+                            cb.greaterThan(trainingRoot.get("trainingId"), cursor.trainingId()))));
+        });
+
+        return predicates;
     }
 
     private enum UserType {
@@ -6,6 +6,7 @@ import java.util.Optional;
 import com.epam.domain.model.User;
 import com.epam.domain.model.UserRole;
 import com.epam.domain.port.UserRepository;
+import com.epam.domain.projection.UserCredentials;
 import com.epam.infrastructure.persistence.dao.UserDAO;
 import com.epam.infrastructure.persistence.mapper.TraineeMapper;
 import com.epam.infrastructure.persistence.mapper.TrainerMapper;
@@ -25,7 +26,8 @@ public class UserRepositoryImpl implements UserRepository {
                 """
             SELECT u FROM UserDAO u
             LEFT JOIN FETCH u.traineeDAO
-            LEFT JOIN FETCH u.trainerDAO
+            LEFT JOIN FETCH u.trainerDAO tr
+            LEFT JOIN FETCH tr.trainingTypeDAO
             WHERE u.username = :username
             """;
 
@@ -38,6 +40,22 @@ public class UserRepositoryImpl implements UserRepository {
         return results.isEmpty() ? Optional.empty() : Optional.of(mapToDomain(results.get(0)));
     }
 
+    @Override
+    public Optional<UserCredentials> findCredentials(String username) {
+        return entityManager
+                .createQuery(
+                        """
+                        SELECT new com.epam.domain.projection.UserCredentials(u.username, u.password, u.userRole)
+                        FROM UserDAO u
+                        WHERE u.username = :username
+                        """,
+                        UserCredentials.class)
+                .setParameter("username", username)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
+    }
+
     private User mapToDomain(UserDAO userDAO) {
         if (userDAO.getUserRole() == UserRole.TRAINEE) {
 
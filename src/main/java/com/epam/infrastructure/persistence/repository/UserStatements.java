@@ -0,0 +1,82 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.domain.model.UserRole;
+import com.epam.infrastructure.persistence.dao.UserDAO;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+
+/**
+ * Single-statement writes to the {@code users} row behind a trainee or trainer profile, shared by both repositories.
+ *
+ * <p>The statements bypass the persistence context, so a {@link UserDAO} already loaded in the same transaction is
+ * refreshed afterwards. Rows that were never loaded cost nothing extra. Each statement bumps the change version of every
+ * user whose responses it changes.
+ */
+final class UserStatements {
+
+    private UserStatements() {}
+
+    /**
+     * Flips the active flag and returns the new value, or empty when no user with that username and role exists.
+     */
+    static Optional<Boolean> toggleActive(EntityManager entityManager, String username, UserRole role) {
+        if (ChangeVersions.find(entityManager, username, role).isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Bumped first, as that statement locks the profile's row in order with everyone its active flag shows up for
+        ChangeVersions.bumpWithAssigned(entityManager, username, role, Optional.empty());
+        List<?> rows = entityManager
+                .createNativeQuery(
+                        """
+                        UPDATE users
+                        SET is_active = NOT is_active
+                        WHERE username = :username AND role = :role
+                        RETURNING user_id, is_active
+                        """)
+                .setParameter("username", username)
+                .setParameter("role", role.name())
+                .getResultList();
+
+        Object[] row = (Object[]) rows.get(0);
+        syncLoaded(entityManager, ((Number) row[0]).longValue());
+        return Optional.of((Boolean) row[1]);
+    }
+
+    /**
+     * Stores an already encoded password. Returns {@code false} when no user with that username and role exists.
+     */
+    static boolean updatePassword(EntityManager entityManager, String username, UserRole role, String encoded) {
+        List<?> ids = entityManager
+                .createNativeQuery(
+                        """
+                        UPDATE users
+                        SET password = :password, change_version = change_version + 1
+                        WHERE username = :username AND role = :role
+                        RETURNING user_id
+                        """)
+                .setParameter("password", encoded)
+                .setParameter("username", username)
+                .setParameter("role", role.name())
+                .getResultList();
+        if (ids.isEmpty()) {
+            return false;
+        }
+
+        syncLoaded(entityManager, ((Number) ids.get(0)).longValue());
+        return true;
+    }
+
+    private static void syncLoaded(EntityManager entityManager, Long userId) {
+        // getReference hands back the managed instance if there is one and an unloaded proxy otherwise
+        UserDAO reference = entityManager.getReference(UserDAO.class, userId);
+        if (Hibernate.isInitialized(reference)) {
+            entityManager.refresh(reference);
+        } else {
+            entityManager.detach(reference);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.util.List;
+
+import com.epam.domain.port.UsernameSerialRepository;
+import com.epam.infrastructure.persistence.util.UsernameFinder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Slf4j
+public class UsernameSerialRepositoryImpl implements UsernameSerialRepository {
+
+    private static final String INCREMENT_SQL =
+            """
+                  UPDATE username_serials
+                  SET last_serial = last_serial + :count
+                  WHERE base_username = :base
+                  RETURNING last_serial
+                  """;
+
+    private static final String SEED_SQL =
+            """
+                  INSERT INTO username_serials (base_username, last_serial)
+                  VALUES (:base, :seed)
+                  ON CONFLICT (base_username) DO NOTHING
+                  """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long nextSerial(String baseUsername) {
+        return reserveSerials(baseUsername, 1);
+    }
+
+    @Override
+    public long reserveSerials(String baseUsername, int count) {
+        // The row lock taken by the UPDATE serialises concurrent registrations of the same name until commit
+        List<?> allocated = increment(baseUsername, count);
+        if (allocated.isEmpty()) {
+            // First allocation for this name: continue from whatever usernames already exist, then retry the
+            // increment. ON CONFLICT lets a concurrent first allocation win without failing this transaction.
+            long seed = findLatestExistingSerial(baseUsername);
+            log.debug("Seeding username serial for '{}' at {}", baseUsername, seed);
+            entityManager
+                    .createNativeQuery(SEED_SQL)
+                    .setParameter("base", baseUsername)
+                    .setParameter("seed", seed)
+                    .executeUpdate();
+            allocated = increment(baseUsername, count);
+        }
+        long lastSerial = ((Number) allocated.get(0)).longValue();
+        return lastSerial - count + 1;
+    }
+
+    private List<?> increment(String baseUsername, int count) {
+        return entityManager
+                .createNativeQuery(INCREMENT_SQL)
+                .setParameter("base", baseUsername)
+                .setParameter("count", count)
+                .getResultList();
+    }
+
+    private long findLatestExistingSerial(String baseUsername) {
+        List<String> usernames = entityManager
+                .createQuery("SELECT u.username FROM UserDAO u WHERE u.username LIKE :prefix", String.class)
+                .setParameter("prefix", baseUsername + "%")
+                .getResultList();
+
+        return UsernameFinder.findLatestSerial(usernames, baseUsername);
+    }
+}
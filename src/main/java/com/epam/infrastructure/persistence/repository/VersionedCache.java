@@ -0,0 +1,84 @@
+package com.epam.infrastructure.persistence.repository;
+
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+import com.epam.infrastructure.monitoring.metrics.AppMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded local cache whose entries carry the {@code users.change_version} they were read at. A lookup names the
+ * version the caller just read and treats an entry of any other version as a miss, so a write anywhere in the cluster
+ * retires the entries it changes without this instance hearing of it, and nothing has to be evicted.
+ *
+ * <p>A fill never replaces an entry of a newer version, so a reader that was served an older snapshot cannot push one
+ * back. Fills from a read-write transaction are held until it commits: its reads may see its own uncommitted bump, and
+ * a rollback hands that version number to the next writer.
+ *
+ * <p>Fills may therefore come from a lagging read replica: the entry is labelled with the older version the replica
+ * returned, so it is only served to lookups that read that same version, and a lookup routed to the primary or to a
+ * caught-up replica reads the newer one and misses.
+ */
+final class VersionedCache<K, V> {
+
+    private final Cache<K, Entry<V>> entries;
+
+    private VersionedCache(Cache<K, Entry<V>> entries) {
+        this.entries = entries;
+    }
+
+    static <K, V> VersionedCache<K, V> bounded(AppMetrics metrics, String name, long maximumSize, Duration ttl) {
+        Cache<K, Entry<V>> entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        metrics.monitorCache(name, entries);
+        return new VersionedCache<>(entries);
+    }
+
+    static <K, V> VersionedCache<K, V> weighted(
+            AppMetrics metrics, String name, long maximumWeight, ToIntFunction<V> weigher, Duration ttl) {
+        Cache<K, Entry<V>> entries = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((K key, Entry<V> entry) -> weigher.applyAsInt(entry.value()))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        metrics.monitorCache(name, entries);
+        return new VersionedCache<>(entries);
+    }
+
+    /**
+     * The value cached at exactly {@code version}, or {@code null}.
+     */
+    V get(K key, long version) {
+        Entry<V> entry = entries.getIfPresent(key);
+        return entry != null && entry.version() == version ? entry.value() : null;
+    }
+
+    /**
+     * Caches a value read at {@code version}, unless a newer one is cached already.
+     */
+    void put(K key, long version, V value) {
+        Entry<V> entry = new Entry<>(version, value);
+        Runnable store = () -> entries.asMap()
+                .merge(key, entry, (cached, loaded) -> cached.version() > loaded.version() ? cached : loaded);
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store.run();
+                }
+            });
+        } else {
+            store.run();
+        }
+    }
+
+    private record Entry<V>(long version, V value) {}
+}
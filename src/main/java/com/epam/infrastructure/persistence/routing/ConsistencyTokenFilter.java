@@ -0,0 +1,48 @@
+package com.epam.infrastructure.persistence.routing;
+
+import java.io.IOException;
+
+import com.epam.interfaces.web.config.WebHeaders;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Carries the read-your-writes token. A request that commits a write gets the primary's WAL position after the
+ * commit back in the {@code X-Consistency-Token} header; a client that echoes it keeps its reads on the primary until
+ * the replica has replayed up to that position.
+ */
+@Slf4j
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReadConsistency.open(parseToken(request.getHeader(WebHeaders.CONSISTENCY_TOKEN)), position -> {
+            if (!response.isCommitted()) {
+                response.setHeader(WebHeaders.CONSISTENCY_TOKEN, Long.toString(position));
+            }
+        });
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadConsistency.close();
+        }
+    }
+
+    private static long parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(token.trim());
+        } catch (NumberFormatException e) {
+            // The client asked for consistency it cannot prove, so only the primary will do
+            log.warn("Malformed consistency token: {}", token);
+            return ReadConsistency.PRIMARY_ONLY;
+        }
+    }
+}
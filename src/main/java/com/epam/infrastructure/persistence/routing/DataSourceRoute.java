@@ -0,0 +1,9 @@
+package com.epam.infrastructure.persistence.routing;
+
+/**
+ * Lookup keys of the two connection pools behind {@link ReplicaRoutingDataSource}.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,82 @@
+package com.epam.infrastructure.persistence.routing;
+
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Read-your-writes state of the current request: the primary's WAL position its reads must see, and where commits
+ * made by the request itself are reported. Positions are LSNs as bytes since {@code 0/0}, compared with the replica's
+ * replay position; {@code 0} means no requirement.
+ *
+ * <p>Threads that never opened a scope, such as startup and scheduled work, have no requirement and report nothing.
+ */
+public final class ReadConsistency {
+
+    /**
+     * A requirement no replica meets, which keeps reads on the primary.
+     */
+    static final long PRIMARY_ONLY = Long.MAX_VALUE;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadConsistency() {}
+
+    public static void open(long requiredPosition, LongConsumer onCommit) {
+        CURRENT.set(new Scope(requiredPosition, onCommit));
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public static long requiredPosition() {
+        if (PINNED.get() != null) {
+            return PRIMARY_ONLY;
+        }
+        Scope scope = CURRENT.get();
+        return scope == null ? 0L : scope.requiredPosition;
+    }
+
+    /**
+     * Runs {@code read} with every transaction it begins routed to the primary; for state that outlives the request,
+     * which must not be filled from a replica that has not replayed the writes already applied to it.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        if (PINNED.get() != null) {
+            return read.get();
+        }
+        PINNED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PINNED.remove();
+        }
+    }
+
+    /**
+     * Records a write committed by this request at the given primary position, so its later reads wait for the replica
+     * to replay it as well.
+     */
+    static void committed(long position) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        scope.requiredPosition = Math.max(scope.requiredPosition, position);
+        scope.onCommit.accept(scope.requiredPosition);
+    }
+
+    private static final class Scope {
+
+        private long requiredPosition;
+
+        private final LongConsumer onCommit;
+
+        private Scope(long requiredPosition, LongConsumer onCommit) {
+            this.requiredPosition = requiredPosition;
+            this.onCommit = onCommit;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.epam.infrastructure.persistence.routing;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Tracks how far the read replica trails the primary. Each check reads the primary's WAL position and then the
+ * replica's replay position; once the replica has replayed past the position taken at a check, every write committed
+ * before that check is visible there. The replica serves reads only while that point is within
+ * {@code datasource.replica.max-lag}, so a stalled or unreachable replica drops out on its own.
+ *
+ * <p>Read-your-writes compares WAL positions, not times: a commit is stamped with {@link #primaryPosition()}, and the
+ * replica may serve a request that requires a position only once its last observed replay position has reached it.
+ * The lag bound only ever compares this instance's own check times, so clocks of other instances play no part.
+ *
+ * <p>A replica that is not in recovery, such as a plain copy used in tests, has no replay position and counts as
+ * current at every check.
+ */
+@Slf4j
+public class ReplicaLagTracker {
+
+    /**
+     * Bounds the checks remembered while the replica is behind; the oldest are dropped first.
+     */
+    private static final int MAX_PENDING_CHECKS = 256;
+
+    private static final String PRIMARY_POSITION = "SELECT (pg_current_wal_lsn() - '0/0')::bigint";
+
+    private static final String REPLAY_POSITION = "SELECT (pg_last_wal_replay_lsn() - '0/0')::bigint";
+
+    private final JdbcOperations primary;
+
+    private final JdbcOperations replica;
+
+    private final Duration maxLag;
+
+    private final Clock clock;
+
+    private final Deque<Check> pending = new ArrayDeque<>();
+
+    // Epoch millis of the newest check the replica has caught up with, 0 until the first one
+    private volatile long currentAsOf;
+
+    // Replica's replay position at the latest check; every position counts as replayed when it is not in recovery
+    private volatile long replayedPosition;
+
+    public ReplicaLagTracker(JdbcOperations primary, JdbcOperations replica, Duration maxLag, Clock clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:1s}")
+    public synchronized void refresh() {
+        long checkedAt = clock.millis();
+        try {
+            Long position = primary.queryForObject(PRIMARY_POSITION, Long.class);
+            pending.addLast(new Check(checkedAt, position));
+            if (pending.size() > MAX_PENDING_CHECKS) {
+                pending.removeFirst();
+            }
+
+            Long replayed = replica.queryForObject(REPLAY_POSITION, Long.class);
+            replayedPosition = replayed == null ? Long.MAX_VALUE : replayed;
+            long asOf = currentAsOf;
+            while (!pending.isEmpty()
+                    && (replayed == null || pending.peekFirst().position() <= replayed)) {
+                asOf = pending.removeFirst().checkedAt();
+            }
+            currentAsOf = asOf;
+        } catch (DataAccessException e) {
+            log.warn("Replica lag check failed; reads move to the primary after {}: {}", maxLag, e.getMessage());
+        }
+    }
+
+    /**
+     * Whether the replica is within the lag tolerance and has replayed the primary's WAL up to
+     * {@code requiredPosition}.
+     */
+    public boolean canServe(long requiredPosition) {
+        long asOf = currentAsOf;
+        return asOf > 0 && replayedPosition >= requiredPosition && clock.millis() - asOf <= maxLag.toMillis();
+    }
+
+    /**
+     * The primary's current WAL position, read right after a commit to stamp it. If it cannot be read, the commit is
+     * stamped with a position no replica reaches, which keeps the client on the primary rather than risk a stale read.
+     */
+    public long primaryPosition() {
+        try {
+            Long position = primary.queryForObject(PRIMARY_POSITION, Long.class);
+            return position == null ? ReadConsistency.PRIMARY_ONLY : position;
+        } catch (DataAccessException e) {
+            log.warn("Could not read the primary WAL position for a consistency token: {}", e.getMessage());
+            return ReadConsistency.PRIMARY_ONLY;
+        }
+    }
+
+    private record Check(long checkedAt, long position) {}
+}
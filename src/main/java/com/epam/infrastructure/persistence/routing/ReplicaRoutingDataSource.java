@@ -0,0 +1,64 @@
+package com.epam.infrastructure.persistence.routing;
+
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica when the {@link ReplicaLagTracker} says it is recent enough for the
+ * current request, and everything else to the primary. The key is resolved when a connection is first needed, so this
+ * data source must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * read-only flag is not bound yet while the transaction begins.
+ *
+ * <p>Read-write transactions that reach the primary report the primary's WAL position after their commit to
+ * {@link ReadConsistency}, which keeps the request's later reads, and those of clients echoing the issued token, off a
+ * replica that has not replayed up to it.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagTracker lagTracker;
+
+    private final Object commitTrackingKey = new Object();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagTracker lagTracker) {
+        this.lagTracker = lagTracker;
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return lagTracker.canServe(ReadConsistency.requiredPosition())
+                    ? DataSourceRoute.REPLICA
+                    : DataSourceRoute.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            trackCommit();
+        }
+        return DataSourceRoute.PRIMARY;
+    }
+
+    private void trackCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(commitTrackingKey)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(commitTrackingKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadConsistency.committed(lagTracker.primaryPosition());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(commitTrackingKey);
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.epam.infrastructure.persistence.routing;
+
+import com.epam.application.port.ConsistencyToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the {@link ReadConsistency} requirement of the calling thread to the application layer.
+ */
+@Component
+public class RequestConsistencyToken implements ConsistencyToken {
+
+    @Override
+    public long requiredPosition() {
+        return ReadConsistency.requiredPosition();
+    }
+}
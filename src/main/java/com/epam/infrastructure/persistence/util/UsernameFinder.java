@@ -23,6 +23,16 @@ public final class UsernameFinder {
                 .max(Comparator.comparingLong(u -> getSerialNumberForComparison(u, prefix)));
     }
 
+    /**
+     * Returns the highest serial already used for {@code prefix}, {@code 0} for the bare prefix, or {@code -1} when
+     * no username starts with it.
+     */
+    public static long findLatestSerial(Collection<String> usernames, String prefix) {
+        return findLatestUsername(usernames, prefix, Function.identity())
+                .map(username -> getSerialNumberForComparison(username, prefix))
+                .orElse(-1L);
+    }
+
     private static long getSerialNumberForComparison(String username, String prefix) {
         String serialPart = username.substring(prefix.length());
         if (serialPart.isEmpty()) return 0L;
@@ -1,28 +1,41 @@
 package com.epam.infrastructure.security.provider;
 
-import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import com.epam.infrastructure.security.authentication_token.JwtAuthenticationToken;
 import com.epam.infrastructure.security.core.TokenData;
 import com.epam.infrastructure.security.port.out.TokenService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 public class JwtAuthenticationProvider implements AuthenticationProvider {
 
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final TokenService tokenService;
 
+    private final Set<String> adminUsernames;
+
+    /**
+     * @param adminUsernames the users granted {@code ROLE_ADMIN}, which bulk registration requires
+     */
     @Autowired
-    public JwtAuthenticationProvider(TokenService tokenService) {
+    public JwtAuthenticationProvider(
+            TokenService tokenService, @Value("${security.admin.usernames:}") Set<String> adminUsernames) {
         this.tokenService = tokenService;
+        this.adminUsernames = adminUsernames;
     }
 
     @Override
@@ -32,7 +45,9 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
         try {
             TokenData tokenData = tokenService.validateToken(token);
             log.debug("Token successfully validated for user: {}", tokenData.username());
-            return new UsernamePasswordAuthenticationToken(tokenData.username(), null, Collections.emptyList());
+            List<GrantedAuthority> authorities =
+                    adminUsernames.contains(tokenData.username()) ? ADMIN_AUTHORITIES : List.of();
+            return new UsernamePasswordAuthenticationToken(tokenData.username(), null, authorities);
         } catch (IllegalArgumentException e) {
             log.warn("Token parsing failed: {}", e.getMessage());
             throw new BadCredentialsException("Invalid token", e);
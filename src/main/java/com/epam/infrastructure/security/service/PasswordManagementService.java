@@ -2,10 +2,9 @@ package com.epam.infrastructure.security.service;
 
 import com.epam.application.exception.EntityNotFoundException;
 import com.epam.application.facade.GymFacade;
-import com.epam.domain.model.Trainee;
-import com.epam.domain.model.Trainer;
-import com.epam.domain.model.User;
+import com.epam.domain.model.UserRole;
 import com.epam.domain.port.UserRepository;
+import com.epam.domain.projection.UserCredentials;
 import com.epam.infrastructure.security.port.in.PasswordManagementUseCase;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,13 +35,14 @@ public class PasswordManagementService implements PasswordManagementUseCase {
     public void changePassword(String username, String oldPassword, String newPassword) {
         log.info("Password change request for user: {}", username);
 
-        User user = userRepository.findByUsername(username).orElseThrow(() -> {
+        // Only the hash and role are needed, so the profile is never loaded
+        UserCredentials user = userRepository.findCredentials(username).orElseThrow(() -> {
             log.error("User not found: {}", username);
             return new EntityNotFoundException(String.format("User not found with username: %s", username));
         });
 
         // Verify old password
-        if (!passwordEncoder.matches(oldPassword, user.getPassword())) {
+        if (!passwordEncoder.matches(oldPassword, user.password())) {
             log.warn("Invalid old password provided for user: {}", username);
             throw new BadCredentialsException("Current password is incorrect");
         }
@@ -51,15 +51,14 @@ public class PasswordManagementService implements PasswordManagementUseCase {
         log.info("Password successfully changed for user: {}", username);
     }
 
-    private void updatePasswordByUserType(User user, String newPassword) {
-        if (user instanceof Trainee) {
-            gymFacade.updateTraineePassword(user.getUsername(), newPassword);
-        } else if (user instanceof Trainer) {
-            gymFacade.updateTrainerPassword(user.getUsername(), newPassword);
+    private void updatePasswordByUserType(UserCredentials user, String newPassword) {
+        if (user.role() == UserRole.TRAINEE) {
+            gymFacade.updateTraineePassword(user.username(), newPassword);
+        } else if (user.role() == UserRole.TRAINER) {
+            gymFacade.updateTrainerPassword(user.username(), newPassword);
         } else {
-            log.error("Unsupported user type: {}", user.getClass().getSimpleName());
-            throw new IllegalStateException(
-                    String.format("Unsupported user type: %s", user.getClass().getSimpleName()));
+            log.error("Unsupported user type: {}", user.role());
+            throw new IllegalStateException(String.format("Unsupported user type: %s", user.role()));
         }
     }
 }
@@ -5,13 +5,17 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.epam.application.exception.CapacityExceededException;
 import com.epam.application.exception.EntityNotFoundException;
 import com.epam.application.exception.ValidationException;
+import com.epam.application.exception.VersionConflictException;
 import com.epam.infrastructure.logging.MdcConstants;
 import com.epam.interfaces.web.dto.response.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.concurrent.CircuitBreakingException;
 import org.slf4j.MDC;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -107,6 +111,30 @@ class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, WebRequest request) {
+
+        logExceptionAsWarning(ex, request);
+
+        // The driver message names tables and constraints, so it is not echoed back to the client
+        ErrorResponse errorResponse = buildErrorResponse(
+                HttpStatus.CONFLICT, "Conflict", "The request conflicts with existing data", request);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflictException(
+            VersionConflictException ex, WebRequest request) {
+
+        logExceptionAsWarning(ex, request);
+
+        ErrorResponse errorResponse = buildErrorResponse(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), request);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(CircuitBreakingException.class)
     public ResponseEntity<ErrorResponse> handleCircuitBreakerException(
             CircuitBreakingException ex, WebRequest request) {
@@ -119,6 +147,20 @@ class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
     }
 
+    @ExceptionHandler(CapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleCapacityExceededException(
+            CapacityExceededException ex, WebRequest request) {
+
+        logExceptionAsWarning(ex, request);
+
+        ErrorResponse errorResponse = buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE, "Service is current unavailable", ex.getMessage(), request);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(MissingRequestHeaderException.class)
     public ResponseEntity<ErrorResponse> handleMissingRequestHeaderException(
             MissingRequestHeaderException ex, WebRequest request) {
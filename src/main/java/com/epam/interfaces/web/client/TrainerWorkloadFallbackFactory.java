@@ -2,8 +2,10 @@ package com.epam.interfaces.web.client;
 
 import java.util.Collections;
 
+import com.epam.application.facade.GymFacade;
 import com.epam.interfaces.web.client.response.TrainerSummaryResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.openfeign.FallbackFactory;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +13,13 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class TrainerWorkloadFallbackFactory implements FallbackFactory<TrainerWorkloadClient> {
 
+    private final GymFacade gymFacade;
+
+    @Autowired
+    public TrainerWorkloadFallbackFactory(GymFacade gymFacade) {
+        this.gymFacade = gymFacade;
+    }
+
     @Override
     public TrainerWorkloadClient create(Throwable cause) {
         return new TrainerWorkloadClient() {
@@ -18,9 +27,14 @@ public class TrainerWorkloadFallbackFactory implements FallbackFactory<TrainerWo
             public TrainerSummaryResponse getTrainerSummary(String username) {
                 log.warn("Fallback: Unable to get trainer summary for {}, reason: {}", username, cause.getMessage());
 
-                // Empty response
-                return new TrainerSummaryResponse(
-                        username, "Unavailable", "Unavailable", false, Collections.emptyList());
+                // The local monthly totals are kept in step with the trainings, so they answer in the remote's place
+                try {
+                    return TrainerSummaryResponse.fromWorkload(gymFacade.getTrainerWorkload(username));
+                } catch (RuntimeException e) {
+                    log.warn("Fallback: No local workload for {}, reason: {}", username, e.getMessage());
+                    return new TrainerSummaryResponse(
+                            username, "Unavailable", "Unavailable", false, Collections.emptyList());
+                }
             }
         };
     }
@@ -1,6 +1,31 @@
 package com.epam.interfaces.web.client.response;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+
+import com.epam.domain.projection.TrainerWorkloadSummary;
 
 public record TrainerSummaryResponse(
-        String username, String firstName, String lastName, boolean status, List<YearSummaryDTO> years) {}
+        String username, String firstName, String lastName, boolean status, List<YearSummaryDTO> years) {
+
+    /**
+     * Builds the workload service's response shape from the local monthly totals.
+     */
+    public static TrainerSummaryResponse fromWorkload(TrainerWorkloadSummary summary) {
+        List<YearSummaryDTO> years = new ArrayList<>();
+        List<MonthSummaryDTO> months = null;
+        int year = 0;
+        for (Map.Entry<YearMonth, Long> entry : summary.minutesByMonth().entrySet()) {
+            if (months == null || entry.getKey().getYear() != year) {
+                year = entry.getKey().getYear();
+                months = new ArrayList<>();
+                years.add(new YearSummaryDTO(year, months));
+            }
+            months.add(new MonthSummaryDTO(entry.getKey().getMonth().name(), entry.getValue()));
+        }
+        return new TrainerSummaryResponse(
+                summary.username(), summary.firstName(), summary.lastName(), summary.active(), years);
+    }
+}
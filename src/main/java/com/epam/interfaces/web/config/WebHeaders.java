@@ -0,0 +1,15 @@
+package com.epam.interfaces.web.config;
+
+/**
+ * Custom HTTP headers shared by the REST controllers.
+ */
+public final class WebHeaders {
+
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    public static final String CONSISTENCY_TOKEN = "X-Consistency-Token";
+
+    private WebHeaders() {
+        throw new AssertionError("Cannot instantiate constants class");
+    }
+}
@@ -1,9 +1,11 @@
 package com.epam.interfaces.web.controller.api;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.interfaces.web.dto.request.TraineeBatchRegistrationRequest;
 import com.epam.interfaces.web.dto.request.TraineeRegistrationRequest;
 import com.epam.interfaces.web.dto.request.UpdateTraineeRequest;
 import com.epam.interfaces.web.dto.request.UpdateTraineeTrainersRequest;
@@ -14,6 +16,7 @@ import com.epam.interfaces.web.dto.response.TraineeResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 
@@ -23,14 +26,26 @@ public interface TraineeControllerApi {
     @Operation(summary = "Register Trainee", description = "Create a new trainee profile")
     ResponseEntity<CredentialsResponse> register(@Valid TraineeRegistrationRequest request);
 
-    @Operation(summary = "Get Trainee Profile", description = "Retrieve trainee profile by username")
+    @Operation(
+            summary = "Register Trainees in Bulk",
+            description = "Create up to 10000 trainee profiles in one request and return their credentials in "
+                    + "request order. Restricted to the administrators listed in security.admin.usernames")
+    ResponseEntity<List<CredentialsResponse>> registerAll(@Valid TraineeBatchRegistrationRequest request);
+
+    @Operation(
+            summary = "Get Trainee Profile",
+            description = "Retrieve trainee profile by username. The ETag header carries the change version")
     ResponseEntity<TraineeResponse> getProfile(
-            @Parameter(description = "Trainee username", required = true) String username);
+            @Parameter(description = "Trainee username", required = true) String username,
+            @Parameter(description = "ETag of a previous response; 304 without a body when nothing changed since")
+                    String ifNoneMatch);
 
     @Operation(summary = "Update Trainee Profile", description = "Update trainee profile information")
     ResponseEntity<TraineeResponse> updateTraineeProfile(
             @Parameter(description = "Trainee username", required = true) String username,
-            @Valid UpdateTraineeRequest request);
+            @Valid UpdateTraineeRequest request,
+            @Parameter(description = "ETag of the profile this update is based on; 409 when it is no longer current")
+                    String ifMatch);
 
     @Operation(summary = "Delete Trainee Profile", description = "Delete trainee profile and associated trainings")
     ResponseEntity<Void> deleteTraineeProfile(
@@ -38,20 +53,42 @@ public interface TraineeControllerApi {
 
     @Operation(summary = "Get Available Trainers", description = "Get active trainers not assigned to this trainee")
     ResponseEntity<List<EmbeddedTrainerResponse>> getAvailableTrainers(
-            @Parameter(description = "Trainee username", required = true) String username);
+            @Parameter(description = "Trainee username", required = true) String username,
+            @Parameter(description = "Maximum number of trainers per page") int limit,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page") String cursor);
 
     @Operation(summary = "Update Trainee's Trainers", description = "Update the list of trainers assigned to trainee")
     ResponseEntity<List<EmbeddedTrainerResponse>> updateTrainers(
             @Parameter(description = "Trainee username", required = true) String username,
-            @Valid UpdateTraineeTrainersRequest request);
+            @Valid UpdateTraineeTrainersRequest request,
+            @Parameter(description = "ETag of the profile this update is based on; 409 when it is no longer current")
+                    String ifMatch);
 
-    @Operation(summary = "Get Trainee Trainings", description = "Retrieve trainee's training history with filters")
+    @Operation(
+            summary = "Get Trainee Trainings",
+            description = "Retrieve a page of the trainee's training history with filters")
     ResponseEntity<List<EmbeddedTraineeTrainingResponse>> getTrainings(
             @Parameter(description = "Trainee username", required = true) String username,
             @Parameter(description = "Period start date") LocalDateTime periodFrom,
             @Parameter(description = "Period end date") LocalDateTime periodTo,
             @Parameter(description = "Trainer name filter") String trainerName,
-            @Parameter(description = "Training type filter") TrainingTypeEnum trainingType);
+            @Parameter(description = "Training type filter") TrainingTypeEnum trainingType,
+            @Parameter(description = "Maximum number of trainings per page") int limit,
+            @Parameter(description = "Opaque cursor from the X-Next-Cursor header of the previous page") String cursor,
+            @Parameter(description = "ETag of a previous response; 304 without a body when nothing changed since")
+                    String ifNoneMatch);
+
+    @Operation(
+            summary = "Export Trainee Trainings",
+            description = "Stream the trainee's full training history as newline-delimited JSON")
+    void exportTrainings(
+            @Parameter(description = "Trainee username", required = true) String username,
+            @Parameter(description = "Period start date") LocalDateTime periodFrom,
+            @Parameter(description = "Period end date") LocalDateTime periodTo,
+            @Parameter(description = "Trainer name filter") String trainerName,
+            @Parameter(description = "Training type filter") TrainingTypeEnum trainingType,
+            @Parameter(hidden = true) HttpServletResponse response)
+            throws IOException;
 
     @Operation(summary = "Activate/Deactivate Trainee", description = "Change trainee active status")
     ResponseEntity<Void> toggleActivation(
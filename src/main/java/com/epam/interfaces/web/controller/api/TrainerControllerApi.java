@@ -1,8 +1,11 @@
 package com.epam.interfaces.web.controller.api;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.epam.interfaces.web.client.response.TrainerSummaryResponse;
+import com.epam.interfaces.web.dto.request.TrainerBatchRegistrationRequest;
 import com.epam.interfaces.web.dto.request.TrainerRegistrationRequest;
 import com.epam.interfaces.web.dto.request.UpdateTrainerRequest;
 import com.epam.interfaces.web.dto.response.CredentialsResponse;
@@ -11,6 +14,7 @@ import com.epam.interfaces.web.dto.response.TrainerResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 
@@ -20,23 +24,56 @@ public interface TrainerControllerApi {
     @Operation(summary = "Register Trainer", description = "Create a new trainer profile")
     ResponseEntity<CredentialsResponse> register(@Valid TrainerRegistrationRequest request);
 
-    @Operation(summary = "Get Trainer Profile", description = "Retrieve trainer profile by username")
+    @Operation(
+            summary = "Register Trainers in Bulk",
+            description = "Create up to 10000 trainer profiles in one request and return their credentials in "
+                    + "request order. Restricted to the administrators listed in security.admin.usernames")
+    ResponseEntity<List<CredentialsResponse>> registerAll(@Valid TrainerBatchRegistrationRequest request);
+
+    @Operation(
+            summary = "Get Trainer Profile",
+            description = "Retrieve trainer profile by username. The ETag header carries the change version")
     ResponseEntity<TrainerResponse> getProfile(
-            @Parameter(description = "Trainer username", required = true) String username);
+            @Parameter(description = "Trainer username", required = true) String username,
+            @Parameter(description = "ETag of a previous response; 304 without a body when nothing changed since")
+                    String ifNoneMatch);
 
     @Operation(summary = "Update Trainer Profile", description = "Update trainer profile information")
     ResponseEntity<TrainerResponse> updateProfile(
             @Parameter(description = "Trainer username", required = true) String username,
-            @Valid UpdateTrainerRequest request);
+            @Valid UpdateTrainerRequest request,
+            @Parameter(description = "ETag of the profile this update is based on; 409 when it is no longer current")
+                    String ifMatch);
 
     @Operation(
             summary = "Get Trainer Trainings",
-            description = "Retrieve trainer's training list with optional filters")
+            description = "Retrieve a page of the trainer's training list with optional filters")
     ResponseEntity<List<EmbeddedTrainerTrainingResponse>> getTrainings(
             @Parameter(description = "Trainer username", required = true) String username,
             @Parameter(description = "Period start date") LocalDateTime periodFrom,
             @Parameter(description = "Period end date") LocalDateTime periodTo,
-            @Parameter(description = "Trainee name filter") String traineeName);
+            @Parameter(description = "Trainee name filter") String traineeName,
+            @Parameter(description = "Maximum number of trainings per page") int limit,
+            @Parameter(description = "Opaque cursor from the X-Next-Cursor header of the previous page") String cursor,
+            @Parameter(description = "ETag of a previous response; 304 without a body when nothing changed since")
+                    String ifNoneMatch);
+
+    @Operation(
+            summary = "Export Trainer Trainings",
+            description = "Stream the trainer's full training history as newline-delimited JSON")
+    void exportTrainings(
+            @Parameter(description = "Trainer username", required = true) String username,
+            @Parameter(description = "Period start date") LocalDateTime periodFrom,
+            @Parameter(description = "Period end date") LocalDateTime periodTo,
+            @Parameter(description = "Trainee name filter") String traineeName,
+            @Parameter(hidden = true) HttpServletResponse response)
+            throws IOException;
+
+    @Operation(
+            summary = "Get Trainer Workload",
+            description = "Retrieve the trainer's training minutes per month from the local workload totals")
+    ResponseEntity<TrainerSummaryResponse> getWorkload(
+            @Parameter(description = "Trainer username", required = true) String username);
 
     @Operation(summary = "Activate/Deactivate Trainer", description = "Change trainer active status")
     ResponseEntity<Void> toggleActivation(
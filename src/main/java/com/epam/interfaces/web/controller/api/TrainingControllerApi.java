@@ -1,7 +1,9 @@
 package com.epam.interfaces.web.controller.api;
 
+import com.epam.interfaces.web.dto.request.AddTrainingBatchRequest;
 import com.epam.interfaces.web.dto.request.AddTrainingRequest;
 import com.epam.interfaces.web.dto.request.DeleteTrainingRequest;
+import com.epam.interfaces.web.dto.response.TrainingBatchResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -15,6 +17,12 @@ public interface TrainingControllerApi {
             description = "Create a new training session, training type is determined by the trainer's specialization")
     ResponseEntity<Void> addTraining(@Valid AddTrainingRequest request);
 
+    @Operation(
+            summary = "Add Trainings in Bulk",
+            description = "Create up to 500 training sessions in one request; each item is accepted or rejected "
+                    + "individually and reported by its position in the batch")
+    ResponseEntity<TrainingBatchResponse> addTrainings(@Valid AddTrainingBatchRequest request);
+
     @Operation(summary = "Delete Training", description = "Delete a training session")
     ResponseEntity<Void> deleteTraining(@Valid DeleteTrainingRequest request);
 }
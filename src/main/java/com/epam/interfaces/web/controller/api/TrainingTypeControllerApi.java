@@ -1,15 +1,25 @@
 package com.epam.interfaces.web.controller.api;
 
-import java.util.List;
-
 import com.epam.interfaces.web.dto.response.TrainingTypeResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 @Tag(name = "Training Types", description = "Training type operations")
 public interface TrainingTypeControllerApi {
 
     @Operation(summary = "Get Training Types", description = "Retrieve all available training types")
-    ResponseEntity<List<TrainingTypeResponse>> getTrainingTypes();
+    @ApiResponse(
+            responseCode = "200",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = TrainingTypeResponse.class))))
+    ResponseEntity<byte[]> getTrainingTypes() throws JsonProcessingException;
 }
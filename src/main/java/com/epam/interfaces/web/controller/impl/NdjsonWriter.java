@@ -0,0 +1,37 @@
+package com.epam.interfaces.web.controller.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes each accepted value as one compact JSON line, so exports go straight to the servlet output stream.
+ */
+final class NdjsonWriter<T> implements Consumer<T> {
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final ObjectWriter writer;
+
+    private final OutputStream out;
+
+    NdjsonWriter(ObjectMapper objectMapper, Class<T> type, OutputStream out) {
+        this.writer = objectMapper.writerFor(type).without(SerializationFeature.INDENT_OUTPUT);
+        this.out = out;
+    }
+
+    @Override
+    public void accept(T value) {
+        try {
+            out.write(writer.writeValueAsBytes(value));
+            out.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write export line", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.epam.interfaces.web.controller.impl;
+
+/**
+ * Request parameter defaults shared by the keyset-paginated list endpoints, which take a {@code limit} and an opaque
+ * {@code cursor}.
+ */
+final class PagingParams {
+
+    /**
+     * Page size used when a request has no {@code limit}; the services cap it at
+     * {@link com.epam.application.util.PagingUtil#MAX_PAGE_SIZE}.
+     */
+    static final String DEFAULT_LIMIT = "50";
+
+    private PagingParams() {}
+}
@@ -0,0 +1,83 @@
+package com.epam.interfaces.web.controller.impl;
+
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Maps a user's change version to strong entity tags and back. A tag is the version number in quotes, and it is shared
+ * by the user's profile and training reads, since the version covers both.
+ */
+final class ProfileETags {
+
+    private static final String ANY = "*";
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ProfileETags() {}
+
+    /**
+     * A 200 response builder carrying the entity tag, when the version is known.
+     */
+    static ResponseEntity.BodyBuilder ok(Long version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (version != null) {
+            builder.eTag(tag(version));
+        }
+        return builder;
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header names the current version. The header may list several tags and, as the
+     * HTTP spec asks for this header, weak tags are compared by their value.
+     */
+    static boolean unchanged(String ifNoneMatch, long version) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        String current = tag(version);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (ANY.equals(tag) || current.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * An empty 304 response repeating the current entity tag.
+     */
+    static <T> ResponseEntity<T> notModified(long version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag(version)).build();
+    }
+
+    /**
+     * The version an {@code If-Match} header requires, or empty when the header is absent or {@code *}. Weak or
+     * malformed tags are rejected, since {@code If-Match} only compares strong ones.
+     */
+    static Optional<Long> expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return Optional.empty();
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a single strong entity tag: " + ifMatch);
+        }
+        try {
+            return Optional.of(Long.parseLong(tag.substring(1, tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unknown entity tag in If-Match: " + ifMatch, e);
+        }
+    }
+
+    private static String tag(long version) {
+        return "\"" + version + "\"";
+    }
+}
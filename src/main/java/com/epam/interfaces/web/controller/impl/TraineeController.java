@@ -1,5 +1,7 @@
 package com.epam.interfaces.web.controller.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -7,10 +9,17 @@ import java.util.Optional;
 import com.epam.application.facade.GymFacade;
 import com.epam.application.request.CreateTraineeProfileRequest;
 import com.epam.application.request.UpdateTraineeProfileRequest;
+import com.epam.domain.AssignedTrainers;
+import com.epam.domain.TrainerPage;
+import com.epam.domain.TrainingCursor;
 import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Trainee;
 import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.interfaces.web.config.WebHeaders;
 import com.epam.interfaces.web.controller.api.TraineeControllerApi;
+import com.epam.interfaces.web.dto.request.TraineeBatchRegistrationRequest;
 import com.epam.interfaces.web.dto.request.TraineeRegistrationRequest;
 import com.epam.interfaces.web.dto.request.UpdateTraineeRequest;
 import com.epam.interfaces.web.dto.request.UpdateTraineeTrainersRequest;
@@ -18,9 +27,13 @@ import com.epam.interfaces.web.dto.response.CredentialsResponse;
 import com.epam.interfaces.web.dto.response.EmbeddedTraineeTrainingResponse;
 import com.epam.interfaces.web.dto.response.EmbeddedTrainerResponse;
 import com.epam.interfaces.web.dto.response.TraineeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -30,6 +43,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -40,9 +54,12 @@ public class TraineeController implements TraineeControllerApi {
 
     private final GymFacade gymFacade;
 
+    private final ObjectMapper objectMapper;
+
     @Autowired
-    public TraineeController(GymFacade gymFacade) {
+    public TraineeController(GymFacade gymFacade, ObjectMapper objectMapper) {
         this.gymFacade = gymFacade;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -56,12 +73,37 @@ public class TraineeController implements TraineeControllerApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Override
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CredentialsResponse>> registerAll(
+            @Valid @RequestBody TraineeBatchRegistrationRequest request) {
+        List<CreateTraineeProfileRequest> createRequests = request.trainees().stream()
+                .map(trainee -> new CreateTraineeProfileRequest(
+                        trainee.firstName(), trainee.lastName(), true, trainee.dateOfBirth(), trainee.address()))
+                .toList();
+        List<CredentialsResponse> response = gymFacade.createTraineeProfiles(createRequests).stream()
+                .map(trainee -> new CredentialsResponse(trainee.getUsername(), trainee.getPassword()))
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @Override
     @GetMapping("/{username}")
     @PreAuthorize("#username == authentication.name")
-    public ResponseEntity<TraineeResponse> getProfile(@PathVariable String username) {
-        Trainee trainee = gymFacade.getTraineeByUsername(username);
-        List<EmbeddedTrainerResponse> trainers = gymFacade.getTraineeTrainers(username).stream()
+    public ResponseEntity<TraineeResponse> getProfile(
+            @PathVariable String username,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Only answers If-None-Match: the tag sent with a body is the version that body was read at, which a write
+        // landing in between may have moved past this one
+        long version = gymFacade.getTraineeChangeVersion(username);
+        if (ProfileETags.unchanged(ifNoneMatch, version)) {
+            return ProfileETags.notModified(version);
+        }
+
+        TraineeProfile profile = gymFacade.getTraineeProfile(username, version);
+        Trainee trainee = profile.trainee();
+        List<EmbeddedTrainerResponse> trainers = profile.trainers().stream()
                 .map(EmbeddedTrainerResponse::toEmbeddedTrainer)
                 .toList();
         TraineeResponse response = new TraineeResponse(
@@ -72,14 +114,16 @@ public class TraineeController implements TraineeControllerApi {
                 trainee.getAddress(),
                 trainee.getActive(),
                 trainers);
-        return ResponseEntity.ok(response);
+        return ProfileETags.ok(trainee.getVersion()).body(response);
     }
 
     @Override
     @PutMapping("/{username}")
     @PreAuthorize("#username == authentication.name")
     public ResponseEntity<TraineeResponse> updateTraineeProfile(
-            @PathVariable String username, @Valid @RequestBody UpdateTraineeRequest request) {
+            @PathVariable String username,
+            @Valid @RequestBody UpdateTraineeRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         UpdateTraineeProfileRequest updateProfileRequest = new UpdateTraineeProfileRequest(
                 username,
                 Optional.of(request.firstName()),
@@ -87,10 +131,12 @@ public class TraineeController implements TraineeControllerApi {
                 Optional.empty(),
                 Optional.of(request.active()),
                 Optional.ofNullable(request.dateOfBirth()),
-                Optional.ofNullable(request.address()));
-        Trainee trainee = gymFacade.updateTraineeProfile(updateProfileRequest);
+                Optional.ofNullable(request.address()),
+                ProfileETags.expectedVersion(ifMatch));
+        TraineeProfile profile = gymFacade.updateTraineeProfileWithTrainers(updateProfileRequest);
+        Trainee trainee = profile.trainee();
 
-        List<EmbeddedTrainerResponse> trainers = gymFacade.getTraineeTrainers(username).stream()
+        List<EmbeddedTrainerResponse> trainers = profile.trainers().stream()
                 .map(EmbeddedTrainerResponse::toEmbeddedTrainer)
                 .toList();
 
@@ -103,7 +149,7 @@ public class TraineeController implements TraineeControllerApi {
                 trainee.getActive(),
                 trainers);
 
-        return ResponseEntity.ok(response);
+        return ProfileETags.ok(trainee.getVersion()).body(response);
     }
 
     @Override
@@ -117,23 +163,33 @@ public class TraineeController implements TraineeControllerApi {
     @Override
     @GetMapping("/{username}/available-trainers")
     @PreAuthorize("#username == authentication.name")
-    public ResponseEntity<List<EmbeddedTrainerResponse>> getAvailableTrainers(@PathVariable String username) {
-        List<EmbeddedTrainerResponse> response = gymFacade.getTraineeUnassignedTrainers(username).stream()
+    public ResponseEntity<List<EmbeddedTrainerResponse>> getAvailableTrainers(
+            @PathVariable String username,
+            @RequestParam(defaultValue = PagingParams.DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) String cursor) {
+        TrainerPage page = gymFacade.getTraineeUnassignedTrainers(username, Optional.ofNullable(cursor), limit);
+        List<EmbeddedTrainerResponse> response = page.trainers().stream()
                 .map(EmbeddedTrainerResponse::toEmbeddedTrainer)
                 .toList();
-        return ResponseEntity.ok(response);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        page.nextCursor().ifPresent(next -> builder.header(WebHeaders.NEXT_CURSOR, next));
+        return builder.body(response);
     }
 
     @Override
     @PutMapping("/{username}/trainers")
     @PreAuthorize("#username == authentication.name")
     public ResponseEntity<List<EmbeddedTrainerResponse>> updateTrainers(
-            @PathVariable String username, @Valid @RequestBody UpdateTraineeTrainersRequest request) {
-        gymFacade.updateTraineeTrainersList(username, request.trainerUsernames());
-        List<EmbeddedTrainerResponse> response = gymFacade.getTraineeTrainers(username).stream()
+            @PathVariable String username,
+            @Valid @RequestBody UpdateTraineeTrainersRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        AssignedTrainers assigned = gymFacade.updateTraineeTrainersList(
+                username, request.trainerUsernames(), ProfileETags.expectedVersion(ifMatch));
+        List<EmbeddedTrainerResponse> response = assigned.trainers().stream()
                 .map(EmbeddedTrainerResponse::toEmbeddedTrainer)
                 .toList();
-        return ResponseEntity.ok(response);
+        return ProfileETags.ok(assigned.version()).body(response);
     }
 
     @Override
@@ -144,16 +200,58 @@ public class TraineeController implements TraineeControllerApi {
             @RequestParam(required = false) LocalDateTime periodFrom,
             @RequestParam(required = false) LocalDateTime periodTo,
             @RequestParam(required = false) String trainerName,
-            @RequestParam(required = false) TrainingTypeEnum trainingType) {
+            @RequestParam(required = false) TrainingTypeEnum trainingType,
+            @RequestParam(defaultValue = PagingParams.DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long version = gymFacade.getTraineeChangeVersion(username);
+        if (ProfileETags.unchanged(ifNoneMatch, version)) {
+            return ProfileETags.notModified(version);
+        }
+
         TrainingFilter filter = TrainingFilter.forTrainee(
                 Optional.ofNullable(periodFrom),
                 Optional.ofNullable(periodTo),
                 Optional.ofNullable(trainerName),
                 Optional.ofNullable(trainingType));
-        List<EmbeddedTraineeTrainingResponse> response = gymFacade.getTraineeTrainings(username, filter).stream()
+        TrainingPage page = gymFacade.getTraineeTrainings(
+                username, filter, Optional.ofNullable(cursor).map(TrainingCursor::decode), limit, version);
+        List<EmbeddedTraineeTrainingResponse> response = page.trainings().stream()
                 .map(EmbeddedTraineeTrainingResponse::toEmbeddedTraining)
                 .toList();
-        return ResponseEntity.ok(response);
+
+        ResponseEntity.BodyBuilder builder = ProfileETags.ok(version);
+        page.nextCursor().ifPresent(next -> builder.header(WebHeaders.NEXT_CURSOR, next.encode()));
+        return builder.body(response);
+    }
+
+    @Override
+    @GetMapping(value = "/{username}/trainings/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("#username == authentication.name")
+    public void exportTrainings(
+            @PathVariable String username,
+            @RequestParam(required = false) LocalDateTime periodFrom,
+            @RequestParam(required = false) LocalDateTime periodTo,
+            @RequestParam(required = false) String trainerName,
+            @RequestParam(required = false) TrainingTypeEnum trainingType,
+            HttpServletResponse response)
+            throws IOException {
+        TrainingFilter filter = TrainingFilter.forTrainee(
+                Optional.ofNullable(periodFrom),
+                Optional.ofNullable(periodTo),
+                Optional.ofNullable(trainerName),
+                Optional.ofNullable(trainingType));
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        NdjsonWriter<EmbeddedTraineeTrainingResponse> writer =
+                new NdjsonWriter<>(objectMapper, EmbeddedTraineeTrainingResponse.class, out);
+
+        gymFacade.streamTraineeTrainings(
+                username,
+                filter,
+                training -> writer.accept(EmbeddedTraineeTrainingResponse.toEmbeddedTraining(training)));
+        out.flush();
     }
 
     @Override
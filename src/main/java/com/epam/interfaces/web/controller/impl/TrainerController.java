@@ -1,5 +1,7 @@
 package com.epam.interfaces.web.controller.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -7,18 +9,28 @@ import java.util.Optional;
 import com.epam.application.facade.GymFacade;
 import com.epam.application.request.CreateTrainerProfileRequest;
 import com.epam.application.request.UpdateTrainerProfileRequest;
+import com.epam.domain.TrainingCursor;
 import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Trainer;
+import com.epam.domain.projection.TrainerProfile;
+import com.epam.interfaces.web.client.response.TrainerSummaryResponse;
+import com.epam.interfaces.web.config.WebHeaders;
 import com.epam.interfaces.web.controller.api.TrainerControllerApi;
+import com.epam.interfaces.web.dto.request.TrainerBatchRegistrationRequest;
 import com.epam.interfaces.web.dto.request.TrainerRegistrationRequest;
 import com.epam.interfaces.web.dto.request.UpdateTrainerRequest;
 import com.epam.interfaces.web.dto.response.CredentialsResponse;
 import com.epam.interfaces.web.dto.response.EmbeddedTraineeResponse;
 import com.epam.interfaces.web.dto.response.EmbeddedTrainerTrainingResponse;
 import com.epam.interfaces.web.dto.response.TrainerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,6 +39,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -37,9 +50,12 @@ public class TrainerController implements TrainerControllerApi {
 
     private final GymFacade gymFacade;
 
+    private final ObjectMapper objectMapper;
+
     @Autowired
-    public TrainerController(GymFacade gymFacade) {
+    public TrainerController(GymFacade gymFacade, ObjectMapper objectMapper) {
         this.gymFacade = gymFacade;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -55,13 +71,38 @@ public class TrainerController implements TrainerControllerApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Override
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CredentialsResponse>> registerAll(
+            @Valid @RequestBody TrainerBatchRegistrationRequest request) {
+        List<CreateTrainerProfileRequest> createRequests = request.trainers().stream()
+                .map(trainer -> new CreateTrainerProfileRequest(
+                        trainer.firstName(), trainer.lastName(), true, trainer.specialization()))
+                .toList();
+        List<CredentialsResponse> response = gymFacade.createTrainerProfiles(createRequests).stream()
+                .map(trainer -> new CredentialsResponse(trainer.getUsername(), trainer.getPassword()))
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @Override
     @GetMapping("/{username}")
     @PreAuthorize("#username == authentication.name")
-    public ResponseEntity<TrainerResponse> getProfile(@PathVariable String username) {
-        Trainer trainer = gymFacade.getTrainerByUsername(username);
-
-        List<EmbeddedTraineeResponse> trainees = gymFacade.getTrainerTrainees(username).stream()
+    public ResponseEntity<TrainerResponse> getProfile(
+            @PathVariable String username,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Only answers If-None-Match: the tag sent with a body is the version that body was read at, which a write
+        // landing in between may have moved past this one
+        long version = gymFacade.getTrainerChangeVersion(username);
+        if (ProfileETags.unchanged(ifNoneMatch, version)) {
+            return ProfileETags.notModified(version);
+        }
+
+        TrainerProfile profile = gymFacade.getTrainerProfile(username, version);
+        Trainer trainer = profile.trainer();
+
+        List<EmbeddedTraineeResponse> trainees = profile.trainees().stream()
                 .map(EmbeddedTraineeResponse::toEmbeddedTrainee)
                 .toList();
 
@@ -72,14 +113,16 @@ public class TrainerController implements TrainerControllerApi {
                 trainer.getSpecialization().getTrainingTypeName(),
                 trainer.getActive(),
                 trainees);
-        return ResponseEntity.ok(trainerResponse);
+        return ProfileETags.ok(trainer.getVersion()).body(trainerResponse);
     }
 
     @Override
     @PutMapping("/{username}")
     @PreAuthorize("#username == authentication.name")
     public ResponseEntity<TrainerResponse> updateProfile(
-            @PathVariable String username, @Valid @RequestBody UpdateTrainerRequest request) {
+            @PathVariable String username,
+            @Valid @RequestBody UpdateTrainerRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         UpdateTrainerProfileRequest updateProfileRequest = new UpdateTrainerProfileRequest(
                 username,
@@ -87,11 +130,13 @@ public class TrainerController implements TrainerControllerApi {
                 Optional.of(request.lastName()),
                 Optional.empty(),
                 Optional.of(request.active()),
-                Optional.of(request.specialization()));
+                Optional.of(request.specialization()),
+                ProfileETags.expectedVersion(ifMatch));
 
-        Trainer trainer = gymFacade.updateTrainerProfile(updateProfileRequest);
+        TrainerProfile profile = gymFacade.updateTrainerProfileWithTrainees(updateProfileRequest);
+        Trainer trainer = profile.trainer();
 
-        List<EmbeddedTraineeResponse> trainees = gymFacade.getTrainerTrainees(username).stream()
+        List<EmbeddedTraineeResponse> trainees = profile.trainees().stream()
                 .map(EmbeddedTraineeResponse::toEmbeddedTrainee)
                 .toList();
 
@@ -103,7 +148,7 @@ public class TrainerController implements TrainerControllerApi {
                 trainer.getActive(),
                 trainees);
 
-        return ResponseEntity.ok(response);
+        return ProfileETags.ok(trainer.getVersion()).body(response);
     }
 
     @Override
@@ -113,15 +158,59 @@ public class TrainerController implements TrainerControllerApi {
             @PathVariable String username,
             @RequestParam(required = false) LocalDateTime periodFrom,
             @RequestParam(required = false) LocalDateTime periodTo,
-            @RequestParam(required = false) String traineeName) {
+            @RequestParam(required = false) String traineeName,
+            @RequestParam(defaultValue = PagingParams.DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long version = gymFacade.getTrainerTrainingsVersion(username);
+        if (ProfileETags.unchanged(ifNoneMatch, version)) {
+            return ProfileETags.notModified(version);
+        }
+
         TrainingFilter filter = TrainingFilter.forTrainer(
                 Optional.ofNullable(periodFrom), Optional.ofNullable(periodTo), Optional.ofNullable(traineeName));
 
-        List<EmbeddedTrainerTrainingResponse> response = gymFacade.getTrainerTrainings(username, filter).stream()
+        TrainingPage page = gymFacade.getTrainerTrainings(
+                username, filter, Optional.ofNullable(cursor).map(TrainingCursor::decode), limit, version);
+        List<EmbeddedTrainerTrainingResponse> response = page.trainings().stream()
                 .map(EmbeddedTrainerTrainingResponse::toEmbeddedTraining)
                 .toList();
 
-        return ResponseEntity.ok(response);
+        ResponseEntity.BodyBuilder builder = ProfileETags.ok(version);
+        page.nextCursor().ifPresent(next -> builder.header(WebHeaders.NEXT_CURSOR, next.encode()));
+        return builder.body(response);
+    }
+
+    @Override
+    @GetMapping(value = "/{username}/trainings/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("#username == authentication.name")
+    public void exportTrainings(
+            @PathVariable String username,
+            @RequestParam(required = false) LocalDateTime periodFrom,
+            @RequestParam(required = false) LocalDateTime periodTo,
+            @RequestParam(required = false) String traineeName,
+            HttpServletResponse response)
+            throws IOException {
+        TrainingFilter filter = TrainingFilter.forTrainer(
+                Optional.ofNullable(periodFrom), Optional.ofNullable(periodTo), Optional.ofNullable(traineeName));
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        NdjsonWriter<EmbeddedTrainerTrainingResponse> writer =
+                new NdjsonWriter<>(objectMapper, EmbeddedTrainerTrainingResponse.class, out);
+
+        gymFacade.streamTrainerTrainings(
+                username,
+                filter,
+                training -> writer.accept(EmbeddedTrainerTrainingResponse.toEmbeddedTraining(training)));
+        out.flush();
+    }
+
+    @Override
+    @GetMapping("/{username}/workload")
+    @PreAuthorize("#username == authentication.name")
+    public ResponseEntity<TrainerSummaryResponse> getWorkload(@PathVariable String username) {
+        return ResponseEntity.ok(TrainerSummaryResponse.fromWorkload(gymFacade.getTrainerWorkload(username)));
     }
 
     @Override
@@ -1,12 +1,15 @@
 package com.epam.interfaces.web.controller.impl;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.epam.application.facade.GymFacade;
 import com.epam.application.request.CreateTrainingRequest;
 import com.epam.interfaces.web.controller.api.TrainingControllerApi;
+import com.epam.interfaces.web.dto.request.AddTrainingBatchRequest;
 import com.epam.interfaces.web.dto.request.AddTrainingRequest;
 import com.epam.interfaces.web.dto.request.DeleteTrainingRequest;
+import com.epam.interfaces.web.dto.response.TrainingBatchResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -32,17 +35,21 @@ public class TrainingController implements TrainingControllerApi {
     @PostMapping
     @PreAuthorize("#request.traineeUsername == authentication.name or #request.trainerUsername == authentication.name")
     public ResponseEntity<Void> addTraining(@Valid @RequestBody AddTrainingRequest request) {
-        CreateTrainingRequest createTrainingRequest = new CreateTrainingRequest(
-                request.trainingName(),
-                request.trainingDate(),
-                request.trainingDurationMin(),
-                Optional.empty(),
-                request.traineeUsername(),
-                request.trainerUsername());
-        gymFacade.createTraining(createTrainingRequest);
+        gymFacade.createTraining(toCreateTrainingRequest(request));
         return ResponseEntity.ok().build();
     }
 
+    @Override
+    @PostMapping("/batch")
+    @PreAuthorize("#request.trainings().?[traineeUsername != #root.authentication.name "
+            + "and trainerUsername != #root.authentication.name].isEmpty()")
+    public ResponseEntity<TrainingBatchResponse> addTrainings(@Valid @RequestBody AddTrainingBatchRequest request) {
+        List<CreateTrainingRequest> requests = request.trainings().stream()
+                .map(TrainingController::toCreateTrainingRequest)
+                .toList();
+        return ResponseEntity.ok(TrainingBatchResponse.toResponse(gymFacade.createTrainings(requests)));
+    }
+
     @Override
     @DeleteMapping
     @PreAuthorize("#request.traineeUsername == authentication.name or #request.trainerUsername == authentication.name")
@@ -50,4 +57,14 @@ public class TrainingController implements TrainingControllerApi {
         gymFacade.deleteTraining(request.traineeUsername(), request.trainerUsername(), request.trainingDate());
         return ResponseEntity.ok().build();
     }
+
+    private static CreateTrainingRequest toCreateTrainingRequest(AddTrainingRequest request) {
+        return new CreateTrainingRequest(
+                request.trainingName(),
+                request.trainingDate(),
+                request.trainingDurationMin(),
+                Optional.empty(),
+                request.traineeUsername(),
+                request.trainerUsername());
+    }
 }
@@ -1,11 +1,17 @@
 package com.epam.interfaces.web.controller.impl;
 
+import java.time.Duration;
 import java.util.List;
 
 import com.epam.application.facade.GymFacade;
+import com.epam.domain.model.TrainingType;
 import com.epam.interfaces.web.controller.api.TrainingTypeControllerApi;
 import com.epam.interfaces.web.dto.response.TrainingTypeResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,19 +21,41 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/training-types")
 public class TrainingTypeController implements TrainingTypeControllerApi {
 
+    private static final CacheControl CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+
     private final GymFacade gymFacade;
 
+    private final ObjectMapper objectMapper;
+
+    // The repository hands out the same list until the types change, so the body is serialized once per snapshot
+    private volatile SerializedTypes serialized;
+
     @Autowired
-    public TrainingTypeController(GymFacade gymFacade) {
+    public TrainingTypeController(GymFacade gymFacade, ObjectMapper objectMapper) {
         this.gymFacade = gymFacade;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     @GetMapping
-    public ResponseEntity<List<TrainingTypeResponse>> getTrainingTypes() {
-        List<TrainingTypeResponse> response = gymFacade.getTrainingTypes().stream()
-                .map(type -> new TrainingTypeResponse(type.getTrainingTypeId(), type.getTrainingTypeName()))
-                .toList();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getTrainingTypes() throws JsonProcessingException {
+        List<TrainingType> trainingTypes = gymFacade.getTrainingTypes();
+
+        SerializedTypes current = serialized;
+        if (current == null || current.source() != trainingTypes) {
+            List<TrainingTypeResponse> response = trainingTypes.stream()
+                    .map(type -> new TrainingTypeResponse(type.getTrainingTypeId(), type.getTrainingTypeName()))
+                    .toList();
+            current = new SerializedTypes(trainingTypes, objectMapper.writeValueAsBytes(response));
+            serialized = current;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CACHE_CONTROL)
+                .body(current.body());
     }
+
+    private record SerializedTypes(List<TrainingType> source, byte[] body) {}
 }
@@ -0,0 +1,13 @@
+package com.epam.interfaces.web.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record AddTrainingBatchRequest(
+        @NotEmpty(message = "Training list cannot be empty")
+                @Size(max = 500, message = "A batch must not exceed 500 trainings")
+                List<@Valid @NotNull(message = "Training cannot be null") AddTrainingRequest> trainings) {}
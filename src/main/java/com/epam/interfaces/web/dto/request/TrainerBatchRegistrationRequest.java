@@ -0,0 +1,13 @@
+package com.epam.interfaces.web.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record TrainerBatchRegistrationRequest(
+        @NotEmpty(message = "Trainer list cannot be empty")
+                @Size(max = 10_000, message = "A batch must not exceed 10000 trainers")
+                List<@Valid @NotNull(message = "Trainer cannot be null") TrainerRegistrationRequest> trainers) {}
@@ -1,10 +1,10 @@
 package com.epam.interfaces.web.dto.response;
 
-import com.epam.domain.model.Trainee;
+import com.epam.domain.projection.TraineeSummary;
 
 public record EmbeddedTraineeResponse(String username, String firstName, String lastName) {
 
-    public static EmbeddedTraineeResponse toEmbeddedTrainee(Trainee trainee) {
-        return new EmbeddedTraineeResponse(trainee.getUsername(), trainee.getFirstName(), trainee.getLastName());
+    public static EmbeddedTraineeResponse toEmbeddedTrainee(TraineeSummary trainee) {
+        return new EmbeddedTraineeResponse(trainee.username(), trainee.firstName(), trainee.lastName());
     }
 }
@@ -2,8 +2,8 @@ package com.epam.interfaces.web.dto.response;
 
 import java.time.LocalDateTime;
 
-import com.epam.domain.model.Training;
 import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TrainingSummary;
 
 public record EmbeddedTraineeTrainingResponse(
         String trainingName,
@@ -12,13 +12,12 @@ public record EmbeddedTraineeTrainingResponse(
         Integer durationMin,
         String trainerName) {
 
-    public static EmbeddedTraineeTrainingResponse toEmbeddedTraining(Training training) {
-
+    public static EmbeddedTraineeTrainingResponse toEmbeddedTraining(TrainingSummary training) {
         return new EmbeddedTraineeTrainingResponse(
-                training.getTrainingName(),
-                training.getTrainingDate(),
-                training.getTrainingType().getTrainingTypeName(),
-                training.getTrainingDurationMin(),
-                training.getTrainer().getUsername());
+                training.trainingName(),
+                training.trainingDate(),
+                training.trainingType(),
+                training.trainingDurationMin(),
+                training.trainerUsername());
     }
 }
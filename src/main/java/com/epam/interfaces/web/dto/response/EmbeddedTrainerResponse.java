@@ -1,16 +1,13 @@
 package com.epam.interfaces.web.dto.response;
 
-import com.epam.domain.model.Trainer;
 import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TrainerSummary;
 
 public record EmbeddedTrainerResponse(
         String username, String firstName, String lastName, TrainingTypeEnum specialization) {
 
-    public static EmbeddedTrainerResponse toEmbeddedTrainer(Trainer trainer) {
+    public static EmbeddedTrainerResponse toEmbeddedTrainer(TrainerSummary trainer) {
         return new EmbeddedTrainerResponse(
-                trainer.getUsername(),
-                trainer.getFirstName(),
-                trainer.getLastName(),
-                trainer.getSpecialization().getTrainingTypeName());
+                trainer.username(), trainer.firstName(), trainer.lastName(), trainer.specialization());
     }
 }
@@ -2,8 +2,8 @@ package com.epam.interfaces.web.dto.response;
 
 import java.time.LocalDateTime;
 
-import com.epam.domain.model.Training;
 import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TrainingSummary;
 
 public record EmbeddedTrainerTrainingResponse(
         String trainingName,
@@ -12,13 +12,12 @@ public record EmbeddedTrainerTrainingResponse(
         Integer durationMin,
         String traineeName) {
 
-    public static EmbeddedTrainerTrainingResponse toEmbeddedTraining(Training training) {
-
+    public static EmbeddedTrainerTrainingResponse toEmbeddedTraining(TrainingSummary training) {
         return new EmbeddedTrainerTrainingResponse(
-                training.getTrainingName(),
-                training.getTrainingDate(),
-                training.getTrainingType().getTrainingTypeName(),
-                training.getTrainingDurationMin(),
-                training.getTrainee().getUsername());
+                training.trainingName(),
+                training.trainingDate(),
+                training.trainingType(),
+                training.trainingDurationMin(),
+                training.traineeUsername());
     }
 }
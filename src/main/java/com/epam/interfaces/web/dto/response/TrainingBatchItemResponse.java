@@ -0,0 +1,13 @@
+package com.epam.interfaces.web.dto.response;
+
+import com.epam.domain.TrainingBatchResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TrainingBatchItemResponse(int index, String status, Long trainingId, String error) {
+
+    public static TrainingBatchItemResponse toItem(TrainingBatchResult result) {
+        return new TrainingBatchItemResponse(
+                result.index(), result.succeeded() ? "CREATED" : "REJECTED", result.trainingId(), result.error());
+    }
+}
@@ -0,0 +1,17 @@
+package com.epam.interfaces.web.dto.response;
+
+import java.util.List;
+
+import com.epam.domain.TrainingBatchResult;
+
+public record TrainingBatchResponse(int created, int rejected, List<TrainingBatchItemResponse> results) {
+
+    public static TrainingBatchResponse toResponse(List<TrainingBatchResult> results) {
+        int created =
+                (int) results.stream().filter(TrainingBatchResult::succeeded).count();
+        return new TrainingBatchResponse(
+                created,
+                results.size() - created,
+                results.stream().map(TrainingBatchItemResponse::toItem).toList());
+    }
+}
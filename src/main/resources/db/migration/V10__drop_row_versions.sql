@@ -0,0 +1,5 @@
+-- Profile saves compare and bump users.change_version under the users row lock, so the row versions added in V7 no
+-- longer guard anything.
+ALTER TABLE users DROP COLUMN version;
+ALTER TABLE trainees DROP COLUMN version;
+ALTER TABLE trainers DROP COLUMN version;
@@ -0,0 +1,9 @@
+-- Booking counters behind a trainer's training history ETag, maintained by TrainerTrainingVersions. Each trainer has
+-- up to 16 slot rows so concurrent bookings rarely wait on the same row; the ETag adds their sum to the trainer's
+-- users.change_version. Rows are created by the first booking that lands in their slot.
+CREATE TABLE trainer_training_versions (
+    trainer_id BIGINT   NOT NULL REFERENCES trainers (trainer_id),
+    slot       SMALLINT NOT NULL,
+    version    BIGINT   NOT NULL,
+    PRIMARY KEY (trainer_id, slot)
+);
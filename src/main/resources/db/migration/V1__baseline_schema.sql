@@ -0,0 +1,68 @@
+-- Schema as generated by Hibernate from the JPA mappings before migrations were introduced.
+-- Existing databases are baselined at this version and skip it.
+
+CREATE SEQUENCE trainees_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE trainers_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE training_types_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE trainings_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    is_active  BOOLEAN      NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    last_name  VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    role       VARCHAR(255) CHECK (role IN ('TRAINER', 'TRAINEE')),
+    username   VARCHAR(255) NOT NULL UNIQUE,
+    PRIMARY KEY (user_id)
+);
+
+CREATE TABLE training_types (
+    training_type_id   BIGINT       NOT NULL,
+    training_type_name VARCHAR(255) NOT NULL UNIQUE
+        CHECK (training_type_name IN ('CARDIO', 'STRENGTH', 'YOGA', 'CROSSFIT', 'PILATES', 'BOXING')),
+    PRIMARY KEY (training_type_id)
+);
+
+CREATE TABLE trainees (
+    date_of_birth DATE,
+    trainee_id    BIGINT NOT NULL,
+    user_id       BIGINT NOT NULL UNIQUE,
+    address       VARCHAR(255),
+    PRIMARY KEY (trainee_id)
+);
+
+CREATE TABLE trainers (
+    trainer_id       BIGINT NOT NULL,
+    training_type_id BIGINT,
+    user_id          BIGINT NOT NULL UNIQUE,
+    PRIMARY KEY (trainer_id)
+);
+
+CREATE TABLE trainings (
+    training_duration INTEGER      NOT NULL,
+    trainee_id        BIGINT       NOT NULL,
+    trainer_id        BIGINT       NOT NULL,
+    training_date     TIMESTAMP(6) NOT NULL,
+    training_id       BIGINT       NOT NULL,
+    training_type_id  BIGINT       NOT NULL,
+    training_name     VARCHAR(255) NOT NULL,
+    PRIMARY KEY (training_id)
+);
+
+CREATE TABLE trainee_trainer (
+    trainee_id BIGINT NOT NULL,
+    trainer_id BIGINT NOT NULL
+);
+
+CREATE INDEX idx_username ON users (username);
+
+ALTER TABLE trainee_trainer ADD CONSTRAINT FKsis342w57b177o84peanydlrp FOREIGN KEY (trainer_id) REFERENCES trainers;
+ALTER TABLE trainee_trainer ADD CONSTRAINT FK27f1le516f824l8owvnc4mvs1 FOREIGN KEY (trainee_id) REFERENCES trainees;
+ALTER TABLE trainees ADD CONSTRAINT FKcy6e52861i61gaajadiq70lnt FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE trainers ADD CONSTRAINT FKju63khn641fkoxn0aani2jey9 FOREIGN KEY (training_type_id) REFERENCES training_types;
+ALTER TABLE trainers ADD CONSTRAINT FKmkxcvfr0uu3pwv772aurye5w7 FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE trainings ADD CONSTRAINT FK4btmw0yu4tbogiw8qi0ewba74 FOREIGN KEY (trainee_id) REFERENCES trainees;
+ALTER TABLE trainings ADD CONSTRAINT FKbqwj5wievnuonuxv60wg6rr48 FOREIGN KEY (trainer_id) REFERENCES trainers;
+ALTER TABLE trainings ADD CONSTRAINT FKovn6ewpej7cxhjx55tovddhnj FOREIGN KEY (training_type_id) REFERENCES training_types;
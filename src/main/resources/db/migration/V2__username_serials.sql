@@ -0,0 +1,7 @@
+-- Last serial handed out per base username, see UsernameSerialRepositoryImpl.
+-- Rows are seeded lazily from existing usernames on first allocation.
+CREATE TABLE IF NOT EXISTS username_serials (
+    last_serial   BIGINT       NOT NULL,
+    base_username VARCHAR(100) NOT NULL,
+    PRIMARY KEY (base_username)
+);
@@ -0,0 +1,18 @@
+-- Training history is filtered by one side of the session plus a date range and paged by (training_date, training_id),
+-- so each side gets an index that serves both the filter and the keyset order.
+CREATE INDEX idx_trainings_trainee_date ON trainings (trainee_id, training_date, training_id);
+CREATE INDEX idx_trainings_trainer_date ON trainings (trainer_id, training_date, training_id);
+
+-- A trainer cannot run two sessions with the same trainee at the same moment; also backs the delete/lookup probe.
+-- Fails if duplicates already exist, which have to be resolved by hand before re-running.
+CREATE UNIQUE INDEX uk_trainings_trainer_trainee_date ON trainings (trainer_id, trainee_id, training_date);
+
+-- The join table had no key at all; drop accidental duplicate pairs before enforcing uniqueness.
+DELETE FROM trainee_trainer a
+USING trainee_trainer b
+WHERE a.ctid > b.ctid
+  AND a.trainee_id = b.trainee_id
+  AND a.trainer_id = b.trainer_id;
+
+CREATE UNIQUE INDEX uk_trainee_trainer ON trainee_trainer (trainee_id, trainer_id);
+CREATE INDEX idx_trainee_trainer_trainer ON trainee_trainer (trainer_id);
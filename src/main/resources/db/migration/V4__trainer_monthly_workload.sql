@@ -0,0 +1,17 @@
+-- Training minutes per trainer and month, maintained by TrainerWorkloadRepositoryImpl in the same transaction as
+-- the trainings it sums. Backfilled here from the trainings that already exist.
+CREATE TABLE trainer_monthly_workload (
+    trainer_id         BIGINT  NOT NULL REFERENCES trainers (trainer_id),
+    training_year      INTEGER NOT NULL,
+    training_month     INTEGER NOT NULL,
+    total_duration_min BIGINT  NOT NULL,
+    PRIMARY KEY (trainer_id, training_year, training_month)
+);
+
+INSERT INTO trainer_monthly_workload (trainer_id, training_year, training_month, total_duration_min)
+SELECT trainer_id,
+       EXTRACT(YEAR FROM training_date),
+       EXTRACT(MONTH FROM training_date),
+       SUM(training_duration)
+FROM trainings
+GROUP BY 1, 2, 3;
@@ -0,0 +1,77 @@
+-- Trainings become range-partitioned by month on training_date, so date-bounded history reads only the months
+-- they cover. Rows outside every monthly partition land in trainings_default until their month is created;
+-- TrainingPartitionMaintainer keeps months ahead of today in place by calling ensure_trainings_partitions.
+
+ALTER TABLE trainings RENAME TO trainings_unpartitioned;
+
+CREATE TABLE trainings (
+    training_duration INTEGER      NOT NULL,
+    trainee_id        BIGINT       NOT NULL,
+    trainer_id        BIGINT       NOT NULL,
+    training_date     TIMESTAMP(6) NOT NULL,
+    training_id       BIGINT       NOT NULL,
+    training_type_id  BIGINT       NOT NULL,
+    training_name     VARCHAR(255) NOT NULL
+) PARTITION BY RANGE (training_date);
+
+CREATE TABLE trainings_default PARTITION OF trainings DEFAULT;
+
+-- Creates the monthly partitions from from_month through to_month that do not exist yet and returns how many it
+-- created. Rows already parked in the default partition for a new month are moved into it before it is attached.
+CREATE FUNCTION ensure_trainings_partitions(from_month DATE, to_month DATE) RETURNS INTEGER AS $$
+DECLARE
+    month_start    DATE := date_trunc('month', from_month)::date;
+    month_end      DATE;
+    partition_name TEXT;
+    created        INTEGER := 0;
+BEGIN
+    -- Instances run this concurrently on startup; one at a time keeps CREATE and ATTACH from racing
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_trainings_partitions'));
+
+    WHILE month_start <= to_month LOOP
+        month_end := (month_start + INTERVAL '1 month')::date;
+        partition_name := 'trainings_' || to_char(month_start, 'YYYY_MM');
+
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE trainings INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+            EXECUTE format(
+                    'WITH moved AS (DELETE FROM trainings_default WHERE training_date >= %L AND training_date < %L '
+                        'RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                    month_start, month_end, partition_name);
+            EXECUTE format(
+                    'ALTER TABLE trainings ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                    partition_name, month_start, month_end);
+            created := created + 1;
+        END IF;
+
+        month_start := month_end;
+    END LOOP;
+
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for every month already holding trainings and the next three, created before the copy so no row
+-- goes through the default partition
+SELECT ensure_trainings_partitions(
+        COALESCE((SELECT MIN(training_date) FROM trainings_unpartitioned)::date, CURRENT_DATE),
+        GREATEST(
+                (SELECT MAX(training_date) FROM trainings_unpartitioned)::date,
+                (CURRENT_DATE + INTERVAL '3 months')::date));
+
+INSERT INTO trainings (training_duration, trainee_id, trainer_id, training_date, training_id, training_type_id,
+                       training_name)
+SELECT training_duration, trainee_id, trainer_id, training_date, training_id, training_type_id, training_name
+FROM trainings_unpartitioned;
+
+DROP TABLE trainings_unpartitioned;
+
+-- Keys and indexes on a partitioned table must include the partition key; each is cascaded to every partition
+ALTER TABLE trainings ADD CONSTRAINT trainings_pkey PRIMARY KEY (training_id, training_date);
+CREATE INDEX idx_trainings_trainee_date ON trainings (trainee_id, training_date, training_id);
+CREATE INDEX idx_trainings_trainer_date ON trainings (trainer_id, training_date, training_id);
+CREATE UNIQUE INDEX uk_trainings_trainer_trainee_date ON trainings (trainer_id, trainee_id, training_date);
+
+ALTER TABLE trainings ADD CONSTRAINT FK4btmw0yu4tbogiw8qi0ewba74 FOREIGN KEY (trainee_id) REFERENCES trainees;
+ALTER TABLE trainings ADD CONSTRAINT FKbqwj5wievnuonuxv60wg6rr48 FOREIGN KEY (trainer_id) REFERENCES trainers;
+ALTER TABLE trainings ADD CONSTRAINT FKovn6ewpej7cxhjx55tovddhnj FOREIGN KEY (training_type_id) REFERENCES training_types;
@@ -0,0 +1,14 @@
+-- Cold storage for trainings older than trainings.archive.older-than. TrainingArchiver moves rows here in batches;
+-- history reads only touch this table when their date range starts before the archive cutoff.
+CREATE TABLE trainings_archive (
+    training_duration INTEGER      NOT NULL,
+    trainee_id        BIGINT       NOT NULL REFERENCES trainees (trainee_id),
+    trainer_id        BIGINT       NOT NULL REFERENCES trainers (trainer_id),
+    training_date     TIMESTAMP(6) NOT NULL,
+    training_id       BIGINT       NOT NULL PRIMARY KEY,
+    training_type_id  BIGINT       NOT NULL REFERENCES training_types (training_type_id),
+    training_name     VARCHAR(255) NOT NULL
+);
+
+CREATE INDEX idx_trainings_archive_trainee_date ON trainings_archive (trainee_id, training_date, training_id);
+CREATE INDEX idx_trainings_archive_trainer_date ON trainings_archive (trainer_id, training_date, training_id);
@@ -0,0 +1,5 @@
+-- Row versions for profile rows, once used for Hibernate optimistic locking. Superseded by users.change_version (V8)
+-- and dropped in V10.
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE trainees ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE trainers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- Per-user change version behind the ETags of profile and training reads. Every write that changes what a user's
+-- endpoints return bumps it, including writes to assignments and trainings, so a matching If-None-Match means the
+-- response would be identical.
+ALTER TABLE users ADD COLUMN change_version BIGINT NOT NULL DEFAULT 0;
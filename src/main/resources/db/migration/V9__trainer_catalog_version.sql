@@ -0,0 +1,7 @@
+-- Version of the trainer catalog that each instance's assignment index holds in memory. Every write that adds,
+-- removes, renames, re-specializes or (de)activates a trainer bumps it, so an instance can tell its copy is outdated
+-- whichever instance made the write. The row is created by the first bump.
+CREATE TABLE trainer_catalog_version (
+    id      SMALLINT PRIMARY KEY,
+    version BIGINT   NOT NULL
+);
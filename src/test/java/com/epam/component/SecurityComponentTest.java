@@ -2,6 +2,7 @@ package com.epam.component;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.Map;
 
 import com.epam.infrastructure.security.adapter.JwtTokenServiceAdapter;
@@ -21,6 +22,7 @@ class SecurityComponentTest extends ComponentTestBase {
     private static final String TRAINEE_USERNAME = "David.Davis";
     private static final String TRAINER_USERNAME = "John.Smith";
     private static final String OTHER_USERNAME = "Emma.Johnson";
+    private static final String ADMIN_USERNAME = "Gym.Admin";
 
     @Autowired
     private JwtTokenServiceAdapter tokenService;
@@ -116,6 +118,46 @@ class SecurityComponentTest extends ComponentTestBase {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
     }
 
+    @Test
+    void registerTraineesInBulk_withUserToken_shouldReturn403() {
+        String traineeToken = tokenService.generateToken(TRAINEE_USERNAME);
+
+        ResponseEntity<Map> response = postWithToken("/api/trainees/batch", traineeBatch(), traineeToken, Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void registerTrainersInBulk_withUserToken_shouldReturn403() {
+        String trainerToken = tokenService.generateToken(TRAINER_USERNAME);
+        Map<String, Object> batch = Map.of(
+                "trainers", List.of(Map.of("firstName", "Bulk", "lastName", "Trainer", "specialization", "YOGA")));
+
+        ResponseEntity<Map> response = postWithToken("/api/trainers/batch", batch, trainerToken, Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void registerTraineesInBulk_withAdminToken_shouldReturn201() {
+        String adminToken = tokenService.generateToken(ADMIN_USERNAME);
+
+        ResponseEntity<List> response = postWithToken("/api/trainees/batch", traineeBatch(), adminToken, List.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).hasSize(1);
+    }
+
+    private static Map<String, Object> traineeBatch() {
+        return Map.of("trainees", List.of(Map.of("firstName", "Bulk", "lastName", "Trainee")));
+    }
+
+    private <T> ResponseEntity<T> postWithToken(String url, Object body, String token, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return testRestTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(body, headers), responseType);
+    }
+
     private <T> ResponseEntity<T> getWithToken(String url, String token, Class<T> responseType) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(token);
@@ -0,0 +1,53 @@
+package com.epam.integration.base;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Runs against a schema built by the Flyway migrations, as staging and prod are, instead of the one Hibernate
+ * generates for the other integration tests. Hibernate only validates it, so an entity the migrations drifted from
+ * fails the context. The database is a container of its own, since the shared one is recreated by Hibernate.
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(
+        properties = {
+            "spring.main.banner-mode=off",
+            "spring.flyway.enabled=true",
+            "spring.jpa.hibernate.ddl-auto=validate"
+        })
+@Transactional
+@Sql(
+        scripts = {"/truncate.sql", "/seed_training_types.sql", "/seed_users.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+public abstract class MigratedSchemaTestBase {
+
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+                    DockerImageName.parse(TestImages.POSTGRESQL))
+            .withNetwork(SharedContainers.network);
+
+    static {
+        postgres.start();
+    }
+
+    @DynamicPropertySource
+    static void migratedProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.mongodb.uri", SharedContainers.mongo::getReplicaSetUrl);
+        registry.add("spring.kafka.bootstrap-servers", SharedContainers.kafka::getBootstrapServers);
+        registry.add(
+                "spring.cloud.openfeign.client.config.trainer-workload-service.url",
+                () -> "http://localhost:" + SharedContainers.workloadService.getMappedPort(8081));
+    }
+}
@@ -0,0 +1,51 @@
+package com.epam.integration.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import com.epam.integration.base.MigratedSchemaTestBase;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * The context only starts once every migration has applied and Hibernate has validated the entities against the
+ * result, so these checks are about what validation cannot see.
+ */
+class FlywayMigrationIntegrationTest extends MigratedSchemaTestBase {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrate_appliesEveryMigrationInOrder() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(applied).allMatch(info -> info.getState() == MigrationState.SUCCESS);
+        assertThat(Arrays.stream(applied).map(info -> info.getVersion().getVersion()))
+                .containsExactly("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11");
+    }
+
+    @Test
+    void migrate_partitionsTrainingsByMonth() {
+        String kind = jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE relname = 'trainings'", String.class);
+
+        assertThat(kind).isEqualTo("p");
+    }
+
+    @Test
+    void seededTrainings_areReadableThroughThePartitionedTable() {
+        Integer trainings = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trainings", Integer.class);
+
+        assertThat(trainings).isPositive();
+    }
+}
@@ -0,0 +1,101 @@
+package com.epam.integration.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import com.epam.infrastructure.persistence.routing.ReadConsistency;
+import com.epam.infrastructure.persistence.routing.ReplicaLagTracker;
+import com.epam.integration.base.IntegrationTestBase;
+import com.epam.integration.base.TestImages;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Runs against a second, independent Postgres container standing in for the replica. Both databases answer
+ * {@code current_database()} with a different name, which shows where each transaction was routed.
+ */
+class ReplicaRoutingIntegrationTest extends IntegrationTestBase {
+
+    @Container
+    static final PostgreSQLContainer<?> replica =
+            new PostgreSQLContainer<>(DockerImageName.parse(TestImages.POSTGRESQL)).withDatabaseName("gym_replica");
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("datasource.replica.url", replica::getJdbcUrl);
+        registry.add("datasource.replica.username", replica::getUsername);
+        registry.add("datasource.replica.password", replica::getPassword);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagTracker lagTracker;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        lagTracker.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.close();
+    }
+
+    @Test
+    void readOnlyTransaction_routesToReplica() {
+        assertThat(databaseIn(true)).isEqualTo("gym_replica");
+    }
+
+    @Test
+    void readWriteTransaction_routesToPrimary() {
+        assertThat(databaseIn(false)).isNotEqualTo("gym_replica");
+    }
+
+    @Test
+    void readOnlyTransaction_withTokenNewerThanReplica_routesToPrimary() {
+        ReadConsistency.open(System.currentTimeMillis() + 60_000, commitTime -> {});
+
+        assertThat(databaseIn(true)).isNotEqualTo("gym_replica");
+    }
+
+    @Test
+    void committedWrite_issuesTokenAndKeepsLaterReadsOnPrimary() {
+        List<Long> issued = new ArrayList<>();
+        ReadConsistency.open(0L, issued::add);
+
+        databaseIn(false);
+
+        assertThat(issued).hasSize(1);
+        assertThat(databaseIn(true)).isNotEqualTo("gym_replica");
+
+        lagTracker.refresh();
+        assertThat(databaseIn(true)).isEqualTo("gym_replica");
+    }
+
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+}
@@ -8,9 +8,15 @@ import java.util.Optional;
 
 import com.epam.application.exception.EntityNotFoundException;
 import com.epam.domain.model.Trainee;
-import com.epam.domain.model.Trainer;
 import com.epam.domain.port.TraineeRepository;
+import com.epam.domain.port.TrainingRepository;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerSummary;
+import com.epam.infrastructure.persistence.dao.TraineeDAO;
 import com.epam.integration.base.SeededIntegrationTestBase;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -23,6 +29,25 @@ class TraineeRepositoryIntegrationTest extends SeededIntegrationTestBase {
     @Autowired
     private TraineeRepository traineeRepository;
 
+    @Autowired
+    private TrainingRepository trainingRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void findByUsername_doesNotLoadTrainingHistory() {
+        Trainee trainee = traineeRepository.findByUsername(EXISTING_TRAINEE).orElseThrow();
+
+        TraineeDAO managed = entityManager.find(TraineeDAO.class, trainee.getTraineeId());
+
+        assertThat(entityManager
+                        .getEntityManagerFactory()
+                        .getPersistenceUnitUtil()
+                        .isLoaded(managed, "trainingDAOS"))
+                .isFalse();
+    }
+
     @Test
     void findById_withExistingId_returnsTrainee() {
         Trainee byUsername = traineeRepository.findByUsername(EXISTING_TRAINEE).orElseThrow();
@@ -53,12 +78,45 @@ class TraineeRepositoryIntegrationTest extends SeededIntegrationTestBase {
                 .hasMessageContaining(GHOST_USERNAME);
     }
 
+    @Test
+    void deleteByUsername_returnsTheMinutesOfTheDeletedTrainings() {
+        List<TrainerMonthlyWorkload> expected = trainingRepository.summarizeTraineeWorkload(EXISTING_TRAINEE);
+
+        List<TrainerMonthlyWorkload> removed = traineeRepository.deleteByUsername(EXISTING_TRAINEE);
+
+        assertThat(removed).isNotEmpty().containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(trainingRepository.summarizeTraineeWorkload(EXISTING_TRAINEE))
+                .isEmpty();
+    }
+
     @Test
     void getTrainers_returnsAssignedTrainersForTrainee() {
-        List<Trainer> trainers = traineeRepository.getTrainers(EXISTING_TRAINEE);
+        List<TrainerSummary> trainers = traineeRepository.getTrainers(EXISTING_TRAINEE);
 
         assertThat(trainers).isNotEmpty();
-        assertThat(trainers).extracting(Trainer::getUsername).contains(ASSIGNED_TRAINER);
+        assertThat(trainers).extracting(TrainerSummary::username).contains(ASSIGNED_TRAINER);
+    }
+
+    @Test
+    void findProfile_returnsTraineeWithTheSameTrainersAsGetTrainers() {
+        TraineeProfile profile = traineeRepository.findProfile(EXISTING_TRAINEE).orElseThrow();
+
+        assertThat(profile.trainee().getUsername()).isEqualTo(EXISTING_TRAINEE);
+        assertThat(profile.trainers()).containsExactlyElementsOf(traineeRepository.getTrainers(EXISTING_TRAINEE));
+    }
+
+    @Test
+    void findProfile_withoutTrainers_returnsEmptyTrainerList() {
+        traineeRepository.updateTrainersList(EXISTING_TRAINEE, List.of(), Optional.empty());
+
+        TraineeProfile profile = traineeRepository.findProfile(EXISTING_TRAINEE).orElseThrow();
+
+        assertThat(profile.trainers()).isEmpty();
+    }
+
+    @Test
+    void findProfile_withNonExistentTrainee_returnsEmpty() {
+        assertThat(traineeRepository.findProfile(GHOST_USERNAME)).isEmpty();
     }
 
     @Test
@@ -70,20 +128,20 @@ class TraineeRepositoryIntegrationTest extends SeededIntegrationTestBase {
 
     @Test
     void getUnassignedTrainers_doesNotContainAlreadyAssignedTrainer() {
-        List<Trainer> unassigned = traineeRepository.getUnassignedTrainers(EXISTING_TRAINEE);
+        List<TrainerSummary> unassigned = traineeRepository.getUnassignedTrainers(EXISTING_TRAINEE);
 
         List<String> unassignedUsernames =
-                unassigned.stream().map(Trainer::getUsername).toList();
+                unassigned.stream().map(TrainerSummary::username).toList();
 
         assertThat(unassignedUsernames).doesNotContain(ASSIGNED_TRAINER);
     }
 
     @Test
     void getUnassignedTrainers_containsOnlyActiveTrainers() {
-        List<Trainer> unassigned = traineeRepository.getUnassignedTrainers(EXISTING_TRAINEE);
+        List<TrainerSummary> unassigned = traineeRepository.getUnassignedTrainers(EXISTING_TRAINEE);
 
         assertThat(unassigned)
-                .allSatisfy(trainer -> assertThat(trainer.getActive()).isTrue());
+                .allSatisfy(trainer -> assertThat(trainer.active()).isTrue());
     }
 
     @Test
@@ -93,16 +151,48 @@ class TraineeRepositoryIntegrationTest extends SeededIntegrationTestBase {
                 .hasMessageContaining(GHOST_USERNAME);
     }
 
+    @Test
+    void updateTrainersList_writesOnlyChangedAssignments() {
+        traineeRepository.updateTrainersList(
+                EXISTING_TRAINEE, List.of(ASSIGNED_TRAINER, "Sarah.Brown"), Optional.empty());
+
+        assertThat(traineeRepository.getTrainers(EXISTING_TRAINEE))
+                .extracting(TrainerSummary::username)
+                .containsExactly(ASSIGNED_TRAINER, "Sarah.Brown");
+
+        // A kept row still carries the seeding transaction's id rather than this one's
+        List<?> rewrittenKeptRows = entityManager
+                .createNativeQuery(
+                        """
+                        SELECT 1 FROM trainee_trainer tt
+                        JOIN trainers tr ON tr.trainer_id = tt.trainer_id
+                        JOIN users u ON u.user_id = tr.user_id
+                        WHERE u.username = :trainer AND tt.xmin = pg_current_xact_id()::xid
+                        """)
+                .setParameter("trainer", ASSIGNED_TRAINER)
+                .getResultList();
+        assertThat(rewrittenKeptRows).isEmpty();
+    }
+
+    @Test
+    void updateTrainersList_withEmptyList_removesAllAssignments() {
+        traineeRepository.updateTrainersList(EXISTING_TRAINEE, List.of(), Optional.empty());
+
+        assertThat(traineeRepository.getTrainers(EXISTING_TRAINEE)).isEmpty();
+    }
+
     @Test
     void updateTrainersList_withNonExistentTrainee_throwsEntityNotFoundException() {
-        assertThatThrownBy(() -> traineeRepository.updateTrainersList(GHOST_USERNAME, List.of(ASSIGNED_TRAINER)))
+        assertThatThrownBy(() -> traineeRepository.updateTrainersList(
+                        GHOST_USERNAME, List.of(ASSIGNED_TRAINER), Optional.empty()))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining(GHOST_USERNAME);
     }
 
     @Test
     void updateTrainersList_withNonExistentTrainer_throwsEntityNotFoundException() {
-        assertThatThrownBy(() -> traineeRepository.updateTrainersList(EXISTING_TRAINEE, List.of(GHOST_USERNAME)))
+        assertThatThrownBy(() -> traineeRepository.updateTrainersList(
+                        EXISTING_TRAINEE, List.of(GHOST_USERNAME), Optional.empty()))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining(GHOST_USERNAME);
     }
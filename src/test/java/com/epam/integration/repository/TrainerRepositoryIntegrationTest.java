@@ -7,10 +7,13 @@ import java.util.List;
 import java.util.Optional;
 
 import com.epam.application.exception.EntityNotFoundException;
-import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
 import com.epam.domain.port.TrainerRepository;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.infrastructure.persistence.dao.TrainerDAO;
 import com.epam.integration.base.SeededIntegrationTestBase;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -23,6 +26,72 @@ class TrainerRepositoryIntegrationTest extends SeededIntegrationTestBase {
     @Autowired
     private TrainerRepository trainerRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void findByUsername_doesNotLoadTrainingHistory() {
+        Trainer trainer = trainerRepository.findByUsername(EXISTING_TRAINER).orElseThrow();
+
+        TrainerDAO managed = entityManager.find(TrainerDAO.class, trainer.getTrainerId());
+
+        assertThat(entityManager
+                        .getEntityManagerFactory()
+                        .getPersistenceUnitUtil()
+                        .isLoaded(managed, "trainingDAOS"))
+                .isFalse();
+    }
+
+    @Test
+    void save_withExistingTrainer_updatesProfileWithoutLoadingTrainingHistory() {
+        Trainer trainer = trainerRepository.findByUsername(EXISTING_TRAINER).orElseThrow();
+        trainer.setLastName("Updated");
+
+        Trainer saved = trainerRepository.save(trainer);
+
+        TrainerDAO managed = entityManager.find(TrainerDAO.class, trainer.getTrainerId());
+        assertThat(saved.getLastName()).isEqualTo("Updated");
+        assertThat(managed.getUserDAO().getLastName()).isEqualTo("Updated");
+        assertThat(entityManager
+                        .getEntityManagerFactory()
+                        .getPersistenceUnitUtil()
+                        .isLoaded(managed, "trainingDAOS"))
+                .isFalse();
+    }
+
+    @Test
+    void toggleActive_flipsFlagAndRefreshesLoadedProfile() {
+        Trainer before = trainerRepository.findByUsername(EXISTING_TRAINER).orElseThrow();
+
+        Optional<Boolean> active = trainerRepository.toggleActive(EXISTING_TRAINER);
+
+        assertThat(active).contains(!before.getActive());
+        assertThat(trainerRepository
+                        .findByUsername(EXISTING_TRAINER)
+                        .orElseThrow()
+                        .getActive())
+                .isEqualTo(!before.getActive());
+    }
+
+    @Test
+    void toggleActive_withNonExistentUsername_returnsEmpty() {
+        assertThat(trainerRepository.toggleActive(GHOST_USERNAME)).isEmpty();
+    }
+
+    @Test
+    void updatePassword_storesEncodedPassword() {
+        assertThat(trainerRepository.updatePassword(EXISTING_TRAINER, "encoded-password"))
+                .isTrue();
+
+        assertThat(trainerRepository
+                        .findByUsername(EXISTING_TRAINER)
+                        .orElseThrow()
+                        .getPassword())
+                .isEqualTo("encoded-password");
+        assertThat(trainerRepository.updatePassword(GHOST_USERNAME, "encoded-password"))
+                .isFalse();
+    }
+
     @Test
     void findById_withExistingId_returnsTrainer() {
         Trainer byUsername = trainerRepository.findByUsername(EXISTING_TRAINER).orElseThrow();
@@ -55,10 +124,10 @@ class TrainerRepositoryIntegrationTest extends SeededIntegrationTestBase {
 
     @Test
     void getTrainees_returnsAssignedTraineesForTrainer() {
-        List<Trainee> trainees = trainerRepository.getTrainees(EXISTING_TRAINER);
+        List<TraineeSummary> trainees = trainerRepository.getTrainees(EXISTING_TRAINER);
 
         assertThat(trainees).isNotEmpty();
-        assertThat(trainees).extracting(Trainee::getUsername).contains(ASSIGNED_TRAINEE);
+        assertThat(trainees).extracting(TraineeSummary::username).contains(ASSIGNED_TRAINEE);
     }
 
     @Test
@@ -0,0 +1,92 @@
+package com.epam.integration.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import com.epam.integration.base.MigratedSchemaTestBase;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The seed tables are tiny, so sequential scans are disabled for the test transaction to make the planner show
+ * which index it would pick for each query shape. Runs on the migrated schema, where the indexes come from the
+ * migrations and the trainings ones are cascaded to each monthly partition under generated names.
+ */
+class TrainingIndexPlanIntegrationTest extends MigratedSchemaTestBase {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void disableSequentialScans() {
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+    }
+
+    @Test
+    void traineeHistoryByDateRange_usesTraineeDateIndex() {
+        String plan = explain(
+                """
+                SELECT * FROM trainings
+                WHERE trainee_id = 1 AND training_date >= '2024-01-01' AND training_date <= '2024-12-31'
+                ORDER BY training_date, training_id
+                """);
+
+        assertThat(plan).containsAnyOf(indexAndPartitions("idx_trainings_trainee_date"));
+    }
+
+    @Test
+    void trainerHistoryByDateRange_usesTrainerDateIndex() {
+        String plan = explain(
+                """
+                SELECT * FROM trainings
+                WHERE trainer_id = 1 AND training_date >= '2024-01-01' AND training_date <= '2024-12-31'
+                ORDER BY training_date, training_id
+                """);
+
+        assertThat(plan).containsAnyOf(indexAndPartitions("idx_trainings_trainer_date"));
+    }
+
+    @Test
+    void sessionProbeByTrainerTraineeAndDate_usesUniqueIndex() {
+        String plan = explain(
+                """
+                SELECT * FROM trainings
+                WHERE trainer_id = 1 AND trainee_id = 1 AND training_date = '2024-01-15 09:00:00'
+                """);
+
+        assertThat(plan).containsAnyOf(indexAndPartitions("uk_trainings_trainer_trainee_date"));
+    }
+
+    @Test
+    void traineesOfTrainer_usesJoinTableTrainerIndex() {
+        String plan = explain("SELECT trainee_id FROM trainee_trainer WHERE trainer_id = 1");
+
+        assertThat(plan).containsAnyOf(indexAndPartitions("idx_trainee_trainer_trainer"));
+    }
+
+    /**
+     * The index itself and the indexes it was cascaded to on each partition, which are what the plan names.
+     */
+    private String[] indexAndPartitions(String index) {
+        @SuppressWarnings("unchecked")
+        List<Object> names = entityManager
+                .createNativeQuery(
+                        """
+                        SELECT CAST(?1 AS regclass)::text
+                        UNION ALL
+                        SELECT inhrelid::regclass::text FROM pg_inherits WHERE inhparent = CAST(?1 AS regclass)
+                        """)
+                .setParameter(1, index)
+                .getResultList();
+        return names.stream().map(String::valueOf).toArray(String[]::new);
+    }
+
+    private String explain(String sql) {
+        @SuppressWarnings("unchecked")
+        List<Object> rows = entityManager.createNativeQuery("EXPLAIN " + sql).getResultList();
+        return String.join("\n", rows.stream().map(String::valueOf).toList());
+    }
+}
@@ -3,13 +3,24 @@ package com.epam.integration.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.epam.domain.TrainingCursor;
 import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Training;
 import com.epam.domain.model.TrainingTypeEnum;
 import com.epam.domain.port.TrainingRepository;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainingSummary;
+import com.epam.domain.projection.TrainingWorkload;
+import com.epam.infrastructure.persistence.archive.TrainingArchiver;
 import com.epam.integration.base.SeededIntegrationTestBase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +34,9 @@ class TrainingRepositoryIntegrationTest extends SeededIntegrationTestBase {
     @Autowired
     private TrainingRepository trainingRepository;
 
+    @Autowired
+    private TrainingArchiver archiver;
+
     @Test
     void findById_withExistingTraining_returnsTraining() {
         List<Training> all = trainingRepository.getTraineeTrainings(TRAINEE_USERNAME, emptyTraineeFilter());
@@ -157,17 +171,118 @@ class TrainingRepositoryIntegrationTest extends SeededIntegrationTestBase {
                         TRAINER_USERNAME, TRAINEE_USERNAME, SEEDED_DATE))
                 .isPresent();
 
-        trainingRepository.deleteByTraineeTrainerAndDate(TRAINEE_USERNAME, TRAINER_USERNAME, SEEDED_DATE);
+        Optional<TrainingWorkload> deleted =
+                trainingRepository.deleteByTraineeTrainerAndDate(TRAINEE_USERNAME, TRAINER_USERNAME, SEEDED_DATE);
 
+        assertThat(deleted).map(TrainingWorkload::trainerUsername).contains(TRAINER_USERNAME);
+        assertThat(deleted).map(TrainingWorkload::trainingDate).contains(SEEDED_DATE);
         assertThat(trainingRepository.findByTrainerUsernameAndTraineeUsernameAndDate(
                         TRAINER_USERNAME, TRAINEE_USERNAME, SEEDED_DATE))
                 .isEmpty();
     }
 
     @Test
-    void deleteByTraineeTrainerAndDate_withNoMatch_doesNotThrow() {
-        trainingRepository.deleteByTraineeTrainerAndDate(
-                "Ghost.User", "Ghost.Trainer", LocalDateTime.of(2099, 1, 1, 0, 0));
+    void deleteByTraineeTrainerAndDate_withNoMatch_returnsEmpty() {
+        assertThat(trainingRepository.deleteByTraineeTrainerAndDate(
+                        "Ghost.User", "Ghost.Trainer", LocalDateTime.of(2099, 1, 1, 0, 0)))
+                .isEmpty();
+    }
+
+    @Test
+    void getTrainerTrainings_pagedWithCursor_returnsSameRowsInKeysetOrder() {
+        TrainingFilter filter = TrainingFilter.empty();
+        List<Training> all = trainingRepository.getTrainerTrainings(TRAINER_USERNAME, filter);
+
+        List<TrainingSummary> paged = new ArrayList<>();
+        Optional<TrainingCursor> cursor = Optional.empty();
+        do {
+            TrainingPage page = trainingRepository.getTrainerTrainings(TRAINER_USERNAME, filter, cursor, 1, 0L);
+            assertThat(page.trainings()).hasSizeLessThanOrEqualTo(1);
+            paged.addAll(page.trainings());
+            cursor = page.nextCursor();
+        } while (cursor.isPresent());
+
+        assertThat(paged)
+                .extracting(TrainingSummary::trainingId)
+                .containsExactlyElementsOf(
+                        all.stream().map(Training::getTrainingId).toList());
+    }
+
+    @Test
+    void getTraineeTrainings_lastPage_hasNoNextCursor() {
+        TrainingPage page = trainingRepository.getTraineeTrainings(
+                TRAINEE_USERNAME, emptyTraineeFilter(), Optional.empty(), 200, 0L);
+
+        assertThat(page.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void streamTraineeTrainings_returnsSameRowsAsList() {
+        List<Training> listed = trainingRepository.getTraineeTrainings(TRAINEE_USERNAME, emptyTraineeFilter());
+
+        List<Long> streamedIds;
+        try (Stream<TrainingSummary> streamed =
+                trainingRepository.streamTraineeTrainings(TRAINEE_USERNAME, emptyTraineeFilter())) {
+            streamedIds = streamed.map(TrainingSummary::trainingId).toList();
+        }
+
+        assertThat(streamedIds)
+                .containsExactlyElementsOf(
+                        listed.stream().map(Training::getTrainingId).toList());
+    }
+
+    @Test
+    void summarizeTraineeWorkload_sumsDurationPerTrainerAndMonth() {
+        List<Training> listed = trainingRepository.getTraineeTrainings(TRAINEE_USERNAME, emptyTraineeFilter());
+
+        List<TrainerMonthlyWorkload> workloads = trainingRepository.summarizeTraineeWorkload(TRAINEE_USERNAME);
+
+        Map<String, Long> expected = listed.stream()
+                .collect(Collectors.groupingBy(
+                        t -> t.getTrainer().getUsername() + "@" + YearMonth.from(t.getTrainingDate()),
+                        Collectors.summingLong(Training::getTrainingDurationMin)));
+        assertThat(workloads)
+                .extracting(w -> w.trainerUsername() + "@" + w.month())
+                .containsExactlyInAnyOrderElementsOf(expected.keySet());
+        assertThat(workloads).allSatisfy(w -> assertThat(w.totalDurationMin())
+                .isEqualTo(expected.get(w.trainerUsername() + "@" + w.month())));
+    }
+
+    @Test
+    void getTrainerTrainings_afterArchiving_returnsArchivedAndLiveSessionsInOrder() {
+        TrainingFilter filter = TrainingFilter.empty();
+        List<Long> before = trainingRepository.getTrainerTrainings(TRAINER_USERNAME, filter).stream()
+                .map(Training::getTrainingId)
+                .toList();
+
+        int archived = archiver.archiveBefore(LocalDateTime.of(2024, 7, 1, 0, 0));
+
+        assertThat(archived).isPositive();
+        assertThat(trainingRepository.getTrainerTrainings(TRAINER_USERNAME, filter))
+                .extracting(Training::getTrainingId)
+                .containsExactlyElementsOf(before);
+
+        List<TrainingSummary> paged = new ArrayList<>();
+        Optional<TrainingCursor> cursor = Optional.empty();
+        do {
+            TrainingPage page = trainingRepository.getTrainerTrainings(TRAINER_USERNAME, filter, cursor, 2, 0L);
+            paged.addAll(page.trainings());
+            cursor = page.nextCursor();
+        } while (cursor.isPresent());
+        assertThat(paged).extracting(TrainingSummary::trainingId).containsExactlyElementsOf(before);
+    }
+
+    @Test
+    void deleteByTraineeTrainerAndDate_afterArchiving_removesArchivedSession() {
+        archiver.archiveBefore(SEEDED_DATE.plusSeconds(1));
+
+        Optional<TrainingWorkload> deleted =
+                trainingRepository.deleteByTraineeTrainerAndDate(TRAINEE_USERNAME, TRAINER_USERNAME, SEEDED_DATE);
+
+        assertThat(deleted).map(TrainingWorkload::trainingDate).contains(SEEDED_DATE);
+        assertThat(trainingRepository.getTrainerTrainings(TRAINER_USERNAME, TrainingFilter.empty()))
+                .extracting(Training::getTrainingDate)
+                .doesNotContain(SEEDED_DATE);
     }
 
     private TrainingFilter emptyTraineeFilter() {
@@ -54,10 +54,8 @@ class TrainingTypeRepositoryIntegrationTest extends SeededIntegrationTestBase {
 
     @Test
     void findByTrainingTypeName_withNonExistentType_returnsEmpty() {
-        entityManager
-                .createQuery("DELETE FROM TrainingTypeDAO t WHERE t.trainingTypeName = :name")
-                .setParameter("name", TrainingTypeEnum.BOXING)
-                .executeUpdate();
+        // Deleting through the repository keeps the cached view consistent with the database
+        trainingTypeRepository.delete(resolveId(TrainingTypeEnum.BOXING));
         entityManager.flush();
         entityManager.clear();
 
@@ -66,6 +64,13 @@ class TrainingTypeRepositoryIntegrationTest extends SeededIntegrationTestBase {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getTrainingTypes_repeatedCalls_returnCachedSnapshot() {
+        List<TrainingType> first = trainingTypeRepository.getTrainingTypes();
+
+        assertThat(trainingTypeRepository.getTrainingTypes()).isSameAs(first);
+    }
+
     @Test
     void findById_withExistingId_returnsType() {
         Long id = resolveId(TrainingTypeEnum.CARDIO);
@@ -0,0 +1,36 @@
+package com.epam.integration.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.domain.port.UsernameSerialRepository;
+import com.epam.integration.base.SeededIntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class UsernameSerialRepositoryIntegrationTest extends SeededIntegrationTestBase {
+
+    private static final String EXISTING_USERNAME = "Lisa.Miller";
+    private static final String UNUSED_BASE = "Nobody.Here";
+
+    @Autowired
+    private UsernameSerialRepository usernameSerialRepository;
+
+    @Test
+    void nextSerial_forUnusedBase_startsAtZero() {
+        assertThat(usernameSerialRepository.nextSerial(UNUSED_BASE)).isZero();
+        assertThat(usernameSerialRepository.nextSerial(UNUSED_BASE)).isEqualTo(1L);
+    }
+
+    @Test
+    void nextSerial_forExistingUsername_continuesAfterIt() {
+        assertThat(usernameSerialRepository.nextSerial(EXISTING_USERNAME)).isEqualTo(1L);
+        assertThat(usernameSerialRepository.nextSerial(EXISTING_USERNAME)).isEqualTo(2L);
+    }
+
+    @Test
+    void reserveSerials_handsOutConsecutiveBlocks() {
+        assertThat(usernameSerialRepository.reserveSerials(UNUSED_BASE, 3)).isZero();
+        assertThat(usernameSerialRepository.reserveSerials(UNUSED_BASE, 2)).isEqualTo(3L);
+        assertThat(usernameSerialRepository.nextSerial(UNUSED_BASE)).isEqualTo(5L);
+    }
+}
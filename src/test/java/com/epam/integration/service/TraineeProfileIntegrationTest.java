@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import com.epam.application.exception.EntityNotFoundException;
+import com.epam.application.exception.VersionConflictException;
 import com.epam.application.facade.GymFacadeImpl;
 import com.epam.application.request.CreateTraineeProfileRequest;
 import com.epam.application.request.UpdateTraineeProfileRequest;
@@ -49,6 +51,24 @@ class TraineeProfileIntegrationTest extends TransactionalTestBase {
         assertThat(retrieved.getUsername()).isEqualTo("Michael.Brown");
     }
 
+    @Test
+    void createTrainees_inBulk_assignsSerialsAfterExistingNamesakes() {
+        gymFacade.createTraineeProfile(
+                new CreateTraineeProfileRequest("Bulk", "Member", true, Optional.empty(), Optional.empty()));
+
+        List<Trainee> created = gymFacade.createTraineeProfiles(List.of(
+                new CreateTraineeProfileRequest("Bulk", "Member", true, Optional.empty(), Optional.empty()),
+                new CreateTraineeProfileRequest("Other", "Member", true, Optional.empty(), Optional.of("Main St")),
+                new CreateTraineeProfileRequest("Bulk", "Member", true, Optional.empty(), Optional.empty())));
+
+        assertThat(created)
+                .extracting(Trainee::getUsername)
+                .containsExactly("Bulk.Member1", "Other.Member", "Bulk.Member2");
+        assertThat(created)
+                .allSatisfy(trainee -> assertThat(trainee.getPassword()).hasSize(10));
+        assertThat(gymFacade.getTraineeByUsername("Other.Member").getAddress()).isEqualTo("Main St");
+    }
+
     @Test
     void createTrainee_withDuplicateName_appendsNumericSuffix() {
         CreateTraineeProfileRequest request1 =
@@ -75,7 +95,8 @@ class TraineeProfileIntegrationTest extends TransactionalTestBase {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.of(LocalDate.of(1991, 2, 2)),
-                Optional.of("999 New Address"));
+                Optional.of("999 New Address"),
+                Optional.empty());
 
         Trainee updated = gymFacade.updateTraineeProfile(update);
 
@@ -95,12 +116,36 @@ class TraineeProfileIntegrationTest extends TransactionalTestBase {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
-                Optional.of("Updated Address")));
+                Optional.of("Updated Address"),
+                Optional.empty()));
 
         Trainee retrieved = gymFacade.getTraineeByUsername(trainee.getUsername());
         assertThat(retrieved.getAddress()).isEqualTo("Updated Address");
     }
 
+    @Test
+    void updateTrainee_withCurrentVersion_advancesVersion() {
+        Trainee trainee = gymFacade.createTraineeProfile(
+                new CreateTraineeProfileRequest("Nora", "Quinn", true, Optional.empty(), Optional.empty()));
+        Long version = gymFacade.getTraineeByUsername(trainee.getUsername()).getVersion();
+
+        Trainee updated = gymFacade.updateTraineeProfile(addressUpdate(trainee.getUsername(), Optional.of(version)));
+
+        assertThat(updated.getVersion()).isGreaterThan(version);
+    }
+
+    @Test
+    void updateTrainee_withStaleVersion_throwsVersionConflict() {
+        Trainee trainee = gymFacade.createTraineeProfile(
+                new CreateTraineeProfileRequest("Owen", "Price", true, Optional.empty(), Optional.empty()));
+        Long version = gymFacade.getTraineeByUsername(trainee.getUsername()).getVersion();
+        gymFacade.updateTraineeProfile(addressUpdate(trainee.getUsername(), Optional.of(version)));
+
+        assertThatThrownBy(() ->
+                        gymFacade.updateTraineeProfile(addressUpdate(trainee.getUsername(), Optional.of(version))))
+                .isInstanceOf(VersionConflictException.class);
+    }
+
     @Test
     void deleteTrainee_removesRecordFromDatabase() {
         Trainee trainee = gymFacade.createTraineeProfile(
@@ -163,4 +208,16 @@ class TraineeProfileIntegrationTest extends TransactionalTestBase {
         assertThatThrownBy(() -> gymFacade.getTraineeByUsername("nonexistent.user"))
                 .isInstanceOf(EntityNotFoundException.class);
     }
+
+    private static UpdateTraineeProfileRequest addressUpdate(String username, Optional<Long> expectedVersion) {
+        return new UpdateTraineeProfileRequest(
+                username,
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of("1 Versioned Way"),
+                expectedVersion);
+    }
 }
@@ -12,9 +12,12 @@ import com.epam.application.facade.GymFacadeImpl;
 import com.epam.application.request.CreateTraineeProfileRequest;
 import com.epam.application.request.CreateTrainerProfileRequest;
 import com.epam.application.request.CreateTrainingRequest;
+import com.epam.domain.AssignedTrainers;
 import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
 import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.domain.projection.TrainerSummary;
 import com.epam.integration.base.TransactionalTestBase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,13 +34,15 @@ class TrainerAssignmentIntegrationTest extends TransactionalTestBase {
         Trainer trainer1 = createTrainer("Alice", "Smith", TrainingTypeEnum.YOGA);
         Trainer trainer2 = createTrainer("Elon", "Musk", TrainingTypeEnum.BOXING);
 
-        gymFacade.updateTraineeTrainersList(
-                trainee.getUsername(), List.of(trainer1.getUsername(), trainer2.getUsername()));
+        AssignedTrainers returned = gymFacade.updateTraineeTrainersList(
+                trainee.getUsername(), List.of(trainer1.getUsername(), trainer2.getUsername()), Optional.empty());
 
-        List<Trainer> assigned = gymFacade.getTraineeTrainers(trainee.getUsername());
+        List<TrainerSummary> assigned = gymFacade.getTraineeTrainers(trainee.getUsername());
         assertThat(assigned)
-                .extracting(Trainer::getUsername)
+                .extracting(TrainerSummary::username)
                 .containsExactlyInAnyOrder(trainer1.getUsername(), trainer2.getUsername());
+        assertThat(returned.trainers()).isEqualTo(assigned);
+        assertThat(returned.version()).isEqualTo(gymFacade.getTraineeChangeVersion(trainee.getUsername()));
     }
 
     @Test
@@ -48,10 +53,10 @@ class TrainerAssignmentIntegrationTest extends TransactionalTestBase {
         Trainer t3 = createTrainer("Carol", "White", TrainingTypeEnum.CARDIO);
         Trainee trainee = createTrainee("Mike", "Taylor");
 
-        List<Trainer> unassigned = gymFacade.getTraineeUnassignedTrainers(trainee.getUsername());
+        List<TrainerSummary> unassigned = gymFacade.getTraineeUnassignedTrainers(trainee.getUsername());
 
         assertThat(unassigned)
-                .extracting(Trainer::getUsername)
+                .extracting(TrainerSummary::username)
                 .containsExactlyInAnyOrder(t1.getUsername(), t2.getUsername(), t3.getUsername());
     }
 
@@ -62,11 +67,11 @@ class TrainerAssignmentIntegrationTest extends TransactionalTestBase {
         Trainer assigned = createTrainer("Alice", "Smith", TrainingTypeEnum.YOGA);
         Trainer free = createTrainer("Bob", "Jones", TrainingTypeEnum.BOXING);
 
-        gymFacade.updateTraineeTrainersList(trainee.getUsername(), List.of(assigned.getUsername()));
+        gymFacade.updateTraineeTrainersList(trainee.getUsername(), List.of(assigned.getUsername()), Optional.empty());
 
-        List<Trainer> unassigned = gymFacade.getTraineeUnassignedTrainers(trainee.getUsername());
+        List<TrainerSummary> unassigned = gymFacade.getTraineeUnassignedTrainers(trainee.getUsername());
 
-        assertThat(unassigned).extracting(Trainer::getUsername).containsExactly(free.getUsername());
+        assertThat(unassigned).extracting(TrainerSummary::username).containsExactly(free.getUsername());
     }
 
     @Test
@@ -85,11 +90,11 @@ class TrainerAssignmentIntegrationTest extends TransactionalTestBase {
                 trainee.getUsername(),
                 assigned.getUsername()));
 
-        List<Trainer> unassigned = gymFacade.getTraineeUnassignedTrainers(trainee.getUsername());
+        List<TrainerSummary> unassigned = gymFacade.getTraineeUnassignedTrainers(trainee.getUsername());
 
         assertThat(unassigned)
                 .hasSize(2)
-                .extracting(Trainer::getUsername)
+                .extracting(TrainerSummary::username)
                 .containsExactlyInAnyOrder(free1.getUsername(), free2.getUsername());
     }
 
@@ -99,7 +104,8 @@ class TrainerAssignmentIntegrationTest extends TransactionalTestBase {
         Trainer t1 = createTrainer("Alice", "Smith", TrainingTypeEnum.YOGA);
         Trainer t2 = createTrainer("Bob", "Jones", TrainingTypeEnum.BOXING);
 
-        gymFacade.updateTraineeTrainersList(trainee.getUsername(), List.of(t1.getUsername(), t2.getUsername()));
+        gymFacade.updateTraineeTrainersList(
+                trainee.getUsername(), List.of(t1.getUsername(), t2.getUsername()), Optional.empty());
 
         assertThat(gymFacade.getTraineeUnassignedTrainers(trainee.getUsername()))
                 .isEmpty();
@@ -111,11 +117,12 @@ class TrainerAssignmentIntegrationTest extends TransactionalTestBase {
         Trainer t1 = createTrainer("Alice", "Smith", TrainingTypeEnum.YOGA);
         Trainer t2 = createTrainer("Bob", "Jones", TrainingTypeEnum.BOXING);
 
-        gymFacade.updateTraineeTrainersList(trainee.getUsername(), List.of(t1.getUsername(), t2.getUsername()));
+        gymFacade.updateTraineeTrainersList(
+                trainee.getUsername(), List.of(t1.getUsername(), t2.getUsername()), Optional.empty());
 
-        List<Trainer> trainers = gymFacade.getTraineeTrainers(trainee.getUsername());
+        List<TrainerSummary> trainers = gymFacade.getTraineeTrainers(trainee.getUsername());
         assertThat(trainers)
-                .extracting(Trainer::getUsername)
+                .extracting(TrainerSummary::username)
                 .containsExactlyInAnyOrder(t1.getUsername(), t2.getUsername());
     }
 
@@ -139,9 +146,9 @@ class TrainerAssignmentIntegrationTest extends TransactionalTestBase {
                 trainee.getUsername(),
                 trainer.getUsername()));
 
-        List<Trainer> trainers = gymFacade.getTraineeTrainers(trainee.getUsername());
+        List<TrainerSummary> trainers = gymFacade.getTraineeTrainers(trainee.getUsername());
         assertThat(trainers).hasSize(1);
-        assertThat(trainers.get(0).getUsername()).isEqualTo(trainer.getUsername());
+        assertThat(trainers.get(0).username()).isEqualTo(trainer.getUsername());
     }
 
     @Test
@@ -171,9 +178,9 @@ class TrainerAssignmentIntegrationTest extends TransactionalTestBase {
                 trainee2.getUsername(),
                 trainer.getUsername()));
 
-        List<Trainee> trainees = gymFacade.getTrainerTrainees(trainer.getUsername());
+        List<TraineeSummary> trainees = gymFacade.getTrainerTrainees(trainer.getUsername());
         assertThat(trainees)
-                .extracting(Trainee::getUsername)
+                .extracting(TraineeSummary::username)
                 .containsExactlyInAnyOrder(trainee1.getUsername(), trainee2.getUsername());
     }
 
@@ -204,10 +211,10 @@ class TrainerAssignmentIntegrationTest extends TransactionalTestBase {
                 trainee.getUsername(),
                 trainer.getUsername()));
 
-        List<Trainee> trainees = gymFacade.getTrainerTrainees(trainer.getUsername());
+        List<TraineeSummary> trainees = gymFacade.getTrainerTrainees(trainer.getUsername());
 
         assertThat(trainees).hasSize(1);
-        assertThat(trainees.get(0).getUsername()).isEqualTo(trainee.getUsername());
+        assertThat(trainees.get(0).username()).isEqualTo(trainee.getUsername());
     }
 
     @Test
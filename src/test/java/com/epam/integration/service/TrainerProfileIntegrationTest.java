@@ -3,12 +3,18 @@ package com.epam.integration.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import com.epam.application.exception.EntityNotFoundException;
 import com.epam.application.facade.GymFacadeImpl;
+import com.epam.application.request.CreateTraineeProfileRequest;
 import com.epam.application.request.CreateTrainerProfileRequest;
+import com.epam.application.request.CreateTrainingRequest;
 import com.epam.application.request.UpdateTrainerProfileRequest;
+import com.epam.domain.TrainingFilter;
+import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
 import com.epam.domain.model.TrainingTypeEnum;
 import com.epam.infrastructure.persistence.dao.TrainerDAO;
@@ -70,7 +76,8 @@ class TrainerProfileIntegrationTest extends TransactionalTestBase {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.of(false),
-                Optional.of(TrainingTypeEnum.PILATES)));
+                Optional.of(TrainingTypeEnum.PILATES),
+                Optional.empty()));
 
         assertThat(updated.getActive()).isFalse();
         assertThat(updated.getSpecialization().getTrainingTypeName()).isEqualTo(TrainingTypeEnum.PILATES);
@@ -88,7 +95,8 @@ class TrainerProfileIntegrationTest extends TransactionalTestBase {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
-                Optional.of(TrainingTypeEnum.PILATES)));
+                Optional.of(TrainingTypeEnum.PILATES),
+                Optional.empty()));
 
         Trainer retrieved = gymFacade.getTrainerByUsername(trainer.getUsername());
         assertThat(retrieved.getSpecialization().getTrainingTypeName()).isEqualTo(TrainingTypeEnum.PILATES);
@@ -107,6 +115,30 @@ class TrainerProfileIntegrationTest extends TransactionalTestBase {
         assertThat(entityManager.find(TrainerDAO.class, trainer.getTrainerId())).isNull();
     }
 
+    @Test
+    void deleteTrainer_withSessionsAndTrainees_removesThemButKeepsTrainees() {
+
+        Trainer trainer = gymFacade.createTrainerProfile(
+                new CreateTrainerProfileRequest("Henry", "Cavill", true, TrainingTypeEnum.CARDIO));
+        Trainee trainee = gymFacade.createTraineeProfile(new CreateTraineeProfileRequest(
+                "John", "Doe", true, Optional.of(LocalDate.of(1990, 1, 1)), Optional.of("Main St")));
+        gymFacade.createTraining(new CreateTrainingRequest(
+                "Cardio",
+                LocalDateTime.now().minusDays(1),
+                45,
+                Optional.of(TrainingTypeEnum.CARDIO),
+                trainee.getUsername(),
+                trainer.getUsername()));
+
+        gymFacade.deleteTrainerProfile(trainer.getUsername());
+        entityManager.clear();
+
+        assertThat(entityManager.find(TrainerDAO.class, trainer.getTrainerId())).isNull();
+        assertThat(gymFacade.getTraineeTrainers(trainee.getUsername())).isEmpty();
+        assertThat(gymFacade.getTraineeTrainings(trainee.getUsername(), TrainingFilter.empty()))
+                .isEmpty();
+    }
+
     @Test
     void toggleTrainerActiveStatus_flipsFromTrueToFalse() {
 
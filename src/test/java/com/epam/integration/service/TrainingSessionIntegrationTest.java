@@ -1,8 +1,10 @@
 package com.epam.integration.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,11 +12,13 @@ import com.epam.application.facade.GymFacadeImpl;
 import com.epam.application.request.CreateTraineeProfileRequest;
 import com.epam.application.request.CreateTrainerProfileRequest;
 import com.epam.application.request.CreateTrainingRequest;
+import com.epam.domain.TrainingBatchResult;
 import com.epam.domain.TrainingFilter;
 import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
 import com.epam.domain.model.Training;
 import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TrainerWorkloadSummary;
 import com.epam.integration.base.TransactionalTestBase;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
@@ -53,6 +57,55 @@ class TrainingSessionIntegrationTest extends TransactionalTestBase {
         assertThat(saved.getTrainer().getUsername()).isEqualTo(trainer.getUsername());
     }
 
+    @Test
+    void createTraining_advancesTraineeChangeVersionAndTrainerTrainingsVersion() {
+        Trainer trainer = gymFacade.createTrainerProfile(
+                new CreateTrainerProfileRequest("Polled", "Trainer", true, TrainingTypeEnum.YOGA));
+        Trainee trainee = gymFacade.createTraineeProfile(
+                new CreateTraineeProfileRequest("Polled", "Trainee", true, Optional.empty(), Optional.empty()));
+        long trainingsVersion = gymFacade.getTrainerTrainingsVersion(trainer.getUsername());
+        long traineeVersion = gymFacade.getTraineeChangeVersion(trainee.getUsername());
+
+        gymFacade.createTraining(new CreateTrainingRequest(
+                "Evening Yoga",
+                LocalDateTime.now(),
+                45,
+                Optional.of(TrainingTypeEnum.YOGA),
+                trainee.getUsername(),
+                trainer.getUsername()));
+
+        assertThat(gymFacade.getTrainerTrainingsVersion(trainer.getUsername())).isGreaterThan(trainingsVersion);
+        assertThat(gymFacade.getTraineeChangeVersion(trainee.getUsername())).isGreaterThan(traineeVersion);
+    }
+
+    @Test
+    void createTraining_forAssignedPair_leavesTrainerChangeVersionAlone() {
+        Trainer trainer = gymFacade.createTrainerProfile(
+                new CreateTrainerProfileRequest("Busy", "Trainer", true, TrainingTypeEnum.YOGA));
+        Trainee trainee = gymFacade.createTraineeProfile(
+                new CreateTraineeProfileRequest("Regular", "Trainee", true, Optional.empty(), Optional.empty()));
+        gymFacade.createTraining(new CreateTrainingRequest(
+                "First Yoga",
+                LocalDateTime.now().minusDays(1),
+                45,
+                Optional.of(TrainingTypeEnum.YOGA),
+                trainee.getUsername(),
+                trainer.getUsername()));
+        long trainerVersion = gymFacade.getTrainerChangeVersion(trainer.getUsername());
+        long trainingsVersion = gymFacade.getTrainerTrainingsVersion(trainer.getUsername());
+
+        gymFacade.createTraining(new CreateTrainingRequest(
+                "Second Yoga",
+                LocalDateTime.now(),
+                45,
+                Optional.of(TrainingTypeEnum.YOGA),
+                trainee.getUsername(),
+                trainer.getUsername()));
+
+        assertThat(gymFacade.getTrainerChangeVersion(trainer.getUsername())).isEqualTo(trainerVersion);
+        assertThat(gymFacade.getTrainerTrainingsVersion(trainer.getUsername())).isGreaterThan(trainingsVersion);
+    }
+
     @Test
     void createTraining_multipleSessionsForSameTraineePersistIndependently() {
         Trainer trainer = gymFacade.createTrainerProfile(
@@ -149,4 +202,71 @@ class TrainingSessionIntegrationTest extends TransactionalTestBase {
                 .extracting(Training::getTrainingName)
                 .containsExactly("Surviving Session");
     }
+
+    @Test
+    void createTrainings_persistsValidItemsAndRejectsDuplicatesAndUnknownUsers() {
+        Trainer trainer = gymFacade.createTrainerProfile(
+                new CreateTrainerProfileRequest("Batch", "Trainer", true, TrainingTypeEnum.YOGA));
+        Trainee trainee = gymFacade.createTraineeProfile(
+                new CreateTraineeProfileRequest("Batch", "Trainee", true, Optional.empty(), Optional.empty()));
+        LocalDateTime monday = LocalDateTime.now().plusDays(7).withNano(0);
+
+        List<TrainingBatchResult> results = gymFacade.createTrainings(List.of(
+                new CreateTrainingRequest(
+                        "Monday", monday, 60, Optional.empty(), trainee.getUsername(), trainer.getUsername()),
+                new CreateTrainingRequest(
+                        "Tuesday",
+                        monday.plusDays(1),
+                        45,
+                        Optional.empty(),
+                        trainee.getUsername(),
+                        trainer.getUsername()),
+                new CreateTrainingRequest(
+                        "Monday again", monday, 60, Optional.empty(), trainee.getUsername(), trainer.getUsername()),
+                new CreateTrainingRequest(
+                        "Nobody", monday, 60, Optional.empty(), "Ghost.Trainee", trainer.getUsername())));
+
+        assertThat(results).extracting(TrainingBatchResult::succeeded).containsExactly(true, true, false, false);
+        assertThat(results.get(0).trainingId()).isNotNull();
+
+        List<Training> trainings = gymFacade.getTraineeTrainings(trainee.getUsername(), TrainingFilter.empty());
+        assertThat(trainings).extracting(Training::getTrainingName).containsExactly("Monday", "Tuesday");
+        assertThat(gymFacade.getTraineeTrainers(trainee.getUsername())).hasSize(1);
+    }
+
+    @Test
+    void trainerWorkload_followsTrainingCreatesAndDeletes() {
+        Trainer trainer = gymFacade.createTrainerProfile(
+                new CreateTrainerProfileRequest("Load", "Trainer", true, TrainingTypeEnum.CARDIO));
+        Trainee first = gymFacade.createTraineeProfile(
+                new CreateTraineeProfileRequest("First", "Trainee", true, Optional.empty(), Optional.empty()));
+        Trainee second = gymFacade.createTraineeProfile(
+                new CreateTraineeProfileRequest("Second", "Trainee", true, Optional.empty(), Optional.empty()));
+        LocalDateTime july = LocalDateTime.of(2026, 7, 1, 9, 0);
+
+        gymFacade.createTraining(new CreateTrainingRequest(
+                "One", july, 60, Optional.empty(), first.getUsername(), trainer.getUsername()));
+        gymFacade.createTrainings(List.of(
+                new CreateTrainingRequest(
+                        "Two", july.plusDays(1), 90, Optional.empty(), first.getUsername(), trainer.getUsername()),
+                new CreateTrainingRequest(
+                        "Three", july.plusDays(2), 120, Optional.empty(), second.getUsername(), trainer.getUsername()),
+                new CreateTrainingRequest(
+                        "Four",
+                        july.plusMonths(1),
+                        30,
+                        Optional.empty(),
+                        second.getUsername(),
+                        trainer.getUsername())));
+
+        TrainerWorkloadSummary created = gymFacade.getTrainerWorkload(trainer.getUsername());
+        assertThat(created.minutesByMonth())
+                .containsExactly(entry(YearMonth.of(2026, 7), 270L), entry(YearMonth.of(2026, 8), 30L));
+
+        gymFacade.deleteTraining(second.getUsername(), trainer.getUsername(), july.plusMonths(1));
+        gymFacade.deleteTraineeProfile(first.getUsername());
+
+        TrainerWorkloadSummary remaining = gymFacade.getTrainerWorkload(trainer.getUsername());
+        assertThat(remaining.minutesByMonth()).containsExactly(entry(YearMonth.of(2026, 7), 120L));
+    }
 }
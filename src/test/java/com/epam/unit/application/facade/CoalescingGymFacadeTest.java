@@ -0,0 +1,179 @@
+package com.epam.unit.application.facade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.epam.application.exception.EntityNotFoundException;
+import com.epam.application.facade.CoalescingGymFacade;
+import com.epam.application.facade.GymFacadeImpl;
+import com.epam.application.port.ConsistencyToken;
+import com.epam.domain.model.Trainee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingGymFacadeTest {
+
+    private static final String TRAINEE = "John.Doe";
+
+    @Mock
+    private GymFacadeImpl delegate;
+
+    private ExecutorService executor;
+
+    private final Trainee trainee = new Trainee("John", "Doe", true);
+
+    private final ThreadLocal<Long> requiredPosition = ThreadLocal.withInitial(() -> 0L);
+
+    private final ConsistencyToken consistencyToken = requiredPosition::get;
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private CoalescingGymFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        trainee.setUsername(TRAINEE);
+        trainee.setVersion(3L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalReads_shareOneDelegateCall_andGetOwnCopies() throws Exception {
+        facade = new CoalescingGymFacade(new BlockingFirstRead(), consistencyToken);
+
+        Future<Trainee> first = executor.submit(() -> readAs("alice", 0L));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Trainee> joined = new CompletableFuture<>();
+        Thread follower = new Thread(() -> joined.complete(readAs("alice", 0L)));
+        follower.start();
+        awaitWaiting(follower);
+        release.countDown();
+
+        Trainee firstResult = first.get(5, TimeUnit.SECONDS);
+        Trainee joinedResult = joined.get(5, TimeUnit.SECONDS);
+        assertThat(reads).hasValue(1);
+        assertThat(firstResult).isNotSameAs(trainee).usingRecursiveComparison().isEqualTo(trainee);
+        assertThat(joinedResult).isNotSameAs(trainee).isNotSameAs(firstResult);
+
+        firstResult.setAddress("Changed by the first caller");
+        assertThat(joinedResult.getAddress()).isNull();
+        assertThat(trainee.getAddress()).isNull();
+    }
+
+    @Test
+    void concurrentReadsByDifferentPrincipals_areNotCoalesced() throws Exception {
+        facade = new CoalescingGymFacade(new BlockingFirstRead(), consistencyToken);
+
+        Future<Trainee> first = executor.submit(() -> readAs("alice", 0L));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Completes while the first call is still in flight, so it cannot have joined it
+        assertThat(executor.submit(() -> readAs("bob", 0L)).get(5, TimeUnit.SECONDS))
+                .isNotNull();
+        assertThat(first).isNotDone();
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(reads).hasValue(2);
+    }
+
+    @Test
+    void concurrentReadsWithDifferentConsistencyRequirements_areNotCoalesced() throws Exception {
+        facade = new CoalescingGymFacade(new BlockingFirstRead(), consistencyToken);
+
+        Future<Trainee> first = executor.submit(() -> readAs("alice", 0L));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The second caller has just written, so it must not take a result read before its write
+        assertThat(executor.submit(() -> readAs("alice", 42L)).get(5, TimeUnit.SECONDS))
+                .isNotNull();
+        assertThat(first).isNotDone();
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(reads).hasValue(2);
+    }
+
+    @Test
+    void failedRead_isRethrownAndNotRemembered() {
+        facade = new CoalescingGymFacade(delegate, consistencyToken);
+        when(delegate.getTraineeByUsername(TRAINEE))
+                .thenThrow(new EntityNotFoundException("Trainee not found"))
+                .thenReturn(trainee);
+
+        assertThatThrownBy(() -> facade.getTraineeByUsername(TRAINEE)).isInstanceOf(EntityNotFoundException.class);
+        assertThat(facade.getTraineeByUsername(TRAINEE))
+                .usingRecursiveComparison()
+                .isEqualTo(trainee);
+        verify(delegate, times(2)).getTraineeByUsername(TRAINEE);
+    }
+
+    private Trainee readAs(String principal, long position) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(principal, null));
+        requiredPosition.set(position);
+        try {
+            return facade.getTraineeByUsername(TRAINEE);
+        } finally {
+            requiredPosition.remove();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+
+    /**
+     * Holds its first read until released. A hand-written delegate, since Mockito runs a stubbed answer under a lock
+     * that would also hold back the concurrent calls under test.
+     */
+    private class BlockingFirstRead extends GymFacadeImpl {
+
+        BlockingFirstRead() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public Trainee getTraineeByUsername(String traineeUsername) {
+            if (reads.incrementAndGet() == 1) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return trainee;
+        }
+    }
+}
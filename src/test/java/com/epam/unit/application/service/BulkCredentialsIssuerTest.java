@@ -0,0 +1,129 @@
+package com.epam.unit.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.epam.application.exception.CapacityExceededException;
+import com.epam.application.service.impl.BulkCredentialsIssuer;
+import com.epam.domain.model.Trainee;
+import com.epam.domain.port.UsernameSerialRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCredentialsIssuerTest {
+
+    // Runs hashing tasks inline so the tests stay deterministic
+    private static final Answer<Void> RUN_INLINE = invocation -> {
+        invocation.<Runnable>getArgument(0).run();
+        return null;
+    };
+
+    @Mock
+    private UsernameSerialRepository usernameSerialRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private ExecutorService passwordHashingExecutor;
+
+    @Mock
+    private TransactionOperations transactionOperations;
+
+    @InjectMocks
+    private BulkCredentialsIssuer bulkCredentialsIssuer;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+        when(transactionOperations.execute(any()))
+                .thenAnswer(invocation ->
+                        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void issue_reservesOneSerialBlockPerNameAndHashesEveryPassword() {
+        // Given
+        Trainee firstJohn = new Trainee("John", "Doe", true);
+        Trainee jane = new Trainee("Jane", "Roe", true);
+        Trainee secondJohn = new Trainee("John", "Doe", true);
+        doAnswer(RUN_INLINE).when(passwordHashingExecutor).execute(any(Runnable.class));
+        when(usernameSerialRepository.reserveSerials("John.Doe", 2)).thenReturn(0L);
+        when(usernameSerialRepository.reserveSerials("Jane.Roe", 1)).thenReturn(4L);
+
+        // When
+        List<String> passwords = bulkCredentialsIssuer.issue(List.of(firstJohn, jane, secondJohn));
+
+        // Then
+        assertThat(List.of(firstJohn, jane, secondJohn))
+                .extracting(Trainee::getUsername)
+                .containsExactly("John.Doe", "Jane.Roe4", "John.Doe1");
+        assertThat(passwords).hasSize(3).allSatisfy(password -> assertThat(password)
+                .hasSize(10));
+        assertThat(jane.getPassword()).isEqualTo("hashed-" + passwords.get(1));
+        verify(usernameSerialRepository).reserveSerials("John.Doe", 2);
+    }
+
+    @Test
+    void issue_reservesSerialsInNameOrderAfterHashing() {
+        // Given
+        Trainee john = new Trainee("John", "Doe", true);
+        Trainee jane = new Trainee("Jane", "Roe", true);
+        doAnswer(RUN_INLINE).when(passwordHashingExecutor).execute(any(Runnable.class));
+        when(usernameSerialRepository.reserveSerials(anyString(), anyInt())).thenReturn(0L);
+
+        // When
+        bulkCredentialsIssuer.issue(List.of(john, jane));
+
+        // Then
+        InOrder inOrder = inOrder(passwordEncoder, transactionOperations, usernameSerialRepository);
+        inOrder.verify(passwordEncoder, times(2)).encode(anyString());
+        inOrder.verify(transactionOperations).execute(any());
+        inOrder.verify(usernameSerialRepository).reserveSerials("Jane.Roe", 1);
+        inOrder.verify(usernameSerialRepository).reserveSerials("John.Doe", 1);
+    }
+
+    @Test
+    void issue_whenHashingPoolRejects_failsWithoutReservingAndReleasesItsSlot() {
+        // Given
+        Trainee john = new Trainee("John", "Doe", true);
+        Trainee jane = new Trainee("Jane", "Roe", true);
+        doAnswer(RUN_INLINE)
+                .doThrow(new RejectedExecutionException("queue full"))
+                .doAnswer(RUN_INLINE)
+                .when(passwordHashingExecutor)
+                .execute(any(Runnable.class));
+        when(usernameSerialRepository.reserveSerials(anyString(), anyInt())).thenReturn(0L);
+
+        // When / Then
+        assertThatThrownBy(() -> bulkCredentialsIssuer.issue(List.of(john, jane)))
+                .isInstanceOf(CapacityExceededException.class);
+        verify(usernameSerialRepository, times(0)).reserveSerials(anyString(), anyInt());
+
+        // The rejected batch gave its slot back, so the next one goes through
+        bulkCredentialsIssuer.issue(List.of(jane));
+        assertThat(jane.getUsername()).isEqualTo("Jane.Roe");
+    }
+}
@@ -3,11 +3,16 @@ package com.epam.unit.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -17,22 +22,31 @@ import com.epam.application.exception.ValidationException;
 import com.epam.application.messaging.publisher.TrainingEventPublisher;
 import com.epam.application.request.CreateTraineeProfileRequest;
 import com.epam.application.request.UpdateTraineeProfileRequest;
+import com.epam.application.service.impl.BulkCredentialsIssuer;
 import com.epam.application.service.impl.TraineeServiceImpl;
+import com.epam.application.util.PagingUtil;
+import com.epam.domain.AssignedTrainers;
+import com.epam.domain.TrainerPage;
 import com.epam.domain.model.Trainee;
-import com.epam.domain.model.Trainer;
-import com.epam.domain.model.TrainingType;
 import com.epam.domain.model.TrainingTypeEnum;
 import com.epam.domain.port.TraineeRepository;
-import com.epam.domain.port.TrainingRepository;
+import com.epam.domain.port.TrainerWorkloadRepository;
+import com.epam.domain.port.UsernameSerialRepository;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test")
@@ -48,10 +62,19 @@ class TraineeServiceImplTest {
     PasswordEncoder passwordEncoder;
 
     @Mock
-    TrainingRepository trainingRepository;
+    TrainingEventPublisher publisher;
 
     @Mock
-    TrainingEventPublisher publisher;
+    private UsernameSerialRepository usernameSerialRepository;
+
+    @Mock
+    private BulkCredentialsIssuer bulkCredentialsIssuer;
+
+    @Mock
+    private TrainerWorkloadRepository trainerWorkloadRepository;
+
+    @Mock
+    private TransactionOperations transactionOperations;
 
     @InjectMocks
     private TraineeServiceImpl traineeService;
@@ -75,7 +98,7 @@ class TraineeServiceImplTest {
         CreateTraineeProfileRequest request =
                 new CreateTraineeProfileRequest("John", "Doe", true, Optional.empty(), Optional.empty());
 
-        when(traineeRepository.findLatestUsername("John.Doe")).thenReturn(Optional.empty());
+        when(usernameSerialRepository.nextSerial("John.Doe")).thenReturn(0L);
         when(traineeRepository.save(any(Trainee.class))).thenReturn(testTrainee);
 
         // When
@@ -88,13 +111,46 @@ class TraineeServiceImplTest {
         verify(traineeRepository).save(any(Trainee.class));
     }
 
+    @Test
+    void createProfiles_shouldIssueCredentialsAndSaveAllInOneCall() {
+        // Given
+        List<CreateTraineeProfileRequest> requests = List.of(
+                new CreateTraineeProfileRequest("John", "Doe", true, Optional.empty(), Optional.empty()),
+                new CreateTraineeProfileRequest("Jane", "Roe", true, Optional.empty(), Optional.of("1 Side St")));
+
+        Trainee savedJohn = new Trainee("John", "Doe", true);
+        savedJohn.setUsername("John.Doe");
+        Trainee savedJane = new Trainee("Jane", "Roe", true);
+        savedJane.setUsername("Jane.Roe");
+
+        when(bulkCredentialsIssuer.issue(anyList())).thenReturn(List.of("rawPass001", "rawPass002"));
+        when(transactionOperations.execute(any()))
+                .thenAnswer(invocation ->
+                        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(traineeRepository.saveAll(anyList())).thenReturn(List.of(savedJohn, savedJane));
+
+        // When
+        List<Trainee> created = traineeService.createProfiles(requests);
+
+        // Then
+        assertThat(created).extracting(Trainee::getPassword).containsExactly("rawPass001", "rawPass002");
+        verify(traineeRepository)
+                .saveAll(argThat(trainees -> trainees.size() == 2
+                        && "1 Side St".equals(trainees.get(1).getAddress())));
+    }
+
+    @Test
+    void createProfiles_shouldRejectEmptyBatch() {
+        assertThatThrownBy(() -> traineeService.createProfiles(List.of())).isInstanceOf(ValidationException.class);
+    }
+
     @Test
     void createProfile_shouldGenerateUniqueUsernameWhenDuplicateExists() {
         // Given
         CreateTraineeProfileRequest request =
                 new CreateTraineeProfileRequest("John", "Doe", true, Optional.empty(), Optional.empty());
 
-        when(traineeRepository.findLatestUsername("John.Doe")).thenReturn(Optional.of("John.Doe1"));
+        when(usernameSerialRepository.nextSerial("John.Doe")).thenReturn(2L);
 
         Trainee traineeWithSerial = new Trainee("John", "Doe", true);
         traineeWithSerial.setUsername("John.Doe2");
@@ -106,7 +162,7 @@ class TraineeServiceImplTest {
 
         // Then
         assertThat(created.getUsername()).isEqualTo("John.Doe2");
-        verify(traineeRepository).save(any(Trainee.class));
+        verify(traineeRepository).save(argThat(saved -> "John.Doe2".equals(saved.getUsername())));
     }
 
     @Test
@@ -121,7 +177,7 @@ class TraineeServiceImplTest {
         savedTrainee.setAddress("456 Oak Ave");
         savedTrainee.setUsername("Jane.Smith");
 
-        when(traineeRepository.findLatestUsername(any())).thenReturn(Optional.empty());
+        when(usernameSerialRepository.nextSerial(any())).thenReturn(0L);
         when(traineeRepository.save(any(Trainee.class))).thenReturn(savedTrainee);
 
         // When
@@ -167,7 +223,8 @@ class TraineeServiceImplTest {
                 Optional.of("newpassword123"), //
                 Optional.of(false), //
                 Optional.of(LocalDate.of(1992, 3, 15)), //
-                Optional.of("789 Elm St"));
+                Optional.of("789 Elm St"), //
+                Optional.empty());
 
         when(traineeRepository.findByUsername("John.Doe")).thenReturn(Optional.of(testTrainee));
 
@@ -187,6 +244,30 @@ class TraineeServiceImplTest {
         verify(traineeRepository).save(any(Trainee.class));
     }
 
+    @Test
+    void updateProfile_shouldEnforceOnlyTheVersionTheClientSent() {
+        // Given
+        testTrainee.setVersion(7L);
+        UpdateTraineeProfileRequest request = new UpdateTraineeProfileRequest(
+                testTrainee.getUsername(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of("789 Elm St"),
+                Optional.of(5L));
+
+        when(traineeRepository.findByUsername("John.Doe")).thenReturn(Optional.of(testTrainee));
+        when(traineeRepository.save(any(Trainee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Trainee updated = traineeService.updateProfile(request);
+
+        // Then
+        assertThat(updated.getVersion()).isEqualTo(5L);
+    }
+
     @Test
     void updateProfile_shouldThrowEntityNotFoundException_whenCredentialsInvalid() {
         // Given
@@ -197,6 +278,7 @@ class TraineeServiceImplTest {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
+                Optional.empty(),
                 Optional.empty());
 
         // When/Then
@@ -213,6 +295,7 @@ class TraineeServiceImplTest {
                 Optional.of("John.Doe"), //
                 Optional.empty(), //
                 Optional.empty(), //
+                Optional.empty(), //
                 Optional.empty() //
                 );
 
@@ -226,14 +309,15 @@ class TraineeServiceImplTest {
     void updatePassword_shouldUpdatePassword() {
         // Given
         String newPassword = "newSecurePass123";
-        when(traineeRepository.findByUsername("John.Doe")).thenReturn(Optional.of(testTrainee));
-        when(traineeRepository.save(any(Trainee.class))).thenReturn(testTrainee);
+        when(passwordEncoder.encode(newPassword)).thenReturn("encoded");
+        when(traineeRepository.updatePassword("John.Doe", "encoded")).thenReturn(true);
 
         // When
         traineeService.updatePassword(testTrainee.getUsername(), newPassword);
 
         // Then
-        verify(traineeRepository).save(any(Trainee.class));
+        verify(traineeRepository).updatePassword("John.Doe", "encoded");
+        verify(traineeRepository, never()).findByUsername(any());
     }
 
     @Test
@@ -254,14 +338,14 @@ class TraineeServiceImplTest {
     @Test
     void toggleActiveStatus_shouldToggleFromTrueToFalse() {
         // Given
-        when(traineeRepository.findByUsername("John.Doe")).thenReturn(Optional.of(testTrainee));
-        when(traineeRepository.save(any(Trainee.class))).thenReturn(testTrainee);
+        when(traineeRepository.toggleActive("John.Doe")).thenReturn(Optional.of(false));
 
         // When
         traineeService.toggleActiveStatus(testTrainee.getUsername());
 
         // Then
-        verify(traineeRepository).save(any(Trainee.class));
+        verify(traineeRepository).toggleActive("John.Doe");
+        verify(traineeRepository, never()).save(any(Trainee.class));
     }
 
     @Test
@@ -274,7 +358,7 @@ class TraineeServiceImplTest {
     @Test
     void deleteProfile_shouldDeleteTrainee() {
         // Given
-        doNothing().when(traineeRepository).deleteByUsername("John.Doe");
+        when(traineeRepository.deleteByUsername("John.Doe")).thenReturn(List.of());
         when(traineeRepository.findByUsername("John.Doe")).thenReturn(Optional.ofNullable(testTrainee));
 
         // When
@@ -284,6 +368,25 @@ class TraineeServiceImplTest {
         verify(traineeRepository).deleteByUsername("John.Doe");
     }
 
+    @Test
+    void deleteProfile_shouldSubtractAndPublishWorkloadReturnedByDeletion() {
+        // Given
+        List<TrainerMonthlyWorkload> workloads = List.of(
+                new TrainerMonthlyWorkload("Jane.Smith", "Jane", "Smith", true, YearMonth.of(2024, 1), 120),
+                new TrainerMonthlyWorkload("Jane.Smith", "Jane", "Smith", true, YearMonth.of(2024, 2), 90));
+        when(traineeRepository.findByUsername("John.Doe")).thenReturn(Optional.of(testTrainee));
+        when(traineeRepository.deleteByUsername("John.Doe")).thenReturn(workloads);
+
+        // When
+        traineeService.deleteProfile(testTrainee.getUsername());
+
+        // Then
+        InOrder inOrder = inOrder(traineeRepository, trainerWorkloadRepository, publisher);
+        inOrder.verify(traineeRepository).deleteByUsername("John.Doe");
+        inOrder.verify(trainerWorkloadRepository).subtract(workloads);
+        inOrder.verify(publisher).publishWorkloadRemoved(workloads);
+    }
+
     @Test
     void deleteProfile_shouldThrowEntityNotFoundException_whenInvalidCredentials() {
         // When/Then
@@ -314,26 +417,116 @@ class TraineeServiceImplTest {
     }
 
     @Test
-    void getUnassignedTrainers_shouldReturnListOfTrainers() {
+    void getProfileWithTrainers_shouldReturnAggregateFromOneRepositoryRead() {
         // Given
-        TrainingType yogaType = new TrainingType(TrainingTypeEnum.YOGA);
-        TrainingType boxingType = new TrainingType(TrainingTypeEnum.BOXING);
+        TrainerSummary trainer = new TrainerSummary("Jane.Smith", "Jane", "Smith", true, TrainingTypeEnum.YOGA);
+        when(traineeRepository.findProfile("John.Doe"))
+                .thenReturn(Optional.of(new TraineeProfile(testTrainee, List.of(trainer))));
 
-        Trainer trainer1 = new Trainer("Alice", "Trainer", true, yogaType);
-        trainer1.setUsername("Alice.Trainer");
+        // When
+        TraineeProfile profile = traineeService.getProfileWithTrainers("John.Doe");
+
+        // Then
+        assertThat(profile.trainee().getUsername()).isEqualTo("John.Doe");
+        assertThat(profile.trainers()).containsExactly(trainer);
+        verify(traineeRepository, never()).findByUsername(any());
+        verify(traineeRepository, never()).getTrainers(any());
+    }
 
-        Trainer trainer2 = new Trainer("Bob", "Coach", true, boxingType);
-        trainer2.setUsername("Bob.Coach");
+    @Test
+    void getProfileWithTrainers_shouldThrowEntityNotFoundException_whenTraineeMissing() {
+        // When/Then
+        assertThatThrownBy(() -> traineeService.getProfileWithTrainers("invalid.username"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void getChangeVersion_shouldReturnVersionWithoutLoadingProfile() {
+        // Given
+        when(traineeRepository.findChangeVersion("John.Doe")).thenReturn(Optional.of(12L));
+
+        // When/Then
+        assertThat(traineeService.getChangeVersion("John.Doe")).isEqualTo(12L);
+        verify(traineeRepository, never()).findByUsername(any());
+        verify(traineeRepository, never()).findProfile(any());
+    }
+
+    @Test
+    void getChangeVersion_shouldThrowEntityNotFoundException_whenTraineeMissing() {
+        // When/Then
+        assertThatThrownBy(() -> traineeService.getChangeVersion("invalid.username"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void updateProfileWithTrainers_shouldSaveAndKeepLoadedTrainers() {
+        // Given
+        TrainerSummary trainer = new TrainerSummary("Jane.Smith", "Jane", "Smith", true, TrainingTypeEnum.YOGA);
+        UpdateTraineeProfileRequest request = new UpdateTraineeProfileRequest(
+                testTrainee.getUsername(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of("789 Elm St"),
+                Optional.empty());
+        when(traineeRepository.findProfile("John.Doe"))
+                .thenReturn(Optional.of(new TraineeProfile(testTrainee, List.of(trainer))));
+        when(traineeRepository.save(any(Trainee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TraineeProfile profile = traineeService.updateProfileWithTrainers(request);
+
+        // Then
+        assertThat(profile.trainee().getAddress()).isEqualTo("789 Elm St");
+        assertThat(profile.trainers()).containsExactly(trainer);
+        verify(traineeRepository, never()).getTrainers(any());
+    }
+
+    @Test
+    void getUnassignedTrainers_shouldReturnListOfTrainers() {
+        // Given
+        TrainerSummary trainer1 = new TrainerSummary("Alice.Trainer", "Alice", "Trainer", true, TrainingTypeEnum.YOGA);
+        TrainerSummary trainer2 = new TrainerSummary("Bob.Coach", "Bob", "Coach", true, TrainingTypeEnum.BOXING);
 
-        when(traineeRepository.findByUsername("John.Doe")).thenReturn(Optional.of(testTrainee));
         when(traineeRepository.getUnassignedTrainers("John.Doe")).thenReturn(List.of(trainer1, trainer2));
 
         // When
-        List<Trainer> trainers = traineeService.getUnassignedTrainers(testTrainee.getUsername());
+        List<TrainerSummary> trainers = traineeService.getUnassignedTrainers(testTrainee.getUsername());
 
         // Then
         assertThat(trainers).hasSize(2);
-        assertThat(trainers).extracting(Trainer::getUsername).containsExactlyInAnyOrder("Alice.Trainer", "Bob.Coach");
+        assertThat(trainers)
+                .extracting(TrainerSummary::username)
+                .containsExactlyInAnyOrder("Alice.Trainer", "Bob.Coach");
+    }
+
+    @Test
+    void getUnassignedTrainers_withPage_shouldDelegateCursorAndLimit() {
+        // Given
+        TrainerSummary trainer = new TrainerSummary("Bob.Coach", "Bob", "Coach", true, TrainingTypeEnum.BOXING);
+        TrainerPage page = TrainerPage.of(List.of(trainer), true);
+        when(traineeRepository.getUnassignedTrainers("John.Doe", Optional.of("Alice.Trainer"), 1))
+                .thenReturn(page);
+
+        // When
+        TrainerPage result = traineeService.getUnassignedTrainers("John.Doe", Optional.of("Alice.Trainer"), 1);
+
+        // Then
+        assertThat(result.trainers()).containsExactly(trainer);
+        assertThat(result.nextCursor()).contains("Bob.Coach");
+    }
+
+    @Test
+    void getUnassignedTrainers_withPageLimitOutOfRange_shouldThrowValidationException() {
+        assertThatThrownBy(() -> traineeService.getUnassignedTrainers("John.Doe", Optional.empty(), 0))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> traineeService.getUnassignedTrainers(
+                        "John.Doe", Optional.empty(), PagingUtil.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(ValidationException.class);
+
+        verify(traineeRepository, never()).getUnassignedTrainers(any(), any(), anyInt());
     }
 
     @Test
@@ -342,13 +535,14 @@ class TraineeServiceImplTest {
         List<String> trainerUsernames = List.of("Trainer1.Smith", "Trainer2.Jones");
 
         when(traineeRepository.findByUsername("John.Doe")).thenReturn(Optional.ofNullable(testTrainee));
-        doNothing().when(traineeRepository).updateTrainersList("John.Doe", trainerUsernames);
+        when(traineeRepository.updateTrainersList("John.Doe", trainerUsernames, Optional.empty()))
+                .thenReturn(new AssignedTrainers(List.of(), 1L));
 
         // When
-        traineeService.updateTrainersList(testTrainee.getUsername(), trainerUsernames);
+        traineeService.updateTrainersList(testTrainee.getUsername(), trainerUsernames, Optional.empty());
 
         // Then
-        verify(traineeRepository).updateTrainersList("John.Doe", trainerUsernames);
+        verify(traineeRepository).updateTrainersList("John.Doe", trainerUsernames, Optional.empty());
     }
 
     @Test
@@ -357,12 +551,13 @@ class TraineeServiceImplTest {
         List<String> emptyList = new ArrayList<>();
 
         when(traineeRepository.findByUsername("John.Doe")).thenReturn(Optional.ofNullable(testTrainee));
-        doNothing().when(traineeRepository).updateTrainersList("John.Doe", emptyList);
+        when(traineeRepository.updateTrainersList("John.Doe", emptyList, Optional.empty()))
+                .thenReturn(new AssignedTrainers(List.of(), 1L));
 
         // When
-        traineeService.updateTrainersList(testTrainee.getUsername(), emptyList);
+        traineeService.updateTrainersList(testTrainee.getUsername(), emptyList, Optional.empty());
 
         // Then
-        verify(traineeRepository).updateTrainersList("John.Doe", emptyList);
+        verify(traineeRepository).updateTrainersList("John.Doe", emptyList, Optional.empty());
     }
 }
@@ -3,11 +3,17 @@ package com.epam.unit.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import com.epam.application.exception.EntityNotFoundException;
 import com.epam.application.exception.ValidationException;
@@ -19,11 +25,15 @@ import com.epam.domain.model.Trainer;
 import com.epam.domain.model.TrainingType;
 import com.epam.domain.model.TrainingTypeEnum;
 import com.epam.domain.port.TrainerRepository;
-import com.epam.domain.port.TrainingRepository;
+import com.epam.domain.port.TrainerWorkloadRepository;
 import com.epam.domain.port.TrainingTypeRepository;
+import com.epam.domain.port.UsernameSerialRepository;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainerWorkloadSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -44,15 +54,18 @@ class TrainerServiceImplTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
-    @Mock
-    TrainingRepository trainingRepository;
-
     @Mock
     TrainingEventPublisher publisher;
 
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UsernameSerialRepository usernameSerialRepository;
+
+    @Mock
+    private TrainerWorkloadRepository trainerWorkloadRepository;
+
     @InjectMocks
     private TrainerServiceImpl trainerService;
 
@@ -78,7 +91,7 @@ class TrainerServiceImplTest {
         CreateTrainerProfileRequest request =
                 new CreateTrainerProfileRequest("Alice", "Johnson", true, cardioType.getTrainingTypeName());
 
-        when(trainerRepository.findLatestUsername("Alice.Johnson")).thenReturn(Optional.empty());
+        when(usernameSerialRepository.nextSerial("Alice.Johnson")).thenReturn(0L);
         when(trainerRepository.save(any(Trainer.class))).thenReturn(testTrainer);
 
         when(trainingTypeRepository.findByTrainingTypeName(cardioType.getTrainingTypeName()))
@@ -100,7 +113,7 @@ class TrainerServiceImplTest {
         CreateTrainerProfileRequest request =
                 new CreateTrainerProfileRequest("Alice", "Johnson", true, cardioType.getTrainingTypeName());
 
-        when(trainerRepository.findLatestUsername("Alice.Johnson")).thenReturn(Optional.of("Alice.Johnson1"));
+        when(usernameSerialRepository.nextSerial("Alice.Johnson")).thenReturn(2L);
 
         Trainer trainerWithSerial = new Trainer("Alice", "Johnson", true, cardioType);
         trainerWithSerial.setUsername("Alice.Johnson2");
@@ -114,7 +127,7 @@ class TrainerServiceImplTest {
 
         // Then
         assertThat(created.getUsername()).isEqualTo("Alice.Johnson2");
-        verify(trainerRepository).save(any(Trainer.class));
+        verify(trainerRepository).save(argThat(saved -> "Alice.Johnson2".equals(saved.getUsername())));
     }
 
     @Test
@@ -129,7 +142,8 @@ class TrainerServiceImplTest {
                 Optional.of("Smith"),
                 Optional.of("newpassword123"),
                 Optional.of(false),
-                Optional.of(TrainingTypeEnum.YOGA));
+                Optional.of(TrainingTypeEnum.YOGA),
+                Optional.empty());
 
         when(trainerRepository.findByUsername("Alice.Johnson")).thenReturn(Optional.ofNullable(testTrainer));
         when(trainingTypeRepository.findByTrainingTypeName(TrainingTypeEnum.YOGA))
@@ -155,7 +169,8 @@ class TrainerServiceImplTest {
                         Optional.empty(),
                         Optional.empty(),
                         Optional.empty(),
-                        Optional.of(TrainingTypeEnum.valueOf("Non existent"))))
+                        Optional.of(TrainingTypeEnum.valueOf("Non existent")),
+                        Optional.empty()))
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
@@ -163,14 +178,15 @@ class TrainerServiceImplTest {
     void updatePassword_shouldUpdatePassword() {
         // Given
         String newPassword = "newSecurePass123";
-        when(trainerRepository.findByUsername("Alice.Johnson")).thenReturn(Optional.of(testTrainer));
-        when(trainerRepository.save(any(Trainer.class))).thenReturn(testTrainer);
+        when(passwordEncoder.encode(newPassword)).thenReturn("encoded");
+        when(trainerRepository.updatePassword("Alice.Johnson", "encoded")).thenReturn(true);
 
         // When
         trainerService.updatePassword(testTrainer.getUsername(), newPassword);
 
         // Then
-        verify(trainerRepository).save(any(Trainer.class));
+        verify(trainerRepository).updatePassword("Alice.Johnson", "encoded");
+        verify(trainerRepository, never()).findByUsername(any());
     }
 
     @Test
@@ -191,14 +207,14 @@ class TrainerServiceImplTest {
     @Test
     void toggleActiveStatus_shouldToggleFromTrueToFalse() {
         // Given
-        when(trainerRepository.findByUsername("Alice.Johnson")).thenReturn(Optional.of(testTrainer));
-        when(trainerRepository.save(any(Trainer.class))).thenReturn(testTrainer);
+        when(trainerRepository.toggleActive("Alice.Johnson")).thenReturn(Optional.of(false));
 
         // When
         trainerService.toggleActiveStatus(testTrainer.getUsername());
 
         // Then
-        verify(trainerRepository).save(any(Trainer.class));
+        verify(trainerRepository).toggleActive("Alice.Johnson");
+        verify(trainerRepository, never()).save(any(Trainer.class));
     }
 
     @Test
@@ -215,7 +231,7 @@ class TrainerServiceImplTest {
     void deleteProfile_shouldDeleteTrainer() {
         // Given
         when(trainerRepository.findByUsername("Alice.Johnson")).thenReturn(Optional.ofNullable(testTrainer));
-        doNothing().when(trainerRepository).deleteByUsername("Alice.Johnson");
+        when(trainerRepository.deleteByUsername("Alice.Johnson")).thenReturn(List.of());
 
         // When
         trainerService.deleteProfile(testTrainer.getUsername());
@@ -224,6 +240,23 @@ class TrainerServiceImplTest {
         verify(trainerRepository).deleteByUsername("Alice.Johnson");
     }
 
+    @Test
+    void deleteProfile_shouldPublishWorkloadReturnedByDeletion() {
+        // Given
+        List<TrainerMonthlyWorkload> workloads = List.of(
+                new TrainerMonthlyWorkload("Alice.Johnson", "Alice", "Johnson", true, YearMonth.of(2024, 3), 540));
+        when(trainerRepository.findByUsername("Alice.Johnson")).thenReturn(Optional.ofNullable(testTrainer));
+        when(trainerRepository.deleteByUsername("Alice.Johnson")).thenReturn(workloads);
+
+        // When
+        trainerService.deleteProfile(testTrainer.getUsername());
+
+        // Then
+        InOrder inOrder = inOrder(trainerRepository, publisher);
+        inOrder.verify(trainerRepository).deleteByUsername("Alice.Johnson");
+        inOrder.verify(publisher).publishWorkloadRemoved(workloads);
+    }
+
     @Test
     void deleteProfile_shouldThrowEntityNotFoundException_whenInvalidCredentials() {
         // When/Then
@@ -231,6 +264,25 @@ class TrainerServiceImplTest {
                 .isInstanceOf(EntityNotFoundException.class);
     }
 
+    @Test
+    void getWorkloadSummary_shouldReturnLocalTotals() {
+        // Given
+        TrainerWorkloadSummary summary = new TrainerWorkloadSummary(
+                "Alice.Johnson", "Alice", "Johnson", true, new TreeMap<>(Map.of(YearMonth.of(2024, 1), 90L)));
+        when(trainerWorkloadRepository.findByTrainerUsername("Alice.Johnson")).thenReturn(Optional.of(summary));
+
+        // When/Then
+        assertThat(trainerService.getWorkloadSummary("Alice.Johnson")).isEqualTo(summary);
+    }
+
+    @Test
+    void getWorkloadSummary_shouldThrowEntityNotFoundException_whenTrainerMissing() {
+        when(trainerWorkloadRepository.findByTrainerUsername("Ghost.Trainer")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> trainerService.getWorkloadSummary("Ghost.Trainer"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
     @Test
     void findProfileByUsername_shouldReturnTrainer() {
         // Given
@@ -3,18 +3,32 @@ package com.epam.unit.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import com.epam.application.exception.EntityNotFoundException;
+import com.epam.application.exception.ValidationException;
+import com.epam.application.messaging.event.TrainerWorkloadEvent;
 import com.epam.application.messaging.publisher.TrainingEventPublisher;
 import com.epam.application.request.CreateTrainingRequest;
 import com.epam.application.service.impl.TrainingServiceImpl;
+import com.epam.application.util.PagingUtil;
+import com.epam.domain.TrainingBatchResult;
+import com.epam.domain.TrainingCursor;
 import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Trainee;
 import com.epam.domain.model.Trainer;
 import com.epam.domain.model.Training;
@@ -22,11 +36,16 @@ import com.epam.domain.model.TrainingType;
 import com.epam.domain.model.TrainingTypeEnum;
 import com.epam.domain.port.TraineeRepository;
 import com.epam.domain.port.TrainerRepository;
+import com.epam.domain.port.TrainerWorkloadRepository;
 import com.epam.domain.port.TrainingRepository;
 import com.epam.domain.port.TrainingTypeRepository;
+import com.epam.domain.projection.TrainerMonthlyWorkload;
+import com.epam.domain.projection.TrainingSummary;
+import com.epam.domain.projection.TrainingWorkload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -51,6 +70,9 @@ class TrainingServiceImplTest {
     @Mock
     private TrainingEventPublisher trainingEventPublisher;
 
+    @Mock
+    private TrainerWorkloadRepository trainerWorkloadRepository;
+
     @InjectMocks
     private TrainingServiceImpl trainingService;
 
@@ -116,6 +138,9 @@ class TrainingServiceImplTest {
         assertThat(created).isNotNull();
         assertThat(created.getTrainingName()).isEqualTo("Morning Cardio Session");
         verify(trainingRepository).save(any(Training.class));
+        verify(trainerWorkloadRepository)
+                .add(List.of(new TrainerMonthlyWorkload(
+                        "Alice.Johnson", "Alice", "Johnson", true, YearMonth.of(2024, 1), 60)));
     }
 
     @Test
@@ -166,6 +191,67 @@ class TrainingServiceImplTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void createAll_shouldSaveValidItemsInOneCallAndReportRejectedOnes() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(2024, 1, 15, 9, 0);
+        List<CreateTrainingRequest> requests = List.of(
+                new CreateTrainingRequest("Session A", date, 60, Optional.empty(), "John.Doe", "Alice.Johnson"),
+                new CreateTrainingRequest("Session B", date, 60, Optional.empty(), "Ghost.Trainee", "Alice.Johnson"),
+                new CreateTrainingRequest("Session C", date, 60, Optional.empty(), "John.Doe", "Alice.Johnson"));
+
+        when(traineeRepository.findByUsernames(anyCollection())).thenReturn(List.of(testTrainee));
+        when(trainerRepository.findByUsernames(anyCollection())).thenReturn(List.of(testTrainer));
+        when(trainingRepository.findScheduledSessions(anyCollection(), anyCollection()))
+                .thenReturn(List.of());
+        when(trainingRepository.saveAll(anyList())).thenReturn(List.of(testTraining));
+
+        // When
+        List<TrainingBatchResult> results = trainingService.createAll(requests);
+
+        // Then
+        assertThat(results)
+                .containsExactly(
+                        TrainingBatchResult.created(0, testTraining.getTrainingId()),
+                        TrainingBatchResult.rejected(1, "Trainee not found: Ghost.Trainee"),
+                        TrainingBatchResult.rejected(2, "Training session already exists"));
+        verify(trainingRepository).saveAll(anyList());
+        verify(trainingEventPublisher).publishTrainingsCreated(anyList());
+        verify(trainerWorkloadRepository)
+                .add(List.of(new TrainerMonthlyWorkload(
+                        "Alice.Johnson", "Alice", "Johnson", true, YearMonth.of(2024, 1), 60)));
+    }
+
+    @Test
+    void createAll_shouldRejectSessionAlreadyBooked() {
+        // Given
+        CreateTrainingRequest request = new CreateTrainingRequest(
+                "Morning Cardio Session",
+                testTraining.getTrainingDate(),
+                60,
+                Optional.empty(),
+                "John.Doe",
+                "Alice.Johnson");
+
+        when(traineeRepository.findByUsernames(anyCollection())).thenReturn(List.of(testTrainee));
+        when(trainerRepository.findByUsernames(anyCollection())).thenReturn(List.of(testTrainer));
+        when(trainingRepository.findScheduledSessions(anyCollection(), anyCollection()))
+                .thenReturn(List.of(trainingSummary()));
+
+        // When
+        List<TrainingBatchResult> results = trainingService.createAll(List.of(request));
+
+        // Then
+        assertThat(results).singleElement().satisfies(result -> assertThat(result.succeeded())
+                .isFalse());
+        verify(trainingRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createAll_shouldRejectEmptyBatch() {
+        assertThatThrownBy(() -> trainingService.createAll(List.of())).isInstanceOf(ValidationException.class);
+    }
+
     @Test
     void getTraineeTrainings_shouldReturnTrainings_whenAuthenticated() {
         // Given
@@ -174,7 +260,7 @@ class TrainingServiceImplTest {
 
         when(trainingRepository.getTraineeTrainings(testTrainee.getUsername(), filter))
                 .thenReturn(expectedTrainings);
-        when(traineeRepository.findByUsername(testTrainee.getUsername())).thenReturn(Optional.ofNullable(testTrainee));
+        when(traineeRepository.findChangeVersion(testTrainee.getUsername())).thenReturn(Optional.of(1L));
 
         // When
         List<Training> trainings = trainingService.getTraineeTrainings(testTrainee.getUsername(), filter);
@@ -199,7 +285,7 @@ class TrainingServiceImplTest {
         List<Training> expectedTrainings = List.of(testTraining);
 
         when(trainingRepository.getTraineeTrainings("John.Doe", filter)).thenReturn(expectedTrainings);
-        when(traineeRepository.findByUsername(testTrainee.getUsername())).thenReturn(Optional.ofNullable(testTrainee));
+        when(traineeRepository.findChangeVersion(testTrainee.getUsername())).thenReturn(Optional.of(1L));
 
         // When
         List<Training> trainings = trainingService.getTraineeTrainings(testTrainee.getUsername(), filter);
@@ -217,7 +303,7 @@ class TrainingServiceImplTest {
 
         when(trainingRepository.getTrainerTrainings(testTrainer.getUsername(), filter))
                 .thenReturn(expectedTrainings);
-        when(trainerRepository.findByUsername(testTrainer.getUsername())).thenReturn(Optional.ofNullable(testTrainer));
+        when(trainerRepository.findChangeVersion(testTrainer.getUsername())).thenReturn(Optional.of(1L));
 
         // When
         List<Training> trainings = trainingService.getTrainerTrainings(testTrainer.getUsername(), filter);
@@ -240,7 +326,7 @@ class TrainingServiceImplTest {
 
         when(trainingRepository.getTrainerTrainings(testTrainer.getUsername(), filter))
                 .thenReturn(expectedTrainings);
-        when(trainerRepository.findByUsername(testTrainer.getUsername())).thenReturn(Optional.ofNullable(testTrainer));
+        when(trainerRepository.findChangeVersion(testTrainer.getUsername())).thenReturn(Optional.of(1L));
 
         // When
         List<Training> trainings = trainingService.getTrainerTrainings(testTrainer.getUsername(), filter);
@@ -249,4 +335,115 @@ class TrainingServiceImplTest {
         assertThat(trainings).hasSize(1);
         verify(trainingRepository).getTrainerTrainings("Alice.Johnson", filter);
     }
+
+    @Test
+    void getTraineeTrainingsPage_shouldDelegateCursorAndLimit() {
+        // Given
+        TrainingFilter filter = TrainingFilter.empty();
+        Optional<TrainingCursor> cursor = Optional.of(new TrainingCursor(LocalDateTime.of(2024, 1, 1, 9, 0), 5L));
+        TrainingPage expectedPage = new TrainingPage(List.of(trainingSummary()), Optional.empty());
+
+        when(trainingRepository.getTraineeTrainings("John.Doe", filter, cursor, 20, 7L))
+                .thenReturn(expectedPage);
+
+        // When
+        TrainingPage page = trainingService.getTraineeTrainings(testTrainee.getUsername(), filter, cursor, 20, 7L);
+
+        // Then
+        assertThat(page).isEqualTo(expectedPage);
+        verify(trainingRepository).getTraineeTrainings("John.Doe", filter, cursor, 20, 7L);
+    }
+
+    @Test
+    void getTrainerTrainingsPage_shouldRejectLimitAboveMaximum() {
+        assertThatThrownBy(() -> trainingService.getTrainerTrainings(
+                        testTrainer.getUsername(),
+                        TrainingFilter.empty(),
+                        Optional.empty(),
+                        PagingUtil.MAX_PAGE_SIZE + 1,
+                        1L))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void getTraineeTrainingsPage_shouldRejectNonPositiveLimit() {
+        assertThatThrownBy(() -> trainingService.getTraineeTrainings(
+                        testTrainee.getUsername(), TrainingFilter.empty(), Optional.empty(), 0, 1L))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void streamTraineeTrainings_shouldPassEveryTrainingToConsumerAndCloseStream() {
+        // Given
+        TrainingFilter filter = TrainingFilter.empty();
+        AtomicBoolean closed = new AtomicBoolean(false);
+        TrainingSummary summary = trainingSummary();
+        when(traineeRepository.findChangeVersion(testTrainee.getUsername())).thenReturn(Optional.of(1L));
+        when(trainingRepository.streamTraineeTrainings("John.Doe", filter))
+                .thenReturn(Stream.of(summary).onClose(() -> closed.set(true)));
+
+        List<TrainingSummary> received = new ArrayList<>();
+
+        // When
+        trainingService.streamTraineeTrainings(testTrainee.getUsername(), filter, received::add);
+
+        // Then
+        assertThat(received).containsExactly(summary);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void streamTrainerTrainings_shouldThrow_whenTrainerMissing() {
+        when(trainerRepository.findChangeVersion("Ghost.Trainer")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() ->
+                        trainingService.streamTrainerTrainings("Ghost.Trainer", TrainingFilter.empty(), training -> {}))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void deleteTraining_shouldPublishEventFromDeletedRow() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(2024, 5, 1, 9, 0);
+        when(trainingRepository.deleteByTraineeTrainerAndDate("John.Doe", "Jane.Smith", date))
+                .thenReturn(Optional.of(new TrainingWorkload("Jane.Smith", "Jane", "Smith", true, date, 45)));
+
+        // When
+        trainingService.deleteTraining("John.Doe", "Jane.Smith", date);
+
+        // Then
+        ArgumentCaptor<TrainerWorkloadEvent> event = ArgumentCaptor.forClass(TrainerWorkloadEvent.class);
+        verify(trainingEventPublisher).publishTrainingDeleted(event.capture());
+        assertThat(event.getValue().getTrainerUsername()).isEqualTo("Jane.Smith");
+        assertThat(event.getValue().getTrainingDate()).isEqualTo(date);
+        assertThat(event.getValue().getTrainingDurationMinutes()).isEqualTo(45);
+        assertThat(event.getValue().getActionType()).isEqualTo(TrainerWorkloadEvent.ActionType.DELETE);
+        verify(trainingRepository, never()).findByTrainerUsernameAndTraineeUsernameAndDate(any(), any(), any());
+        verify(trainerWorkloadRepository)
+                .subtract(List.of(
+                        new TrainerMonthlyWorkload("Jane.Smith", "Jane", "Smith", true, YearMonth.of(2024, 5), 45)));
+    }
+
+    @Test
+    void deleteTraining_whenNothingMatched_shouldNotPublish() {
+        LocalDateTime date = LocalDateTime.of(2024, 5, 1, 9, 0);
+        when(trainingRepository.deleteByTraineeTrainerAndDate("John.Doe", "Jane.Smith", date))
+                .thenReturn(Optional.empty());
+
+        trainingService.deleteTraining("John.Doe", "Jane.Smith", date);
+
+        verify(trainingEventPublisher, never()).publishTrainingDeleted(any());
+        verifyNoInteractions(trainerWorkloadRepository);
+    }
+
+    private TrainingSummary trainingSummary() {
+        return new TrainingSummary(
+                testTraining.getTrainingId(),
+                testTraining.getTrainingName(),
+                testTraining.getTrainingDate(),
+                testTraining.getTrainingType().getTrainingTypeName(),
+                testTraining.getTrainingDurationMin(),
+                testTrainee.getUsername(),
+                testTrainer.getUsername());
+    }
 }
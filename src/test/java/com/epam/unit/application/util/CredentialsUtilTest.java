@@ -4,7 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.epam.application.exception.ValidationException;
 import com.epam.application.util.CredentialsUtil;
@@ -82,46 +83,31 @@ class CredentialsUtilTest {
     }
 
     @Test
-    void generateUniqueUsername_shouldReturnBaseUsernameWhenNoExistingUser() {
+    void generateUniqueUsername_shouldReturnBaseUsernameWhenSerialIsZero() {
         // Given
         String firstName = "John";
         String lastName = "Doe";
 
         // When
-        String username = CredentialsUtil.generateUniqueUsername(firstName, lastName, baseUsername -> Optional.empty());
+        String username = CredentialsUtil.generateUniqueUsername(firstName, lastName, baseUsername -> 0L);
 
         // Then
         assertThat(username).isEqualTo("John.Doe");
     }
 
     @Test
-    void generateUniqueUsername_shouldAppend1WhenBaseUsernameExists() {
+    void generateUniqueUsername_shouldAppendAllocatedSerial() {
         // Given
         String firstName = "John";
         String lastName = "Doe";
 
         // When
-        String username =
-                CredentialsUtil.generateUniqueUsername(firstName, lastName, baseUsername -> Optional.of("John.Doe"));
+        String username = CredentialsUtil.generateUniqueUsername(firstName, lastName, baseUsername -> 1L);
 
         // Then
         assertThat(username).isEqualTo("John.Doe1");
     }
 
-    @Test
-    void generateUniqueUsername_shouldIncrementSerialNumber() {
-        // Given
-        String firstName = "John";
-        String lastName = "Doe";
-
-        // When
-        String username =
-                CredentialsUtil.generateUniqueUsername(firstName, lastName, baseUsername -> Optional.of("John.Doe5"));
-
-        // Then
-        assertThat(username).isEqualTo("John.Doe6");
-    }
-
     @Test
     void generateUniqueUsername_shouldHandleLargeSerialNumbers() {
         // Given
@@ -129,39 +115,25 @@ class CredentialsUtilTest {
         String lastName = "Doe";
 
         // When
-        String username =
-                CredentialsUtil.generateUniqueUsername(firstName, lastName, baseUsername -> Optional.of("John.Doe999"));
+        String username = CredentialsUtil.generateUniqueUsername(firstName, lastName, baseUsername -> 1000L);
 
         // Then
         assertThat(username).isEqualTo("John.Doe1000");
     }
 
     @Test
-    void generateUniqueUsername_shouldHandleInvalidSerialNumberFormat() {
-        // Given
-        String firstName = "John";
-        String lastName = "Doe";
-
-        // When - latest username has non-numeric suffix
-        String username =
-                CredentialsUtil.generateUniqueUsername(firstName, lastName, baseUsername -> Optional.of("John.DoeABC"));
-
-        // Then - should append 1
-        assertThat(username).isEqualTo("John.Doe1");
-    }
-
-    @Test
-    void generateUniqueUsername_shouldHandleEmptySerialNumber() {
+    void generateUniqueUsername_shouldAskAllocatorForBaseUsername() {
         // Given
-        String firstName = "Jane";
-        String lastName = "Smith";
+        List<String> requested = new ArrayList<>();
 
         // When
-        String username =
-                CredentialsUtil.generateUniqueUsername(firstName, lastName, baseUsername -> Optional.of("Jane.Smith"));
+        CredentialsUtil.generateUniqueUsername("Jane", "Smith", baseUsername -> {
+            requested.add(baseUsername);
+            return 0L;
+        });
 
         // Then
-        assertThat(username).isEqualTo("Jane.Smith1");
+        assertThat(requested).containsExactly("Jane.Smith");
     }
 
     @Test
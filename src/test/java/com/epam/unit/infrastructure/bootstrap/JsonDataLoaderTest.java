@@ -0,0 +1,47 @@
+package com.epam.unit.infrastructure.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.epam.infrastructure.bootstrap.JsonDataLoader;
+import com.epam.infrastructure.bootstrap.dto.TrainingDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+class JsonDataLoaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void streamTrainings_passesEveryArrayElementToConsumer() {
+        JsonDataLoader loader = loader("/trainings.json");
+        List<TrainingDTO> trainings = new ArrayList<>();
+
+        long count = loader.streamTrainings(trainings::add);
+
+        assertThat(count).isEqualTo(10).isEqualTo(trainings.size());
+        assertThat(trainings.get(0).getName()).isEqualTo("Morning Cardio Session");
+        assertThat(trainings.get(0).getDate()).isNotNull();
+    }
+
+    @Test
+    void streamTrainings_skipsMissingFile() {
+        JsonDataLoader loader = loader("/missing.json");
+
+        assertThat(loader.streamTrainings(training -> {})).isZero();
+    }
+
+    private JsonDataLoader loader(String trainingsFile) {
+        return new JsonDataLoader(
+                objectMapper,
+                new DefaultResourceLoader(),
+                "/users.json",
+                "/trainees.json",
+                "/trainers.json",
+                trainingsFile,
+                "/trainingTypes.json");
+    }
+}
@@ -0,0 +1,71 @@
+package com.epam.unit.infrastructure.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.epam.infrastructure.bootstrap.SyntheticPopulation;
+import com.epam.infrastructure.bootstrap.SyntheticPopulation.TrainingRow;
+import org.junit.jupiter.api.Test;
+
+class SyntheticPopulationTest {
+
+    private static final LocalDate ANCHOR = LocalDate.of(2026, 3, 1);
+
+    @Test
+    void sameSeedAndAnchor_yieldSameRows() {
+        SyntheticPopulation first = population(42, ANCHOR);
+        SyntheticPopulation second = population(42, ANCHOR);
+
+        assertThat(IntStream.range(0, 20).mapToObj(first::trainer).toList())
+                .isEqualTo(IntStream.range(0, 20).mapToObj(second::trainer).toList());
+        assertThat(IntStream.range(0, 100).mapToObj(first::trainee).toList())
+                .isEqualTo(IntStream.range(0, 100).mapToObj(second::trainee).toList());
+        assertThat(trainings(first)).isEqualTo(trainings(second));
+    }
+
+    @Test
+    void differentSeed_yieldsDifferentRows() {
+        assertThat(trainings(population(42, ANCHOR))).isNotEqualTo(trainings(population(7, ANCHOR)));
+    }
+
+    @Test
+    void trainings_stayInTheWindowAroundTheAnchorDate() {
+        SyntheticPopulation population = population(42, ANCHOR);
+
+        List<TrainingRow> trainings = trainings(population);
+
+        assertThat(trainings).hasSize(1000).allSatisfy(training -> {
+            assertThat(training.date().toLocalDate())
+                    .isBetween(population.firstDay().minusDays(2), ANCHOR.plusDays(30));
+            assertThat(training.trainee()).isBetween(0, 99);
+            assertThat(training.trainer()).isBetween(0, 19);
+        });
+    }
+
+    @Test
+    void usernames_areUniqueAcrossTrainersAndTrainees() {
+        SyntheticPopulation population = population(42, ANCHOR);
+
+        List<String> usernames = new ArrayList<>();
+        IntStream.range(0, 20)
+                .forEach(i -> usernames.add(population.trainer(i).user().username()));
+        IntStream.range(0, 100)
+                .forEach(i -> usernames.add(population.trainee(i).user().username()));
+
+        assertThat(usernames).doesNotHaveDuplicates();
+    }
+
+    private static SyntheticPopulation population(long seed, LocalDate anchor) {
+        return new SyntheticPopulation(seed, 20, 100, 1000, 1.1, anchor, 365, 30);
+    }
+
+    private static List<TrainingRow> trainings(SyntheticPopulation population) {
+        List<TrainingRow> trainings = new ArrayList<>();
+        population.forEachTraining(trainings::add);
+        return trainings;
+    }
+}
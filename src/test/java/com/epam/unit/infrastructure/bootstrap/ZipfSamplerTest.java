@@ -0,0 +1,43 @@
+package com.epam.unit.infrastructure.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.SplittableRandom;
+
+import com.epam.infrastructure.bootstrap.ZipfSampler;
+import org.junit.jupiter.api.Test;
+
+class ZipfSamplerTest {
+
+    @Test
+    void sample_sameSeedYieldsSameSequence() {
+        ZipfSampler sampler = new ZipfSampler(1000, 1.1);
+        SplittableRandom first = new SplittableRandom(7);
+        SplittableRandom second = new SplittableRandom(7);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sampler.sample(first)).isEqualTo(sampler.sample(second));
+        }
+    }
+
+    @Test
+    void sample_favoursLowRanks() {
+        ZipfSampler sampler = new ZipfSampler(100, 1.0);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[100];
+
+        for (int i = 0; i < 100_000; i++) {
+            int rank = sampler.sample(random);
+            assertThat(rank).isBetween(0, 99);
+            counts[rank]++;
+        }
+
+        assertThat(counts[0]).isGreaterThan(counts[9] * 5).isGreaterThan(counts[99] * 50);
+    }
+
+    @Test
+    void constructor_rejectsEmptyPopulation() {
+        assertThatThrownBy(() -> new ZipfSampler(0, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.epam.unit.infrastructure.persistence.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import com.epam.infrastructure.persistence.archive.TrainingArchiver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingArchiverTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 10, 18, 0, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet result;
+
+    private TrainingArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+        archiver = new TrainingArchiver(jdbcTemplate, clock, Period.ofYears(2), 100);
+    }
+
+    @Test
+    void cutoff_isStartOfDayTheConfiguredAgeAgo() {
+        assertThat(archiver.cutoff()).isEqualTo(CUTOFF);
+    }
+
+    @Test
+    void reachesArchive_onlyForRangesStartingBeforeCutoff() {
+        assertThat(archiver.reachesArchive(Optional.empty())).isTrue();
+        assertThat(archiver.reachesArchive(Optional.of(CUTOFF.minusSeconds(1)))).isTrue();
+        assertThat(archiver.reachesArchive(Optional.of(CUTOFF))).isFalse();
+    }
+
+    @Test
+    void archiveAgedTrainings_movesBatchesUntilOneComesBackShort() throws SQLException {
+        lockConnection(true);
+        when(jdbcTemplate.update(anyString(), eq(Timestamp.valueOf(CUTOFF)), eq(100)))
+                .thenReturn(100, 100, 7);
+
+        archiver.archiveAgedTrainings();
+
+        verify(jdbcTemplate, times(3)).update(anyString(), eq(Timestamp.valueOf(CUTOFF)), eq(100));
+        verify(statement).executeQuery(contains("pg_advisory_unlock"));
+    }
+
+    @Test
+    void archiveAgedTrainings_whenAnotherInstanceHoldsTheLock_movesNothing() throws SQLException {
+        lockConnection(false);
+
+        archiver.archiveAgedTrainings();
+
+        verify(jdbcTemplate, never()).update(anyString(), any(), any());
+        verify(statement, never()).executeQuery(contains("pg_advisory_unlock"));
+    }
+
+    @Test
+    void archiveBefore_returnsTotalMoved() {
+        LocalDateTime cutoff = LocalDateTime.of(2020, 1, 1, 0, 0);
+        when(jdbcTemplate.update(anyString(), eq(Timestamp.valueOf(cutoff)), eq(100)))
+                .thenReturn(100, 0);
+
+        assertThat(archiver.archiveBefore(cutoff)).isEqualTo(100);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void lockConnection(boolean acquired) throws SQLException {
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(result);
+        when(result.next()).thenReturn(true);
+        when(result.getBoolean(1)).thenReturn(acquired);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(
+                        invocation -> ((ConnectionCallback<?>) invocation.getArgument(0)).doInConnection(connection));
+    }
+}
@@ -0,0 +1,59 @@
+package com.epam.unit.infrastructure.persistence.partition;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import com.epam.infrastructure.persistence.partition.TrainingPartitionMaintainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingPartitionMaintainerTest {
+
+    private static final String ENSURE_SQL = "SELECT ensure_trainings_partitions(?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TrainingPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+        maintainer = new TrainingPartitionMaintainer(jdbcTemplate, clock, 3);
+    }
+
+    @Test
+    void ensureFuturePartitions_coversCurrentMonthThroughMonthsAhead() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(true);
+        when(jdbcTemplate.queryForObject(eq(ENSURE_SQL), eq(Integer.class), any(), any()))
+                .thenReturn(2);
+
+        maintainer.ensureFuturePartitions();
+
+        verify(jdbcTemplate)
+                .queryForObject(ENSURE_SQL, Integer.class, Date.valueOf("2026-10-01"), Date.valueOf("2027-01-01"));
+    }
+
+    @Test
+    void ensurePartitions_whenTableNotPartitioned_doesNothing() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+
+        maintainer.ensureFuturePartitions();
+
+        verify(jdbcTemplate, never()).queryForObject(eq(ENSURE_SQL), eq(Integer.class), any(), any());
+    }
+}
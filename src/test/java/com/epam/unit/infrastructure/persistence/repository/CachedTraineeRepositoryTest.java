@@ -0,0 +1,229 @@
+package com.epam.unit.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.domain.model.Trainee;
+import com.epam.domain.model.Trainer;
+import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.domain.projection.TrainerProfile;
+import com.epam.domain.projection.TrainerSummary;
+import com.epam.infrastructure.monitoring.metrics.AppMetrics;
+import com.epam.infrastructure.persistence.repository.CachedTraineeRepository;
+import com.epam.infrastructure.persistence.repository.CachedTrainerRepository;
+import com.epam.infrastructure.persistence.repository.ProfileCache;
+import com.epam.infrastructure.persistence.repository.TraineeRepositoryImpl;
+import com.epam.infrastructure.persistence.repository.TrainerRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CachedTraineeRepositoryTest {
+
+    private static final String TRAINEE = "John.Doe";
+
+    private static final String TRAINER = "Jane.Smith";
+
+    @Mock
+    private TraineeRepositoryImpl traineeDelegate;
+
+    @Mock
+    private TrainerRepositoryImpl trainerDelegate;
+
+    @Mock
+    private AppMetrics metrics;
+
+    @Test
+    void findProfileAtVersion_servesRepeatedReadsFromCacheWithoutAnyQuery() {
+        CachedTraineeRepository repository = traineeRepository(cache(true));
+        when(traineeDelegate.findProfile(TRAINEE)).thenReturn(Optional.of(profile(1L)));
+
+        repository.findProfile(TRAINEE, 1L);
+        Optional<TraineeProfile> second = repository.findProfile(TRAINEE, 1L);
+
+        assertThat(second).map(profile -> profile.trainee().getAddress()).contains("Main St");
+        assertThat(second).map(TraineeProfile::trainers).contains(List.of(trainer()));
+        verify(traineeDelegate, times(1)).findProfile(TRAINEE);
+        verify(traineeDelegate, never()).findChangeVersion(anyString());
+    }
+
+    @Test
+    void findProfileAtVersion_returnsCopiesSoCallerChangesDoNotLeak() {
+        CachedTraineeRepository repository = traineeRepository(cache(true));
+        when(traineeDelegate.findProfile(TRAINEE)).thenReturn(Optional.of(profile(1L)));
+
+        repository.findProfile(TRAINEE, 1L).orElseThrow().trainee().setAddress("Changed");
+
+        assertThat(repository.findProfile(TRAINEE, 1L))
+                .map(profile -> profile.trainee().getAddress())
+                .contains("Main St");
+    }
+
+    @Test
+    void findProfileAtVersion_leavesThePasswordHashOutOfCachedCopies() {
+        CachedTraineeRepository repository = traineeRepository(cache(true));
+        Trainee withPassword = trainee(1L);
+        withPassword.setPassword("hash");
+        when(traineeDelegate.findProfile(TRAINEE))
+                .thenReturn(Optional.of(new TraineeProfile(withPassword, List.of(trainer()))));
+
+        repository.findProfile(TRAINEE, 1L);
+
+        assertThat(repository.findProfile(TRAINEE, 1L))
+                .map(profile -> profile.trainee().getPassword())
+                .isEmpty();
+    }
+
+    @Test
+    void findProfileAtVersion_doesNotCacheMisses() {
+        CachedTraineeRepository repository = traineeRepository(cache(true));
+        when(traineeDelegate.findProfile(TRAINEE)).thenReturn(Optional.empty());
+
+        assertThat(repository.findProfile(TRAINEE, 1L)).isEmpty();
+        assertThat(repository.findProfile(TRAINEE, 1L)).isEmpty();
+
+        verify(traineeDelegate, times(2)).findProfile(TRAINEE);
+    }
+
+    @Test
+    void findProfileAtVersion_afterBumpFromAnotherInstance_reloadsWithoutAnyEviction() {
+        CachedTrainerRepository trainers = new CachedTrainerRepository(trainerDelegate, cache(true));
+        Trainer trainer = new Trainer("Jane", "Smith", true, null);
+        trainer.setUsername(TRAINER);
+        trainer.setVersion(4L);
+        Trainer bumped = new Trainer("Jane", "Smith", true, null);
+        bumped.setUsername(TRAINER);
+        bumped.setVersion(5L);
+        when(trainerDelegate.findProfile(TRAINER))
+                .thenReturn(
+                        Optional.of(
+                                new TrainerProfile(trainer, List.of(new TraineeSummary(TRAINEE, "John", "Doe", true)))),
+                        Optional.of(new TrainerProfile(
+                                bumped, List.of(new TraineeSummary(TRAINEE, "John", "Doe", false)))));
+
+        trainers.findProfile(TRAINER, 4L);
+        trainers.findProfile(TRAINER, 4L);
+
+        assertThat(trainers.findProfile(TRAINER, 5L).orElseThrow().trainees())
+                .extracting(TraineeSummary::active)
+                .containsExactly(false);
+        verify(trainerDelegate, times(2)).findProfile(TRAINER);
+    }
+
+    @Test
+    void findProfileAtVersion_labelsALoadWithTheVersionReadAlongsideIt() {
+        CachedTraineeRepository repository = traineeRepository(cache(true));
+        // A write landed between the caller's version read and the load
+        when(traineeDelegate.findProfile(TRAINEE)).thenReturn(Optional.of(profile(2L)));
+
+        repository.findProfile(TRAINEE, 1L);
+        repository.findProfile(TRAINEE, 2L);
+
+        verify(traineeDelegate, times(1)).findProfile(TRAINEE);
+    }
+
+    @Test
+    void findProfileAtVersion_olderReadDoesNotReplaceNewerEntry() {
+        CachedTraineeRepository repository = traineeRepository(cache(true));
+        // A lagging read sees version 1 after version 2 was cached, then reads catch up again
+        when(traineeDelegate.findProfile(TRAINEE)).thenReturn(Optional.of(profile(2L)), Optional.of(profile(1L)));
+
+        repository.findProfile(TRAINEE, 2L);
+        assertThat(repository.findProfile(TRAINEE, 1L))
+                .map(profile -> profile.trainee().getVersion())
+                .contains(1L);
+
+        assertThat(repository.findProfile(TRAINEE, 2L))
+                .map(profile -> profile.trainee().getVersion())
+                .contains(2L);
+        verify(traineeDelegate, times(2)).findProfile(TRAINEE);
+    }
+
+    @Test
+    void findProfileAtVersion_insideReadWriteTransaction_isCachedOnlyAfterCommit() {
+        CachedTraineeRepository repository = traineeRepository(cache(true));
+        when(traineeDelegate.findProfile(TRAINEE)).thenReturn(Optional.of(profile(1L)));
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            repository.findProfile(TRAINEE, 1L);
+            repository.findProfile(TRAINEE, 1L);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        repository.findProfile(TRAINEE, 1L);
+
+        verify(traineeDelegate, times(2)).findProfile(TRAINEE);
+    }
+
+    @Test
+    void readsWithoutVersion_passThroughWithoutQueryingIt() {
+        CachedTraineeRepository repository = traineeRepository(cache(true));
+        when(traineeDelegate.findProfile(TRAINEE)).thenReturn(Optional.of(profile(1L)));
+        when(traineeDelegate.findByUsername(TRAINEE)).thenReturn(Optional.of(trainee(1L)));
+        when(traineeDelegate.getTrainers(TRAINEE)).thenReturn(List.of(trainer()));
+        repository.findProfile(TRAINEE, 1L);
+
+        repository.findProfile(TRAINEE);
+        repository.findByUsername(TRAINEE);
+        repository.getTrainers(TRAINEE);
+
+        verify(traineeDelegate, times(2)).findProfile(TRAINEE);
+        verify(traineeDelegate).findByUsername(TRAINEE);
+        verify(traineeDelegate).getTrainers(TRAINEE);
+        verify(traineeDelegate, never()).findChangeVersion(anyString());
+    }
+
+    @Test
+    void findProfileAtVersion_withCacheDisabled_alwaysDelegates() {
+        CachedTraineeRepository repository = traineeRepository(cache(false));
+        when(traineeDelegate.findProfile(TRAINEE)).thenReturn(Optional.of(profile(1L)));
+
+        repository.findProfile(TRAINEE, 1L);
+        repository.findProfile(TRAINEE, 1L);
+
+        verify(traineeDelegate, times(2)).findProfile(TRAINEE);
+    }
+
+    private ProfileCache cache(boolean enabled) {
+        return new ProfileCache(metrics, enabled, 100, Duration.ofMinutes(1));
+    }
+
+    private CachedTraineeRepository traineeRepository(ProfileCache cache) {
+        return new CachedTraineeRepository(traineeDelegate, cache);
+    }
+
+    private static TraineeProfile profile(long version) {
+        return new TraineeProfile(trainee(version), List.of(trainer()));
+    }
+
+    private static TrainerSummary trainer() {
+        return new TrainerSummary(TRAINER, "Jane", "Smith", true, TrainingTypeEnum.YOGA);
+    }
+
+    private static Trainee trainee(long version) {
+        Trainee trainee = new Trainee("John", "Doe", true);
+        trainee.setTraineeId(1L);
+        trainee.setVersion(version);
+        trainee.setUsername(TRAINEE);
+        trainee.setAddress("Main St");
+        return trainee;
+    }
+}
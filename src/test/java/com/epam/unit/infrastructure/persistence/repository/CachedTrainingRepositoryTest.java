@@ -0,0 +1,118 @@
+package com.epam.unit.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
+import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TrainingSummary;
+import com.epam.infrastructure.monitoring.metrics.AppMetrics;
+import com.epam.infrastructure.persistence.repository.CachedTrainingRepository;
+import com.epam.infrastructure.persistence.repository.TrainingPageCache;
+import com.epam.infrastructure.persistence.repository.TrainingRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachedTrainingRepositoryTest {
+
+    private static final String TRAINEE = "John.Doe";
+
+    private static final String TRAINER = "Jane.Smith";
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Mock
+    private TrainingRepositoryImpl trainingDelegate;
+
+    @Mock
+    private AppMetrics metrics;
+
+    @Test
+    void getTraineeTrainings_servesRepeatedPagesAtTheSameVersionFromCache() {
+        CachedTrainingRepository repository = trainingRepository(true);
+        when(trainingDelegate.getTraineeTrainings(eq(TRAINEE), any(), eq(Optional.empty()), eq(20), eq(3L)))
+                .thenReturn(page(3L));
+
+        repository.getTraineeTrainings(TRAINEE, TrainingFilter.empty(), Optional.empty(), 20, 3L);
+        TrainingPage second = repository.getTraineeTrainings(TRAINEE, TrainingFilter.empty(), Optional.empty(), 20, 3L);
+
+        assertThat(second.trainings())
+                .extracting(TrainingSummary::trainerUsername)
+                .containsExactly(TRAINER);
+        assertThat(second.version()).isEqualTo(3L);
+        verify(trainingDelegate, times(1))
+                .getTraineeTrainings(eq(TRAINEE), any(), eq(Optional.empty()), eq(20), eq(3L));
+    }
+
+    @Test
+    void getTraineeTrainings_sharesEntriesBetweenFiltersTheQueryAppliesAlike() {
+        CachedTrainingRepository repository = trainingRepository(true);
+        when(trainingDelegate.getTraineeTrainings(eq(TRAINEE), any(), eq(Optional.empty()), eq(20), eq(3L)))
+                .thenReturn(page(3L));
+        TrainingFilter ignoredTraineeName = new TrainingFilter(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.of("Someone.Else"), Optional.empty());
+
+        repository.getTraineeTrainings(TRAINEE, TrainingFilter.empty(), Optional.empty(), 20, 3L);
+        repository.getTraineeTrainings(TRAINEE, ignoredTraineeName, Optional.empty(), 20, 3L);
+
+        verify(trainingDelegate, times(1))
+                .getTraineeTrainings(eq(TRAINEE), any(), eq(Optional.empty()), eq(20), eq(3L));
+    }
+
+    @Test
+    void getTrainerTrainings_atANewVersion_reloadsWithoutAnyEviction() {
+        CachedTrainingRepository repository = trainingRepository(true);
+        when(trainingDelegate.getTrainerTrainings(eq(TRAINER), any(), eq(Optional.empty()), eq(20), eq(3L)))
+                .thenReturn(page(3L));
+        when(trainingDelegate.getTrainerTrainings(eq(TRAINER), any(), eq(Optional.empty()), eq(20), eq(4L)))
+                .thenReturn(page(4L));
+
+        repository.getTrainerTrainings(TRAINER, TrainingFilter.empty(), Optional.empty(), 20, 3L);
+        repository.getTrainerTrainings(TRAINER, TrainingFilter.empty(), Optional.empty(), 20, 3L);
+        TrainingPage third = repository.getTrainerTrainings(TRAINER, TrainingFilter.empty(), Optional.empty(), 20, 4L);
+
+        assertThat(third.version()).isEqualTo(4L);
+        verify(trainingDelegate, times(1))
+                .getTrainerTrainings(eq(TRAINER), any(), eq(Optional.empty()), eq(20), eq(3L));
+        verify(trainingDelegate, times(1))
+                .getTrainerTrainings(eq(TRAINER), any(), eq(Optional.empty()), eq(20), eq(4L));
+    }
+
+    @Test
+    void getTraineeTrainings_withCacheDisabled_alwaysDelegates() {
+        CachedTrainingRepository repository = trainingRepository(false);
+        when(trainingDelegate.getTraineeTrainings(eq(TRAINEE), any(), eq(Optional.empty()), eq(20), eq(3L)))
+                .thenReturn(page(3L));
+
+        repository.getTraineeTrainings(TRAINEE, TrainingFilter.empty(), Optional.empty(), 20, 3L);
+        repository.getTraineeTrainings(TRAINEE, TrainingFilter.empty(), Optional.empty(), 20, 3L);
+
+        verify(trainingDelegate, times(2))
+                .getTraineeTrainings(eq(TRAINEE), any(), eq(Optional.empty()), eq(20), eq(3L));
+    }
+
+    private CachedTrainingRepository trainingRepository(boolean enabled) {
+        return new CachedTrainingRepository(
+                trainingDelegate, new TrainingPageCache(metrics, enabled, 1000, Duration.ofMinutes(1)));
+    }
+
+    private static TrainingPage page(long version) {
+        return TrainingPage.of(
+                List.of(new TrainingSummary(1L, "Morning Run", DATE, TrainingTypeEnum.CARDIO, 45, TRAINEE, TRAINER)),
+                false,
+                version);
+    }
+}
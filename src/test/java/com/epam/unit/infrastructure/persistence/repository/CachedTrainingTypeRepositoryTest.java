@@ -0,0 +1,104 @@
+package com.epam.unit.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.domain.model.TrainingType;
+import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.infrastructure.persistence.repository.CachedTrainingTypeRepository;
+import com.epam.infrastructure.persistence.repository.TrainingTypeRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class CachedTrainingTypeRepositoryTest {
+
+    @Mock
+    private TrainingTypeRepositoryImpl delegate;
+
+    private CachedTrainingTypeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachedTrainingTypeRepository(delegate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(repository);
+    }
+
+    @Test
+    void lookups_afterWarmUp_doNotQueryAgain() {
+        when(delegate.getTrainingTypes()).thenReturn(allTypes());
+
+        repository.warmUp();
+        Optional<TrainingType> yoga = repository.findByTrainingTypeName(TrainingTypeEnum.YOGA);
+        Optional<TrainingType> byId = repository.findById(1L);
+        List<TrainingType> types = repository.getTrainingTypes();
+
+        assertThat(yoga).map(TrainingType::getTrainingTypeName).contains(TrainingTypeEnum.YOGA);
+        assertThat(byId).map(TrainingType::getTrainingTypeName).contains(TrainingTypeEnum.values()[0]);
+        assertThat(types).hasSize(TrainingTypeEnum.values().length).isSameAs(repository.getTrainingTypes());
+        verify(delegate, times(1)).getTrainingTypes();
+    }
+
+    @Test
+    void lookups_withIncompleteSnapshot_reloadFromDatabase() {
+        when(delegate.getTrainingTypes()).thenReturn(List.of()).thenReturn(allTypes());
+
+        repository.warmUp();
+        Optional<TrainingType> boxing = repository.findByTrainingTypeName(TrainingTypeEnum.BOXING);
+
+        assertThat(boxing).isPresent();
+        verify(delegate, times(2)).getTrainingTypes();
+    }
+
+    @Test
+    void save_insideTransaction_bypassesSnapshotUntilCompletion() {
+        when(delegate.getTrainingTypes()).thenReturn(allTypes());
+        repository.warmUp();
+        TrainingType pilates = new TrainingType(TrainingTypeEnum.PILATES);
+        when(delegate.save(pilates)).thenReturn(pilates);
+        when(delegate.findByTrainingTypeName(TrainingTypeEnum.PILATES)).thenReturn(Optional.of(pilates));
+
+        TransactionSynchronizationManager.initSynchronization();
+        repository.save(pilates);
+
+        assertThat(repository.findByTrainingTypeName(TrainingTypeEnum.PILATES)).containsSame(pilates);
+        verify(delegate).findByTrainingTypeName(TrainingTypeEnum.PILATES);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        repository.getTrainingTypes();
+        verify(delegate, times(2)).getTrainingTypes();
+    }
+
+    private static List<TrainingType> allTypes() {
+        List<TrainingType> types = new ArrayList<>();
+        long id = 1;
+        for (TrainingTypeEnum name : TrainingTypeEnum.values()) {
+            TrainingType type = new TrainingType(name);
+            type.setTrainingTypeId(id++);
+            types.add(type);
+        }
+        return types;
+    }
+}
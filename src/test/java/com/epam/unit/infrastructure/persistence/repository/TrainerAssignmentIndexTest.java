@@ -0,0 +1,190 @@
+package com.epam.unit.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.domain.TrainerPage;
+import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TrainerSummary;
+import com.epam.infrastructure.monitoring.metrics.AppMetrics;
+import com.epam.infrastructure.persistence.repository.TrainerAssignmentIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerAssignmentIndexTest {
+
+    private static final Long TRAINEE_ID = 10L;
+
+    @Mock
+    private AppMetrics metrics;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<Object[]> catalogQuery;
+
+    @Mock
+    private TypedQuery<Long> assignmentQuery;
+
+    private TrainerAssignmentIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = index(true);
+        lenient()
+                .when(entityManager.createQuery(anyString(), eq(Object[].class)))
+                .thenReturn(catalogQuery);
+        lenient().when(entityManager.createQuery(anyString(), eq(Long.class))).thenReturn(assignmentQuery);
+        lenient().when(assignmentQuery.setParameter(anyString(), any())).thenReturn(assignmentQuery);
+        // Returned out of username order to check the catalog sorts itself
+        lenient()
+                .when(catalogQuery.getResultList())
+                .thenReturn(List.of(
+                        trainerRow(1L, "dave", true),
+                        trainerRow(2L, "alice", true),
+                        trainerRow(3L, "carol", true),
+                        trainerRow(4L, "bob", false)));
+        lenient().when(assignmentQuery.getResultList()).thenReturn(List.of(3L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void unassignedTrainers_pagesActiveUnassignedTrainersByUsername() {
+        TrainerPage first = page(1L, 1L, Optional.empty(), 1);
+        TrainerPage second = page(1L, 1L, first.nextCursor(), 1);
+
+        assertThat(first.trainers()).extracting(TrainerSummary::username).containsExactly("alice");
+        assertThat(first.nextCursor()).contains("alice");
+        assertThat(second.trainers()).extracting(TrainerSummary::username).containsExactly("dave");
+        assertThat(second.nextCursor()).isEmpty();
+        verify(catalogQuery, times(1)).getResultList();
+        verify(assignmentQuery, times(1)).getResultList();
+    }
+
+    @Test
+    void unassignedTrainers_afterTraineeVersionBump_reloadsOnlyTheAssignments() {
+        when(assignmentQuery.getResultList()).thenReturn(List.of(3L), List.of(2L));
+        page(1L, 1L, Optional.empty(), 50);
+
+        // Assigned on another instance, which bumped the trainee's change version
+        TrainerPage page = page(2L, 1L, Optional.empty(), 50);
+
+        assertThat(page.trainers()).extracting(TrainerSummary::username).containsExactly("carol", "dave");
+        verify(assignmentQuery, times(2)).getResultList();
+        verify(catalogQuery, times(1)).getResultList();
+    }
+
+    @Test
+    void unassignedTrainers_afterCatalogVersionBump_rebuildsTheCatalog() {
+        when(catalogQuery.getResultList())
+                .thenReturn(
+                        List.of(trainerRow(1L, "dave", true), trainerRow(2L, "alice", true)),
+                        List.of(
+                                trainerRow(1L, "dave", false),
+                                trainerRow(2L, "alice", true),
+                                trainerRow(5L, "beth", true)));
+        page(1L, 1L, Optional.empty(), 50);
+
+        // Deactivated and registered on another instance, which bumped the catalog version
+        TrainerPage page = page(1L, 2L, Optional.empty(), 50);
+
+        assertThat(page.trainers()).extracting(TrainerSummary::username).containsExactly("alice", "beth");
+        verify(catalogQuery, times(2)).getResultList();
+        verify(assignmentQuery, times(1)).getResultList();
+    }
+
+    @Test
+    void unassignedTrainers_olderCatalogVersion_doesNotReplaceNewerCatalog() {
+        // A lagging replica reports version 1 after version 2 was loaded
+        page(1L, 2L, Optional.empty(), 50);
+        page(1L, 1L, Optional.empty(), 50);
+        page(1L, 2L, Optional.empty(), 50);
+
+        verify(catalogQuery, times(2)).getResultList();
+    }
+
+    @Test
+    void unassignedTrainers_insideReadWriteTransaction_keepsLoadsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            page(1L, 1L, Optional.empty(), 50);
+            page(1L, 1L, Optional.empty(), 50);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        page(1L, 1L, Optional.empty(), 50);
+
+        verify(catalogQuery, times(2)).getResultList();
+        verify(assignmentQuery, times(2)).getResultList();
+    }
+
+    @Test
+    void trainersChanged_bumpsTheCatalogVersion() {
+        Query bump = mock(Query.class);
+        when(entityManager.createNativeQuery(contains("trainer_catalog_version")))
+                .thenReturn(bump);
+
+        index.trainersChanged();
+
+        verify(bump).executeUpdate();
+    }
+
+    @Test
+    void unassignedTrainers_whenDisabled_defersToDatabase() {
+        TrainerAssignmentIndex disabled = index(false);
+
+        assertThat(disabled.unassignedTrainers(TRAINEE_ID, 1L, 1L, Optional.empty(), 50))
+                .isEmpty();
+        verify(entityManager, times(0)).createQuery(anyString(), eq(Object[].class));
+    }
+
+    private TrainerPage page(long traineeVersion, long catalogVersion, Optional<String> after, int limit) {
+        return index.unassignedTrainers(TRAINEE_ID, traineeVersion, catalogVersion, after, limit)
+                .orElseThrow();
+    }
+
+    private TrainerAssignmentIndex index(boolean enabled) {
+        TrainerAssignmentIndex created = new TrainerAssignmentIndex(metrics, enabled, 100, Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(created, "entityManager", entityManager);
+        return created;
+    }
+
+    private static Object[] trainerRow(Long id, String username, boolean active) {
+        return new Object[] {id, username, "First", "Last", active, TrainingTypeEnum.YOGA};
+    }
+}
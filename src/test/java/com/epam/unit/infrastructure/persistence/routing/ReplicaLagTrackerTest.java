@@ -0,0 +1,165 @@
+package com.epam.unit.infrastructure.persistence.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import com.epam.infrastructure.persistence.routing.ReplicaLagTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagTrackerTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    @Mock
+    private JdbcOperations primary;
+
+    @Mock
+    private JdbcOperations replica;
+
+    private MutableClock clock;
+
+    private ReplicaLagTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(1_000_000L);
+        tracker = new ReplicaLagTracker(primary, replica, MAX_LAG, clock);
+    }
+
+    @Test
+    void canServe_beforeFirstCheck_isFalse() {
+        assertThat(tracker.canServe(0L)).isFalse();
+    }
+
+    @Test
+    void refresh_whenReplicaReachedPrimaryPosition_servesPositionsItReplayed() {
+        positions(100L, 100L);
+
+        tracker.refresh();
+
+        assertThat(tracker.canServe(100L)).isTrue();
+        assertThat(tracker.canServe(101L)).isFalse();
+    }
+
+    @Test
+    void refresh_whenReplicaBehind_servesOnlyPositionsItReplayed() {
+        positions(100L, 100L);
+        tracker.refresh();
+
+        clock.advance(1_000L);
+        positions(200L, 150L);
+        tracker.refresh();
+
+        assertThat(tracker.canServe(150L)).isTrue();
+        assertThat(tracker.canServe(200L)).isFalse();
+
+        clock.advance(1_000L);
+        positions(200L, 200L);
+        tracker.refresh();
+
+        assertThat(tracker.canServe(200L)).isTrue();
+    }
+
+    @Test
+    void canServe_whenChecksFailBeyondMaxLag_isFalse() {
+        positions(100L, 100L);
+        tracker.refresh();
+
+        clock.advance(MAX_LAG.toMillis() + 1);
+        when(primary.queryForObject(anyString(), eq(Long.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        tracker.refresh();
+
+        assertThat(tracker.canServe(0L)).isFalse();
+    }
+
+    @Test
+    void refresh_whenReplicaNotInRecovery_treatsItAsCurrent() {
+        positions(100L, null);
+
+        tracker.refresh();
+
+        assertThat(tracker.canServe(1_000L)).isTrue();
+    }
+
+    @Test
+    void canServe_whenReplayKeepsUpButChecksStall_isFalseBeyondMaxLag() {
+        positions(100L, 100L);
+        tracker.refresh();
+
+        clock.advance(1_000L);
+        positions(300L, 250L);
+        tracker.refresh();
+        clock.advance(MAX_LAG.toMillis());
+
+        assertThat(tracker.canServe(100L)).isFalse();
+    }
+
+    @Test
+    void primaryPosition_readsCurrentWalPosition() {
+        when(primary.queryForObject(anyString(), eq(Long.class))).thenReturn(4_096L);
+
+        assertThat(tracker.primaryPosition()).isEqualTo(4_096L);
+    }
+
+    @Test
+    void primaryPosition_whenPrimaryUnreadable_requiresAPositionNoReplicaReaches() {
+        when(primary.queryForObject(anyString(), eq(Long.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThat(tracker.primaryPosition()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    private void positions(Long primaryPosition, Long replayPosition) {
+        when(primary.queryForObject(anyString(), eq(Long.class))).thenReturn(primaryPosition);
+        when(replica.queryForObject(anyString(), eq(Long.class))).thenReturn(replayPosition);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.epam.unit.infrastructure.persistence.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import com.epam.infrastructure.persistence.routing.ReadConsistency;
+import com.epam.infrastructure.persistence.routing.ReplicaLagTracker;
+import com.epam.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    private static final long COMMIT_POSITION = 0x3000060L;
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagTracker lagTracker;
+
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReplicaRoutingDataSource(primary, replica, lagTracker);
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+        ReadConsistency.close();
+    }
+
+    @Test
+    void getConnection_outsideTransaction_usesPrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_readOnlyTransaction_usesReplicaWhenCurrent() throws SQLException {
+        readOnlyTransaction();
+        when(lagTracker.canServe(0L)).thenReturn(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void getConnection_readOnlyTransaction_usesPrimaryWhenReplicaLacksRequiredCommit() throws SQLException {
+        readOnlyTransaction();
+        ReadConsistency.open(COMMIT_POSITION, position -> {});
+        when(lagTracker.canServe(COMMIT_POSITION)).thenReturn(false);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_readWriteTransaction_issuesTokenOnCommit() throws SQLException {
+        List<Long> issued = new ArrayList<>();
+        ReadConsistency.open(0L, issued::add);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(lagTracker.primaryPosition()).thenReturn(COMMIT_POSITION);
+
+        routing.getConnection();
+        routing.getConnection();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(issued).containsExactly(COMMIT_POSITION);
+        assertThat(ReadConsistency.requiredPosition()).isEqualTo(COMMIT_POSITION);
+    }
+
+    @Test
+    void getConnection_readOnlyTransactionPinnedToPrimary_usesPrimary() throws SQLException {
+        readOnlyTransaction();
+        when(lagTracker.canServe(Long.MAX_VALUE)).thenReturn(false);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(ReadConsistency.onPrimary(this::connection)).isSameAs(primaryConnection);
+    }
+
+    private Connection connection() {
+        try {
+            return routing.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void readOnlyTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+}
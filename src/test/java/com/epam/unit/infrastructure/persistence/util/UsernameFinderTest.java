@@ -399,4 +399,44 @@ class UsernameFinderTest {
         assertThat(result).isPresent();
         assertThat(result.get()).isEqualTo("John.Doe1");
     }
+
+    // ========================================================================
+    // FIND LATEST SERIAL TESTS
+    // ========================================================================
+
+    @Test
+    void findLatestSerial_shouldReturnMinusOneWhenNoUsernameMatches() {
+        // Given
+        Collection<String> usernames = List.of("Jane.Smith", "Jane.Smith1");
+
+        // When
+        long result = UsernameFinder.findLatestSerial(usernames, "John.Doe");
+
+        // Then
+        assertThat(result).isEqualTo(-1L);
+    }
+
+    @Test
+    void findLatestSerial_shouldReturnZeroForBareBaseUsername() {
+        // Given
+        Collection<String> usernames = List.of("John.Doe");
+
+        // When
+        long result = UsernameFinder.findLatestSerial(usernames, "John.Doe");
+
+        // Then
+        assertThat(result).isZero();
+    }
+
+    @Test
+    void findLatestSerial_shouldReturnHighestSerial() {
+        // Given
+        Collection<String> usernames = List.of("John.Doe", "John.Doe7", "John.Doe12", "John.Doe3");
+
+        // When
+        long result = UsernameFinder.findLatestSerial(usernames, "John.Doe");
+
+        // Then
+        assertThat(result).isEqualTo(12L);
+    }
 }
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.Set;
 
 import com.epam.infrastructure.security.authentication_token.JwtAuthenticationToken;
 import com.epam.infrastructure.security.core.TokenData;
@@ -21,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.test.context.ActiveProfiles;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,7 +36,7 @@ class JwtAuthenticationProviderTest {
 
     @BeforeEach
     void setUp() {
-        provider = new JwtAuthenticationProvider(tokenService);
+        provider = new JwtAuthenticationProvider(tokenService, Set.of("gym.admin"));
     }
 
     @Test
@@ -57,6 +59,25 @@ class JwtAuthenticationProviderTest {
         assertInstanceOf(UsernamePasswordAuthenticationToken.class, result);
     }
 
+    @Test
+    void authenticate_shouldGrantAdminRole_onlyToConfiguredAdmins() {
+        // Given
+        when(tokenService.validateToken("admin-token"))
+                .thenReturn(
+                        new TokenData("gym.admin", Instant.now(), Instant.now().plusSeconds(3600)));
+        when(tokenService.validateToken("user-token"))
+                .thenReturn(
+                        new TokenData("testuser", Instant.now(), Instant.now().plusSeconds(3600)));
+
+        // When
+        Authentication admin = provider.authenticate(new JwtAuthenticationToken("admin-token"));
+        Authentication user = provider.authenticate(new JwtAuthenticationToken("user-token"));
+
+        // Then
+        assertEquals(Set.of("ROLE_ADMIN"), AuthorityUtils.authorityListToSet(admin.getAuthorities()));
+        assertTrue(user.getAuthorities().isEmpty());
+    }
+
     @Test
     void authenticate_shouldThrowException_whenTokenInvalid() {
         // Given
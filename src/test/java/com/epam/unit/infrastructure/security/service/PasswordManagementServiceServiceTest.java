@@ -12,12 +12,9 @@ import java.util.Optional;
 
 import com.epam.application.exception.EntityNotFoundException;
 import com.epam.application.facade.GymFacade;
-import com.epam.domain.model.Trainee;
-import com.epam.domain.model.Trainer;
-import com.epam.domain.model.TrainingType;
-import com.epam.domain.model.TrainingTypeEnum;
-import com.epam.domain.model.User;
+import com.epam.domain.model.UserRole;
 import com.epam.domain.port.UserRepository;
+import com.epam.domain.projection.UserCredentials;
 import com.epam.infrastructure.security.service.PasswordManagementService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -54,33 +51,28 @@ class PasswordManagementServiceServiceTest {
 
     private static final String ENCODED_OLD_PASSWORD = "$2a$10$encodedOldPassword";
 
-    private Trainee trainee;
+    private UserCredentials trainee;
 
-    private Trainer trainer;
+    private UserCredentials trainer;
 
     @BeforeEach
     void setUp() {
-        trainee = new Trainee("john", "doe", true);
-        trainee.setUsername(USERNAME);
-        trainee.setPassword(ENCODED_OLD_PASSWORD);
-
-        trainer = new Trainer("john", "doe", true, new TrainingType(TrainingTypeEnum.CARDIO));
-        trainer.setUsername(USERNAME);
-        trainer.setPassword(ENCODED_OLD_PASSWORD);
+        trainee = new UserCredentials(USERNAME, ENCODED_OLD_PASSWORD, UserRole.TRAINEE);
+        trainer = new UserCredentials(USERNAME, ENCODED_OLD_PASSWORD, UserRole.TRAINER);
     }
 
     @Test
     @DisplayName("Should successfully change password for Trainee")
     void testChangePassword_Trainee_Success() {
         // Given
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(trainee));
+        when(userRepository.findCredentials(USERNAME)).thenReturn(Optional.of(trainee));
         when(passwordEncoder.matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD)).thenReturn(true);
 
         // When
         passwordManagementService.changePassword(USERNAME, OLD_PASSWORD, NEW_PASSWORD);
 
         // Then
-        verify(userRepository).findByUsername(USERNAME);
+        verify(userRepository).findCredentials(USERNAME);
         verify(passwordEncoder).matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD);
         verify(gymFacade).updateTraineePassword(USERNAME, NEW_PASSWORD);
         verify(gymFacade, never()).updateTrainerPassword(anyString(), anyString());
@@ -90,14 +82,14 @@ class PasswordManagementServiceServiceTest {
     @DisplayName("Should successfully change password for Trainer")
     void testChangePassword_Trainer_Success() {
         // Given
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(trainer));
+        when(userRepository.findCredentials(USERNAME)).thenReturn(Optional.of(trainer));
         when(passwordEncoder.matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD)).thenReturn(true);
 
         // When
         passwordManagementService.changePassword(USERNAME, OLD_PASSWORD, NEW_PASSWORD);
 
         // Then
-        verify(userRepository).findByUsername(USERNAME);
+        verify(userRepository).findCredentials(USERNAME);
         verify(passwordEncoder).matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD);
         verify(gymFacade).updateTrainerPassword(USERNAME, NEW_PASSWORD);
         verify(gymFacade, never()).updateTraineePassword(anyString(), anyString());
@@ -107,14 +99,14 @@ class PasswordManagementServiceServiceTest {
     @DisplayName("Should throw EntityNotFoundException when user does not exist")
     void testChangePassword_UserNotFound() {
         // Given
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.empty());
+        when(userRepository.findCredentials(USERNAME)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> passwordManagementService.changePassword(USERNAME, OLD_PASSWORD, NEW_PASSWORD))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("User not found with username: " + USERNAME);
 
-        verify(userRepository).findByUsername(USERNAME);
+        verify(userRepository).findCredentials(USERNAME);
         verify(passwordEncoder, never()).matches(anyString(), anyString());
         verify(gymFacade, never()).updateTraineePassword(anyString(), anyString());
         verify(gymFacade, never()).updateTrainerPassword(anyString(), anyString());
@@ -124,7 +116,7 @@ class PasswordManagementServiceServiceTest {
     @DisplayName("Should throw BadCredentialsException when old password is incorrect for Trainee")
     void testChangePassword_Trainee_IncorrectOldPassword() {
         // Given
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(trainee));
+        when(userRepository.findCredentials(USERNAME)).thenReturn(Optional.of(trainee));
         when(passwordEncoder.matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD)).thenReturn(false);
 
         // When & Then
@@ -132,7 +124,7 @@ class PasswordManagementServiceServiceTest {
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessage("Current password is incorrect");
 
-        verify(userRepository).findByUsername(USERNAME);
+        verify(userRepository).findCredentials(USERNAME);
         verify(passwordEncoder).matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD);
         verify(gymFacade, never()).updateTraineePassword(anyString(), anyString());
         verify(gymFacade, never()).updateTrainerPassword(anyString(), anyString());
@@ -142,7 +134,7 @@ class PasswordManagementServiceServiceTest {
     @DisplayName("Should throw BadCredentialsException when old password is incorrect for Trainer")
     void testChangePassword_Trainer_IncorrectOldPassword() {
         // Given
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(trainer));
+        when(userRepository.findCredentials(USERNAME)).thenReturn(Optional.of(trainer));
         when(passwordEncoder.matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD)).thenReturn(false);
 
         // When & Then
@@ -150,7 +142,7 @@ class PasswordManagementServiceServiceTest {
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessage("Current password is incorrect");
 
-        verify(userRepository).findByUsername(USERNAME);
+        verify(userRepository).findCredentials(USERNAME);
         verify(passwordEncoder).matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD);
         verify(gymFacade, never()).updateTraineePassword(anyString(), anyString());
         verify(gymFacade, never()).updateTrainerPassword(anyString(), anyString());
@@ -159,14 +151,10 @@ class PasswordManagementServiceServiceTest {
     @Test
     @DisplayName("Should throw IllegalStateException for unsupported user type")
     void testChangePassword_UnsupportedUserType() {
-        // Given - Create a custom User subclass that's not Trainee or Trainer
-        User unsupportedUser = new User("", "", true) {
-                    // Anonymous subclass for testing
-                };
-        unsupportedUser.setUsername(USERNAME);
-        unsupportedUser.setPassword(ENCODED_OLD_PASSWORD);
-
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(unsupportedUser));
+        // Given - The role column is nullable, so a user may belong to neither profile type
+        UserCredentials unsupportedUser = new UserCredentials(USERNAME, ENCODED_OLD_PASSWORD, null);
+
+        when(userRepository.findCredentials(USERNAME)).thenReturn(Optional.of(unsupportedUser));
         when(passwordEncoder.matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD)).thenReturn(true);
 
         // When & Then
@@ -174,7 +162,7 @@ class PasswordManagementServiceServiceTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("Unsupported user type");
 
-        verify(userRepository).findByUsername(USERNAME);
+        verify(userRepository).findCredentials(USERNAME);
         verify(passwordEncoder).matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD);
         verify(gymFacade, never()).updateTraineePassword(anyString(), anyString());
         verify(gymFacade, never()).updateTrainerPassword(anyString(), anyString());
@@ -184,14 +172,14 @@ class PasswordManagementServiceServiceTest {
     @DisplayName("Should handle password change when old and new passwords are the same")
     void testChangePassword_SamePassword() {
         // Given
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(trainee));
+        when(userRepository.findCredentials(USERNAME)).thenReturn(Optional.of(trainee));
         when(passwordEncoder.matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD)).thenReturn(true);
 
         // When
         passwordManagementService.changePassword(USERNAME, OLD_PASSWORD, OLD_PASSWORD);
 
         // Then - Should still process the change
-        verify(userRepository).findByUsername(USERNAME);
+        verify(userRepository).findCredentials(USERNAME);
         verify(passwordEncoder).matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD);
         verify(gymFacade).updateTraineePassword(USERNAME, OLD_PASSWORD);
     }
@@ -201,14 +189,14 @@ class PasswordManagementServiceServiceTest {
     void testChangePassword_SpecialCharacters() {
         // Given
         String specialPassword = "P@ssw0rd!#$%^&*()";
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(trainer));
+        when(userRepository.findCredentials(USERNAME)).thenReturn(Optional.of(trainer));
         when(passwordEncoder.matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD)).thenReturn(true);
 
         // When
         passwordManagementService.changePassword(USERNAME, OLD_PASSWORD, specialPassword);
 
         // Then
-        verify(userRepository).findByUsername(USERNAME);
+        verify(userRepository).findCredentials(USERNAME);
         verify(passwordEncoder).matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD);
         verify(gymFacade).updateTrainerPassword(USERNAME, specialPassword);
     }
@@ -217,7 +205,7 @@ class PasswordManagementServiceServiceTest {
     @DisplayName("Should verify password encoder is called with correct parameters")
     void testChangePassword_PasswordEncoderCalledCorrectly() {
         // Given
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(trainee));
+        when(userRepository.findCredentials(USERNAME)).thenReturn(Optional.of(trainee));
         when(passwordEncoder.matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD)).thenReturn(true);
 
         // When
@@ -231,7 +219,7 @@ class PasswordManagementServiceServiceTest {
     @DisplayName("Should call gymFacade only once for Trainee")
     void testChangePassword_GymFacadeCalledOnceForTrainee() {
         // Given
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(trainee));
+        when(userRepository.findCredentials(USERNAME)).thenReturn(Optional.of(trainee));
         when(passwordEncoder.matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD)).thenReturn(true);
 
         // When
@@ -246,7 +234,7 @@ class PasswordManagementServiceServiceTest {
     @DisplayName("Should call gymFacade only once for Trainer")
     void testChangePassword_GymFacadeCalledOnceForTrainer() {
         // Given
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(trainer));
+        when(userRepository.findCredentials(USERNAME)).thenReturn(Optional.of(trainer));
         when(passwordEncoder.matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD)).thenReturn(true);
 
         // When
@@ -1,7 +1,12 @@
 package com.epam.unit.interfaces.web.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -12,6 +17,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -19,17 +26,25 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.epam.application.exception.EntityNotFoundException;
+import com.epam.application.exception.VersionConflictException;
 import com.epam.application.facade.GymFacade;
 import com.epam.application.request.CreateTraineeProfileRequest;
+import com.epam.application.request.UpdateTraineeProfileRequest;
+import com.epam.domain.AssignedTrainers;
+import com.epam.domain.TrainerPage;
+import com.epam.domain.TrainingCursor;
 import com.epam.domain.TrainingFilter;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Trainee;
-import com.epam.domain.model.Trainer;
-import com.epam.domain.model.Training;
-import com.epam.domain.model.TrainingType;
 import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TraineeProfile;
+import com.epam.domain.projection.TrainerSummary;
+import com.epam.domain.projection.TrainingSummary;
 import com.epam.interfaces.web.controller.impl.TraineeController;
+import com.epam.interfaces.web.dto.request.TraineeBatchRegistrationRequest;
 import com.epam.interfaces.web.dto.request.TraineeRegistrationRequest;
 import com.epam.interfaces.web.dto.request.UpdateTraineeRequest;
 import com.epam.interfaces.web.dto.request.UpdateTraineeTrainersRequest;
@@ -37,10 +52,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
@@ -64,7 +81,7 @@ class TraineeControllerTest {
 
     private Trainee testTrainee;
 
-    private Trainer testTrainer;
+    private TrainerSummary testTrainerSummary;
 
     @BeforeEach
     void setUp() {
@@ -74,11 +91,7 @@ class TraineeControllerTest {
         testTrainee.setDob(LocalDate.of(1990, 1, 1));
         testTrainee.setAddress("123 Main St");
 
-        TrainingType trainingType = new TrainingType(TrainingTypeEnum.BOXING);
-        trainingType.setTrainingTypeId(1L);
-
-        testTrainer = new Trainer("Jane", "Smith", true, trainingType);
-        testTrainer.setUsername("jane.smith");
+        testTrainerSummary = new TrainerSummary("jane.smith", "Jane", "Smith", true, TrainingTypeEnum.BOXING);
     }
 
     @Test
@@ -102,6 +115,46 @@ class TraineeControllerTest {
         verify(gymFacade, times(1)).createTraineeProfile(any());
     }
 
+    @Test
+    @DisplayName("POST /api/trainees/batch - Should return credentials in request order")
+    void testRegisterTrainees_Batch() throws Exception {
+        // Given
+        TraineeBatchRegistrationRequest request = new TraineeBatchRegistrationRequest(List.of(
+                new TraineeRegistrationRequest("John", "Doe", Optional.empty(), Optional.empty()),
+                new TraineeRegistrationRequest("John", "Doe", Optional.empty(), Optional.empty())));
+
+        Trainee second = new Trainee("John", "Doe", true);
+        second.setUsername("john.doe1");
+        second.setPassword("password456");
+        when(gymFacade.createTraineeProfiles(anyList())).thenReturn(List.of(testTrainee, second));
+
+        // When & Then
+        mockMvc.perform(post("/api/trainees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].username").value("john.doe"))
+                .andExpect(jsonPath("$[1].username").value("john.doe1"))
+                .andExpect(jsonPath("$[1].password").value("password456"));
+    }
+
+    @Test
+    @DisplayName("POST /api/trainees/batch - Should return 400 when any item is invalid")
+    void testRegisterTrainees_BatchWithInvalidItem() throws Exception {
+        // Given
+        TraineeBatchRegistrationRequest request = new TraineeBatchRegistrationRequest(List.of(
+                new TraineeRegistrationRequest("John", "Doe", Optional.empty(), Optional.empty()),
+                new TraineeRegistrationRequest("", "Doe", Optional.empty(), Optional.empty())));
+
+        // When & Then
+        mockMvc.perform(post("/api/trainees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(gymFacade, never()).createTraineeProfiles(anyList());
+    }
+
     @Test
     @DisplayName("POST /api/trainees - Should return 400 for invalid input")
     void testRegisterTrainee_InvalidInput() throws Exception {
@@ -139,8 +192,8 @@ class TraineeControllerTest {
     @DisplayName("GET /api/trainees/{username} - Should return trainee profile")
     void testGetProfile_Success() throws Exception {
         // Given
-        when(gymFacade.getTraineeByUsername(testTrainee.getUsername())).thenReturn(testTrainee);
-        when(gymFacade.getTraineeTrainers(testTrainee.getUsername())).thenReturn(List.of(testTrainer));
+        when(gymFacade.getTraineeProfile(eq(testTrainee.getUsername()), anyLong()))
+                .thenReturn(new TraineeProfile(testTrainee, List.of(testTrainerSummary)));
 
         // When & Then
         mockMvc.perform(get("/api/trainees/john.doe"))
@@ -152,19 +205,20 @@ class TraineeControllerTest {
                 .andExpect(jsonPath("$.trainers").isArray())
                 .andExpect(jsonPath("$.trainers[0].username").value("jane.smith"));
 
-        verify(gymFacade).getTraineeByUsername(testTrainee.getUsername());
+        verify(gymFacade).getTraineeProfile(eq(testTrainee.getUsername()), anyLong());
     }
 
     @Test
     @DisplayName("GET /api/trainees/{username} - Should return 404 when trainee not found")
     void testGetProfile_NotFound() throws Exception {
         // Given
-        when(gymFacade.getTraineeByUsername(testTrainee.getUsername())).thenThrow(EntityNotFoundException.class);
+        when(gymFacade.getTraineeProfile(eq(testTrainee.getUsername()), anyLong()))
+                .thenThrow(EntityNotFoundException.class);
 
         // When & Then
         mockMvc.perform(get("/api/trainees/john.doe")).andExpect(status().isNotFound()); // Will
         // throw
-        verify(gymFacade).getTraineeByUsername(testTrainee.getUsername());
+        verify(gymFacade).getTraineeProfile(eq(testTrainee.getUsername()), anyLong());
     }
 
     @Test
@@ -178,8 +232,7 @@ class TraineeControllerTest {
         testTrainee.setAddress("456 New St");
         testTrainee.setActive(false);
 
-        when(gymFacade.updateTraineeProfile(any())).thenReturn(testTrainee);
-        when(gymFacade.getTraineeTrainers(testTrainee.getUsername())).thenReturn(List.of());
+        when(gymFacade.updateTraineeProfileWithTrainers(any())).thenReturn(new TraineeProfile(testTrainee, List.of()));
 
         // When & Then
         mockMvc.perform(put("/api/trainees/john.doe")
@@ -191,7 +244,137 @@ class TraineeControllerTest {
                 .andExpect(jsonPath("$.address").value("456 New St"))
                 .andExpect(jsonPath("$.active").value(false));
 
-        verify(gymFacade).updateTraineeProfile(any());
+        verify(gymFacade).updateTraineeProfileWithTrainers(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/trainees/{username} - Should return the change version as ETag")
+    void testGetProfile_ReturnsETag() throws Exception {
+        // Given
+        testTrainee.setVersion(4L);
+        when(gymFacade.getTraineeChangeVersion(testTrainee.getUsername())).thenReturn(4L);
+        when(gymFacade.getTraineeProfile(eq(testTrainee.getUsername()), anyLong()))
+                .thenReturn(new TraineeProfile(testTrainee, List.of()));
+
+        // When & Then
+        mockMvc.perform(get("/api/trainees/john.doe"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    @DisplayName("GET /api/trainees/{username} - Should tag the body with the version it was read at")
+    void testGetProfile_WriteBetweenVersionAndBodyReads_TagsBodyVersion() throws Exception {
+        // Given: a write lands after the If-None-Match check read version 4
+        testTrainee.setVersion(5L);
+        when(gymFacade.getTraineeChangeVersion(testTrainee.getUsername())).thenReturn(4L);
+        when(gymFacade.getTraineeProfile(eq(testTrainee.getUsername()), anyLong()))
+                .thenReturn(new TraineeProfile(testTrainee, List.of()));
+
+        // When & Then
+        mockMvc.perform(get("/api/trainees/john.doe").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+    }
+
+    @Test
+    @DisplayName("GET /api/trainees/{username} - Should answer a current If-None-Match with 304 and no profile read")
+    void testGetProfile_NotModified() throws Exception {
+        // Given
+        when(gymFacade.getTraineeChangeVersion(testTrainee.getUsername())).thenReturn(4L);
+
+        // When & Then
+        mockMvc.perform(get("/api/trainees/john.doe").header(HttpHeaders.IF_NONE_MATCH, "\"3\", W/\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(content().string(""));
+
+        verify(gymFacade, never()).getTraineeProfile(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /api/trainees/{username} - Should return the profile when If-None-Match is outdated")
+    void testGetProfile_OutdatedIfNoneMatch() throws Exception {
+        // Given
+        testTrainee.setVersion(5L);
+        when(gymFacade.getTraineeChangeVersion(testTrainee.getUsername())).thenReturn(5L);
+        when(gymFacade.getTraineeProfile(eq(testTrainee.getUsername()), anyLong()))
+                .thenReturn(new TraineeProfile(testTrainee, List.of()));
+
+        // When & Then
+        mockMvc.perform(get("/api/trainees/john.doe").header(HttpHeaders.IF_NONE_MATCH, "\"4\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+                .andExpect(jsonPath("$.firstName").value("John"));
+    }
+
+    @Test
+    @DisplayName("GET /api/trainees/{username}/trainings - Should answer a current If-None-Match with 304")
+    void testGetTrainings_NotModified() throws Exception {
+        // Given
+        when(gymFacade.getTraineeChangeVersion(testTrainee.getUsername())).thenReturn(9L);
+
+        // When & Then
+        mockMvc.perform(get("/api/trainees/john.doe/trainings").header(HttpHeaders.IF_NONE_MATCH, "\"9\""))
+                .andExpect(status().isNotModified());
+
+        verify(gymFacade, never()).getTraineeTrainings(any(), any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("PUT /api/trainees/{username} - Should pass If-Match on as the expected version")
+    void testUpdateProfile_WithIfMatch() throws Exception {
+        // Given
+        UpdateTraineeRequest request =
+                new UpdateTraineeRequest("John", "Doe", LocalDate.of(1990, 1, 1), "123 Main St", true);
+        testTrainee.setVersion(5L);
+
+        when(gymFacade.updateTraineeProfileWithTrainers(any())).thenReturn(new TraineeProfile(testTrainee, List.of()));
+
+        // When & Then
+        mockMvc.perform(put("/api/trainees/john.doe")
+                        .header(HttpHeaders.IF_MATCH, "\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+
+        ArgumentCaptor<UpdateTraineeProfileRequest> captor = ArgumentCaptor.forClass(UpdateTraineeProfileRequest.class);
+        verify(gymFacade).updateTraineeProfileWithTrainers(captor.capture());
+        assertThat(captor.getValue().expectedVersion()).contains(4L);
+    }
+
+    @Test
+    @DisplayName("PUT /api/trainees/{username} - Should return 409 when the profile changed concurrently")
+    void testUpdateProfile_VersionConflict() throws Exception {
+        // Given
+        UpdateTraineeRequest request =
+                new UpdateTraineeRequest("John", "Doe", LocalDate.of(1990, 1, 1), "123 Main St", true);
+        when(gymFacade.updateTraineeProfileWithTrainers(any())).thenThrow(new VersionConflictException("stale"));
+
+        // When & Then
+        mockMvc.perform(put("/api/trainees/john.doe")
+                        .header(HttpHeaders.IF_MATCH, "\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("PUT /api/trainees/{username} - Should return 400 for a weak If-Match tag")
+    void testUpdateProfile_WeakIfMatch() throws Exception {
+        // Given
+        UpdateTraineeRequest request =
+                new UpdateTraineeRequest("John", "Doe", LocalDate.of(1990, 1, 1), "123 Main St", true);
+
+        // When & Then
+        mockMvc.perform(put("/api/trainees/john.doe")
+                        .header(HttpHeaders.IF_MATCH, "W/\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(gymFacade, never()).updateTraineeProfileWithTrainers(any());
     }
 
     @Test
@@ -210,16 +393,34 @@ class TraineeControllerTest {
     @DisplayName("GET /api/trainees/{username}/available-trainers - Should return available trainers")
     void testGetAvailableTrainers_Success() throws Exception {
         // Given
-        when(gymFacade.getTraineeUnassignedTrainers(testTrainee.getUsername())).thenReturn(List.of(testTrainer));
+        when(gymFacade.getTraineeUnassignedTrainers(testTrainee.getUsername(), Optional.empty(), 50))
+                .thenReturn(new TrainerPage(List.of(testTrainerSummary), Optional.empty()));
 
         // When & Then
         mockMvc.perform(get("/api/trainees/john.doe/available-trainers"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].username").value("jane.smith"))
-                .andExpect(jsonPath("$[0].specialization").value("BOXING"));
+                .andExpect(jsonPath("$[0].specialization").value("BOXING"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
 
-        verify(gymFacade).getTraineeUnassignedTrainers(testTrainee.getUsername());
+        verify(gymFacade).getTraineeUnassignedTrainers(testTrainee.getUsername(), Optional.empty(), 50);
+    }
+
+    @Test
+    @DisplayName("GET /api/trainees/{username}/available-trainers - Should pass cursor through and expose the next one")
+    void testGetAvailableTrainers_WithCursor() throws Exception {
+        // Given
+        when(gymFacade.getTraineeUnassignedTrainers(testTrainee.getUsername(), Optional.of("alice.brown"), 1))
+                .thenReturn(TrainerPage.of(List.of(testTrainerSummary), true));
+
+        // When & Then
+        mockMvc.perform(get("/api/trainees/john.doe/available-trainers")
+                        .param("limit", "1")
+                        .param("cursor", "alice.brown"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].username").value("jane.smith"))
+                .andExpect(header().string("X-Next-Cursor", "jane.smith"));
     }
 
     @Test
@@ -229,16 +430,20 @@ class TraineeControllerTest {
         UpdateTraineeTrainersRequest request = new UpdateTraineeTrainersRequest(List.of("jane.smith", "bob.jones"));
 
         // When
-        when(gymFacade.getTraineeTrainers(testTrainee.getUsername())).thenReturn(List.of(testTrainer));
+        when(gymFacade.updateTraineeTrainersList(
+                        testTrainee.getUsername(), request.trainerUsernames(), Optional.empty()))
+                .thenReturn(new AssignedTrainers(List.of(testTrainerSummary), 4L));
 
         // Then
         mockMvc.perform(put("/api/trainees/john.doe/trainers")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$[0].username").value(testTrainerSummary.username()));
 
-        verify(gymFacade).updateTraineeTrainersList(testTrainee.getUsername(), request.trainerUsernames());
+        verify(gymFacade, never()).getTraineeTrainers(any());
     }
 
     @Test
@@ -253,26 +458,24 @@ class TraineeControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
 
-        verify(gymFacade, never()).updateTraineeTrainersList(any(), any());
+        verify(gymFacade, never()).updateTraineeTrainersList(any(), any(), any());
     }
 
     @Test
     @DisplayName("GET /api/trainees/{username}/trainings - Should return trainings with filters")
     void testGetTrainings_Success() throws Exception {
         // Given
-        TrainingType trainingType = new TrainingType(TrainingTypeEnum.CARDIO);
-        Training training = Training.builder()
-                .trainingName("Morning Workout")
-                .trainingDate(LocalDateTime.now())
-                .trainingDurationMin(60)
-                .trainee(testTrainee)
-                .trainer(testTrainer)
-                .trainingType(trainingType)
-                .build();
+        TrainingSummary training = new TrainingSummary(
+                1L, "Morning Workout", LocalDateTime.now(), TrainingTypeEnum.CARDIO, 60, "john.doe", "jane.smith");
 
         // When
-        when(gymFacade.getTraineeTrainings(eq(testTrainee.getUsername()), any(TrainingFilter.class)))
-                .thenReturn(List.of(training));
+        when(gymFacade.getTraineeTrainings(
+                        eq(testTrainee.getUsername()),
+                        any(TrainingFilter.class),
+                        eq(Optional.empty()),
+                        eq(50),
+                        anyLong()))
+                .thenReturn(new TrainingPage(List.of(training), Optional.empty()));
 
         // Then
         mockMvc.perform(get("/api/trainees/john.doe/trainings")
@@ -280,9 +483,107 @@ class TraineeControllerTest {
                         .param("trainingType", "CARDIO"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].trainingName").value("Morning Workout"));
+                .andExpect(jsonPath("$[0].trainingName").value("Morning Workout"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        verify(gymFacade)
+                .getTraineeTrainings(
+                        eq(testTrainee.getUsername()),
+                        any(TrainingFilter.class),
+                        eq(Optional.empty()),
+                        eq(50),
+                        anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /api/trainees/{username}/trainings - Should pass cursor through and expose the next one")
+    void testGetTrainings_WithCursor() throws Exception {
+        // Given
+        TrainingCursor requested = new TrainingCursor(LocalDateTime.of(2024, 1, 15, 9, 0), 7L);
+        TrainingCursor next = new TrainingCursor(LocalDateTime.of(2024, 2, 1, 10, 0), 12L);
+        when(gymFacade.getTraineeTrainings(
+                        eq(testTrainee.getUsername()),
+                        any(TrainingFilter.class),
+                        eq(Optional.of(requested)),
+                        eq(1),
+                        anyLong()))
+                .thenReturn(new TrainingPage(List.of(), Optional.of(next)));
+
+        // When & Then
+        mockMvc.perform(get("/api/trainees/john.doe/trainings")
+                        .param("limit", "1")
+                        .param("cursor", requested.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(header().string("X-Next-Cursor", next.encode()));
+    }
 
-        verify(gymFacade).getTraineeTrainings(eq(testTrainee.getUsername()), any(TrainingFilter.class));
+    @Test
+    @DisplayName("GET /api/trainees/{username}/trainings - Should read the page at the version it tags")
+    void testGetTrainings_TagsPageWithRequestVersion() throws Exception {
+        // Given
+        when(gymFacade.getTraineeChangeVersion(testTrainee.getUsername())).thenReturn(4L);
+        when(gymFacade.getTraineeTrainings(
+                        eq(testTrainee.getUsername()), any(TrainingFilter.class), eq(Optional.empty()), eq(50), eq(4L)))
+                .thenReturn(new TrainingPage(List.of(), Optional.empty(), 4L));
+
+        // When & Then
+        mockMvc.perform(get("/api/trainees/john.doe/trainings"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    @DisplayName("GET /api/trainees/{username}/trainings - Should reject a malformed cursor")
+    void testGetTrainings_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/trainees/john.doe/trainings").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verify(gymFacade, never()).getTraineeTrainings(any(), any(TrainingFilter.class), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /api/trainees/{username}/trainings/export - Should stream trainings as NDJSON")
+    void testExportTrainings_Success() throws Exception {
+        // Given
+        TrainingSummary first = new TrainingSummary(
+                1L,
+                "Morning Workout",
+                LocalDateTime.of(2024, 1, 15, 9, 0),
+                TrainingTypeEnum.CARDIO,
+                60,
+                "john.doe",
+                "jane.smith");
+        TrainingSummary second = new TrainingSummary(
+                2L,
+                "Evening Workout",
+                LocalDateTime.of(2024, 1, 16, 18, 0),
+                TrainingTypeEnum.CARDIO,
+                45,
+                "john.doe",
+                "jane.smith");
+
+        doAnswer(invocation -> {
+                    Consumer<TrainingSummary> consumer = invocation.getArgument(2);
+                    consumer.accept(first);
+                    consumer.accept(second);
+                    return null;
+                })
+                .when(gymFacade)
+                .streamTraineeTrainings(eq(testTrainee.getUsername()), any(TrainingFilter.class), any());
+
+        // When & Then
+        String body = mockMvc.perform(get("/api/trainees/john.doe/trainings/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("trainingName").asText()).isEqualTo("Morning Workout");
+        assertThat(objectMapper.readTree(lines[1]).get("trainerName").asText()).isEqualTo("jane.smith");
     }
 
     @Test
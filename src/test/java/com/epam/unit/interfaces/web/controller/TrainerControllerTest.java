@@ -1,6 +1,8 @@
 package com.epam.unit.interfaces.web.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -10,22 +12,28 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
 
 import com.epam.application.exception.EntityNotFoundException;
 import com.epam.application.facade.GymFacade;
 import com.epam.application.request.CreateTrainerProfileRequest;
 import com.epam.domain.TrainingFilter;
-import com.epam.domain.model.Trainee;
+import com.epam.domain.TrainingPage;
 import com.epam.domain.model.Trainer;
-import com.epam.domain.model.Training;
 import com.epam.domain.model.TrainingType;
 import com.epam.domain.model.TrainingTypeEnum;
+import com.epam.domain.projection.TraineeSummary;
+import com.epam.domain.projection.TrainerProfile;
+import com.epam.domain.projection.TrainerWorkloadSummary;
+import com.epam.domain.projection.TrainingSummary;
 import com.epam.interfaces.web.controller.impl.TrainerController;
 import com.epam.interfaces.web.dto.request.TrainerRegistrationRequest;
 import com.epam.interfaces.web.dto.request.UpdateTrainerRequest;
@@ -37,6 +45,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
@@ -60,7 +69,7 @@ class TrainerControllerTest {
 
     private Trainer testTrainer;
 
-    private Trainee testTrainee;
+    private TraineeSummary testTraineeSummary;
 
     private TrainingType testTrainingType;
 
@@ -73,10 +82,7 @@ class TrainerControllerTest {
         testTrainer.setUsername("jane.smith");
         testTrainer.setPassword("password123");
 
-        testTrainee = new Trainee("John", "Doe", true);
-        testTrainee.setUsername("john.doe");
-        testTrainee.setDob(LocalDate.of(1990, 1, 1));
-        testTrainee.setAddress("123 Main St");
+        testTraineeSummary = new TraineeSummary("john.doe", "John", "Doe", true);
     }
 
     @Test
@@ -139,8 +145,8 @@ class TrainerControllerTest {
     @DisplayName("GET /api/trainers/{username} - Should return trainer profile")
     void testGetProfile_Success() throws Exception {
         // Given
-        when(gymFacade.getTrainerByUsername(testTrainer.getUsername())).thenReturn(testTrainer);
-        when(gymFacade.getTrainerTrainees(testTrainer.getUsername())).thenReturn(List.of(testTrainee));
+        when(gymFacade.getTrainerProfile(eq(testTrainer.getUsername()), anyLong()))
+                .thenReturn(new TrainerProfile(testTrainer, List.of(testTraineeSummary)));
 
         // When & Then
         mockMvc.perform(get("/api/trainers/jane.smith"))
@@ -152,19 +158,34 @@ class TrainerControllerTest {
                 .andExpect(jsonPath("$.trainees").isArray())
                 .andExpect(jsonPath("$.trainees[0].username").value("john.doe"));
 
-        verify(gymFacade).getTrainerByUsername(testTrainer.getUsername());
+        verify(gymFacade).getTrainerProfile(eq(testTrainer.getUsername()), anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /api/trainers/{username} - Should answer a current If-None-Match with 304 and no profile read")
+    void testGetProfile_NotModified() throws Exception {
+        // Given
+        when(gymFacade.getTrainerChangeVersion(testTrainer.getUsername())).thenReturn(7L);
+
+        // When & Then
+        mockMvc.perform(get("/api/trainers/jane.smith").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""));
+
+        verify(gymFacade, never()).getTrainerProfile(any(), anyLong());
     }
 
     @Test
     @DisplayName("GET /api/trainers/{username} - Should return 404 when trainer not found")
     void testGetProfile_NotFound() throws Exception {
         // Given
-        when(gymFacade.getTrainerByUsername(testTrainer.getUsername())).thenThrow(EntityNotFoundException.class);
+        when(gymFacade.getTrainerProfile(eq(testTrainer.getUsername()), anyLong()))
+                .thenThrow(EntityNotFoundException.class);
 
         // When & Then
         mockMvc.perform(get("/api/trainers/jane.smith")).andExpect(status().isNotFound());
 
-        verify(gymFacade).getTrainerByUsername(testTrainer.getUsername());
+        verify(gymFacade).getTrainerProfile(eq(testTrainer.getUsername()), anyLong());
     }
 
     @Test
@@ -179,8 +200,7 @@ class TrainerControllerTest {
         yogaType.setTrainingTypeId(2L);
         testTrainer.setSpecialization(yogaType);
 
-        when(gymFacade.updateTrainerProfile(any())).thenReturn(testTrainer);
-        when(gymFacade.getTrainerTrainees(testTrainer.getUsername())).thenReturn(List.of());
+        when(gymFacade.updateTrainerProfileWithTrainees(any())).thenReturn(new TrainerProfile(testTrainer, List.of()));
 
         // When & Then
         mockMvc.perform(put("/api/trainers/jane.smith")
@@ -192,7 +212,7 @@ class TrainerControllerTest {
                 .andExpect(jsonPath("$.specialization").value("YOGA"))
                 .andExpect(jsonPath("$.active").value(false));
 
-        verify(gymFacade).updateTrainerProfile(any());
+        verify(gymFacade).updateTrainerProfileWithTrainees(any());
     }
 
     @Test
@@ -212,24 +232,23 @@ class TrainerControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
 
-        verify(gymFacade, never()).updateTrainerProfile(any());
+        verify(gymFacade, never()).updateTrainerProfileWithTrainees(any());
     }
 
     @Test
     @DisplayName("GET /api/trainers/{username}/trainings - Should return trainings with filters")
     void testGetTrainings_Success() throws Exception {
         // Given
-        Training training = Training.builder()
-                .trainingName("Morning Session")
-                .trainingDate(LocalDateTime.now())
-                .trainingDurationMin(90)
-                .trainee(testTrainee)
-                .trainer(testTrainer)
-                .trainingType(testTrainingType)
-                .build();
-
-        when(gymFacade.getTrainerTrainings(eq(testTrainer.getUsername()), any(TrainingFilter.class)))
-                .thenReturn(List.of(training));
+        TrainingSummary training = new TrainingSummary(
+                1L, "Morning Session", LocalDateTime.now(), TrainingTypeEnum.CARDIO, 90, "john.doe", "jane.smith");
+
+        when(gymFacade.getTrainerTrainings(
+                        eq(testTrainer.getUsername()),
+                        any(TrainingFilter.class),
+                        eq(Optional.empty()),
+                        eq(50),
+                        anyLong()))
+                .thenReturn(new TrainingPage(List.of(training), Optional.empty()));
 
         // When & Then
         mockMvc.perform(get("/api/trainers/jane.smith/trainings")
@@ -241,15 +260,26 @@ class TrainerControllerTest {
                 .andExpect(jsonPath("$[0].trainingName").value("Morning Session"))
                 .andExpect(jsonPath("$[0].durationMin").value(90));
 
-        verify(gymFacade).getTrainerTrainings(eq(testTrainer.getUsername()), any(TrainingFilter.class));
+        verify(gymFacade)
+                .getTrainerTrainings(
+                        eq(testTrainer.getUsername()),
+                        any(TrainingFilter.class),
+                        eq(Optional.empty()),
+                        eq(50),
+                        anyLong());
     }
 
     @Test
     @DisplayName("GET /api/trainers/{username}/trainings - Should return trainings without filters")
     void testGetTrainings_NoFilters() throws Exception {
         // Given
-        when(gymFacade.getTrainerTrainings(eq(testTrainer.getUsername()), any(TrainingFilter.class)))
-                .thenReturn(List.of());
+        when(gymFacade.getTrainerTrainings(
+                        eq(testTrainer.getUsername()),
+                        any(TrainingFilter.class),
+                        eq(Optional.empty()),
+                        eq(50),
+                        anyLong()))
+                .thenReturn(new TrainingPage(List.of(), Optional.empty()));
 
         // When & Then
         mockMvc.perform(get("/api/trainers/jane.smith/trainings"))
@@ -257,7 +287,51 @@ class TrainerControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$").isEmpty());
 
-        verify(gymFacade).getTrainerTrainings(eq(testTrainer.getUsername()), any(TrainingFilter.class));
+        verify(gymFacade)
+                .getTrainerTrainings(
+                        eq(testTrainer.getUsername()),
+                        any(TrainingFilter.class),
+                        eq(Optional.empty()),
+                        eq(50),
+                        anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /api/trainers/{username}/trainings - Should answer a current training version with 304")
+    void testGetTrainings_NotModified() throws Exception {
+        // Given
+        when(gymFacade.getTrainerTrainingsVersion(testTrainer.getUsername())).thenReturn(12L);
+
+        // When & Then
+        mockMvc.perform(get("/api/trainers/jane.smith/trainings").header(HttpHeaders.IF_NONE_MATCH, "\"12\""))
+                .andExpect(status().isNotModified());
+
+        verify(gymFacade, never()).getTrainerChangeVersion(any());
+        verify(gymFacade, never()).getTrainerTrainings(any(), any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /api/trainers/{username}/workload - Should group local monthly totals by year")
+    void testGetWorkload_GroupsMonthsByYear() throws Exception {
+        // Given
+        TreeMap<YearMonth, Long> minutesByMonth = new TreeMap<>();
+        minutesByMonth.put(YearMonth.of(2024, 12), 60L);
+        minutesByMonth.put(YearMonth.of(2025, 1), 90L);
+        minutesByMonth.put(YearMonth.of(2025, 2), 30L);
+        when(gymFacade.getTrainerWorkload("jane.smith"))
+                .thenReturn(new TrainerWorkloadSummary("jane.smith", "Jane", "Smith", true, minutesByMonth));
+
+        // When & Then
+        mockMvc.perform(get("/api/trainers/jane.smith/workload"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("jane.smith"))
+                .andExpect(jsonPath("$.status").value(true))
+                .andExpect(jsonPath("$.years.length()").value(2))
+                .andExpect(jsonPath("$.years[0].year").value(2024))
+                .andExpect(jsonPath("$.years[0].months[0].month").value("DECEMBER"))
+                .andExpect(jsonPath("$.years[1].months.length()").value(2))
+                .andExpect(
+                        jsonPath("$.years[1].months[1].trainingSummaryDuration").value(30));
     }
 
     @Test
@@ -272,7 +346,7 @@ class TrainerControllerTest {
     @Test
     @DisplayName("Should return 403 when username mismatch")
     void testUsernameMismatch() throws Exception {
-        when(gymFacade.getTrainerByUsername("jane.smith")).thenThrow(EntityNotFoundException.class);
+        when(gymFacade.getTrainerProfile(eq("jane.smith"), anyLong())).thenThrow(EntityNotFoundException.class);
         // When & Then
         mockMvc.perform(get("/api/trainers/jane.smith")).andExpect(status().isNotFound());
     }
@@ -1,6 +1,7 @@
 package com.epam.unit.interfaces.web.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -11,13 +12,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.epam.application.facade.GymFacade;
 import com.epam.application.request.CreateTrainingRequest;
+import com.epam.domain.TrainingBatchResult;
 import com.epam.domain.model.Trainer;
 import com.epam.domain.model.TrainingType;
 import com.epam.domain.model.TrainingTypeEnum;
 import com.epam.interfaces.web.controller.impl.TrainingController;
+import com.epam.interfaces.web.dto.request.AddTrainingBatchRequest;
 import com.epam.interfaces.web.dto.request.AddTrainingRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +30,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
@@ -68,6 +73,63 @@ class TrainingControllerTest {
         verify(gymFacade, times(1)).createTraining(any(CreateTrainingRequest.class));
     }
 
+    @Test
+    @DisplayName("POST /api/trainings/batch - Should report per-item results")
+    void testAddTrainings_Batch() throws Exception {
+        // Given
+        LocalDateTime date = LocalDateTime.now().plusDays(7);
+        AddTrainingBatchRequest request = new AddTrainingBatchRequest(List.of(
+                new AddTrainingRequest("john.doe", "jane.smith", "Morning Workout", date, 60),
+                new AddTrainingRequest("ghost.user", "jane.smith", "Evening Workout", date, 45)));
+
+        when(gymFacade.createTrainings(anyList()))
+                .thenReturn(List.of(
+                        TrainingBatchResult.created(0, 11L),
+                        TrainingBatchResult.rejected(1, "Trainee not found: ghost.user")));
+
+        // When & Then
+        mockMvc.perform(post("/api/trainings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].trainingId").value(11))
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].trainingId").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /api/trainings/batch - Should return 400 for an empty batch")
+    void testAddTrainings_EmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/trainings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddTrainingBatchRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(gymFacade, never()).createTrainings(anyList());
+    }
+
+    @Test
+    @DisplayName("POST /api/trainings - Should return 409 for a duplicate session")
+    void testAddTraining_DuplicateSession() throws Exception {
+        // Given
+        AddTrainingRequest request = new AddTrainingRequest(
+                "john.doe", "jane.smith", "Morning Workout", LocalDateTime.now().plusDays(7), 60);
+
+        when(gymFacade.getTrainerByUsername(anyString())).thenReturn(mockTrainer);
+        when(gymFacade.createTraining(any(CreateTrainingRequest.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_trainings_trainer_trainee_date"));
+
+        // When & Then
+        mockMvc.perform(post("/api/trainings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"));
+    }
+
     @Test
     @DisplayName("POST /api/trainings - Should return 400 for missing trainee username")
     void testAddTraining_MissingTraineeUsername() throws Exception {
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -138,6 +139,39 @@ class TrainingTypeControllerTest {
         verify(gymFacade, times(1)).getTrainingTypes();
     }
 
+    @Test
+    @DisplayName("GET /api/training-types - Should allow clients to cache the response")
+    void testGetTrainingTypes_CacheControl() throws Exception {
+        // Given
+        when(gymFacade.getTrainingTypes()).thenReturn(trainingTypes);
+
+        // When & Then
+        mockMvc.perform(get("/api/training-types"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=3600, private"));
+    }
+
+    @Test
+    @DisplayName("GET /api/training-types - Should reuse the body while the types are unchanged")
+    void testGetTrainingTypes_ReusesSerializedBody() throws Exception {
+        // Given
+        when(gymFacade.getTrainingTypes()).thenReturn(trainingTypes);
+
+        // When
+        byte[] first = mockMvc.perform(get("/api/training-types"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Then
+        mockMvc.perform(get("/api/training-types"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(first))
+                .andExpect(jsonPath("$.length()").value(5));
+
+        verify(gymFacade, times(2)).getTrainingTypes();
+    }
+
     @Test
     @DisplayName("GET /api/training-types - Should verify response format")
     void testGetTrainingTypes_ResponseFormat() throws Exception {
@@ -1,9 +1,11 @@
 TRUNCATE TABLE trainings        RESTART IDENTITY CASCADE;
+TRUNCATE TABLE trainings_archive RESTART IDENTITY CASCADE;
 TRUNCATE TABLE trainee_trainer  RESTART IDENTITY CASCADE;
 TRUNCATE TABLE trainees         RESTART IDENTITY CASCADE;
 TRUNCATE TABLE trainers         RESTART IDENTITY CASCADE;
 TRUNCATE TABLE users            RESTART IDENTITY CASCADE;
 TRUNCATE TABLE training_types   RESTART IDENTITY CASCADE;
+TRUNCATE TABLE username_serials;
 
 -- Reset sequences so auto-generated IDs start from 101 again after truncation
 ALTER SEQUENCE trainings_seq      RESTART WITH 101;